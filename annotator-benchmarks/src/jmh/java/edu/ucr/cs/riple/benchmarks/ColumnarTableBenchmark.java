@@ -0,0 +1,135 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.benchmarks;
+
+import edu.ucr.cs.riple.scanner.columnar.ColumnarTable;
+import edu.ucr.cs.riple.scanner.columnar.ColumnarTableWriter;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks reading all rows of the same table from a tsv file, the way {@code Registry} reads
+ * tsv outputs, and from a binary {@link ColumnarTable}. Rows mimic method records of
+ * AnnotatorScanner: repeated class names and paths with unique method signatures and integer ids.
+ * Loading of registries from scanner outputs, including the construction of records, is measured by
+ * {@link RegistryBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ColumnarTableBenchmark {
+
+  @Param({"10000", "100000"})
+  public int rows;
+
+  private Path dir;
+
+  private Path tsv;
+
+  private Path bin;
+
+  @Setup
+  public void setup() throws IOException {
+    dir = Files.createTempDirectory("columnar-benchmark");
+    tsv = dir.resolve("methods.tsv");
+    bin = dir.resolve("methods.bin");
+    Random random = new Random(42);
+    List<String> lines = new ArrayList<>();
+    lines.add("id\tclass\tmethod\tparent\tpath");
+    ColumnarTableWriter writer = new ColumnarTableWriter(bin, 5, 0, 3);
+    for (int i = 0; i < rows; i++) {
+      int clazz = i / 10;
+      String[] row = {
+        String.valueOf(i),
+        "com.example.pkg" + (clazz % 50) + ".Class" + clazz,
+        "method" + i + "(java.lang.Object,int)",
+        String.valueOf(random.nextInt(rows)),
+        "/root/project/src/main/java/com/example/pkg" + (clazz % 50) + "/Class" + clazz + ".java"
+      };
+      lines.add(String.join("\t", row));
+      writer.addRow(row);
+    }
+    Files.write(tsv, lines, Charset.defaultCharset());
+    writer.write();
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(tsv);
+    Files.deleteIfExists(bin);
+    Files.deleteIfExists(dir);
+  }
+
+  @Benchmark
+  public void readTsv(Blackhole blackhole) {
+    try (BufferedReader reader = Files.newBufferedReader(tsv, Charset.defaultCharset())) {
+      // Skip header
+      String line = reader.readLine();
+      line = reader.readLine();
+      while (line != null) {
+        blackhole.consume(line.split("\t"));
+        line = reader.readLine();
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Benchmark
+  public void readBinary(Blackhole blackhole) {
+    try {
+      ColumnarTable table = ColumnarTable.open(bin);
+      for (int row = 0; row < table.rowCount(); row++) {
+        blackhole.consume(table.getRow(row));
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.benchmarks;
+
+import edu.ucr.cs.riple.core.evaluators.graph.ColoringStrategy;
+import edu.ucr.cs.riple.core.evaluators.graph.ConflictGraph;
+import edu.ucr.cs.riple.core.evaluators.graph.Node;
+import edu.ucr.cs.riple.core.registries.index.Fix;
+import edu.ucr.cs.riple.core.registries.region.Region;
+import edu.ucr.cs.riple.injector.changes.AddMarkerAnnotation;
+import edu.ucr.cs.riple.injector.location.OnMethod;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link ConflictGraph#findGroups(ColoringStrategy)} on graphs where each node has a
+ * fixed number of regions chosen randomly from a pool of regions twice as large as the number of
+ * nodes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ConflictGraphBenchmark {
+
+  @Param({"1000", "10000"})
+  public int nodes;
+
+  @Param({"8"})
+  public int regionsPerNode;
+
+  @Param({"FIRST_FIT", "LARGEST_FIRST", "WELSH_POWELL", "DSATUR"})
+  public ColoringStrategy strategy;
+
+  private ConflictGraph graph;
+
+  @Setup
+  public void setup() {
+    Random random = new Random(42);
+    int regions = nodes * 2;
+    graph = new ConflictGraph();
+    for (int i = 0; i < nodes; i++) {
+      String clazz = SyntheticModule.PACKAGE + ".C" + i / 10;
+      Fix fix =
+          new Fix(
+              new AddMarkerAnnotation(
+                  new OnMethod(Paths.get("C" + i / 10 + ".java"), clazz, "m" + i + "()"),
+                  SyntheticModule.NULLABLE));
+      Node node = graph.addNodeToVertices(fix);
+      for (int j = 0; j < regionsPerNode; j++) {
+        int region = random.nextInt(regions);
+        node.regions.add(
+            new Region(SyntheticModule.PACKAGE + ".C" + region / 10, "m" + region + "()"));
+      }
+    }
+  }
+
+  @Benchmark
+  public Collection<Set<Node>> findGroups() {
+    graph.findGroups(strategy);
+    return graph.getGroups();
+  }
+}
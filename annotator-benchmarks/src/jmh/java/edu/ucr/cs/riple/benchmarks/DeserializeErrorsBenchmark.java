@@ -0,0 +1,97 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.benchmarks;
+
+import edu.ucr.cs.riple.core.checkers.Checker;
+import edu.ucr.cs.riple.core.module.ModuleInfo;
+import edu.ucr.cs.riple.core.registries.index.Error;
+import edu.ucr.cs.riple.core.registries.region.Region;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks deserialization of NullAway errors from large {@code errors.tsv} files, either all
+ * errors or only errors enclosed by one tenth of the regions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class DeserializeErrorsBenchmark {
+
+  @Param({"1000"})
+  public int classes;
+
+  @Param({"10"})
+  public int members;
+
+  @Param({"10000", "100000", "1000000"})
+  public int errors;
+
+  private SyntheticModule module;
+
+  private Checker<? extends Error> checker;
+
+  private ModuleInfo moduleInfo;
+
+  private Set<Region> regions;
+
+  @Setup
+  public void setup() {
+    module = new SyntheticModule(classes, members, errors, 42);
+    checker = module.context.checker;
+    moduleInfo = module.context.targetModuleInfo;
+    regions = Set.copyOf(module.regions.subList(0, module.regions.size() / 10));
+  }
+
+  @TearDown
+  public void tearDown() {
+    module.delete();
+  }
+
+  @Benchmark
+  public Set<? extends Error> deserializeErrors() {
+    return checker.deserializeErrors(moduleInfo);
+  }
+
+  @Benchmark
+  public Set<? extends Error> deserializeErrorsInRegions() {
+    return checker.deserializeErrors(moduleInfo, regions);
+  }
+}
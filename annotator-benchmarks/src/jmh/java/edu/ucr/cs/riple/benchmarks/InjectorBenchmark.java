@@ -0,0 +1,132 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.benchmarks;
+
+import com.github.javaparser.ParserConfiguration;
+import edu.ucr.cs.riple.injector.Injector;
+import edu.ucr.cs.riple.injector.changes.AddAnnotation;
+import edu.ucr.cs.riple.injector.changes.AddMarkerAnnotation;
+import edu.ucr.cs.riple.injector.location.OnField;
+import edu.ucr.cs.riple.injector.location.OnMethod;
+import edu.ucr.cs.riple.injector.location.OnParameter;
+import edu.ucr.cs.riple.injector.offsets.FileOffsetStore;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link Injector#start(Set)} adding annotations on methods, parameters and fields of
+ * many source files. Source files are restored before each invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class InjectorBenchmark {
+
+  @Param({"100", "1000"})
+  public int files;
+
+  @Param({"10"})
+  public int members;
+
+  private Path root;
+
+  private List<Path> sources;
+
+  private List<byte[]> contents;
+
+  private Set<AddAnnotation> changes;
+
+  private Injector injector;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    root = Files.createTempDirectory("annotator-benchmark");
+    sources = SyntheticModule.writeSources(root, files, members);
+    contents = new ArrayList<>();
+    changes = new HashSet<>();
+    for (int i = 0; i < files; i++) {
+      Path path = sources.get(i);
+      contents.add(Files.readAllBytes(path));
+      String clazz = SyntheticModule.PACKAGE + ".C" + i;
+      for (int j = 0; j < members; j++) {
+        String method = "m" + j + "(java.lang.Object)";
+        changes.add(
+            new AddMarkerAnnotation(
+                new OnMethod(path, clazz, method), SyntheticModule.NULLABLE));
+        changes.add(
+            new AddMarkerAnnotation(
+                new OnParameter(path, clazz, method, 0), SyntheticModule.NULLABLE));
+        changes.add(
+            new AddMarkerAnnotation(
+                new OnField(path, clazz, Set.of("f" + j)), SyntheticModule.NULLABLE));
+      }
+    }
+    injector = new Injector(ParserConfiguration.LanguageLevel.JAVA_11);
+  }
+
+  @Setup(Level.Invocation)
+  public void restoreSources() throws IOException {
+    for (int i = 0; i < files; i++) {
+      Files.write(sources.get(i), contents.get(i));
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    try (Stream<Path> paths = Files.walk(root)) {
+      paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+    }
+  }
+
+  @Benchmark
+  public Set<FileOffsetStore> start() {
+    return injector.start(changes);
+  }
+}
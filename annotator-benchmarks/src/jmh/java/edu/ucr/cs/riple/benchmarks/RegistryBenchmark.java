@@ -0,0 +1,117 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.benchmarks;
+
+import edu.ucr.cs.riple.core.registries.Registry;
+import edu.ucr.cs.riple.core.registries.field.FieldRegistry;
+import edu.ucr.cs.riple.core.registries.method.MethodRegistry;
+import edu.ucr.cs.riple.core.registries.region.FieldRegionRegistry;
+import edu.ucr.cs.riple.core.registries.region.MethodRegionRegistry;
+import edu.ucr.cs.riple.injector.location.OnMethod;
+import edu.ucr.cs.riple.scanner.SerializationFormat;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks loading of field, method and impacted region records by {@link Registry} subclasses.
+ * Registries populate their content on construction, therefore each benchmark creates a new
+ * registry from the scanner outputs of a {@link SyntheticModule}, serialized in each {@link
+ * SerializationFormat}. Lookups of callers of each method are benchmarked on a registry loaded
+ * once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class RegistryBenchmark {
+
+  @Param({"1000", "10000"})
+  public int classes;
+
+  @Param({"10"})
+  public int members;
+
+  @Param({"TSV", "BINARY"})
+  public SerializationFormat format;
+
+  private SyntheticModule module;
+
+  /** Registry used to benchmark lookups of callers. */
+  private MethodRegionRegistry methodRegionRegistry;
+
+  @Setup
+  public void setup() {
+    module = new SyntheticModule(classes, members, 0, 42, format);
+    methodRegionRegistry =
+        new MethodRegionRegistry(module.context.targetModuleInfo, module.context);
+  }
+
+  @TearDown
+  public void tearDown() {
+    module.delete();
+  }
+
+  @Benchmark
+  public FieldRegistry populateFieldRecords() {
+    return new FieldRegistry(module.context.targetConfiguration, module.context);
+  }
+
+  @Benchmark
+  public MethodRegistry populateMethodRecords() {
+    return new MethodRegistry(module.context);
+  }
+
+  @Benchmark
+  public MethodRegionRegistry populateMethodRegionRecords() {
+    return new MethodRegionRegistry(module.context.targetModuleInfo, module.context);
+  }
+
+  @Benchmark
+  public FieldRegionRegistry populateFieldRegionRecords() {
+    return new FieldRegionRegistry(module.context.targetModuleInfo, module.context);
+  }
+
+  @Benchmark
+  public int findCallersOfAllMethods() {
+    int regions = 0;
+    for (OnMethod method : module.methods) {
+      regions += methodRegionRegistry.getImpactedRegionsByUse(method).size();
+    }
+    return regions;
+  }
+}
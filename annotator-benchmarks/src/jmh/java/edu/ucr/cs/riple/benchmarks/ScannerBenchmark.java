@@ -0,0 +1,151 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.benchmarks;
+
+import com.google.common.collect.ImmutableList;
+import edu.ucr.cs.riple.scanner.ScannerConfigWriter;
+import edu.ucr.cs.riple.scanner.SerializationFormat;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the build time of a {@link SyntheticModule} compiled with Error Prone, with
+ * AnnotatorScanner disabled ({@code off}) and serializing its outputs in tsv or binary format. The
+ * difference to {@code off} is the overhead of the scanner on each build of the target module.
+ * Modules are compiled with javac in the benchmark JVM, which is started with the flags required by
+ * Error Prone.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(
+    value = 1,
+    jvmArgsAppend = {
+      "--add-exports=jdk.compiler/com.sun.tools.javac.api=ALL-UNNAMED",
+      "--add-exports=jdk.compiler/com.sun.tools.javac.code=ALL-UNNAMED",
+      "--add-exports=jdk.compiler/com.sun.tools.javac.comp=ALL-UNNAMED",
+      "--add-exports=jdk.compiler/com.sun.tools.javac.file=ALL-UNNAMED",
+      "--add-exports=jdk.compiler/com.sun.tools.javac.main=ALL-UNNAMED",
+      "--add-exports=jdk.compiler/com.sun.tools.javac.model=ALL-UNNAMED",
+      "--add-exports=jdk.compiler/com.sun.tools.javac.parser=ALL-UNNAMED",
+      "--add-exports=jdk.compiler/com.sun.tools.javac.processing=ALL-UNNAMED",
+      "--add-exports=jdk.compiler/com.sun.tools.javac.tree=ALL-UNNAMED",
+      "--add-exports=jdk.compiler/com.sun.tools.javac.util=ALL-UNNAMED",
+      "--add-opens=jdk.compiler/com.sun.tools.javac.code=ALL-UNNAMED",
+      "--add-opens=jdk.compiler/com.sun.tools.javac.comp=ALL-UNNAMED"
+    })
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ScannerBenchmark {
+
+  @Param({"100", "400"})
+  public int classes;
+
+  @Param({"off", "tsv", "binary"})
+  public String scanner;
+
+  /** Number of fields and methods in each class. */
+  private static final int MEMBERS = 20;
+
+  private Path root;
+
+  private List<String> arguments;
+
+  @Setup
+  public void setup() throws IOException {
+    root = Files.createTempDirectory("scanner-benchmark");
+    ImmutableList<Path> sources =
+        SyntheticModule.writeSources(root.resolve("src"), classes, MEMBERS);
+    Path classesDir = Files.createDirectories(root.resolve("classes"));
+    // Checkers are loaded from the classpath of the benchmark, which includes Error Prone and the
+    // scanner.
+    String classpath = System.getProperty("java.class.path");
+    String errorProne = "-Xplugin:ErrorProne -XepDisableAllChecks";
+    if (!scanner.equals("off")) {
+      Path config = root.resolve("scanner.xml");
+      new ScannerConfigWriter()
+          .setSerializationActivation(true)
+          .setSerializationFormat(
+              scanner.equals("tsv") ? SerializationFormat.TSV : SerializationFormat.BINARY)
+          .setOutput(root.resolve("out"))
+          .writeAsXML(config);
+      errorProne += " -Xep:AnnotatorScanner:WARN -XepOpt:AnnotatorScanner:ConfigPath=" + config;
+    }
+    arguments = new ArrayList<>();
+    arguments.addAll(
+        List.of(
+            "-XDcompilePolicy=simple",
+            "--should-stop=ifError=FLOW",
+            "-proc:none",
+            "-nowarn",
+            "-classpath",
+            classpath,
+            "-processorpath",
+            classpath,
+            "-d",
+            classesDir.toString(),
+            errorProne));
+    sources.forEach(source -> arguments.add(source.toString()));
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    try (Stream<Path> paths = Files.walk(root)) {
+      paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+    }
+  }
+
+  @Benchmark
+  public int build() {
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    int exitCode = compiler.run(null, null, null, arguments.toArray(new String[0]));
+    if (exitCode != 0) {
+      throw new IllegalStateException(
+          "Compilation of the benchmark module failed with code: " + exitCode);
+    }
+    return exitCode;
+  }
+}
@@ -0,0 +1,462 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.benchmarks;
+
+import com.github.javaparser.ParserConfiguration;
+import com.google.common.collect.ImmutableList;
+import edu.ucr.cs.riple.core.Config;
+import edu.ucr.cs.riple.core.Context;
+import edu.ucr.cs.riple.core.checkers.nullaway.NullAway;
+import edu.ucr.cs.riple.core.module.ModuleConfiguration;
+import edu.ucr.cs.riple.core.registries.field.FieldInitializationStore;
+import edu.ucr.cs.riple.core.registries.region.Region;
+import edu.ucr.cs.riple.injector.location.OnMethod;
+import edu.ucr.cs.riple.scanner.SerializationFormat;
+import edu.ucr.cs.riple.scanner.Serializer;
+import edu.ucr.cs.riple.scanner.columnar.ColumnarTableWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+/**
+ * Synthetic target module used to create an Annotator {@link Context} without building a project.
+ * The module consists of {@code classes} classes, each declaring {@code members} fields and {@code
+ * members} methods. Scanner outputs describing the module and a NullAway {@code errors.tsv} file
+ * with random errors are written to the output directory, and the build command of the module only
+ * restores the NullAway outputs, which are deleted before each build.
+ */
+public class SyntheticModule {
+
+  /** Package of all classes in the module. */
+  public static final String PACKAGE = "bench";
+
+  /** Nullable annotation used in the configuration. */
+  public static final String NULLABLE = "javax.annotation.Nullable";
+
+  /** Number of regions using each field and each method. */
+  private static final int USAGES_PER_MEMBER = 4;
+
+  /** Annotator context created for the module. */
+  public final Context context;
+
+  /** Paths to source files, the i-th path is the source file of the i-th class. */
+  public final ImmutableList<Path> sources;
+
+  /** All methods declared in the module. */
+  public final ImmutableList<OnMethod> methods;
+
+  /** All method regions of the module. */
+  public final ImmutableList<Region> regions;
+
+  /** Root directory of the module, holding sources, configurations and outputs. */
+  private final Path root;
+
+  /** Output directory of the target module where scanner and checker outputs are stored. */
+  private final Path outputDir;
+
+  /** Number of classes in the module. */
+  private final int classes;
+
+  /** Number of fields and methods in each class. */
+  private final int members;
+
+  /**
+   * Creates the module and the Annotator context for it.
+   *
+   * @param classes Number of classes.
+   * @param members Number of fields and methods in each class.
+   * @param errors Number of errors reported in {@code errors.tsv}.
+   * @param seed Seed of the random generator used to create usages and errors.
+   */
+  public SyntheticModule(int classes, int members, int errors, long seed) {
+    this(classes, members, errors, seed, SerializationFormat.TSV);
+  }
+
+  /**
+   * Creates the module and the Annotator context for it, with scanner outputs serialized in the
+   * given format.
+   *
+   * @param classes Number of classes.
+   * @param members Number of fields and methods in each class.
+   * @param errors Number of errors reported in {@code errors.tsv}.
+   * @param seed Seed of the random generator used to create usages and errors.
+   * @param format Format of scanner outputs.
+   */
+  public SyntheticModule(
+      int classes, int members, int errors, long seed, SerializationFormat format) {
+    this.classes = classes;
+    this.members = members;
+    try {
+      this.root = Files.createTempDirectory("annotator-benchmark");
+      this.sources = writeSources(root.resolve("src"), classes, members);
+      Path out = root.resolve("out");
+      Path checkerOutputs = root.resolve("checker");
+      Config.Builder builder = new Config.Builder();
+      builder.configPaths =
+          List.of(
+              new ModuleConfiguration(
+                  0, out, root.resolve("nullaway.xml"), root.resolve("scanner.xml")));
+      builder.checker = NullAway.NAME;
+      builder.nullableAnnotation = NULLABLE;
+      builder.initializerAnnotation = "com.uber.nullaway.annotations.Initializer";
+      builder.outputDir = out.toString();
+      builder.buildCommand = String.format("cp '%s'/* '%s'", checkerOutputs, out.resolve("0"));
+      builder.languageLevel = ParserConfiguration.LanguageLevel.JAVA_11;
+      builder.serializationFormat = format;
+      Path configPath = root.resolve("config.json");
+      builder.write(configPath);
+      // Output directories are recreated while reading the configuration.
+      Config config = new Config(configPath);
+      this.outputDir = config.globalDir.resolve("0");
+      Random random = new Random(seed);
+      writeScannerOutputs(random);
+      if (format == SerializationFormat.BINARY) {
+        writeScannerOutputTables();
+      }
+      writeErrors(errors, seed);
+      Files.writeString(outputDir.resolve(FieldInitializationStore.FILE_NAME), "HEADER\n");
+      // Checker outputs are deleted before the startup build, which restores them.
+      Files.createDirectories(checkerOutputs);
+      for (String output : List.of(NullAway.ERRORS_FILE_NAME, FieldInitializationStore.FILE_NAME)) {
+        Files.copy(outputDir.resolve(output), checkerOutputs.resolve(output));
+      }
+      Files.writeString(
+          outputDir.resolve("serialization_version.txt"), String.valueOf(NullAway.VERSION));
+      this.context = new Context(config);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    ImmutableList.Builder<OnMethod> methodsBuilder = ImmutableList.builder();
+    ImmutableList.Builder<Region> regionsBuilder = ImmutableList.builder();
+    for (int i = 0; i < classes; i++) {
+      for (int j = 0; j < members; j++) {
+        methodsBuilder.add(new OnMethod(sources.get(i), className(i), methodName(j)));
+        regionsBuilder.add(new Region(className(i), methodName(j)));
+      }
+    }
+    this.methods = methodsBuilder.build();
+    this.regions = regionsBuilder.build();
+  }
+
+  /**
+   * Writes the source files of a module with the given size. The i-th class is {@code bench.C<i>}
+   * which declares fields {@code f<j>} and methods {@code m<j>(Object)}.
+   *
+   * @param dir Source directory.
+   * @param classes Number of classes.
+   * @param members Number of fields and methods in each class.
+   * @return Paths to the written source files.
+   * @throws IOException if a file could not be written.
+   */
+  public static ImmutableList<Path> writeSources(Path dir, int classes, int members)
+      throws IOException {
+    Path packageDir = dir.resolve(PACKAGE);
+    Files.createDirectories(packageDir);
+    ImmutableList.Builder<Path> paths = ImmutableList.builder();
+    for (int i = 0; i < classes; i++) {
+      StringBuilder content = new StringBuilder();
+      content.append("package ").append(PACKAGE).append(";\n\n");
+      content.append("public class C").append(i).append(" {\n");
+      for (int j = 0; j < members; j++) {
+        content.append("\n  Object f").append(j).append(";\n");
+      }
+      for (int j = 0; j < members; j++) {
+        content.append("\n  public Object m").append(j).append("(Object p0) {\n");
+        content.append("    if (p0 == null) {\n");
+        content.append("      return f").append(j).append(";\n");
+        content.append("    }\n");
+        content.append("    return p0;\n");
+        content.append("  }\n");
+      }
+      content.append("}\n");
+      Path path = packageDir.resolve("C" + i + ".java");
+      Files.writeString(path, content.toString(), Charset.defaultCharset());
+      paths.add(path);
+    }
+    return paths.build();
+  }
+
+  /**
+   * Overwrites {@code errors.tsv} with randomly generated errors. Each error is either a nullable
+   * returned from a method, a nullable passed to a parameter or a nullable assigned to a field, and
+   * is reported in a random method region.
+   *
+   * @param errors Number of errors.
+   * @param seed Seed of the random generator.
+   * @throws IOException if the file could not be written.
+   */
+  public void writeErrors(int errors, long seed) throws IOException {
+    Random random = new Random(seed);
+    List<String> lines = new ArrayList<>();
+    lines.add(
+        String.join(
+            "\t",
+            "message_type",
+            "message",
+            "enc_class",
+            "enc_member",
+            "offset",
+            "path",
+            "kind",
+            "class",
+            "method",
+            "param",
+            "index",
+            "uri"));
+    for (int i = 0; i < errors; i++) {
+      int clazz = random.nextInt(classes);
+      int member = random.nextInt(members);
+      int target = random.nextInt(classes);
+      int targetMember = random.nextInt(members);
+      String enclosing = String.join("\t", className(clazz), methodName(member));
+      String offset = String.valueOf(random.nextInt(1000));
+      String path = sources.get(clazz).toString();
+      String targetPath = sources.get(target).toString();
+      switch (random.nextInt(3)) {
+        case 0:
+          lines.add(
+              String.join(
+                  "\t",
+                  "RETURN_NULLABLE",
+                  "returning @Nullable expression from method with @NonNull return type",
+                  className(clazz),
+                  methodName(member),
+                  offset,
+                  path,
+                  "METHOD",
+                  className(clazz),
+                  methodName(member),
+                  "null",
+                  "null",
+                  path));
+          break;
+        case 1:
+          lines.add(
+              String.join(
+                  "\t",
+                  "PASS_NULLABLE",
+                  "passing @Nullable parameter 'null' where @NonNull is required",
+                  enclosing,
+                  offset,
+                  path,
+                  "PARAMETER",
+                  className(target),
+                  methodName(targetMember),
+                  "p0",
+                  "0",
+                  targetPath));
+          break;
+        default:
+          lines.add(
+              String.join(
+                  "\t",
+                  "ASSIGN_FIELD_NULLABLE",
+                  "assigning @Nullable expression to @NonNull field",
+                  enclosing,
+                  offset,
+                  path,
+                  "FIELD",
+                  className(target),
+                  "null",
+                  "f" + targetMember,
+                  "null",
+                  targetPath));
+      }
+    }
+    Files.write(outputDir.resolve("errors.tsv"), lines, Charset.defaultCharset());
+  }
+
+  /** Deletes all files of the module. */
+  public void delete() {
+    try (Stream<Path> paths = Files.walk(root)) {
+      paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Writes the outputs of the scanner for the module. Each field and each method is used in {@link
+   * #USAGES_PER_MEMBER} random method regions.
+   *
+   * @param random Random generator used to choose usages.
+   * @throws IOException if a file could not be written.
+   */
+  private void writeScannerOutputs(Random random) throws IOException {
+    List<String> classRecords = new ArrayList<>();
+    List<String> fieldRecords = new ArrayList<>();
+    List<String> methodRecords = new ArrayList<>();
+    List<String> methodUsages = new ArrayList<>();
+    List<String> fieldUsages = new ArrayList<>();
+    classRecords.add(String.join("\t", "class", "path"));
+    fieldRecords.add(
+        String.join("\t", "class", "fields", "uninitialized", "public", "primitive"));
+    methodRecords.add(
+        String.join(
+            "\t",
+            "id",
+            "class",
+            "method",
+            "parent",
+            "flags",
+            "annotations",
+            "visibility",
+            "non-primitive-return",
+            "path"));
+    String usageHeader =
+        String.join(
+            "\t", "REGION_CLASS", "REGION_MEMBER", "USED_MEMBER", "USED_CLASS", "SOURCE_TYPE");
+    methodUsages.add(usageHeader);
+    fieldUsages.add(usageHeader);
+    int id = 1;
+    for (int i = 0; i < classes; i++) {
+      String path = sources.get(i).toString();
+      classRecords.add(String.join("\t", className(i), path));
+      for (int j = 0; j < members; j++) {
+        fieldRecords.add(String.join("\t", className(i), "f" + j, "f" + j, "false", "false"));
+        methodRecords.add(
+            String.join(
+                "\t",
+                String.valueOf(id++),
+                className(i),
+                methodName(j),
+                "0",
+                "[false]",
+                "",
+                "public",
+                "true",
+                path));
+        for (int k = 0; k < USAGES_PER_MEMBER; k++) {
+          methodUsages.add(usage(random, methodName(j), i));
+          fieldUsages.add(usage(random, "f" + j, i));
+        }
+      }
+    }
+    Files.write(
+        outputDir.resolve(Serializer.CLASS_RECORD_FILE_NAME),
+        classRecords,
+        Charset.defaultCharset());
+    Files.write(
+        outputDir.resolve(Serializer.FIELD_RECORD_FILE_NAME),
+        fieldRecords,
+        Charset.defaultCharset());
+    Files.write(
+        outputDir.resolve(Serializer.METHOD_RECORD_FILE_NAME),
+        methodRecords,
+        Charset.defaultCharset());
+    Files.write(
+        outputDir.resolve(Serializer.METHOD_IMPACTED_REGION_FILE_NAME),
+        methodUsages,
+        Charset.defaultCharset());
+    Files.write(
+        outputDir.resolve(Serializer.FIELD_IMPACTED_REGION_FILE_NAME),
+        fieldUsages,
+        Charset.defaultCharset());
+    Files.write(
+        outputDir.resolve(Serializer.NON_NULL_ELEMENTS_FILE_NAME),
+        List.of(String.join("\t", "kind", "class", "method", "param", "index", "uri")),
+        Charset.defaultCharset());
+  }
+
+  /**
+   * Converts the tsv outputs of the scanner to binary tables, as serialized by the scanner in
+   * {@link SerializationFormat#BINARY} format.
+   *
+   * @throws IOException if a file could not be read or written.
+   */
+  private void writeScannerOutputTables() throws IOException {
+    writeTable(outputDir.resolve(Serializer.CLASS_RECORD_FILE_NAME));
+    writeTable(outputDir.resolve(Serializer.FIELD_RECORD_FILE_NAME));
+    // Method and parent ids are integers.
+    writeTable(outputDir.resolve(Serializer.METHOD_RECORD_FILE_NAME), 0, 3);
+    writeTable(outputDir.resolve(Serializer.METHOD_IMPACTED_REGION_FILE_NAME));
+    writeTable(outputDir.resolve(Serializer.FIELD_IMPACTED_REGION_FILE_NAME));
+    writeTable(outputDir.resolve(Serializer.NON_NULL_ELEMENTS_FILE_NAME));
+  }
+
+  /**
+   * Writes the rows of the given tsv file to the corresponding binary table.
+   *
+   * @param tsv Path to the tsv file.
+   * @param intColumns Indices of columns holding integer values.
+   * @throws IOException if a file could not be read or written.
+   */
+  private static void writeTable(Path tsv, int... intColumns) throws IOException {
+    List<String> lines = Files.readAllLines(tsv, Charset.defaultCharset());
+    ColumnarTableWriter table =
+        new ColumnarTableWriter(
+            SerializationFormat.BINARY.pathOf(tsv), lines.get(0).split("\t").length, intColumns);
+    for (String line : lines.subList(1, lines.size())) {
+      table.addRow(line.split("\t", -1));
+    }
+    table.write();
+  }
+
+  /**
+   * Creates a scanner row for a usage of the given member in a random method region.
+   *
+   * @param random Random generator used to choose the region.
+   * @param member Used member.
+   * @param clazz Index of the class declaring the used member.
+   * @return Row of the usage.
+   */
+  private String usage(Random random, String member, int clazz) {
+    return String.join(
+        "\t",
+        className(random.nextInt(classes)),
+        methodName(random.nextInt(members)),
+        member,
+        className(clazz),
+        "SOURCE");
+  }
+
+  /**
+   * Returns the flat name of the i-th class.
+   *
+   * @param i Index of the class.
+   * @return Flat name of the class.
+   */
+  private static String className(int i) {
+    return PACKAGE + ".C" + i;
+  }
+
+  /**
+   * Returns the signature of the j-th method of a class.
+   *
+   * @param j Index of the method.
+   * @return Signature of the method.
+   */
+  private static String methodName(int j) {
+    return "m" + j + "(java.lang.Object)";
+  }
+}
@@ -25,6 +25,7 @@
 package edu.ucr.cs.riple.core;
 
 import com.google.common.collect.ImmutableSet;
+import edu.ucr.cs.riple.core.cache.PersistentImpactStore;
 import edu.ucr.cs.riple.core.cache.TargetModuleCache;
 import edu.ucr.cs.riple.core.cache.downstream.DownstreamImpactCache;
 import edu.ucr.cs.riple.core.cache.downstream.DownstreamImpactCacheImpl;
@@ -37,6 +38,7 @@ import edu.ucr.cs.riple.core.evaluators.suppliers.Supplier;
 import edu.ucr.cs.riple.core.evaluators.suppliers.TargetModuleSupplier;
 import edu.ucr.cs.riple.core.registries.index.Fix;
 import edu.ucr.cs.riple.core.util.Utility;
+import java.time.Duration;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -64,11 +66,19 @@ public class Annotator {
 
   /** Starts the annotating process consist of preprocess followed by the "annotate" phase. */
   public void start() {
-    preprocess();
-    long timer = context.log.startTimer();
-    annotate();
-    context.log.stopTimerAndCapture(timer);
-    Utility.writeLog(context);
+    try {
+      preprocess();
+      long timer = context.log.startTimer();
+      annotate();
+      context.log.stopTimerAndCapture(timer);
+      Utility.writeLog(context);
+    } finally {
+      try {
+        context.closeWorkingCopyPool();
+      } finally {
+        context.closeBuildExecutor();
+      }
+    }
   }
 
   /**
@@ -95,12 +105,26 @@ public class Annotator {
     // computation does not depend on the changes in the target module, it will compute the same
     // result in each iteration, therefore we perform the analysis only once and reuse it in each
     // iteration.
+    // The persistent impact store keeps impacts of fixes across runs, keyed by the contents of the
+    // source files they can impact.
+    PersistentImpactStore persistentImpactStore =
+        config.impactCacheDir == null
+            ? null
+            : new PersistentImpactStore(
+                context,
+                config.impactCacheDir,
+                config.impactCacheMaxSize * 1024 * 1024,
+                Duration.ofDays(config.impactCacheMaxAge));
     DownstreamImpactCache downstreamImpactCache =
         config.downStreamDependenciesAnalysisActivated
-            ? new DownstreamImpactCacheImpl(context)
+            ? new DownstreamImpactCacheImpl(context, persistentImpactStore)
             : new VoidDownstreamImpactCache();
     downstreamImpactCache.analyzeDownstreamDependencies();
-    TargetModuleCache targetModuleCache = new TargetModuleCache();
+    TargetModuleCache targetModuleCache =
+        new TargetModuleCache(
+            context,
+            persistentImpactStore,
+            config.downStreamDependenciesAnalysisActivated ? downstreamImpactCache : null);
     if (config.inferenceActivated) {
       // Outer loop starts.
       while (cache.isUpdated()) {
@@ -116,6 +140,9 @@ public class Annotator {
         cache.enable();
       }
     }
+    if (persistentImpactStore != null) {
+      persistentImpactStore.evict();
+    }
     if (config.suppressRemainingErrors) {
       context.checker.suppressRemainingErrors();
     }
@@ -30,9 +30,13 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import edu.ucr.cs.riple.core.build.BuildExecutorType;
+import edu.ucr.cs.riple.core.build.GradleToolingBuildExecutor;
+import edu.ucr.cs.riple.core.evaluators.graph.ColoringStrategy;
 import edu.ucr.cs.riple.core.module.ModuleConfiguration;
 import edu.ucr.cs.riple.core.util.JsonParser;
 import edu.ucr.cs.riple.core.util.Utility;
+import edu.ucr.cs.riple.scanner.SerializationFormat;
 import edu.ucr.cs.riple.scanner.generatedcode.SourceType;
 import java.io.BufferedWriter;
 import java.io.IOException;
@@ -40,11 +44,15 @@ import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.annotation.Nullable;
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
 import org.apache.commons.cli.DefaultParser;
@@ -104,6 +112,13 @@ public class Config {
   /** Command to build the target module. */
   public final String buildCommand;
 
+  /**
+   * Command to build the target module for evaluation builds, which only need the outputs of the
+   * checker, e.g. a build with code generation and other checks disabled. {@code null} if {@link
+   * #buildCommand} is used for all builds. The scanner always runs with {@link #buildCommand}.
+   */
+  @Nullable public final String analysisBuildCommand;
+
   /** Fully qualified name of the {@code nullable} annotation. */
   public final String nullableAnnot;
 
@@ -123,6 +138,15 @@ public class Config {
    */
   public final Path nullawayLibraryModelLoaderPath;
 
+  /**
+   * If activated, fixes on method returns of the target module are evaluated by serializing them to
+   * the resources of the NullAway library model loader instead of modifying the source code. Other
+   * fixes, including fixes on fields and parameters, are still injected physically. Requires {@link
+   * #nullawayLibraryModelLoaderPath} to be set and the library model loader to be on the processor
+   * path of the target module build.
+   */
+  public final boolean virtualInjection;
+
   /** Command to build the all downstream dependencies at once. */
   public final String downstreamDependenciesBuildCommand;
 
@@ -177,6 +201,123 @@ public class Config {
   /** Language level to use when parsing Java code. Defaults to Java 17. */
   public final ParserConfiguration.LanguageLevel languageLevel;
 
+  /**
+   * Number of working copies of the target project used to build non-conflicting groups of fixes
+   * concurrently in parallel processing. Defaults to 1, where all builds are performed on the
+   * original source tree.
+   */
+  public final int parallelBuildWorkers;
+
+  /**
+   * Root directory of the target project which is copied for each working copy. Must be set if
+   * {@link #parallelBuildWorkers} is greater than 1.
+   */
+  @Nullable public final Path parallelBuildRoot;
+
+  /**
+   * Directory of the persistent impact cache, where impacts of fixes are stored across runs. If
+   * {@code null}, impacts are not persisted.
+   */
+  @Nullable public final Path impactCacheDir;
+
+  /** Maximum total size of the persistent impact cache in megabytes. Defaults to 512. */
+  public final long impactCacheMaxSize;
+
+  /**
+   * Maximum number of days an entry of the persistent impact cache is kept since its last use.
+   * Defaults to 30.
+   */
+  public final int impactCacheMaxAge;
+
+  /**
+   * Path to a javac argument file captured from the build of the target module. If set, the target
+   * module is compiled inside the Annotator JVM with these arguments instead of running the build
+   * command.
+   */
+  @Nullable public final Path compilerArgumentsPath;
+
+  /**
+   * If activated, builds of groups of fixes only recompile the sources modified by the fixes and
+   * the sources of regions whose errors are read after the build. Requires {@link
+   * #compilerArgumentsPath} to be set.
+   */
+  public final boolean incrementalCompilation;
+
+  /**
+   * If activated, fixes under evaluation are applied on in-memory copies of the source files which
+   * are fed to the in process compiler, and only approved fixes are written to the source files.
+   * Requires {@link #compilerArgumentsPath} to be set.
+   */
+  public final boolean sourceOverlay;
+
+  /**
+   * If activated, in process compilations whose class files are not reused stop after flow
+   * analysis, run only NullAway and the scanner among Error Prone checks, and skip annotation
+   * processing if no annotation processor is on the processor path. Requires {@link
+   * #compilerArgumentsPath} to be set.
+   */
+  public final boolean analysisOnlyCompilation;
+
+  /** Strategy used to color the conflict graph into groups of fixes evaluated in a single build. */
+  public final ColoringStrategy coloringStrategy;
+
+  /**
+   * If activated, the conflict graph is also colored with all other coloring strategies on each
+   * round and the number of builds each strategy would schedule is reported in the log. Only used
+   * to compare strategies, as each comparison recolors the graph once per strategy.
+   */
+  public final boolean coloringStatistics;
+
+  /**
+   * Number of threads used to inject annotations, changes of different files are applied
+   * concurrently. Defaults to 1.
+   */
+  public final int injectorThreads;
+
+  /**
+   * Maximum number of parsed source files cached by each injector, caching is disabled if zero.
+   * Defaults to 256.
+   */
+  public final int parseCacheSize;
+
+  /**
+   * Format of the outputs serialized by AnnotatorScanner and loaded by registries. Defaults to
+   * {@link SerializationFormat#TSV}.
+   */
+  public final SerializationFormat serializationFormat;
+
+  /**
+   * Number of threads used to load registries of modules concurrently, registries are loaded
+   * sequentially if one. Zero, the default, uses the number of available processors.
+   */
+  public final int registryLoaderThreads;
+
+  /**
+   * Time budget of each build in seconds, builds exceeding it are killed along with all their
+   * subprocesses. Zero means no limit.
+   */
+  public final long buildTimeout;
+
+  /** Number of times a failed build is retried before Annotator aborts. Defaults to 2. */
+  public final int buildRetries;
+
+  /**
+   * Exit codes of successful builds, defaults to {0}. Builds exiting with {@link
+   * edu.ucr.cs.riple.core.build.BuildResult#CHECKER_ERROR_EXIT_CODE} are also successful if their
+   * captured output reports only checker errors, as builds reporting checker errors at error level
+   * fail. Successful builds must write fresh checker outputs.
+   */
+  public final ImmutableSet<Integer> buildExitCodes;
+
+  /** Type of the executor running build commands. Defaults to {@link BuildExecutorType#SHELL}. */
+  public final BuildExecutorType buildExecutorType;
+
+  /**
+   * Command starting the long-lived build daemon, required if {@link #buildExecutorType} is {@link
+   * BuildExecutorType#DAEMON}.
+   */
+  @Nullable public final String buildDaemonCommand;
+
   /**
    * Builds context from command line arguments.
    *
@@ -200,6 +341,14 @@ public class Config {
             "Command to build the target project, this command must include changing directory from root to the target project");
     buildCommandOption.setRequired(true);
     options.addOption(buildCommandOption);
+    Option analysisBuildCommandOption =
+        new Option(
+            "abc",
+            "analysis-build-command",
+            true,
+            "Command to build the target project for evaluation builds, which only need the checker outputs, e.g. with code generation disabled. The build command is still used to run the scanner.");
+    analysisBuildCommandOption.setRequired(false);
+    options.addOption(analysisBuildCommandOption);
 
     // Context Path
     Option configPath =
@@ -328,6 +477,15 @@ public class Config {
             "NullAway Library Model loader resource directory path");
     nullawayLibraryModelLoaderPathOption.setRequired(false);
     options.addOption(nullawayLibraryModelLoaderPathOption);
+    // Virtual injection of fixes on the target module.
+    Option virtualInjectionOption =
+        new Option(
+            "vinj",
+            "virtual-injection",
+            false,
+            "Evaluates fixes on method returns of the target module with NullAway library models instead of modifying the source code. Requires the NullAway library model loader path.");
+    virtualInjectionOption.setRequired(false);
+    options.addOption(virtualInjectionOption);
     // Down stream analysis: Analysis mode.
     Option analysisMode =
         new Option(
@@ -382,6 +540,182 @@ public class Config {
     languageLevelOption.setRequired(false);
     options.addOption(languageLevelOption);
 
+    // Parallel builds on working copies
+    Option parallelBuildWorkersOption =
+        new Option(
+            "pbw",
+            "parallel-build-workers",
+            true,
+            "Number of working copies of the target project used to build non-conflicting groups of fixes concurrently. Defaults to 1.");
+    parallelBuildWorkersOption.setRequired(false);
+    options.addOption(parallelBuildWorkersOption);
+    Option parallelBuildRootOption =
+        new Option(
+            "pbr",
+            "parallel-build-root",
+            true,
+            "Root directory of the target project to be copied for each parallel build worker. Required if parallel build workers is greater than 1.");
+    parallelBuildRootOption.setRequired(false);
+    options.addOption(parallelBuildRootOption);
+
+    // Persistent impact cache
+    Option impactCacheDirOption =
+        new Option(
+            "icd",
+            "impact-cache-dir",
+            true,
+            "Directory to persist impacts of fixes across runs. If not set, impacts are not persisted.");
+    impactCacheDirOption.setRequired(false);
+    options.addOption(impactCacheDirOption);
+    Option impactCacheMaxSizeOption =
+        new Option(
+            "icms",
+            "impact-cache-max-size",
+            true,
+            "Maximum total size of the persistent impact cache in megabytes. Defaults to 512.");
+    impactCacheMaxSizeOption.setRequired(false);
+    options.addOption(impactCacheMaxSizeOption);
+    Option impactCacheMaxAgeOption =
+        new Option(
+            "icma",
+            "impact-cache-max-age",
+            true,
+            "Maximum number of days an entry of the persistent impact cache is kept since its last use. Defaults to 30.");
+    impactCacheMaxAgeOption.setRequired(false);
+    options.addOption(impactCacheMaxAgeOption);
+
+    // In process compilation
+    Option compilerArgumentsPathOption =
+        new Option(
+            "cargs",
+            "compiler-arguments",
+            true,
+            "Path to a javac argument file of the target module build. If set, the target module is compiled inside the Annotator JVM instead of running the build command.");
+    compilerArgumentsPathOption.setRequired(false);
+    options.addOption(compilerArgumentsPathOption);
+    Option incrementalCompilationOption =
+        new Option(
+            "inc",
+            "incremental-compilation",
+            false,
+            "Recompiles only sources modified by fixes and sources of impacted regions on each build. Requires compiler arguments to be set.");
+    incrementalCompilationOption.setRequired(false);
+    options.addOption(incrementalCompilationOption);
+    Option sourceOverlayOption =
+        new Option(
+            "ovl",
+            "source-overlay",
+            false,
+            "Applies fixes under evaluation on in-memory copies of source files which are passed to the in process compiler, only approved fixes are written to disk. Requires compiler arguments to be set.");
+    sourceOverlayOption.setRequired(false);
+    options.addOption(sourceOverlayOption);
+    Option analysisOnlyCompilationOption =
+        new Option(
+            "aoc",
+            "analysis-only-compilation",
+            false,
+            "Stops in process compilations after flow analysis and disables Error Prone checks other than NullAway and the scanner, class files are only generated when reused by incremental compilation. Requires compiler arguments to be set.");
+    analysisOnlyCompilationOption.setRequired(false);
+    options.addOption(analysisOnlyCompilationOption);
+
+    // Conflict graph coloring strategy
+    Option coloringStrategyOption =
+        new Option(
+            "cs",
+            "coloring-strategy",
+            true,
+            "Strategy used to group non-conflicting fixes into builds. Can be [first_fit|largest_first|welsh_powell|dsatur]");
+    coloringStrategyOption.setRequired(false);
+    options.addOption(coloringStrategyOption);
+    Option coloringStatisticsOption =
+        new Option(
+            "csst",
+            "coloring-strategy-statistics",
+            false,
+            "Reports the number of builds each coloring strategy would schedule in the log, recolors the conflict graph with all strategies on each round.");
+    coloringStatisticsOption.setRequired(false);
+    options.addOption(coloringStatisticsOption);
+
+    // Injector
+    Option injectorThreadsOption =
+        new Option(
+            "it",
+            "injector-threads",
+            true,
+            "Number of threads used to inject annotations on different files concurrently. Defaults to 1.");
+    injectorThreadsOption.setRequired(false);
+    options.addOption(injectorThreadsOption);
+    Option parseCacheSizeOption =
+        new Option(
+            "pcs",
+            "parse-cache-size",
+            true,
+            "Maximum number of parsed source files cached by the injector, 0 disables caching. Defaults to 256.");
+    parseCacheSizeOption.setRequired(false);
+    options.addOption(parseCacheSizeOption);
+
+    // Serialization format
+    Option serializationFormatOption =
+        new Option(
+            "sf",
+            "serialization-format",
+            true,
+            "Format of outputs serialized by AnnotatorScanner, can be tsv or binary. Defaults to tsv.");
+    serializationFormatOption.setRequired(false);
+    options.addOption(serializationFormatOption);
+
+    // Registry loading
+    Option registryLoaderThreadsOption =
+        new Option(
+            "rlt",
+            "registry-loader-threads",
+            true,
+            "Number of threads used to load registries concurrently, 0 uses the number of available processors. Defaults to 0.");
+    registryLoaderThreadsOption.setRequired(false);
+    options.addOption(registryLoaderThreadsOption);
+
+    // Build outcome
+    Option buildTimeoutOption =
+        new Option(
+            "bto",
+            "build-timeout",
+            true,
+            "Time budget of each build in seconds, 0 means no limit. Defaults to 0.");
+    buildTimeoutOption.setRequired(false);
+    options.addOption(buildTimeoutOption);
+    Option buildRetriesOption =
+        new Option(
+            "brt",
+            "build-retries",
+            true,
+            "Number of times a failed build is retried before aborting. Defaults to 2.");
+    buildRetriesOption.setRequired(false);
+    options.addOption(buildRetriesOption);
+    Option buildExitCodesOption =
+        new Option(
+            "bec",
+            "build-exit-codes",
+            true,
+            "Exit codes of successful builds separated by a comma. Defaults to 0.");
+    buildExitCodesOption.setRequired(false);
+    options.addOption(buildExitCodesOption);
+    Option buildExecutorOption =
+        new Option(
+            "be",
+            "build-executor",
+            true,
+            "Executor of build commands, can be shell, daemon or gradle. Defaults to shell.");
+    buildExecutorOption.setRequired(false);
+    options.addOption(buildExecutorOption);
+    Option buildDaemonCommandOption =
+        new Option(
+            "bdc",
+            "build-daemon-command",
+            true,
+            "Command starting the long-lived build daemon, required if the build executor is daemon.");
+    buildDaemonCommandOption.setRequired(false);
+    options.addOption(buildDaemonCommandOption);
+
     HelpFormatter formatter = new HelpFormatter();
     CommandLineParser parser = new DefaultParser();
     CommandLine cmd;
@@ -399,11 +733,13 @@ public class Config {
       throw new IllegalArgumentException("Error in reading context flags: " + e.getMessage(), e);
     }
 
-    // Check if either all flags are available or none is present
+    // Check if either all flags are available or none is present, library model loader path is
+    // also used by virtual injection.
     if (!(cmd.hasOption(downstreamDependenciesActivationOption)
             == cmd.hasOption(downstreamDependenciesBuildCommandOption)
-        && cmd.hasOption(downstreamDependenciesActivationOption)
-            == cmd.hasOption(nullawayLibraryModelLoaderPathOption))) {
+        && (cmd.hasOption(downstreamDependenciesActivationOption)
+                == cmd.hasOption(nullawayLibraryModelLoaderPathOption)
+            || cmd.hasOption(virtualInjectionOption)))) {
       throw new IllegalArgumentException(
           "To activate downstream dependency analysis, all flags [--activate-downstream-dependencies-analysis, --downstream-dependencies-build-command (arg), --nullaway-library-model-loader-path (arg)] must be present!");
     }
@@ -414,6 +750,7 @@ public class Config {
         "cmd cannot be null at this point, as that will cause CommandLineParser.parse to throw ParseException, and the handler above should stop execution in that case.");
 
     this.buildCommand = cmd.getOptionValue(buildCommandOption.getLongOpt());
+    this.analysisBuildCommand = cmd.getOptionValue(analysisBuildCommandOption);
     this.nullableAnnot =
         cmd.hasOption(nullableOption.getLongOpt())
             ? cmd.getOptionValue(nullableOption.getLongOpt())
@@ -462,15 +799,18 @@ public class Config {
     if (this.downStreamDependenciesAnalysisActivated) {
       moduleConfigurationList.remove(0);
       this.downstreamConfigurations = ImmutableSet.copyOf(moduleConfigurationList);
-      this.nullawayLibraryModelLoaderPath =
-          Paths.get(cmd.getOptionValue(nullawayLibraryModelLoaderPathOption));
       this.downstreamDependenciesBuildCommand =
           cmd.getOptionValue(downstreamDependenciesBuildCommandOption.getLongOpt());
     } else {
-      this.nullawayLibraryModelLoaderPath = null;
       this.downstreamConfigurations = ImmutableSet.of();
       this.downstreamDependenciesBuildCommand = null;
     }
+    this.nullawayLibraryModelLoaderPath =
+        cmd.hasOption(nullawayLibraryModelLoaderPathOption)
+            ? Paths.get(cmd.getOptionValue(nullawayLibraryModelLoaderPathOption))
+            : null;
+    this.virtualInjection = cmd.hasOption(virtualInjectionOption);
+    checkVirtualInjectionConfiguration();
     this.inferenceActivated = !cmd.hasOption(deactivateInference);
     this.suppressRemainingErrors =
         !this.inferenceActivated || cmd.hasOption(suppressRemainingErrorsOption);
@@ -488,6 +828,48 @@ public class Config {
         !cmd.hasOption(nonnullAnnotationsOption)
             ? ImmutableSet.of()
             : ImmutableSet.copyOf(cmd.getOptionValue(nonnullAnnotationsOption).split(","));
+    this.parallelBuildWorkers =
+        Integer.parseInt(cmd.getOptionValue(parallelBuildWorkersOption, "1"));
+    this.parallelBuildRoot =
+        cmd.hasOption(parallelBuildRootOption)
+            ? Paths.get(cmd.getOptionValue(parallelBuildRootOption))
+            : null;
+    checkParallelBuildConfiguration();
+    this.impactCacheDir =
+        cmd.hasOption(impactCacheDirOption)
+            ? Paths.get(cmd.getOptionValue(impactCacheDirOption))
+            : null;
+    this.impactCacheMaxSize = Long.parseLong(cmd.getOptionValue(impactCacheMaxSizeOption, "512"));
+    this.impactCacheMaxAge = Integer.parseInt(cmd.getOptionValue(impactCacheMaxAgeOption, "30"));
+    checkImpactCacheConfiguration();
+    this.compilerArgumentsPath =
+        cmd.hasOption(compilerArgumentsPathOption)
+            ? Paths.get(cmd.getOptionValue(compilerArgumentsPathOption))
+            : null;
+    this.incrementalCompilation = cmd.hasOption(incrementalCompilationOption);
+    this.sourceOverlay = cmd.hasOption(sourceOverlayOption);
+    this.analysisOnlyCompilation = cmd.hasOption(analysisOnlyCompilationOption);
+    checkCompilerConfiguration();
+    this.coloringStrategy =
+        ColoringStrategy.parseStrategy(cmd.getOptionValue(coloringStrategyOption, "first_fit"));
+    this.coloringStatistics = cmd.hasOption(coloringStatisticsOption);
+    this.injectorThreads = Integer.parseInt(cmd.getOptionValue(injectorThreadsOption, "1"));
+    this.parseCacheSize = Integer.parseInt(cmd.getOptionValue(parseCacheSizeOption, "256"));
+    checkInjectorConfiguration();
+    this.serializationFormat =
+        SerializationFormat.parseFormat(cmd.getOptionValue(serializationFormatOption, "tsv"));
+    this.registryLoaderThreads =
+        Integer.parseInt(cmd.getOptionValue(registryLoaderThreadsOption, "0"));
+    Preconditions.checkArgument(
+        registryLoaderThreads >= 0,
+        "Number of registry loader threads must not be negative, found: " + registryLoaderThreads);
+    this.buildTimeout = Long.parseLong(cmd.getOptionValue(buildTimeoutOption, "0"));
+    this.buildRetries = Integer.parseInt(cmd.getOptionValue(buildRetriesOption, "2"));
+    this.buildExitCodes = parseExitCodes(cmd.getOptionValue(buildExitCodesOption, "0"));
+    this.buildExecutorType =
+        BuildExecutorType.parseType(cmd.getOptionValue(buildExecutorOption, "shell"));
+    this.buildDaemonCommand = cmd.getOptionValue(buildDaemonCommandOption);
+    checkBuildConfiguration();
   }
 
   /**
@@ -549,6 +931,10 @@ public class Config {
             .orElse(Collections.emptyList());
     this.target = moduleConfigurationList.get(0);
     this.buildCommand = parser.getValueFromKey("BUILD_COMMAND").orElse(null).getAsString();
+    String analysisBuildCommandString =
+        parser.getValueFromKey("ANALYSIS_BUILD_COMMAND").orElse("").getAsString();
+    this.analysisBuildCommand =
+        analysisBuildCommandString.isEmpty() ? null : analysisBuildCommandString;
     this.downStreamDependenciesAnalysisActivated =
         parser
             .getValueFromKey("DOWNSTREAM_DEPENDENCY_ANALYSIS:ACTIVATION")
@@ -568,6 +954,9 @@ public class Config {
         nullawayLibraryModelLoaderPathString == null
             ? null
             : Paths.get(nullawayLibraryModelLoaderPathString);
+    this.virtualInjection =
+        parser.getValueFromKey("VIRTUAL_INJECTION").orElse(false).getAsBoolean();
+    checkVirtualInjectionConfiguration();
     moduleConfigurationList.remove(0);
     this.mode =
         AnalysisMode.parseMode(
@@ -602,6 +991,160 @@ public class Config {
                 .getArrayValueFromKey(
                     "ANNOTATION:NONNULL", json -> json.get("NONNULL").getAsString())
                 .orElse(List.of()));
+    this.parallelBuildWorkers =
+        parser.getValueFromKey("PARALLEL_BUILD:WORKERS").orElse(1).getAsInt();
+    String parallelBuildRootString =
+        parser.getValueFromKey("PARALLEL_BUILD:ROOT").orElse("").getAsString();
+    this.parallelBuildRoot =
+        parallelBuildRootString.isEmpty() ? null : Paths.get(parallelBuildRootString);
+    checkParallelBuildConfiguration();
+    String impactCacheDirString =
+        parser.getValueFromKey("IMPACT_CACHE:DIR").orElse("").getAsString();
+    this.impactCacheDir = impactCacheDirString.isEmpty() ? null : Paths.get(impactCacheDirString);
+    this.impactCacheMaxSize =
+        parser.getValueFromKey("IMPACT_CACHE:MAX_SIZE").orElse(512).getAsLong();
+    this.impactCacheMaxAge = parser.getValueFromKey("IMPACT_CACHE:MAX_AGE").orElse(30).getAsInt();
+    checkImpactCacheConfiguration();
+    String compilerArgumentsPathString =
+        parser.getValueFromKey("COMPILER:ARGUMENTS_PATH").orElse("").getAsString();
+    this.compilerArgumentsPath =
+        compilerArgumentsPathString.isEmpty() ? null : Paths.get(compilerArgumentsPathString);
+    this.incrementalCompilation =
+        parser.getValueFromKey("COMPILER:INCREMENTAL").orElse(false).getAsBoolean();
+    this.sourceOverlay =
+        parser.getValueFromKey("COMPILER:SOURCE_OVERLAY").orElse(false).getAsBoolean();
+    this.analysisOnlyCompilation =
+        parser.getValueFromKey("COMPILER:ANALYSIS_ONLY").orElse(false).getAsBoolean();
+    checkCompilerConfiguration();
+    this.coloringStrategy =
+        ColoringStrategy.parseStrategy(
+            parser.getValueFromKey("COLORING_STRATEGY").orElse("first_fit").getAsString());
+    this.coloringStatistics =
+        parser.getValueFromKey("COLORING_STATISTICS").orElse(false).getAsBoolean();
+    this.injectorThreads = parser.getValueFromKey("INJECTOR:THREADS").orElse(1).getAsInt();
+    this.parseCacheSize =
+        parser.getValueFromKey("INJECTOR:PARSE_CACHE_SIZE").orElse(256).getAsInt();
+    checkInjectorConfiguration();
+    this.serializationFormat =
+        SerializationFormat.parseFormat(
+            parser.getValueFromKey("SERIALIZATION_FORMAT").orElse("tsv").getAsString());
+    this.registryLoaderThreads =
+        parser.getValueFromKey("REGISTRY_LOADER_THREADS").orElse(0).getAsInt();
+    Preconditions.checkArgument(
+        registryLoaderThreads >= 0,
+        "Number of registry loader threads must not be negative, found: " + registryLoaderThreads);
+    this.buildTimeout = parser.getValueFromKey("BUILD:TIMEOUT").orElse(0L).getAsLong();
+    this.buildRetries = parser.getValueFromKey("BUILD:RETRIES").orElse(2).getAsInt();
+    this.buildExitCodes =
+        parseExitCodes(parser.getValueFromKey("BUILD:EXIT_CODES").orElse("0").getAsString());
+    this.buildExecutorType =
+        BuildExecutorType.parseType(
+            parser.getValueFromKey("BUILD:EXECUTOR").orElse("shell").getAsString());
+    String buildDaemonCommandString =
+        parser.getValueFromKey("BUILD:DAEMON_COMMAND").orElse("").getAsString();
+    this.buildDaemonCommand = buildDaemonCommandString.isEmpty() ? null : buildDaemonCommandString;
+    checkBuildConfiguration();
+  }
+
+  /**
+   * Parses exit codes separated by a comma.
+   *
+   * @param exitCodes Exit codes separated by a comma (e.g. "0,1").
+   * @return Set of exit codes.
+   */
+  private static ImmutableSet<Integer> parseExitCodes(String exitCodes) {
+    return Arrays.stream(exitCodes.split(","))
+        .map(String::strip)
+        .filter(code -> !code.isEmpty())
+        .map(Integer::parseInt)
+        .collect(ImmutableSet.toImmutableSet());
+  }
+
+  /** Checks that the build outcome configuration is consistent. */
+  private void checkBuildConfiguration() {
+    Preconditions.checkArgument(
+        buildTimeout >= 0, "Build timeout must not be negative, found: " + buildTimeout);
+    Preconditions.checkArgument(
+        buildRetries >= 0, "Number of build retries must not be negative, found: " + buildRetries);
+    Preconditions.checkArgument(
+        !buildExitCodes.isEmpty(), "At least one exit code of successful builds is required.");
+    Preconditions.checkArgument(
+        buildExecutorType != BuildExecutorType.DAEMON || buildDaemonCommand != null,
+        "Build daemon command must be set to use the daemon build executor.");
+    if (buildExecutorType == BuildExecutorType.GRADLE) {
+      // Rejects commands which cannot be run with the Gradle Tooling API before any build.
+      Stream.of(buildCommand, analysisBuildCommand, downstreamDependenciesBuildCommand)
+          .filter(Objects::nonNull)
+          .forEach(GradleToolingBuildExecutor::parseCommand);
+    }
+  }
+
+  /** Checks that the injector configuration is consistent. */
+  private void checkInjectorConfiguration() {
+    Preconditions.checkArgument(
+        injectorThreads > 0,
+        "Number of injector threads must be positive, found: " + injectorThreads);
+    Preconditions.checkArgument(
+        parseCacheSize >= 0, "Parse cache size must not be negative, found: " + parseCacheSize);
+  }
+
+  /** Checks that the parallel build configuration is consistent. */
+  private void checkParallelBuildConfiguration() {
+    Preconditions.checkArgument(
+        parallelBuildWorkers > 0,
+        "Number of parallel build workers must be positive, found: " + parallelBuildWorkers);
+    Preconditions.checkArgument(
+        parallelBuildWorkers == 1 || parallelBuildRoot != null,
+        "Root directory of the target project must be set to use more than one parallel build worker.");
+  }
+
+  /** Checks that the persistent impact cache configuration is consistent. */
+  private void checkImpactCacheConfiguration() {
+    Preconditions.checkArgument(
+        impactCacheMaxSize > 0,
+        "Maximum size of the impact cache must be positive, found: " + impactCacheMaxSize);
+    Preconditions.checkArgument(
+        impactCacheMaxAge > 0,
+        "Maximum age of the impact cache entries must be positive, found: " + impactCacheMaxAge);
+  }
+
+  /** Checks that the library model loader is available if virtual injection is activated. */
+  private void checkVirtualInjectionConfiguration() {
+    Preconditions.checkArgument(
+        !virtualInjection || nullawayLibraryModelLoaderPath != null,
+        "NullAway library model loader path must be set to use virtual injection.");
+  }
+
+  /** Checks that the in process compilation configuration is consistent. */
+  private void checkCompilerConfiguration() {
+    Preconditions.checkArgument(
+        !incrementalCompilation || compilerArgumentsPath != null,
+        "Compiler arguments must be set to use incremental compilation.");
+    Preconditions.checkArgument(
+        !sourceOverlay || compilerArgumentsPath != null,
+        "Compiler arguments must be set to use source overlay.");
+    Preconditions.checkArgument(
+        !analysisOnlyCompilation || compilerArgumentsPath != null,
+        "Compiler arguments must be set to use analysis only compilation.");
+  }
+
+  /**
+   * Checks if builds of non-conflicting groups of fixes should be performed concurrently on
+   * working copies of the target project.
+   *
+   * @return true, if more than one parallel build worker is requested.
+   */
+  public boolean useWorkingCopies() {
+    return useParallelGraphProcessor && parallelBuildWorkers > 1;
+  }
+
+  /**
+   * Returns the command to build the target module for evaluation builds.
+   *
+   * @return Analysis build command if set, otherwise the build command.
+   */
+  public String getEvaluationBuildCommand() {
+    return analysisBuildCommand != null ? analysisBuildCommand : buildCommand;
   }
 
   /**
@@ -631,6 +1174,7 @@ public class Config {
   public static class Builder {
 
     public String buildCommand;
+    public String analysisBuildCommand;
     public String initializerAnnotation;
     public String nullableAnnotation;
     public String outputDir;
@@ -650,6 +1194,7 @@ public class Config {
     public boolean outerLoopActivation = true;
     public boolean downStreamDependenciesAnalysisActivated = false;
     public Path nullawayLibraryModelLoaderPath;
+    public boolean virtualInjection = false;
     public AnalysisMode mode = AnalysisMode.LOCAL;
     public String downstreamBuildCommand;
     public boolean suppressRemainingErrors = false;
@@ -660,6 +1205,26 @@ public class Config {
     public int depth = 1;
     public String checker;
     public ParserConfiguration.LanguageLevel languageLevel;
+    public int parallelBuildWorkers = 1;
+    public Path parallelBuildRoot;
+    public Path impactCacheDir;
+    public long impactCacheMaxSize = 512;
+    public int impactCacheMaxAge = 30;
+    public Path compilerArgumentsPath;
+    public boolean incrementalCompilation = false;
+    public boolean sourceOverlay = false;
+    public boolean analysisOnlyCompilation = false;
+    public ColoringStrategy coloringStrategy = ColoringStrategy.FIRST_FIT;
+    public boolean coloringStatistics = false;
+    public int injectorThreads = 1;
+    public int parseCacheSize = 256;
+    public SerializationFormat serializationFormat = SerializationFormat.TSV;
+    public int registryLoaderThreads = 0;
+    public long buildTimeout = 0;
+    public int buildRetries = 2;
+    public Set<Integer> buildExitCodes = Set.of(0);
+    public BuildExecutorType buildExecutorType = BuildExecutorType.SHELL;
+    public String buildDaemonCommand;
 
     public void write(Path path) {
       Preconditions.checkNotNull(
@@ -673,6 +1238,9 @@ public class Config {
           nullableAnnotation, "Nullable Annotation must be initialized to construct the context.");
       JsonObject json = new JsonObject();
       json.addProperty("BUILD_COMMAND", buildCommand);
+      if (analysisBuildCommand != null) {
+        json.addProperty("ANALYSIS_BUILD_COMMAND", analysisBuildCommand);
+      }
       json.addProperty("CHECKER", checker);
       JsonObject annotation = new JsonObject();
       annotation.addProperty("INITIALIZER", initializerAnnotation);
@@ -710,13 +1278,16 @@ public class Config {
         Preconditions.checkArgument(
             !mode.equals(AnalysisMode.LOCAL),
             "Cannot perform downstream dependencies analysis with mode: \"Local\", use one of [default|lower_bound|upper_bound].");
-        downstreamDependency.addProperty(
-            "LIBRARY_MODEL_LOADER_PATH", nullawayLibraryModelLoaderPath.toString());
         Preconditions.checkNotNull(downstreamBuildCommand);
         downstreamDependency.addProperty("BUILD_COMMAND", downstreamBuildCommand);
         downstreamDependency.addProperty("ANALYSIS_MODE", mode.name());
       }
+      if (nullawayLibraryModelLoaderPath != null) {
+        downstreamDependency.addProperty(
+            "LIBRARY_MODEL_LOADER_PATH", nullawayLibraryModelLoaderPath.toString());
+      }
       json.add("DOWNSTREAM_DEPENDENCY_ANALYSIS", downstreamDependency);
+      json.addProperty("VIRTUAL_INJECTION", virtualInjection);
       JsonObject processors = new JsonObject();
       sourceTypes.forEach(
           sourceType -> {
@@ -725,6 +1296,46 @@ public class Config {
             processors.add(sourceType.name(), st);
           });
       json.add("PROCESSORS", processors);
+      JsonObject parallelBuild = new JsonObject();
+      parallelBuild.addProperty("WORKERS", parallelBuildWorkers);
+      if (parallelBuildRoot != null) {
+        parallelBuild.addProperty("ROOT", parallelBuildRoot.toString());
+      }
+      json.add("PARALLEL_BUILD", parallelBuild);
+      JsonObject impactCache = new JsonObject();
+      if (impactCacheDir != null) {
+        impactCache.addProperty("DIR", impactCacheDir.toString());
+      }
+      impactCache.addProperty("MAX_SIZE", impactCacheMaxSize);
+      impactCache.addProperty("MAX_AGE", impactCacheMaxAge);
+      json.add("IMPACT_CACHE", impactCache);
+      JsonObject compiler = new JsonObject();
+      if (compilerArgumentsPath != null) {
+        compiler.addProperty("ARGUMENTS_PATH", compilerArgumentsPath.toString());
+      }
+      compiler.addProperty("INCREMENTAL", incrementalCompilation);
+      compiler.addProperty("SOURCE_OVERLAY", sourceOverlay);
+      compiler.addProperty("ANALYSIS_ONLY", analysisOnlyCompilation);
+      json.add("COMPILER", compiler);
+      json.addProperty("COLORING_STRATEGY", coloringStrategy.name());
+      json.addProperty("COLORING_STATISTICS", coloringStatistics);
+      JsonObject injector = new JsonObject();
+      injector.addProperty("THREADS", injectorThreads);
+      injector.addProperty("PARSE_CACHE_SIZE", parseCacheSize);
+      json.add("INJECTOR", injector);
+      json.addProperty("SERIALIZATION_FORMAT", serializationFormat.name());
+      json.addProperty("REGISTRY_LOADER_THREADS", registryLoaderThreads);
+      JsonObject build = new JsonObject();
+      build.addProperty("TIMEOUT", buildTimeout);
+      build.addProperty("RETRIES", buildRetries);
+      build.addProperty(
+          "EXIT_CODES",
+          buildExitCodes.stream().map(String::valueOf).collect(Collectors.joining(",")));
+      build.addProperty("EXECUTOR", buildExecutorType.name());
+      if (buildDaemonCommand != null) {
+        build.addProperty("DAEMON_COMMAND", buildDaemonCommand);
+      }
+      json.add("BUILD", build);
       try (BufferedWriter file =
           Files.newBufferedWriter(path.toFile().toPath(), Charset.defaultCharset())) {
         file.write(json.toString());
@@ -25,20 +25,30 @@
 package edu.ucr.cs.riple.core;
 
 import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import edu.ucr.cs.riple.core.build.BuildExecutor;
 import edu.ucr.cs.riple.core.checkers.Checker;
 import edu.ucr.cs.riple.core.checkers.CheckerBaseClass;
+import edu.ucr.cs.riple.core.evaluators.graph.processors.InProcessCompilerRunner;
 import edu.ucr.cs.riple.core.injectors.AnnotationInjector;
 import edu.ucr.cs.riple.core.injectors.PhysicalInjector;
 import edu.ucr.cs.riple.core.log.Log;
 import edu.ucr.cs.riple.core.module.ModuleConfiguration;
 import edu.ucr.cs.riple.core.module.ModuleInfo;
+import edu.ucr.cs.riple.core.module.WorkingCopyPool;
 import edu.ucr.cs.riple.core.registries.index.Error;
+import edu.ucr.cs.riple.injector.SourceOverlay;
 import edu.ucr.cs.riple.injector.offsets.FileOffsetStore;
 import edu.ucr.cs.riple.injector.offsets.OffsetChange;
 import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import javax.annotation.Nullable;
 
 /**
  * Context class for Annotator. This class encapsulates all the code structure information all APIs
@@ -73,6 +83,35 @@ public class Context {
 
   public final AnnotationInjector injector;
 
+  /**
+   * Overlay of source files modified by fixes under evaluation, {@code null} if fixes are evaluated
+   * on the source files on disk. See {@link Config#sourceOverlay}.
+   */
+  @Nullable public final SourceOverlay sourceOverlay;
+
+  /** Pool of working copies of the target project, created on first use. */
+  @Nullable private WorkingCopyPool workingCopyPool;
+
+  /** Runner compiling the target module inside the Annotator JVM, created on first use. */
+  @Nullable private InProcessCompilerRunner inProcessCompilerRunner;
+
+  /** Executor used by injectors to apply changes of different files, created on first use. */
+  @Nullable private Executor injectorExecutor;
+
+  /** Executor used to load registries of modules concurrently, created on first use. */
+  @Nullable private Executor registryLoaderExecutor;
+
+  /** Executor of build commands, created on first use. */
+  @Nullable private BuildExecutor buildExecutor;
+
+  /**
+   * Whether the checker outputs of the target module are produced by a build of its current source
+   * code and can be read without building it again. Set after the startup build of the target
+   * module, which runs the scanner and the checker together, and cleared by any later build or
+   * change to the source code.
+   */
+  private volatile boolean targetOutputsUpToDate;
+
   /**
    * Builds context from command line arguments.
    *
@@ -81,11 +120,14 @@ public class Context {
   public Context(Config config) {
     this.config = config;
     this.offsetHandler = new OffsetHandler();
+    this.sourceOverlay = config.sourceOverlay ? new SourceOverlay() : null;
     this.downstreamConfigurations = config.downstreamConfigurations;
     this.log = new Log();
     this.targetConfiguration = config.target;
     this.checker = CheckerBaseClass.getCheckerByName(config.checkerName, this);
     this.targetModuleInfo = new ModuleInfo(this, config.target, config.buildCommand);
+    // The scanner build of the target module also produced the baseline checker outputs.
+    this.targetOutputsUpToDate = true;
     // Checker compatibility check must be after target module info is initialized.
     this.checker.verifyCheckerCompatibility();
     this.injector = new PhysicalInjector(this);
@@ -100,16 +142,150 @@ public class Context {
     return injector;
   }
 
+  /**
+   * Gets the pool of working copies of the target project. The pool is created on the first call,
+   * working copies are synchronized with the original source tree by their users.
+   *
+   * @return Pool of working copies.
+   */
+  public synchronized WorkingCopyPool getWorkingCopyPool() {
+    if (workingCopyPool == null) {
+      workingCopyPool = new WorkingCopyPool(this);
+    }
+    return workingCopyPool;
+  }
+
+  /**
+   * Gets the runner compiling the target module inside the Annotator JVM. The runner is created on
+   * the first call from the compiler argument file in the configuration, and compiles the contents
+   * of the source overlay of this context if present.
+   *
+   * @return In process compiler runner, or {@code null} if no compiler argument file is configured.
+   */
+  @Nullable
+  public synchronized InProcessCompilerRunner getInProcessCompilerRunner() {
+    if (config.compilerArgumentsPath == null) {
+      return null;
+    }
+    if (inProcessCompilerRunner == null) {
+      inProcessCompilerRunner =
+          InProcessCompilerRunner.fromArgumentFile(
+              config, config.compilerArgumentsPath, sourceOverlay);
+    }
+    return inProcessCompilerRunner;
+  }
+
+  /**
+   * Gets the executor used by injectors to apply changes of different files concurrently. Changes
+   * are applied on the calling thread if a single injector thread is configured.
+   *
+   * @return Executor of injectors.
+   */
+  public synchronized Executor getInjectorExecutor() {
+    if (injectorExecutor == null) {
+      injectorExecutor =
+          config.injectorThreads > 1
+              ? Executors.newFixedThreadPool(
+                  config.injectorThreads,
+                  new ThreadFactoryBuilder().setNameFormat("injector-%d").setDaemon(true).build())
+              : MoreExecutors.directExecutor();
+    }
+    return injectorExecutor;
+  }
+
+  /**
+   * Gets the executor used to load registries and their source files concurrently. Registries are
+   * loaded on the calling thread if a single registry loader thread is configured. Loading tasks
+   * wait for nested tasks, a fork-join pool compensates blocked workers to avoid starvation.
+   *
+   * @return Executor of registry loading tasks.
+   */
+  public synchronized Executor getRegistryLoaderExecutor() {
+    if (registryLoaderExecutor == null) {
+      int threads =
+          config.registryLoaderThreads == 0
+              ? Runtime.getRuntime().availableProcessors()
+              : config.registryLoaderThreads;
+      registryLoaderExecutor =
+          threads > 1 ? new ForkJoinPool(threads) : MoreExecutors.directExecutor();
+    }
+    return registryLoaderExecutor;
+  }
+
+  /**
+   * Gets the executor running build commands of the target module and downstream dependencies. The
+   * executor is created on the first call according to {@link Config#buildExecutorType}.
+   *
+   * @return Build executor.
+   */
+  public synchronized BuildExecutor getBuildExecutor() {
+    if (buildExecutor == null) {
+      buildExecutor = config.buildExecutorType.create(config);
+    }
+    return buildExecutor;
+  }
+
+  /**
+   * Checks if the checker outputs of the target module can be read without building it, i.e. no
+   * build has run and no source file has been modified since the startup build.
+   *
+   * @return true, if outputs of the startup build of the target module are up to date.
+   */
+  public boolean areTargetOutputsUpToDate() {
+    return targetOutputsUpToDate;
+  }
+
+  /**
+   * Marks the checker outputs of the target module as out of date. Must be called before any build
+   * or any modification of the source code.
+   */
+  public void invalidateTargetOutputs() {
+    targetOutputsUpToDate = false;
+  }
+
+  /** Closes the working copy pool if created, deleting all working copies of the target. */
+  public synchronized void closeWorkingCopyPool() {
+    if (workingCopyPool != null) {
+      workingCopyPool.close();
+      workingCopyPool = null;
+    }
+  }
+
+  /** Closes the build executor if created, terminating long-lived build processes. */
+  public synchronized void closeBuildExecutor() {
+    if (buildExecutor != null) {
+      buildExecutor.close();
+      buildExecutor = null;
+    }
+  }
+
   /** Responsible for handling offset changes in source file. */
   public static class OffsetHandler {
 
     /** Map of file paths to Offset stores. */
     private final Map<Path, FileOffsetStore> contents;
 
+    /**
+     * Offset changes recorded since the start of the current session, {@code null} if no session
+     * is active. Changes of a session are applied on top of {@link #contents} and are discarded
+     * once the session ends.
+     */
+    @Nullable private OffsetHandler session;
+
     public OffsetHandler() {
       this.contents = new HashMap<>();
     }
 
+    /**
+     * Checks if the file at the given path is modified since the start of the run.
+     *
+     * @param path Path to source file.
+     * @return true, if any offset change is recorded for the file.
+     */
+    public boolean isModified(Path path) {
+      return contents.containsKey(path) || (session != null && session.isModified(path));
+    }
+
     /**
      * Gets the original offset according to existing offset changes.
      *
@@ -118,6 +294,9 @@ public class Context {
      * @return Original offset.
      */
     public int getOriginalOffset(Path path, int offset) {
+      if (session != null) {
+        offset = session.getOriginalOffset(path, offset);
+      }
       if (!contents.containsKey(path)) {
         return offset;
       }
@@ -130,6 +309,10 @@ public class Context {
      * @param newOffsets Given new offset changes.
      */
     public void updateStateWithRecentChanges(Set<FileOffsetStore> newOffsets) {
+      if (session != null) {
+        session.updateStateWithRecentChanges(newOffsets);
+        return;
+      }
       newOffsets.forEach(
           store -> {
             if (!contents.containsKey(store.getPath())) {
@@ -141,5 +324,33 @@ public class Context {
             }
           });
     }
+
+    /**
+     * Discards all recorded offset changes. Should be called once all modified files are restored
+     * to their original content.
+     */
+    public void clear() {
+      contents.clear();
+      session = null;
+    }
+
+    /**
+     * Starts a session if none is active. Offset changes recorded during the session are kept
+     * separately and discarded by {@link #endSession()}, leaving the state of this handler as it
+     * was before the session started.
+     */
+    public void beginSession() {
+      if (session == null) {
+        session = new OffsetHandler();
+      }
+    }
+
+    /**
+     * Ends the active session and discards all offset changes recorded during it. Should be called
+     * once all files modified during the session are restored to their content at its start.
+     */
+    public void endSession() {
+      session = null;
+    }
   }
 }
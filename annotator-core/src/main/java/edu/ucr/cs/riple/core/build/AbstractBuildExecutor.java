@@ -0,0 +1,93 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.build;
+
+import edu.ucr.cs.riple.core.Config;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
+
+/** Base class for build executors, handling the captured output of builds. */
+public abstract class AbstractBuildExecutor implements BuildExecutor {
+
+  /** Annotator configuration. */
+  protected final Config config;
+
+  public AbstractBuildExecutor(Config config) {
+    this.config = config;
+  }
+
+  /**
+   * Creates the file capturing the output of a build. If {@link Config#redirectBuildOutputToStdErr}
+   * is activated, the output is written to std error instead and no file is created.
+   *
+   * @return Path to the created file, or {@code null} if the output is not captured.
+   * @throws IOException if the file could not be created.
+   */
+  @Nullable
+  protected Path createOutputLog() throws IOException {
+    return config.redirectBuildOutputToStdErr
+        ? null
+        : Files.createTempFile(config.globalDir, "build", ".log");
+  }
+
+  /**
+   * Creates the outcome of a finished build. The captured output of successful builds is deleted.
+   *
+   * @param exitCode Exit code of the build, {@link BuildResult#NO_EXIT_CODE} if not completed.
+   * @param timedOut Whether the build exceeded its time budget.
+   * @param start Time the build started at in milliseconds.
+   * @param output Path to the captured output, {@code null} if the output is not captured.
+   * @return Outcome of the build.
+   * @throws IOException if the captured output could not be deleted.
+   */
+  protected BuildResult complete(int exitCode, boolean timedOut, long start, @Nullable Path output)
+      throws IOException {
+    long duration = System.currentTimeMillis() - start;
+    BuildResult result = new BuildResult(exitCode, timedOut, duration, output);
+    if (output != null && result.isSuccessful(config.buildExitCodes)) {
+      Files.deleteIfExists(output);
+      return new BuildResult(exitCode, false, duration, null);
+    }
+    return result;
+  }
+
+  /**
+   * Forcibly kills the given process along with all its descendants and waits for its termination.
+   *
+   * @param process Process to kill.
+   * @throws InterruptedException if interrupted while waiting for the process to terminate.
+   */
+  protected static void destroyProcessTree(Process process) throws InterruptedException {
+    // Collect descendants before killing the root, orphaned processes are not descendants.
+    List<ProcessHandle> descendants = process.descendants().collect(Collectors.toList());
+    descendants.forEach(ProcessHandle::destroyForcibly);
+    process.destroyForcibly();
+    process.waitFor();
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.build;
+
+/**
+ * Executes build commands of the target module and downstream dependencies. Implementations may
+ * keep a long-lived build process across builds to avoid paying for the startup of a new build
+ * client and a cold compiler on every build. Implementations must be thread safe, as groups of
+ * fixes can be evaluated concurrently in parallel processing.
+ */
+public interface BuildExecutor extends AutoCloseable {
+
+  /**
+   * Runs the given build command and waits for its completion. Builds exceeding the configured
+   * time budget are stopped and reported as timed out.
+   *
+   * @param command Build command.
+   * @return Outcome of the build.
+   */
+  BuildResult execute(String command);
+
+  /** Releases resources held by the executor, including long-lived build processes. */
+  @Override
+  void close();
+}
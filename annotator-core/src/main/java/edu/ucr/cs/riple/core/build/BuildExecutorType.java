@@ -0,0 +1,82 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.build;
+
+import edu.ucr.cs.riple.core.Config;
+
+/** Type of the {@link BuildExecutor} running builds of the target module and its dependencies. */
+public enum BuildExecutorType {
+  /** Runs each build command in a new shell process. */
+  SHELL {
+    @Override
+    public BuildExecutor create(Config config) {
+      return new ShellBuildExecutor(config);
+    }
+  },
+
+  /**
+   * Sends build commands to a long-lived daemon process, see {@link DaemonBuildExecutor} for the
+   * protocol.
+   */
+  DAEMON {
+    @Override
+    public BuildExecutor create(Config config) {
+      return new DaemonBuildExecutor(config);
+    }
+  },
+
+  /** Runs Gradle builds over connections of the Gradle Tooling API kept open across builds. */
+  GRADLE {
+    @Override
+    public BuildExecutor create(Config config) {
+      return new GradleToolingBuildExecutor(config);
+    }
+  };
+
+  /**
+   * Creates a build executor of this type.
+   *
+   * @param config Annotator configuration.
+   * @return Build executor.
+   */
+  public abstract BuildExecutor create(Config config);
+
+  /**
+   * Parses the received option and returns the corresponding {@link BuildExecutorType}. Can only be
+   * one of [shell|daemon|gradle] values.
+   *
+   * @param type passed type.
+   * @return the corresponding {@link BuildExecutorType}.
+   */
+  public static BuildExecutorType parseType(String type) {
+    for (BuildExecutorType value : values()) {
+      if (value.name().equalsIgnoreCase(type)) {
+        return value;
+      }
+    }
+    throw new IllegalArgumentException(
+        "Unrecognized build executor: " + type + " .Can only be [shell|daemon|gradle].");
+  }
+}
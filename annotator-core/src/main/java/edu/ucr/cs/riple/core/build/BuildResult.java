@@ -0,0 +1,145 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.build;
+
+import com.google.common.collect.ImmutableSet;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.annotation.Nullable;
+
+/** Outcome of a single build attempt. */
+public class BuildResult {
+
+  /**
+   * Exit code returned for builds which did not complete, e.g. when the connection to a build
+   * daemon is lost.
+   */
+  public static final int NO_EXIT_CODE = -1;
+
+  /**
+   * Exit code of builds failed by errors at error level, e.g. checker errors reported by NullAway
+   * in Gradle and Maven builds. Other build failures exit with the same code.
+   */
+  public static final int CHECKER_ERROR_EXIT_CODE = 1;
+
+  /**
+   * Pattern of compiler errors in build outputs, {@code <file>.java:<line>: error: <message>} for
+   * javac, {@code [ERROR] <file>.java:[<line>,<column>] <message>} for Maven, and errors of javac
+   * which are not reported on a source file. The first group is the message of the error.
+   */
+  private static final Pattern COMPILER_ERROR_PATTERN =
+      Pattern.compile(
+          "^(?:\\[ERROR\\] )?(?:.*\\.java:(?:\\d+: error:|\\[[\\d,]+\\])|error:) (.*)$");
+
+  /** Exit code of the build process, {@link #NO_EXIT_CODE} if the build did not complete. */
+  public final int exitCode;
+
+  /** Whether the build was killed after exceeding its time budget. */
+  public final boolean timedOut;
+
+  /** Wall-clock duration of the build in milliseconds. */
+  public final long duration;
+
+  /** Path to the captured output of the build, {@code null} if the output is not captured. */
+  @Nullable public final Path output;
+
+  public BuildResult(int exitCode, boolean timedOut, long duration, @Nullable Path output) {
+    this.exitCode = exitCode;
+    this.timedOut = timedOut;
+    this.duration = duration;
+    this.output = output;
+  }
+
+  /**
+   * Checks if the build finished with one of the given exit codes.
+   *
+   * @param acceptedExitCodes Exit codes of successful builds.
+   * @return true, if the build did not time out and exited with an accepted code.
+   */
+  public boolean isSuccessful(ImmutableSet<Integer> acceptedExitCodes) {
+    return !timedOut && acceptedExitCodes.contains(exitCode);
+  }
+
+  /**
+   * Checks if the build finished with {@link #CHECKER_ERROR_EXIT_CODE}. Such builds may have failed
+   * only because of checker errors, which must be verified by the outputs of the checker.
+   *
+   * @return true, if the build did not time out and exited with {@link #CHECKER_ERROR_EXIT_CODE}.
+   */
+  public boolean isFailedByCheckerErrors() {
+    return !timedOut && exitCode == CHECKER_ERROR_EXIT_CODE;
+  }
+
+  /**
+   * Checks if all compiler errors in the captured output of this build are reported with the given
+   * prefix, i.e. the build failed only because of errors reported by a checker. Errors are
+   * recognized in the format of javac, used by Gradle, and in the format of Maven.
+   *
+   * @param prefix Prefix of messages of errors reported by the checker.
+   * @return true, if the output is captured and reports at least one error, all with the given
+   *     prefix.
+   */
+  public boolean reportsOnlyErrorsWithPrefix(String prefix) {
+    if (output == null) {
+      return false;
+    }
+    boolean found = false;
+    // Build outputs may not be valid UTF-8, errors are recognized by ASCII patterns only.
+    try (BufferedReader reader = Files.newBufferedReader(output, StandardCharsets.ISO_8859_1)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        Matcher matcher = COMPILER_ERROR_PATTERN.matcher(line);
+        if (!matcher.matches()) {
+          continue;
+        }
+        if (!matcher.group(1).startsWith(prefix)) {
+          return false;
+        }
+        found = true;
+      }
+    } catch (IOException e) {
+      return false;
+    }
+    return found;
+  }
+
+  @Override
+  public String toString() {
+    String outcome;
+    if (timedOut) {
+      outcome = "timed out after " + duration + " ms";
+    } else if (exitCode == NO_EXIT_CODE) {
+      outcome = "did not complete";
+    } else {
+      outcome = "exited with code " + exitCode;
+    }
+    return output == null ? outcome : outcome + ", output is stored at: " + output;
+  }
+}
@@ -0,0 +1,235 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.build;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import edu.ucr.cs.riple.core.Config;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import javax.annotation.Nullable;
+
+/**
+ * Sends build commands to a long-lived daemon process started once with {@link
+ * Config#buildDaemonCommand}, so the build client and the compiler stay warm across builds. The
+ * daemon communicates over its standard streams:
+ *
+ * <ul>
+ *   <li>Each request is a single line on the standard input of the daemon holding the build command
+ *       of the module to rebuild, i.e. the build command of the target module or the downstream
+ *       dependencies.
+ *   <li>The daemon may write the output of the build on its standard output, and must report the
+ *       completion of each request with a single line {@code ##annotator-build-finished <exit
+ *       code>}.
+ *   <li>The daemon should terminate once its standard input is closed.
+ * </ul>
+ *
+ * Requests are served one at a time. If the daemon does not respond within {@link
+ * Config#buildTimeout} seconds or terminates, it is killed along with all its descendants and is
+ * restarted on the next request.
+ */
+public class DaemonBuildExecutor extends AbstractBuildExecutor {
+
+  /** Prefix of the line reporting the completion of a request, followed by the exit code. */
+  public static final String COMPLETION_PREFIX = "##annotator-build-finished ";
+
+  /** Time to wait for the daemon to terminate on close before killing it, in seconds. */
+  private static final long SHUTDOWN_GRACE_PERIOD = 10;
+
+  /** Reads responses of the daemon, so reads can be abandoned when a request times out. */
+  private final ExecutorService reader;
+
+  /** The daemon process, {@code null} if not started or killed after a failure. */
+  @Nullable private Process daemon;
+
+  /** Standard input of the daemon. */
+  @Nullable private Writer requests;
+
+  /** Standard output of the daemon. */
+  @Nullable private BufferedReader responses;
+
+  public DaemonBuildExecutor(Config config) {
+    super(config);
+    Preconditions.checkArgument(
+        config.buildDaemonCommand != null, "Build daemon command must be set to use a daemon.");
+    this.reader =
+        Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder()
+                .setNameFormat("build-daemon-reader")
+                .setDaemon(true)
+                .build());
+  }
+
+  @Override
+  public synchronized BuildResult execute(String command) {
+    Preconditions.checkArgument(
+        command.indexOf('\n') == -1, "Build commands sent to the daemon must be a single line.");
+    long start = System.currentTimeMillis();
+    Path output = null;
+    try {
+      if (daemon == null || !daemon.isAlive()) {
+        start();
+      }
+      output = createOutputLog();
+      requests.write(command);
+      requests.write('\n');
+      requests.flush();
+      Future<Integer> response = reader.submit(readResponse(output));
+      Integer exitCode;
+      try {
+        exitCode =
+            config.buildTimeout > 0
+                ? response.get(config.buildTimeout, TimeUnit.SECONDS)
+                : response.get();
+      } catch (TimeoutException e) {
+        // Killing the daemon closes its output, which terminates the pending read.
+        stop();
+        return complete(BuildResult.NO_EXIT_CODE, true, start, output);
+      }
+      if (exitCode == null) {
+        System.err.println("Build daemon terminated unexpectedly, it will be restarted.");
+        stop();
+        return complete(BuildResult.NO_EXIT_CODE, false, start, output);
+      }
+      return complete(exitCode, false, start, output);
+    } catch (IOException | ExecutionException e) {
+      // Lost connection to the daemon, the build is reported as failed and may be retried.
+      System.err.println("Lost connection to the build daemon: " + e.getMessage());
+      try {
+        stop();
+        return complete(BuildResult.NO_EXIT_CODE, false, start, output);
+      } catch (Exception ex) {
+        throw new RuntimeException("Exception happened in stopping the build daemon.", ex);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while waiting for the build daemon.", e);
+    }
+  }
+
+  /**
+   * Returns a task reading the response of the daemon to the last request. Output lines of the
+   * build are copied to the given file, or to std error if the output is not captured.
+   *
+   * @param output Path to the file capturing the output, {@code null} if not captured.
+   * @return Task returning the exit code of the build, or {@code null} if the daemon terminated
+   *     before reporting the completion of the request.
+   */
+  private Callable<Integer> readResponse(@Nullable Path output) {
+    BufferedReader in = responses;
+    return () -> {
+      PrintStream out =
+          output == null
+              ? System.err
+              : new PrintStream(Files.newOutputStream(output), true, StandardCharsets.UTF_8);
+      try {
+        String line;
+        while ((line = in.readLine()) != null) {
+          if (line.startsWith(COMPLETION_PREFIX)) {
+            return Integer.parseInt(line.substring(COMPLETION_PREFIX.length()).strip());
+          }
+          out.println(line);
+        }
+        return null;
+      } finally {
+        if (output != null) {
+          out.close();
+        }
+      }
+    };
+  }
+
+  /**
+   * Starts the daemon. Its std error is written to std error if {@link
+   * Config#redirectBuildOutputToStdErr} is activated, otherwise appended to {@code daemon.log} in
+   * the output directory.
+   *
+   * @throws IOException if the daemon could not be started.
+   */
+  private void start() throws IOException {
+    ProcessBuilder pb = new ProcessBuilder("/bin/sh", "-c", config.buildDaemonCommand);
+    if (config.redirectBuildOutputToStdErr) {
+      pb.redirectError(ProcessBuilder.Redirect.INHERIT);
+    } else {
+      pb.redirectError(
+          ProcessBuilder.Redirect.appendTo(config.globalDir.resolve("daemon.log").toFile()));
+    }
+    daemon = pb.start();
+    requests =
+        new BufferedWriter(
+            new OutputStreamWriter(daemon.getOutputStream(), StandardCharsets.UTF_8));
+    responses =
+        new BufferedReader(new InputStreamReader(daemon.getInputStream(), StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Kills the daemon along with all its descendants.
+   *
+   * @throws InterruptedException if interrupted while waiting for the daemon to terminate.
+   */
+  private void stop() throws InterruptedException {
+    if (daemon != null) {
+      destroyProcessTree(daemon);
+    }
+    daemon = null;
+    requests = null;
+    responses = null;
+  }
+
+  @Override
+  public synchronized void close() {
+    try {
+      if (daemon != null && daemon.isAlive()) {
+        // Closing the standard input asks the daemon to terminate.
+        requests.close();
+        if (!daemon.waitFor(SHUTDOWN_GRACE_PERIOD, TimeUnit.SECONDS)) {
+          stop();
+        }
+      }
+      daemon = null;
+    } catch (IOException e) {
+      System.err.println("Exception happened in closing the build daemon: " + e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      reader.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,332 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.build;
+
+import com.google.common.collect.ImmutableList;
+import edu.ucr.cs.riple.core.Config;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.gradle.tooling.BuildCancelledException;
+import org.gradle.tooling.BuildException;
+import org.gradle.tooling.CancellationTokenSource;
+import org.gradle.tooling.GradleConnectionException;
+import org.gradle.tooling.GradleConnector;
+import org.gradle.tooling.ProjectConnection;
+import org.gradle.tooling.ResultHandler;
+
+/**
+ * Runs Gradle builds over connections of the Gradle Tooling API. A connection is opened per project
+ * directory on its first build and kept open until the executor is closed, so all builds of a
+ * project are served by the same warm Gradle daemon.
+ *
+ * <p>Build commands must be in the form {@code cd <project directory> && ./gradlew <arguments>}
+ * (or {@code gradle <arguments>}). Words of the command are split with shell quoting rules, see
+ * {@link #parseCommand(String)}. Other commands are rejected when the configuration is parsed.
+ * Builds which fail are reported with exit code {@code 1}, same as the Gradle command line client.
+ */
+public class GradleToolingBuildExecutor extends AbstractBuildExecutor {
+
+  /** Shell operator separating changing the directory from running Gradle. */
+  private static final String AND_OPERATOR = "&&";
+
+  /** Unquoted characters with a special meaning in shells which are not supported in commands. */
+  private static final String UNSUPPORTED_CHARACTERS = "|;&<>()$`*?[]{}~";
+
+  /** Exit code of builds which failed, same as the Gradle command line client. */
+  private static final int BUILD_FAILURE_EXIT_CODE = 1;
+
+  /** Open connections per project directory. */
+  private final Map<Path, ProjectConnection> connections;
+
+  public GradleToolingBuildExecutor(Config config) {
+    super(config);
+    this.connections = new ConcurrentHashMap<>();
+  }
+
+  @Override
+  public BuildResult execute(String command) {
+    GradleCommand gradleCommand = parseCommand(command);
+    Path projectDir = gradleCommand.projectDir;
+    ProjectConnection connection =
+        connections.computeIfAbsent(
+            projectDir,
+            dir -> GradleConnector.newConnector().forProjectDirectory(dir.toFile()).connect());
+    long start = System.currentTimeMillis();
+    Path output = null;
+    try {
+      output = createOutputLog();
+      try (OutputStream out =
+          output == null ? new NonClosingOutputStream() : Files.newOutputStream(output)) {
+        CancellationTokenSource cancellation = GradleConnector.newCancellationTokenSource();
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        connection
+            .newBuild()
+            .withArguments(gradleCommand.arguments)
+            .setStandardOutput(out)
+            .setStandardError(out)
+            .withCancellationToken(cancellation.token())
+            .run(
+                new ResultHandler<>() {
+                  @Override
+                  public void onComplete(Void unused) {
+                    result.complete(null);
+                  }
+
+                  @Override
+                  public void onFailure(GradleConnectionException failure) {
+                    result.completeExceptionally(failure);
+                  }
+                });
+        try {
+          if (config.buildTimeout > 0) {
+            result.get(config.buildTimeout, TimeUnit.SECONDS);
+          } else {
+            result.get();
+          }
+          return complete(0, false, start, output);
+        } catch (TimeoutException e) {
+          cancellation.cancel();
+          // Wait for the cancellation to complete, so the next build does not overlap with it.
+          awaitQuietly(result);
+          return complete(BuildResult.NO_EXIT_CODE, true, start, output);
+        } catch (ExecutionException e) {
+          if (e.getCause() instanceof BuildException) {
+            return complete(BUILD_FAILURE_EXIT_CODE, false, start, output);
+          }
+          if (e.getCause() instanceof BuildCancelledException) {
+            return complete(BuildResult.NO_EXIT_CODE, true, start, output);
+          }
+          // Connection to the daemon is broken, reconnect on the next build.
+          System.err.println("Lost connection to the Gradle daemon: " + e.getCause());
+          disconnect(projectDir);
+          return complete(BuildResult.NO_EXIT_CODE, false, start, output);
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while waiting for the Gradle build: " + command, e);
+    } catch (Exception e) {
+      throw new RuntimeException("Exception happened in executing command: " + command, e);
+    }
+  }
+
+  /**
+   * Waits for the completion of the given build, ignoring its outcome.
+   *
+   * @param result Result of the build.
+   * @throws InterruptedException if interrupted while waiting.
+   */
+  private static void awaitQuietly(CompletableFuture<Void> result) throws InterruptedException {
+    try {
+      result.get();
+    } catch (ExecutionException ignored) {
+      // Outcome of cancelled builds is not used.
+    }
+  }
+
+  /**
+   * Closes the connection of the given project directory.
+   *
+   * @param projectDir Project directory.
+   */
+  private void disconnect(Path projectDir) {
+    ProjectConnection connection = connections.remove(projectDir);
+    if (connection != null) {
+      connection.close();
+    }
+  }
+
+  @Override
+  public void close() {
+    connections.keySet().forEach(this::disconnect);
+  }
+
+  /**
+   * Parses a build command in the form {@code cd <project directory> && <gradle> <arguments>},
+   * where {@code <gradle>} is a path to a Gradle wrapper or the {@code gradle} executable. Words
+   * are split as a POSIX shell would: whitespace separates words, single quotes preserve their
+   * content, double quotes preserve their content except for backslash escapes, and a backslash
+   * outside quotes escapes the next character. E.g. {@code -Dorg.gradle.jvmargs="-Xmx4g -Xss2m"}
+   * is a single argument. Commands using any other shell feature, e.g. pipes, redirections,
+   * variables or multiple commands, are not supported.
+   *
+   * @param command Build command.
+   * @return Project directory and arguments of the Gradle build.
+   * @throws IllegalArgumentException if the command is not supported.
+   */
+  public static GradleCommand parseCommand(String command) {
+    List<String> words = splitWords(command);
+    if (words.size() < 4
+        || !words.get(0).equals("cd")
+        || !words.get(2).equals(AND_OPERATOR)
+        || !isGradleExecutable(words.get(3))
+        || words.subList(3, words.size()).contains(AND_OPERATOR)) {
+      throw new IllegalArgumentException(
+          "Build commands run with the Gradle Tooling API must be in the form \"cd <project directory> && ./gradlew <arguments>\", found: "
+              + command);
+    }
+    return new GradleCommand(
+        Paths.get(words.get(1)).toAbsolutePath().normalize(), words.subList(4, words.size()));
+  }
+
+  /**
+   * Checks if the given word runs Gradle, either through a wrapper or the {@code gradle}
+   * executable.
+   *
+   * @param word Word of the command.
+   * @return true, if the word runs Gradle.
+   */
+  private static boolean isGradleExecutable(String word) {
+    String name = word.substring(word.lastIndexOf('/') + 1);
+    return name.equals("gradlew") || name.equals("gradle");
+  }
+
+  /**
+   * Splits the given command into words following shell quoting rules. The {@code &&} operator is
+   * returned as a separate word, see {@link #parseCommand(String)} for supported syntax.
+   *
+   * @param command Command to split.
+   * @return Words of the command.
+   * @throws IllegalArgumentException if the command uses unsupported syntax or has an unterminated
+   *     quote or escape.
+   */
+  private static List<String> splitWords(String command) {
+    List<String> words = new ArrayList<>();
+    StringBuilder current = null;
+    int i = 0;
+    while (i < command.length()) {
+      char c = command.charAt(i);
+      if (Character.isWhitespace(c)) {
+        if (current != null) {
+          words.add(current.toString());
+          current = null;
+        }
+        i++;
+        continue;
+      }
+      if (command.startsWith(AND_OPERATOR, i)) {
+        if (current != null) {
+          words.add(current.toString());
+          current = null;
+        }
+        words.add(AND_OPERATOR);
+        i += AND_OPERATOR.length();
+        continue;
+      }
+      if (UNSUPPORTED_CHARACTERS.indexOf(c) != -1) {
+        throw new IllegalArgumentException(
+            "Unsupported character '" + c + "' in build command: " + command);
+      }
+      if (current == null) {
+        current = new StringBuilder();
+      }
+      if (c == '\'') {
+        int end = command.indexOf('\'', i + 1);
+        if (end == -1) {
+          throw new IllegalArgumentException("Unterminated quote in build command: " + command);
+        }
+        current.append(command, i + 1, end);
+        i = end + 1;
+      } else if (c == '"') {
+        i++;
+        while (i < command.length() && command.charAt(i) != '"') {
+          char next = command.charAt(i);
+          if (next == '$' || next == '`') {
+            throw new IllegalArgumentException(
+                "Unsupported character '" + next + "' in build command: " + command);
+          }
+          if (next == '\\'
+              && i + 1 < command.length()
+              && "\"\\".indexOf(command.charAt(i + 1)) != -1) {
+            next = command.charAt(++i);
+          }
+          current.append(next);
+          i++;
+        }
+        if (i == command.length()) {
+          throw new IllegalArgumentException("Unterminated quote in build command: " + command);
+        }
+        i++;
+      } else if (c == '\\') {
+        if (i + 1 == command.length()) {
+          throw new IllegalArgumentException("Unterminated escape in build command: " + command);
+        }
+        current.append(command.charAt(i + 1));
+        i += 2;
+      } else {
+        current.append(c);
+        i++;
+      }
+    }
+    if (current != null) {
+      words.add(current.toString());
+    }
+    return words;
+  }
+
+  /** Project directory and arguments of a Gradle build command. */
+  public static class GradleCommand {
+
+    /** Absolute path to the project directory. */
+    public final Path projectDir;
+
+    /** Arguments of the Gradle build. */
+    public final ImmutableList<String> arguments;
+
+    private GradleCommand(Path projectDir, List<String> arguments) {
+      this.projectDir = projectDir;
+      this.arguments = ImmutableList.copyOf(arguments);
+    }
+  }
+
+  /** Writes to std error without closing it when closed. */
+  private static class NonClosingOutputStream extends OutputStream {
+
+    @Override
+    public void write(int b) {
+      System.err.write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      System.err.write(b, off, len);
+    }
+
+    @Override
+    public void flush() {
+      System.err.flush();
+    }
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.build;
+
+import edu.ucr.cs.riple.core.Config;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs each build command in a new {@code /bin/sh} subprocess. If the command does not finish
+ * within {@link Config#buildTimeout} seconds, the process and all its descendants are killed.
+ */
+public class ShellBuildExecutor extends AbstractBuildExecutor {
+
+  public ShellBuildExecutor(Config config) {
+    super(config);
+  }
+
+  @Override
+  public BuildResult execute(String command) {
+    try {
+      ProcessBuilder pb = new ProcessBuilder("/bin/sh", "-c", command);
+      Path output = createOutputLog();
+      if (output == null) {
+        pb.redirectError(ProcessBuilder.Redirect.INHERIT);
+        pb.redirectOutput(ProcessBuilder.Redirect.INHERIT);
+      } else {
+        // to avoid buffer filling up
+        pb.redirectErrorStream(true);
+        pb.redirectOutput(output.toFile());
+      }
+      long start = System.currentTimeMillis();
+      Process process = pb.start();
+      boolean finished;
+      if (config.buildTimeout > 0) {
+        finished = process.waitFor(config.buildTimeout, TimeUnit.SECONDS);
+      } else {
+        process.waitFor();
+        finished = true;
+      }
+      if (!finished) {
+        destroyProcessTree(process);
+      }
+      return complete(
+          finished ? process.exitValue() : BuildResult.NO_EXIT_CODE, !finished, start, output);
+    } catch (Exception e) {
+      throw new RuntimeException("Exception happened in executing command: " + command, e);
+    }
+  }
+
+  @Override
+  public void close() {
+    // No long-lived resources.
+  }
+}
@@ -27,6 +27,7 @@ package edu.ucr.cs.riple.core.cache;
 import com.google.common.collect.ImmutableSet;
 import edu.ucr.cs.riple.core.registries.index.Error;
 import edu.ucr.cs.riple.core.registries.index.Fix;
+import edu.ucr.cs.riple.core.registries.index.FixIdSet;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
@@ -60,12 +61,13 @@ public abstract class BaseCache<T extends Impact, S extends Map<Fix, T>> impleme
 
   @Override
   public ImmutableSet<Error> getTriggeredErrorsForCollection(Collection<Fix> fixes) {
+    FixIdSet fixIds = FixIdSet.of(fixes);
     return fixes.stream()
         .map(store::get)
         .filter(Objects::nonNull)
         .flatMap(impact -> impact.triggeredErrors.stream())
         // filter errors that will be resolved with the existing collection of fixes.
-        .filter(error -> !error.isResolvableWith(fixes))
+        .filter(error -> !error.isResolvableWith(fixIds))
         .collect(ImmutableSet.toImmutableSet());
   }
 
@@ -88,7 +90,8 @@ public abstract class BaseCache<T extends Impact, S extends Map<Fix, T>> impleme
 
   @Override
   public void updateImpactsAfterInjection(Collection<Fix> fixes) {
-    this.store.values().forEach(impact -> impact.updateStatusAfterInjection(fixes));
+    FixIdSet fixIds = FixIdSet.of(fixes);
+    this.store.values().forEach(impact -> impact.updateStatusAfterInjection(fixIds));
   }
 
   @Override
@@ -27,9 +27,11 @@ package edu.ucr.cs.riple.core.cache;
 import com.google.common.collect.ImmutableSet;
 import edu.ucr.cs.riple.core.registries.index.Error;
 import edu.ucr.cs.riple.core.registries.index.Fix;
-import java.util.Collection;
+import edu.ucr.cs.riple.core.registries.index.FixIdSet;
+import edu.ucr.cs.riple.core.registries.index.ResolvableErrorIndex;
 import java.util.Objects;
 import java.util.Set;
+import javax.annotation.Nullable;
 
 /** Stores the set of errors which will be triggered if the containing fix is applied. */
 public class Impact {
@@ -46,6 +48,9 @@ public class Impact {
    */
   protected ImmutableSet<Fix> triggeredFixesFromDownstreamErrors;
 
+  /** Triggered errors indexed by the fixes resolving them, created on first use. */
+  @Nullable private ResolvableErrorIndex resolvableTriggeredErrors;
+
   public Impact(Fix fix) {
     this.fix = fix;
     this.triggeredErrors = ImmutableSet.of();
@@ -65,11 +70,28 @@ public class Impact {
    *
    * @param fixes Set of applied fixes to source code permanently.
    */
-  public void updateStatusAfterInjection(Collection<Fix> fixes) {
+  public void updateStatusAfterInjection(FixIdSet fixes) {
     triggeredErrors =
         triggeredErrors.stream()
             .filter(error -> !error.isResolvableWith(fixes))
             .collect(ImmutableSet.toImmutableSet());
+    resolvableTriggeredErrors = null;
+  }
+
+  /**
+   * Returns the number of triggered errors resolvable with the given fixes.
+   *
+   * @param fixes Set of fixes.
+   * @return Number of resolvable triggered errors.
+   */
+  public int getNumberOfTriggeredErrorsResolvableWith(FixIdSet fixes) {
+    // Index is immutable, concurrent callers may at worst create it more than once.
+    ResolvableErrorIndex index = resolvableTriggeredErrors;
+    if (index == null) {
+      index = new ResolvableErrorIndex(triggeredErrors);
+      resolvableTriggeredErrors = index;
+    }
+    return index.countResolvedBy(fixes);
   }
 
   /**
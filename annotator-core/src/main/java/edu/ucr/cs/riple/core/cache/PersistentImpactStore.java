@@ -0,0 +1,576 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.cache;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import edu.ucr.cs.riple.core.Context;
+import edu.ucr.cs.riple.core.module.ModuleInfo;
+import edu.ucr.cs.riple.core.registries.index.Error;
+import edu.ucr.cs.riple.core.registries.index.Fix;
+import edu.ucr.cs.riple.core.registries.region.Region;
+import edu.ucr.cs.riple.injector.changes.AddAnnotation;
+import edu.ucr.cs.riple.injector.changes.AddMarkerAnnotation;
+import edu.ucr.cs.riple.injector.changes.AddTypeUseMarkerAnnotation;
+import edu.ucr.cs.riple.injector.changes.AnnotationChange;
+import edu.ucr.cs.riple.injector.location.Location;
+import edu.ucr.cs.riple.injector.location.LocationKind;
+import edu.ucr.cs.riple.injector.location.OnClass;
+import edu.ucr.cs.riple.injector.location.OnField;
+import edu.ucr.cs.riple.injector.location.OnLocalVariable;
+import edu.ucr.cs.riple.injector.location.OnMethod;
+import edu.ucr.cs.riple.injector.location.OnParameter;
+import edu.ucr.cs.riple.scanner.generatedcode.SourceType;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.annotation.Nullable;
+
+/**
+ * On-disk store of impacts of fixes which survives across runs of Annotator. Each entry is keyed by
+ * the fix and a hash of the contents of all source files containing the regions potentially
+ * impacted by the fix, therefore an entry is reused only if none of these files has changed since
+ * the entry was computed. This follows the same assumption used to detect conflicts between fixes:
+ * the impact of a fix is limited to the regions reported by {@link
+ * edu.ucr.cs.riple.core.registries.region.RegionRegistry#getImpactedRegions(Location)}.
+ *
+ * <p>Offsets of errors are stored relative to the source files at the start of the run. Entries are
+ * not read or written for fixes that touch a file which is already modified in the current run, as
+ * offsets on these files are not comparable across runs.
+ *
+ * <p>Entries older than the configured maximum age are evicted, and least recently used entries are
+ * evicted while the total size of the store exceeds the configured maximum size.
+ */
+public class PersistentImpactStore {
+
+  /** Version of the entry format, entries written with a different version are never matched. */
+  private static final String VERSION = "1";
+
+  /** Annotator context. */
+  private final Context context;
+
+  /** Directory where entries are stored. */
+  private final Path dir;
+
+  /** Maximum total size of all entries in bytes. */
+  private final long maxSizeInBytes;
+
+  /** Maximum age of an entry since it was last used. */
+  private final Duration maxAge;
+
+  /** Content hashes of source files, keyed by path and invalidated by size and modified time. */
+  private final Map<Path, FileHash> fileHashes;
+
+  /**
+   * Creates a store at the given directory and evicts the expired entries.
+   *
+   * @param context Annotator context.
+   * @param dir Directory where entries are stored.
+   * @param maxSizeInBytes Maximum total size of all entries in bytes.
+   * @param maxAge Maximum age of an entry since it was last used.
+   */
+  public PersistentImpactStore(Context context, Path dir, long maxSizeInBytes, Duration maxAge) {
+    this.context = context;
+    this.dir = dir;
+    this.maxSizeInBytes = maxSizeInBytes;
+    this.maxAge = maxAge;
+    this.fileHashes = new HashMap<>();
+    try {
+      Files.createDirectories(dir);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not create impact cache directory at: " + dir, e);
+    }
+    evict();
+  }
+
+  /**
+   * Loads the impact of the given fix computed on the given module, if a valid entry exists.
+   *
+   * @param fix Fix to load its impact.
+   * @param moduleInfo Module where the impact is computed.
+   * @param salt Additional information the impact depends on, which is not captured by the source
+   *     files of the module.
+   * @return The stored impact, or {@code null} if no valid entry exists.
+   */
+  @Nullable
+  public Impact load(Fix fix, ModuleInfo moduleInfo, String salt) {
+    String key = computeKey(fix, moduleInfo, salt);
+    if (key == null) {
+      return null;
+    }
+    Path entry = dir.resolve(key + ".json");
+    if (!Files.exists(entry)) {
+      context.log.incrementImpactCacheMiss();
+      return null;
+    }
+    try {
+      JsonObject json =
+          JsonParser.parseString(Files.readString(entry, StandardCharsets.UTF_8)).getAsJsonObject();
+      if (!fix.changes.equals(decodeAnnotations(json.getAsJsonArray("fix")))) {
+        // Hash collision, treat as a miss.
+        context.log.incrementImpactCacheMiss();
+        return null;
+      }
+      Set<Error> errors = new HashSet<>();
+      json.getAsJsonArray("errors")
+          .forEach(element -> errors.add(decodeError(element.getAsJsonObject(), moduleInfo)));
+      Set<Fix> triggeredFixes = new HashSet<>();
+      json.getAsJsonArray("triggeredFixes")
+          .forEach(element -> triggeredFixes.add(new Fix(decodeAnnotations(element))));
+      // Mark the entry as recently used.
+      Files.setLastModifiedTime(entry, FileTime.from(Instant.now()));
+      context.log.incrementImpactCacheHit();
+      return new Impact(fix, errors, triggeredFixes);
+    } catch (IOException | JsonParseException | IllegalStateException e) {
+      System.err.println("Ignoring corrupted impact cache entry at: " + entry);
+      context.log.incrementImpactCacheMiss();
+      return null;
+    }
+  }
+
+  /**
+   * Stores the given impact computed on the given module. Impacts which cannot be keyed or encoded
+   * are silently skipped.
+   *
+   * @param impact Impact to store.
+   * @param moduleInfo Module where the impact is computed.
+   * @param salt Additional information the impact depends on, which is not captured by the source
+   *     files of the module.
+   */
+  public void store(Impact impact, ModuleInfo moduleInfo, String salt) {
+    String key = computeKey(impact.fix, moduleInfo, salt);
+    if (key == null || !isEncodable(impact)) {
+      return;
+    }
+    JsonObject json = new JsonObject();
+    json.add("fix", encodeAnnotations(impact.fix.changes));
+    JsonArray errors = new JsonArray();
+    impact.getTriggeredErrors().forEach(error -> errors.add(encodeError(error)));
+    json.add("errors", errors);
+    JsonArray triggeredFixes = new JsonArray();
+    impact
+        .getTriggeredFixesFromDownstreamErrors()
+        .forEach(fix -> triggeredFixes.add(encodeAnnotations(fix.changes)));
+    json.add("triggeredFixes", triggeredFixes);
+    Path entry = dir.resolve(key + ".json");
+    try {
+      Path temp = Files.createTempFile(dir, key, ".tmp");
+      Files.writeString(temp, json.toString(), StandardCharsets.UTF_8);
+      try {
+        Files.move(
+            temp, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temp, entry, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } catch (IOException e) {
+      System.err.println("Could not write impact cache entry at: " + entry + ", " + e);
+    }
+  }
+
+  /**
+   * Deletes entries which are not used within the maximum age, and then deletes the least recently
+   * used entries until the total size of the store is within the maximum size.
+   */
+  public void evict() {
+    List<Path> entries;
+    try (Stream<Path> files = Files.list(dir)) {
+      entries = files.collect(Collectors.toList());
+    } catch (IOException e) {
+      System.err.println("Could not list impact cache entries at: " + dir + ", " + e);
+      return;
+    }
+    Instant expiration = Instant.now().minus(maxAge);
+    List<EntryInfo> alive = new ArrayList<>();
+    long totalSize = 0;
+    for (Path entry : entries) {
+      try {
+        BasicFileAttributes attrs = Files.readAttributes(entry, BasicFileAttributes.class);
+        // Temporary files are left only by interrupted writes.
+        if (!entry.toString().endsWith(".json")
+            || attrs.lastModifiedTime().toInstant().isBefore(expiration)) {
+          Files.deleteIfExists(entry);
+        } else {
+          alive.add(new EntryInfo(entry, attrs.size(), attrs.lastModifiedTime()));
+          totalSize += attrs.size();
+        }
+      } catch (IOException e) {
+        System.err.println("Could not evict impact cache entry at: " + entry + ", " + e);
+      }
+    }
+    alive.sort(Comparator.comparing(info -> info.lastUsed));
+    for (EntryInfo info : alive) {
+      if (totalSize <= maxSizeInBytes) {
+        break;
+      }
+      try {
+        Files.deleteIfExists(info.path);
+        totalSize -= info.size;
+      } catch (IOException e) {
+        System.err.println("Could not evict impact cache entry at: " + info.path + ", " + e);
+      }
+    }
+  }
+
+  /**
+   * Computes the key of the entry for the given fix. The key is a hash of the fix, the checker
+   * configuration, the given salt and the contents of all source files containing regions
+   * potentially impacted by the fix.
+   *
+   * @param fix Fix to compute its key.
+   * @param moduleInfo Module where the impact is computed.
+   * @param salt Additional information the impact depends on.
+   * @return The key, or {@code null} if the fix cannot be keyed.
+   */
+  @Nullable
+  private String computeKey(Fix fix, ModuleInfo moduleInfo, String salt) {
+    if (!fix.changes.stream().allMatch(PersistentImpactStore::isEncodable)) {
+      return null;
+    }
+    Set<String> classes = new HashSet<>();
+    Set<Path> paths = new HashSet<>();
+    for (Location location : fix.toLocations()) {
+      if (location.path == null) {
+        return null;
+      }
+      paths.add(location.path);
+      moduleInfo
+          .getRegionRegistry()
+          .getImpactedRegions(location)
+          .forEach(region -> classes.add(region.clazz));
+    }
+    for (String clazz : classes) {
+      OnClass onClass = moduleInfo.getLocationOnClass(clazz);
+      if (onClass == null || onClass.path == null) {
+        // Source file of the region is unknown, therefore changes on it cannot be detected.
+        return null;
+      }
+      paths.add(onClass.path);
+    }
+    Hasher hasher = Hashing.sha256().newHasher();
+    hasher.putString(VERSION, StandardCharsets.UTF_8).putByte((byte) 0);
+    hasher.putString(context.config.checkerName, StandardCharsets.UTF_8).putByte((byte) 0);
+    hasher.putString(context.config.nullableAnnot, StandardCharsets.UTF_8).putByte((byte) 0);
+    hasher.putString(encodeAnnotations(fix.changes).toString(), StandardCharsets.UTF_8);
+    hasher.putByte((byte) 0).putString(salt, StandardCharsets.UTF_8).putByte((byte) 0);
+    // Sort paths to make the key independent of iteration order.
+    for (Path path : new TreeSet<>(paths)) {
+      if (context.offsetHandler.isModified(path)) {
+        return null;
+      }
+      String hash = hashFile(path);
+      if (hash == null) {
+        return null;
+      }
+      hasher.putString(path.toString(), StandardCharsets.UTF_8).putByte((byte) 0);
+      hasher.putString(hash, StandardCharsets.UTF_8).putByte((byte) 0);
+    }
+    return hasher.hash().toString();
+  }
+
+  /**
+   * Computes the content hash of the given file, reusing the previous hash if the size and the
+   * modified time of the file are unchanged.
+   *
+   * @param path Path to the file.
+   * @return Content hash of the file, or {@code null} if the file cannot be read.
+   */
+  @Nullable
+  private String hashFile(Path path) {
+    try {
+      BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+      FileHash cached = fileHashes.get(path);
+      if (cached != null
+          && cached.size == attrs.size()
+          && cached.lastModified.equals(attrs.lastModifiedTime())) {
+        return cached.hash;
+      }
+      String hash = Hashing.sha256().hashBytes(Files.readAllBytes(path)).toString();
+      fileHashes.put(path, new FileHash(attrs.size(), attrs.lastModifiedTime(), hash));
+      return hash;
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Checks if all annotations and locations in the given impact can be encoded.
+   *
+   * @param impact Impact to check.
+   * @return true, if the impact can be encoded.
+   */
+  private static boolean isEncodable(Impact impact) {
+    return Stream.of(
+            impact.fix.changes.stream(),
+            impact.getTriggeredErrors().stream()
+                .flatMap(error -> error.getResolvingFixes().stream())
+                .flatMap(fix -> fix.changes.stream()),
+            impact.getTriggeredFixesFromDownstreamErrors().stream()
+                .flatMap(fix -> fix.changes.stream()))
+        .flatMap(s -> s)
+        .allMatch(PersistentImpactStore::isEncodable);
+  }
+
+  /**
+   * Checks if the given annotation can be encoded.
+   *
+   * @param annotation Annotation to check.
+   * @return true, if the annotation can be encoded.
+   */
+  private static boolean isEncodable(AddAnnotation annotation) {
+    if (!(annotation instanceof AddMarkerAnnotation
+        || annotation instanceof AddTypeUseMarkerAnnotation)) {
+      return false;
+    }
+    Location location = annotation.getLocation();
+    return location.path != null
+        && (location.isOnField()
+            || location.isOnMethod()
+            || location.isOnParameter()
+            || location.isOnLocalVariable());
+  }
+
+  /**
+   * Encodes the given error. Resolving fixes are encoded by their annotations, and are recomputed
+   * by the checker when the error is decoded.
+   *
+   * @param error Error to encode.
+   * @return Json object of the encoded error.
+   */
+  private static JsonObject encodeError(Error error) {
+    JsonObject json = new JsonObject();
+    json.addProperty("type", error.messageType);
+    json.addProperty("message", error.message);
+    json.addProperty("class", error.getRegion().clazz);
+    json.addProperty("member", error.getRegion().member);
+    json.addProperty("source", error.getRegion().sourceType.name());
+    json.addProperty("offset", error.getOffset());
+    json.add(
+        "annotations",
+        encodeAnnotations(
+            error.getResolvingFixes().stream()
+                .flatMap(fix -> fix.changes.stream())
+                .collect(Collectors.toSet())));
+    return json;
+  }
+
+  /**
+   * Decodes an error encoded by {@link #encodeError(Error)}.
+   *
+   * @param json Encoded error.
+   * @param moduleInfo Module where the error is reported.
+   * @return The decoded error.
+   */
+  private Error decodeError(JsonObject json, ModuleInfo moduleInfo) {
+    Region region =
+        new Region(
+            json.get("class").getAsString(),
+            json.get("member").getAsString(),
+            SourceType.valueOf(json.get("source").getAsString()));
+    return context.checker.createError(
+        json.get("type").getAsString(),
+        json.get("message").getAsString(),
+        region,
+        json.get("offset").getAsInt(),
+        decodeAnnotations(json.getAsJsonArray("annotations")),
+        moduleInfo);
+  }
+
+  /**
+   * Encodes the given annotations. Encoded annotations are sorted, so equal sets of annotations
+   * have equal encodings.
+   *
+   * @param annotations Annotations to encode.
+   * @return Json array of encoded annotations.
+   */
+  private static JsonArray encodeAnnotations(Set<? extends AddAnnotation> annotations) {
+    List<JsonObject> encoded = new ArrayList<>();
+    for (AddAnnotation annotation : annotations) {
+      JsonObject json = new JsonObject();
+      json.addProperty(
+          "annotation", ((AnnotationChange) annotation).getAnnotationName().fullName);
+      if (annotation instanceof AddTypeUseMarkerAnnotation) {
+        JsonArray typeIndex = new JsonArray();
+        ((AddTypeUseMarkerAnnotation) annotation)
+            .getTypeIndex()
+            .forEach(
+                index -> {
+                  JsonArray indexJson = new JsonArray();
+                  index.forEach(indexJson::add);
+                  typeIndex.add(indexJson);
+                });
+        json.add("typeIndex", typeIndex);
+      }
+      json.add("location", encodeLocation(annotation.getLocation()));
+      encoded.add(json);
+    }
+    encoded.sort(Comparator.comparing(JsonObject::toString));
+    JsonArray array = new JsonArray();
+    encoded.forEach(array::add);
+    return array;
+  }
+
+  /**
+   * Decodes annotations encoded by {@link #encodeAnnotations(Set)}.
+   *
+   * @param element Json array of encoded annotations.
+   * @return Set of decoded annotations.
+   */
+  private static ImmutableSet<AddAnnotation> decodeAnnotations(JsonElement element) {
+    ImmutableSet.Builder<AddAnnotation> builder = ImmutableSet.builder();
+    for (JsonElement annotationElement : element.getAsJsonArray()) {
+      JsonObject json = annotationElement.getAsJsonObject();
+      String annotation = json.get("annotation").getAsString();
+      Location location = decodeLocation(json.getAsJsonObject("location"));
+      if (json.has("typeIndex")) {
+        ImmutableList.Builder<ImmutableList<Integer>> typeIndex = ImmutableList.builder();
+        for (JsonElement index : json.getAsJsonArray("typeIndex")) {
+          ImmutableList.Builder<Integer> indexBuilder = ImmutableList.builder();
+          index.getAsJsonArray().forEach(value -> indexBuilder.add(value.getAsInt()));
+          typeIndex.add(indexBuilder.build());
+        }
+        builder.add(new AddTypeUseMarkerAnnotation(location, annotation, typeIndex.build()));
+      } else {
+        builder.add(new AddMarkerAnnotation(location, annotation));
+      }
+    }
+    return builder.build();
+  }
+
+  /**
+   * Encodes the given location. Only locations on fields, methods, parameters and local variables
+   * are supported.
+   *
+   * @param location Location to encode.
+   * @return Json object of the encoded location.
+   */
+  private static JsonObject encodeLocation(Location location) {
+    JsonObject json = new JsonObject();
+    json.addProperty("kind", location.getKind().name());
+    json.addProperty("class", location.clazz);
+    json.addProperty("path", location.path.toString());
+    if (location.isOnMethod()) {
+      json.addProperty("method", location.toMethod().method);
+    } else if (location.isOnParameter()) {
+      json.addProperty("method", location.toParameter().enclosingMethod.method);
+      json.addProperty("index", location.toParameter().index);
+    } else if (location.isOnField()) {
+      JsonArray variables = new JsonArray();
+      new TreeSet<>(location.toField().variables).forEach(variables::add);
+      json.add("variables", variables);
+    } else if (location.isOnLocalVariable()) {
+      OnLocalVariable onLocalVariable = location.toLocalVariable();
+      json.addProperty(
+          "method", onLocalVariable.encMethod == null ? "" : onLocalVariable.encMethod.method);
+      json.addProperty("variable", onLocalVariable.varName);
+      json.addProperty("array", onLocalVariable.isOnArray);
+    }
+    return json;
+  }
+
+  /**
+   * Decodes a location encoded by {@link #encodeLocation(Location)}.
+   *
+   * @param json Encoded location.
+   * @return The decoded location.
+   */
+  private static Location decodeLocation(JsonObject json) {
+    LocationKind kind = LocationKind.valueOf(json.get("kind").getAsString());
+    Path path = Paths.get(json.get("path").getAsString());
+    String clazz = json.get("class").getAsString();
+    switch (kind) {
+      case METHOD:
+        return new OnMethod(path, clazz, json.get("method").getAsString());
+      case PARAMETER:
+        return new OnParameter(
+            path, clazz, json.get("method").getAsString(), json.get("index").getAsInt());
+      case FIELD:
+        Set<String> variables = new HashSet<>();
+        json.getAsJsonArray("variables").forEach(value -> variables.add(value.getAsString()));
+        return new OnField(path, clazz, variables);
+      case LOCAL_VARIABLE:
+        OnLocalVariable onLocalVariable =
+            new OnLocalVariable(
+                path, clazz, json.get("method").getAsString(), json.get("variable").getAsString());
+        onLocalVariable.isOnArray = json.get("array").getAsBoolean();
+        return onLocalVariable;
+      default:
+        throw new IllegalStateException("Unexpected location kind in impact cache: " + kind);
+    }
+  }
+
+  /** Content hash of a file along with the size and modified time it is computed for. */
+  private static class FileHash {
+
+    private final long size;
+    private final FileTime lastModified;
+    private final String hash;
+
+    private FileHash(long size, FileTime lastModified, String hash) {
+      this.size = size;
+      this.lastModified = lastModified;
+      this.hash = hash;
+    }
+  }
+
+  /** Size and last use time of an entry, used for eviction. */
+  private static class EntryInfo {
+
+    private final Path path;
+    private final long size;
+    private final FileTime lastUsed;
+
+    private EntryInfo(Path path, long size, FileTime lastUsed) {
+      this.path = path;
+      this.size = size;
+      this.lastUsed = lastUsed;
+    }
+  }
+}
@@ -24,18 +24,65 @@
 
 package edu.ucr.cs.riple.core.cache;
 
+import edu.ucr.cs.riple.core.Context;
+import edu.ucr.cs.riple.core.cache.downstream.DownstreamImpactCache;
 import edu.ucr.cs.riple.core.registries.index.Fix;
 import java.util.HashMap;
 import java.util.Set;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 
 /**
  * Cache for storing impacts of fixes on target module. This cache's state is not immutable and can
- * be updated.
+ * be updated. If a {@link PersistentImpactStore} is provided, impacts not computed in this run are
+ * looked up in the store, and newly computed impacts are written to it.
  */
 public class TargetModuleCache extends BaseCache<Impact, HashMap<Fix, Impact>> {
 
+  /** Annotator context. */
+  @Nullable private final Context context;
+
+  /** Persistent store of impacts across runs, {@code null} if impacts are not persisted. */
+  @Nullable private final PersistentImpactStore persistentStore;
+
+  /** Downstream impact cache, triggered fixes from downstream errors are part of each impact. */
+  @Nullable private final DownstreamImpactCache downstreamImpactCache;
+
   public TargetModuleCache() {
+    this(null, null, null);
+  }
+
+  /**
+   * Creates a cache backed by the given persistent store.
+   *
+   * @param context Annotator context.
+   * @param persistentStore Persistent store of impacts, {@code null} if impacts are not persisted.
+   * @param downstreamImpactCache Downstream impact cache used to compute the impacts.
+   */
+  public TargetModuleCache(
+      @Nullable Context context,
+      @Nullable PersistentImpactStore persistentStore,
+      @Nullable DownstreamImpactCache downstreamImpactCache) {
     super(new HashMap<>());
+    this.context = context;
+    this.persistentStore = persistentStore;
+    this.downstreamImpactCache = downstreamImpactCache;
+  }
+
+  @Override
+  public boolean isUnknown(Fix fix) {
+    if (store.containsKey(fix)) {
+      return false;
+    }
+    if (persistentStore == null || context == null) {
+      return true;
+    }
+    Impact impact = persistentStore.load(fix, context.targetModuleInfo, computeSalt(fix));
+    if (impact == null) {
+      return true;
+    }
+    store.put(fix, impact);
+    return false;
   }
 
   /**
@@ -45,5 +92,28 @@ public class TargetModuleCache extends BaseCache<Impact, HashMap<Fix, Impact>> {
    */
   public void updateCacheState(Set<Impact> newData) {
     newData.forEach(t -> store.put(t.fix, t));
+    if (persistentStore != null && context != null) {
+      newData.forEach(
+          impact ->
+              persistentStore.store(impact, context.targetModuleInfo, computeSalt(impact.fix)));
+    }
+  }
+
+  /**
+   * Computes the information an impact depends on which is not captured by the source files of the
+   * target module. Triggered fixes from downstream errors depend on the impact of the fix on
+   * downstream dependencies.
+   *
+   * @param fix Fix to compute the salt for.
+   * @return Salt for the persistent store key.
+   */
+  private String computeSalt(Fix fix) {
+    if (downstreamImpactCache == null) {
+      return "";
+    }
+    return downstreamImpactCache.getTriggeredErrors(fix).stream()
+        .map(error -> error.getRegion() + ", " + error + ", " + error.getResolvingFixes())
+        .sorted()
+        .collect(Collectors.joining("\n"));
   }
 }
@@ -28,6 +28,9 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableSet;
 import edu.ucr.cs.riple.core.Report;
 import edu.ucr.cs.riple.core.cache.Impact;
+import edu.ucr.cs.riple.core.registries.index.Error;
+import edu.ucr.cs.riple.core.registries.index.Fix;
+import java.util.Set;
 
 /**
  * Container class for storing overall impact of a fix applied in target module on downstream
@@ -36,11 +39,22 @@ import edu.ucr.cs.riple.core.cache.Impact;
 public class DownstreamImpact extends Impact {
 
   public DownstreamImpact(Report report) {
-    super(report.root);
+    this(report.root, report.triggeredErrors);
+  }
+
+  /**
+   * Creates a downstream impact for the given fix with the given triggered errors on downstream
+   * dependencies.
+   *
+   * @param fix Fix targeting a method or a field.
+   * @param triggeredErrors Triggered errors on downstream dependencies.
+   */
+  public DownstreamImpact(Fix fix, Set<Error> triggeredErrors) {
+    super(fix);
     // Only store impacts of fixes targeting methods.
     Preconditions.checkArgument(
         fix.isOnMethod() || fix.isOnField(),
         "Unexpected Fix instance. Only impacts of fixes on methods / fields should be tracked for downstream dependencies");
-    this.triggeredErrors = ImmutableSet.copyOf(report.triggeredErrors);
+    this.triggeredErrors = ImmutableSet.copyOf(triggeredErrors);
   }
 }
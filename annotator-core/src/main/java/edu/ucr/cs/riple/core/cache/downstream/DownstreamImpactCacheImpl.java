@@ -28,11 +28,15 @@ import com.google.common.collect.ImmutableSet;
 import edu.ucr.cs.riple.core.Context;
 import edu.ucr.cs.riple.core.Report;
 import edu.ucr.cs.riple.core.cache.BaseCache;
+import edu.ucr.cs.riple.core.cache.Impact;
+import edu.ucr.cs.riple.core.cache.PersistentImpactStore;
 import edu.ucr.cs.riple.core.evaluators.suppliers.DownstreamDependencySupplier;
 import edu.ucr.cs.riple.core.module.ModuleInfo;
 import edu.ucr.cs.riple.core.registries.index.Error;
 import edu.ucr.cs.riple.core.registries.index.Fix;
+import edu.ucr.cs.riple.core.registries.index.FixIdSet;
 import edu.ucr.cs.riple.core.registries.method.MethodRecord;
+import edu.ucr.cs.riple.core.registries.region.CompoundRegionRegistry;
 import edu.ucr.cs.riple.core.registries.region.FieldRegionRegistry;
 import edu.ucr.cs.riple.core.registries.region.MethodRegionRegistry;
 import edu.ucr.cs.riple.injector.changes.AddMarkerAnnotation;
@@ -54,9 +58,15 @@ public class DownstreamImpactCacheImpl
     extends BaseCache<DownstreamImpact, Map<Fix, DownstreamImpact>>
     implements DownstreamImpactCache {
 
+  /** Salt of persistent store keys, separating downstream impacts from target module impacts. */
+  private static final String PERSISTENT_STORE_SALT = "downstream";
+
   /** Annotator context instance. */
   private final Context context;
 
+  /** Persistent store of impacts across runs, {@code null} if impacts are not persisted. */
+  @Nullable private final PersistentImpactStore persistentStore;
+
   /**
    * Constructor for creating downstream impact cache. It populates the registry with a downstream
    * impact listing 0 triggered errors and 0 downstream fixes for the result of adding
@@ -66,8 +76,21 @@ public class DownstreamImpactCacheImpl
    * @param context Annotator context.
    */
   public DownstreamImpactCacheImpl(Context context) {
+    this(context, null);
+  }
+
+  /**
+   * Constructor for creating downstream impact cache backed by the given persistent store. Impacts
+   * found in the store are not recomputed.
+   *
+   * @param context Annotator context.
+   * @param persistentStore Persistent store of impacts, {@code null} if impacts are not persisted.
+   */
+  public DownstreamImpactCacheImpl(
+      Context context, @Nullable PersistentImpactStore persistentStore) {
     super(new HashMap<>());
     this.context = context;
+    this.persistentStore = persistentStore;
   }
 
   /**
@@ -83,9 +106,11 @@ public class DownstreamImpactCacheImpl
   private ImmutableSet<Location> retrieveLocationsToCacheImpactsOnDownstreamDependencies(
       Context context, ModuleInfo moduleInfo) {
     ImmutableSet.Builder<Location> locationsToCache = ImmutableSet.builder();
-    // Used to collect callers of each method.
-    MethodRegionRegistry methodRegionRegistry = new MethodRegionRegistry(moduleInfo, context);
-    FieldRegionRegistry fieldRegionRegistry = new FieldRegionRegistry(moduleInfo, context);
+    // Used to collect callers of each method, already loaded by the module info of downstream
+    // dependencies.
+    CompoundRegionRegistry regionRegistry = moduleInfo.getRegionRegistry();
+    MethodRegionRegistry methodRegionRegistry = regionRegistry.getMethodRegionRegistry();
+    FieldRegionRegistry fieldRegionRegistry = regionRegistry.getFieldRegionRegistry();
     // Collect public methods with non-primitive return types.
     locationsToCache.addAll(
         context
@@ -124,6 +149,21 @@ public class DownstreamImpactCacheImpl
                 location ->
                     new Fix(new AddMarkerAnnotation(location, context.config.nullableAnnot)))
             .collect(ImmutableSet.toImmutableSet());
+    ModuleInfo moduleInfo = supplier.getModuleInfo();
+    if (persistentStore != null) {
+      // Retrieve impacts computed in previous runs.
+      fixes.forEach(
+          fix -> {
+            Impact impact = persistentStore.load(fix, moduleInfo, PERSISTENT_STORE_SALT);
+            if (impact != null) {
+              store.put(fix, new DownstreamImpact(fix, impact.getTriggeredErrors()));
+            }
+          });
+      fixes =
+          fixes.stream()
+              .filter(fix -> !store.containsKey(fix))
+              .collect(ImmutableSet.toImmutableSet());
+    }
     DownstreamImpactEvaluator evaluator = new DownstreamImpactEvaluator(supplier);
     ImmutableSet<Report> reports = evaluator.evaluate(fixes);
     // Update method status based on the results.
@@ -131,6 +171,9 @@ public class DownstreamImpactCacheImpl
         report -> {
           DownstreamImpact impact = new DownstreamImpact(report);
           store.put(report.root, impact);
+          if (persistentStore != null) {
+            persistentStore.store(impact, moduleInfo, PERSISTENT_STORE_SALT);
+          }
         });
     System.out.println("Analyzing downstream dependencies completed!");
   }
@@ -159,23 +202,22 @@ public class DownstreamImpactCacheImpl
    * @param fixTree Fix tree in target that will be annotated as {@code @Nullable}.
    * @return Effect on downstream dependencies.
    */
-  private int effectOnDownstreamDependencies(Fix fix, Set<Fix> fixTree) {
+  private int effectOnDownstreamDependencies(Fix fix, FixIdSet fixTree) {
     DownstreamImpact downstreamImpact = fetchImpact(fix);
     if (downstreamImpact == null) {
       return 0;
     }
     // Some triggered errors might be resolved due to fixes in the tree, and we should not double
     // count them.
-    Set<Error> triggeredErrors = downstreamImpact.getTriggeredErrors();
-    long resolvedErrors =
-        triggeredErrors.stream().filter(error -> error.isResolvableWith(fixTree)).count();
-    return triggeredErrors.size() - (int) resolvedErrors;
+    return downstreamImpact.getTriggeredErrors().size()
+        - downstreamImpact.getNumberOfTriggeredErrorsResolvableWith(fixTree);
   }
 
   @Override
   public int computeLowerBoundOfNumberOfErrors(Set<Fix> tree) {
+    FixIdSet treeIds = FixIdSet.of(tree);
     OptionalInt lowerBoundEffectOfChainOptional =
-        tree.stream().mapToInt(fix -> effectOnDownstreamDependencies(fix, tree)).max();
+        tree.stream().mapToInt(fix -> effectOnDownstreamDependencies(fix, treeIds)).max();
     if (lowerBoundEffectOfChainOptional.isEmpty()) {
       return 0;
     }
@@ -184,7 +226,8 @@ public class DownstreamImpactCacheImpl
 
   @Override
   public int computeUpperBoundOfNumberOfErrors(Set<Fix> tree) {
-    return tree.stream().mapToInt(fix -> effectOnDownstreamDependencies(fix, tree)).sum();
+    FixIdSet treeIds = FixIdSet.of(tree);
+    return tree.stream().mapToInt(fix -> effectOnDownstreamDependencies(fix, treeIds)).sum();
   }
 
   @Override
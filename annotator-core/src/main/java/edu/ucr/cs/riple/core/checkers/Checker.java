@@ -27,7 +27,11 @@ package edu.ucr.cs.riple.core.checkers;
 import com.google.common.collect.ImmutableSet;
 import edu.ucr.cs.riple.core.module.ModuleConfiguration;
 import edu.ucr.cs.riple.core.module.ModuleInfo;
+import edu.ucr.cs.riple.core.module.WorkingCopy;
 import edu.ucr.cs.riple.core.registries.index.Error;
+import edu.ucr.cs.riple.core.registries.region.Region;
+import edu.ucr.cs.riple.injector.changes.AddAnnotation;
+import java.nio.file.Path;
 import java.util.Set;
 
 /**
@@ -45,6 +49,28 @@ public interface Checker<T extends Error> {
    */
   Set<T> deserializeErrors(ModuleInfo module);
 
+  /**
+   * Deserializes errors reported by the checker which are enclosed by the given regions. Errors in
+   * other regions are skipped before they are fully deserialized.
+   *
+   * @param module Module where the checker reports errors.
+   * @param regions Regions to deserialize errors from.
+   * @return Set of errors reported by the checker in the given regions.
+   */
+  Set<T> deserializeErrors(ModuleInfo module, Set<Region> regions);
+
+  /**
+   * Deserializes errors reported by the checker on a build of the given working copy which are
+   * enclosed by the given regions. Paths and offsets of the deserialized errors are translated to
+   * the original source tree.
+   *
+   * @param module Module where the checker reports errors.
+   * @param workingCopy Working copy of the module which is built.
+   * @param regions Regions to deserialize errors from.
+   * @return Set of errors reported by the checker in the given regions.
+   */
+  Set<T> deserializeErrors(ModuleInfo module, WorkingCopy workingCopy, Set<Region> regions);
+
   /** Suppresses remaining errors reported by the checker. */
   void suppressRemainingErrors();
 
@@ -64,4 +90,42 @@ public interface Checker<T extends Error> {
    *     build.
    */
   void prepareConfigFilesForBuild(ImmutableSet<ModuleConfiguration> configurations);
+
+  /**
+   * Returns the files the checker writes on every build of the given module. These files are
+   * deleted before each build, so that outputs of previous builds are never read.
+   *
+   * @param configuration Module configuration.
+   * @return Paths to the output files.
+   */
+  ImmutableSet<Path> getOutputFiles(ModuleConfiguration configuration);
+
+  /**
+   * Returns the prefix of messages of errors reported by the checker in the output of a build. Used
+   * to verify that a failed build failed only because of errors reported by the checker.
+   *
+   * @return Prefix of error messages of the checker.
+   */
+  String getDiagnosticPrefix();
+
+  /**
+   * Creates an error instance of this checker from its components. Used to restore errors which are
+   * not deserialized from the checker output, e.g. errors stored in {@link
+   * edu.ucr.cs.riple.core.cache.PersistentImpactStore}.
+   *
+   * @param errorType Type of the error.
+   * @param errorMessage Message of the error.
+   * @param region Region where the error is reported.
+   * @param offset Offset of program point in the source file where the error is reported.
+   * @param annotations Annotations that should be added source file to resolve the error.
+   * @param module Module where this error is reported.
+   * @return The corresponding error instance.
+   */
+  T createError(
+      String errorType,
+      String errorMessage,
+      Region region,
+      int offset,
+      Set<AddAnnotation> annotations,
+      ModuleInfo module);
 }
@@ -22,17 +22,14 @@
 
 package edu.ucr.cs.riple.core.checkers.nullaway;
 
-import java.io.File;
-import java.util.UUID;
+import edu.ucr.cs.riple.scanner.XMLUtil;
+import java.io.IOException;
+import java.nio.file.Paths;
 import javax.annotation.Nullable;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 
@@ -73,7 +70,9 @@ public class FixSerializationConfig {
   }
 
   /**
-   * Writes the {@link FixSerializationConfig} in {@code XML} format.
+   * Writes the {@link FixSerializationConfig} in {@code XML} format. The file is only written if
+   * its content changes, the nonce of each write is stored out of band, see {@link
+   * XMLUtil#writeIfChanged}.
    *
    * @param path Path to write the config at.
    */
@@ -103,18 +102,9 @@ public class FixSerializationConfig {
       outputDir.setTextContent(outputDirectory);
       rootElement.appendChild(outputDir);
 
-      // UUID
-      Element uuid = doc.createElement("uuid");
-      uuid.setTextContent(UUID.randomUUID().toString());
-      rootElement.appendChild(uuid);
-
       // Writings
-      TransformerFactory transformerFactory = TransformerFactory.newInstance();
-      Transformer transformer = transformerFactory.newTransformer();
-      DOMSource source = new DOMSource(doc);
-      StreamResult result = new StreamResult(new File(path));
-      transformer.transform(source, result);
-    } catch (ParserConfigurationException | TransformerException e) {
+      XMLUtil.writeIfChanged(doc, Paths.get(path));
+    } catch (ParserConfigurationException | TransformerException | IOException e) {
       throw new RuntimeException("Error happened in writing config.", e);
     }
   }
@@ -25,16 +25,21 @@
 package edu.ucr.cs.riple.core.checkers.nullaway;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.HashBasedTable;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Table;
 import edu.ucr.cs.riple.core.Context;
 import edu.ucr.cs.riple.core.checkers.CheckerBaseClass;
 import edu.ucr.cs.riple.core.module.ModuleConfiguration;
 import edu.ucr.cs.riple.core.module.ModuleInfo;
+import edu.ucr.cs.riple.core.module.WorkingCopy;
 import edu.ucr.cs.riple.core.registries.field.FieldInitializationStore;
 import edu.ucr.cs.riple.core.registries.index.Error;
 import edu.ucr.cs.riple.core.registries.index.Fix;
 import edu.ucr.cs.riple.core.registries.region.Region;
+import edu.ucr.cs.riple.core.util.StringPool;
+import edu.ucr.cs.riple.core.util.TabSeparatedReader;
 import edu.ucr.cs.riple.core.util.Utility;
 import edu.ucr.cs.riple.injector.Printer;
 import edu.ucr.cs.riple.injector.changes.AddAnnotation;
@@ -44,16 +49,19 @@ import edu.ucr.cs.riple.injector.changes.AddTypeUseMarkerAnnotation;
 import edu.ucr.cs.riple.injector.location.Location;
 import edu.ucr.cs.riple.injector.location.OnField;
 import edu.ucr.cs.riple.injector.location.OnParameter;
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 
 /** Represents <a href="https://github.com/uber/NullAway">NullAway</a> checker in Annotator. */
 public class NullAway extends CheckerBaseClass<NullAwayError> {
@@ -66,26 +74,63 @@ public class NullAway extends CheckerBaseClass<NullAwayError> {
   /** Supported version of NullAway serialization. */
   public static final int VERSION = 3;
 
+  /** Name of the file NullAway serializes reported errors to. */
+  public static final String ERRORS_FILE_NAME = "errors.tsv";
+
   public NullAway(Context context) {
     super(context);
   }
 
   @Override
   public Set<NullAwayError> deserializeErrors(ModuleInfo module) {
+    return deserializeErrors(module, module.getModuleConfiguration(), null, region -> true);
+  }
+
+  @Override
+  public Set<NullAwayError> deserializeErrors(ModuleInfo module, Set<Region> regions) {
+    return deserializeErrors(module, module.getModuleConfiguration(), null, regions::contains);
+  }
+
+  @Override
+  public Set<NullAwayError> deserializeErrors(
+      ModuleInfo module, WorkingCopy workingCopy, Set<Region> regions) {
+    return deserializeErrors(
+        module, workingCopy.getModuleConfigurations(), workingCopy, regions::contains);
+  }
+
+  /**
+   * Deserializes errors serialized in the output directories of the given configurations.
+   *
+   * @param module Module info.
+   * @param configurations Configurations where their output directories contain the errors.
+   * @param workingCopy Working copy where errors are reported on, or {@code null} if errors are
+   *     reported on the original source tree.
+   * @param regionFilter Filter on enclosing regions of errors to deserialize.
+   * @return Set of deserialized errors.
+   */
+  private Set<NullAwayError> deserializeErrors(
+      ModuleInfo module,
+      ImmutableSet<ModuleConfiguration> configurations,
+      @Nullable WorkingCopy workingCopy,
+      Predicate<Region> regionFilter) {
     ImmutableSet<Path> paths =
-        module.getModuleConfiguration().stream()
-            .map(configuration -> configuration.dir.resolve("errors.tsv"))
+        configurations.stream()
+            .map(configuration -> configuration.dir.resolve(ERRORS_FILE_NAME))
             .collect(ImmutableSet.toImmutableSet());
     Set<NullAwayError> errors = new HashSet<>();
+    // Shared across files, errors of multiple modules are reported on the same regions and targets.
+    DeserializationCache cache = new DeserializationCache();
     paths.forEach(
         path -> {
           try {
-            try (BufferedReader br = Files.newBufferedReader(path, Charset.defaultCharset())) {
-              String line;
-              // Skip header.
-              br.readLine();
-              while ((line = br.readLine()) != null) {
-                errors.add(deserializeErrorFromTSVLine(module, line));
+            TabSeparatedReader reader = TabSeparatedReader.open(path, Charset.defaultCharset());
+            // Skip header.
+            reader.nextLine();
+            while (reader.nextLine()) {
+              NullAwayError error =
+                  deserializeErrorFromTSVLine(module, reader, cache, workingCopy, regionFilter);
+              if (error != null) {
+                errors.add(error);
               }
             }
           } catch (IOException e) {
@@ -96,68 +141,115 @@ public class NullAway extends CheckerBaseClass<NullAwayError> {
   }
 
   /**
-   * Deserializes an error from a TSV line.
+   * Deserializes an error from the current line of the given reader. Repeated values of lines are
+   * resolved through the given cache, errors on the same region share the same {@link Region}
+   * instance and errors on the same target share the same set of {@link AddAnnotation} instances.
    *
    * @param moduleInfo Module info.
-   * @param line Given TSV line.
-   * @return the deserialized error corresponding to the values in the given tsv line.
+   * @param reader Reader positioned on the line of the error.
+   * @param cache Cache of values deserialized from previous lines.
+   * @param workingCopy Working copy where the error is reported on, or {@code null} if the error is
+   *     reported on the original source tree.
+   * @param regionFilter Filter on the enclosing region of the error.
+   * @return the deserialized error corresponding to the values in the given tsv line, or {@code
+   *     null} if the enclosing region of the error does not pass the given filter.
    */
-  private NullAwayError deserializeErrorFromTSVLine(ModuleInfo moduleInfo, String line) {
+  @Nullable
+  private NullAwayError deserializeErrorFromTSVLine(
+      ModuleInfo moduleInfo,
+      TabSeparatedReader reader,
+      DeserializationCache cache,
+      @Nullable WorkingCopy workingCopy,
+      Predicate<Region> regionFilter) {
     Context context = moduleInfo.getContext();
-    String[] values = line.split("\t");
     Preconditions.checkArgument(
-        values.length == 12,
-        String.format(
-            "Expected 12 values to create Error instance in NullAway serialization version %s but found: %s",
-            NullAway.VERSION, values.length));
-    int offset = Integer.parseInt(values[4]);
-    Path path = Printer.deserializePath(values[5]);
-    String errorMessage = values[1];
-    String errorType = values[0];
-    Region region = new Region(values[2], values[3]);
-    Location nonnullTarget =
-        Location.createLocationFromArrayInfo(Arrays.copyOfRange(values, 6, 12));
-    if (nonnullTarget == null && errorType.equals(NullAwayError.METHOD_INITIALIZER_ERROR)) {
-      Set<AddAnnotation> annotationsOnField =
-          computeAddAnnotationInstancesForUninitializedFields(
-              errorMessage, region.clazz, moduleInfo);
-      return createError(
-          errorType,
-          errorMessage,
-          region,
-          context.offsetHandler.getOriginalOffset(path, offset),
-          annotationsOnField,
-          moduleInfo);
+        reader.fieldCount() == 12,
+        "Expected 12 values to create Error instance in NullAway serialization version %s but found: %s",
+        NullAway.VERSION,
+        reader.fieldCount());
+    StringPool pool = cache.pool;
+    Region region = cache.getRegion(reader.getString(2, pool), reader.getString(3, pool));
+    if (!regionFilter.test(region)) {
+      return null;
     }
-    if (nonnullTarget != null && nonnullTarget.isOnField()) {
-      nonnullTarget = extendVariableList(nonnullTarget.toField(), moduleInfo);
+    String errorType = reader.getString(0, pool);
+    String errorMessage = reader.getString(1, pool);
+    int offset = reader.getInt(4);
+    Path path = cache.paths.computeIfAbsent(reader.getString(5, pool), Printer::deserializePath);
+    int originalOffset =
+        workingCopy == null
+            ? context.offsetHandler.getOriginalOffset(path, offset)
+            : workingCopy.getOriginalOffset(path, offset);
+    String[] target = new String[6];
+    for (int i = 0; i < target.length; i++) {
+      target[i] = reader.getString(6 + i, pool);
     }
-    Set<AddAnnotation> annotations;
+    boolean onArrayComponent = errorType.equals(NullAwayError.ASSIGN_NULLABLE_TO_NONNULL_ARRAY);
+    if (target[0].equals("null")) {
+      if (errorType.equals(NullAwayError.METHOD_INITIALIZER_ERROR)) {
+        Set<AddAnnotation> annotationsOnField =
+            computeAddAnnotationInstancesForUninitializedFields(
+                errorMessage, region.clazz, moduleInfo);
+        return createError(
+            errorType,
+            errorMessage,
+            region,
+            originalOffset,
+            annotationsOnField,
+            moduleInfo);
+      }
+      return new NullAwayError(errorType, errorMessage, region, originalOffset, ImmutableSet.of());
+    }
+    // Locations are mutated while being resolved below, they are cached once fully resolved and
+    // are not mutated afterwards.
+    ImmutableSet<AddAnnotation> annotations =
+        cache.annotations.computeIfAbsent(
+            new TargetKey(target, onArrayComponent),
+            key ->
+                removeAnnotationsOnExplicitNonnullElements(
+                    computeAnnotationsOnTarget(target, onArrayComponent, moduleInfo, workingCopy),
+                    moduleInfo));
+    return new NullAwayError(errorType, errorMessage, region, originalOffset, annotations);
+  }
+
+  /**
+   * Computes annotations that resolve an error by making the given target {@code @Nullable}.
+   *
+   * @param target Serialized location of the target.
+   * @param onArrayComponent Whether the annotation should be placed on the component type of an
+   *     array if the {@code @Nullable} annotation is a type use annotation.
+   * @param moduleInfo Module info.
+   * @param workingCopy Working copy where the error is reported on, or {@code null} if the error is
+   *     reported on the original source tree.
+   * @return Annotations on the target.
+   */
+  private Set<AddAnnotation> computeAnnotationsOnTarget(
+      String[] target,
+      boolean onArrayComponent,
+      ModuleInfo moduleInfo,
+      @Nullable WorkingCopy workingCopy) {
+    Location nonnullTarget = Location.createLocationFromArrayInfo(target);
     if (nonnullTarget == null) {
-      annotations = Set.of();
-    } else if (Utility.isTypeUseAnnotation(config.nullableAnnot)) {
-      if (errorType.equals(NullAwayError.ASSIGN_NULLABLE_TO_NONNULL_ARRAY)) {
+      return Set.of();
+    }
+    if (workingCopy != null) {
+      nonnullTarget.path = workingCopy.toOriginalPath(nonnullTarget.path);
+    }
+    if (nonnullTarget.isOnField()) {
+      nonnullTarget = extendVariableList(nonnullTarget.toField(), moduleInfo);
+    }
+    if (Utility.isTypeUseAnnotation(config.nullableAnnot)) {
+      if (onArrayComponent) {
         // The error ASSIGN_NULLABLE_TO_NONNULL_ARRAY from NullAway triggers a fix on an array
         // variable
         // with [1, 0] indicating its component type.
-        annotations =
-            Set.of(
-                new AddTypeUseMarkerAnnotation(
-                    nonnullTarget, config.nullableAnnot, ImmutableList.of(ImmutableList.of(1, 0))));
-      } else {
-        annotations = Set.of(new AddTypeUseMarkerAnnotation(nonnullTarget, config.nullableAnnot));
+        return Set.of(
+            new AddTypeUseMarkerAnnotation(
+                nonnullTarget, config.nullableAnnot, ImmutableList.of(ImmutableList.of(1, 0))));
       }
-    } else {
-      annotations = Set.of(new AddMarkerAnnotation(nonnullTarget, config.nullableAnnot));
+      return Set.of(new AddTypeUseMarkerAnnotation(nonnullTarget, config.nullableAnnot));
     }
-
-    return createError(
-        errorType,
-        errorMessage,
-        region,
-        context.offsetHandler.getOriginalOffset(path, offset),
-        annotations,
-        moduleInfo);
+    return Set.of(new AddMarkerAnnotation(nonnullTarget, config.nullableAnnot));
   }
 
   /**
@@ -409,21 +501,35 @@ public class NullAway extends CheckerBaseClass<NullAwayError> {
    * @return Creates and returns the corresponding {@link NullAwayError} instance using the provided
    *     information.
    */
-  private NullAwayError createError(
+  @Override
+  public NullAwayError createError(
       String errorType,
       String errorMessage,
       Region region,
       int offset,
       Set<AddAnnotation> annotations,
       ModuleInfo module) {
-    // Filter fixes on elements with explicit nonnull annotations.
-    ImmutableSet<AddAnnotation> cleanedAnnotations =
-        annotations.stream()
-            .filter(
-                annot ->
-                    !module.getNonnullStore().hasExplicitNonnullAnnotation(annot.getLocation()))
-            .collect(ImmutableSet.toImmutableSet());
-    return new NullAwayError(errorType, errorMessage, region, offset, cleanedAnnotations);
+    return new NullAwayError(
+        errorType,
+        errorMessage,
+        region,
+        offset,
+        removeAnnotationsOnExplicitNonnullElements(annotations, module));
+  }
+
+  /**
+   * Filters fixes on elements with explicit nonnull annotations.
+   *
+   * @param annotations Annotations to filter.
+   * @param module Module where the annotations are suggested.
+   * @return Annotations on elements without explicit nonnull annotations.
+   */
+  private ImmutableSet<AddAnnotation> removeAnnotationsOnExplicitNonnullElements(
+      Set<AddAnnotation> annotations, ModuleInfo module) {
+    return annotations.stream()
+        .filter(
+            annot -> !module.getNonnullStore().hasExplicitNonnullAnnotation(annot.getLocation()))
+        .collect(ImmutableSet.toImmutableSet());
   }
 
   @Override
@@ -461,4 +567,94 @@ public class NullAway extends CheckerBaseClass<NullAwayError> {
           nullAwayConfig.writeAsXML(module.checkerConfig.toString());
         });
   }
+
+  @Override
+  public ImmutableSet<Path> getOutputFiles(ModuleConfiguration configuration) {
+    return ImmutableSet.of(
+        configuration.dir.resolve(ERRORS_FILE_NAME),
+        configuration.dir.resolve(FieldInitializationStore.FILE_NAME));
+  }
+
+  @Override
+  public String getDiagnosticPrefix() {
+    // Error Prone prefixes messages with the name of the reporting check.
+    return "[NullAway]";
+  }
+
+  /**
+   * Values deserialized from previous lines of {@code errors.tsv} files, reused while deserializing
+   * errors of a single build. Errors of a build are mostly reported on a limited set of regions
+   * and targets.
+   */
+  private static final class DeserializationCache {
+
+    /** Pool of repeated strings, such as class names, member signatures and paths. */
+    private final StringPool pool = new StringPool();
+
+    /** Regions keyed by their pooled enclosing class and member. */
+    private final Table<String, String, Region> regions = HashBasedTable.create();
+
+    /** Deserialized paths keyed by their pooled serialized form. */
+    private final Map<String, Path> paths = new HashMap<>();
+
+    /** Annotations on elements with explicit nonnull annotations removed, keyed by target. */
+    private final Map<TargetKey, ImmutableSet<AddAnnotation>> annotations = new HashMap<>();
+
+    /**
+     * Returns the region with the given enclosing class and member.
+     *
+     * @param clazz Pooled enclosing class.
+     * @param member Pooled enclosing member.
+     * @return Region instance shared by all errors on the region.
+     */
+    private Region getRegion(String clazz, String member) {
+      Region region = regions.get(clazz, member);
+      if (region == null) {
+        region = new Region(clazz, member);
+        regions.put(clazz, member, region);
+      }
+      return region;
+    }
+  }
+
+  /** Key of annotations on a serialized target, values are pooled and compared by identity. */
+  private static final class TargetKey {
+
+    /** Serialized location of the target. */
+    private final String[] target;
+
+    /** Whether annotations are placed on the component type of an array. */
+    private final boolean onArrayComponent;
+
+    /** Cached hash of the key. */
+    private final int hash;
+
+    private TargetKey(String[] target, boolean onArrayComponent) {
+      this.target = target;
+      this.onArrayComponent = onArrayComponent;
+      this.hash = 31 * Arrays.hashCode(target) + Boolean.hashCode(onArrayComponent);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof TargetKey)) {
+        return false;
+      }
+      TargetKey that = (TargetKey) o;
+      if (hash != that.hash || onArrayComponent != that.onArrayComponent) {
+        return false;
+      }
+      for (int i = 0; i < target.length; i++) {
+        if (target[i] != that.target[i]) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
 }
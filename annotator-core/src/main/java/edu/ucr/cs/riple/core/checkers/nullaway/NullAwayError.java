@@ -64,32 +64,24 @@ public class NullAwayError extends Error {
   }
 
   @Override
-  public boolean equals(Object o) {
-    if (this == o) {
-      return true;
-    }
-    if (!(o instanceof NullAwayError)) {
-      return false;
-    }
-    NullAwayError error = (NullAwayError) o;
+  protected boolean contentEquals(Error other) {
+    NullAwayError error = (NullAwayError) other;
     if (!messageType.equals(error.messageType)) {
       return false;
     }
     if (!region.equals(error.region)) {
       return false;
     }
-    if (messageType.equals(METHOD_INITIALIZER_ERROR)) {
-      // we do not need to compare error messages as it can be the same error with a different error
-      // message and should not be treated as a separate error.
-      return true;
+    // we do not need to compare error messages of initializer errors as it can be the same error
+    // with a different error message and should not be treated as a separate error.
+    if (!messageType.equals(METHOD_INITIALIZER_ERROR) && !message.equals(error.message)) {
+      return false;
     }
-    return message.equals(error.message)
-        && resolvingFixes.equals(error.resolvingFixes)
-        && offset == error.offset;
+    return resolvingFixes.equals(error.resolvingFixes) && offset == error.offset;
   }
 
   @Override
-  public int hashCode() {
+  protected int contentHashCode() {
     return Objects.hash(
         messageType,
         // to make sure equal objects will produce the same hashcode.
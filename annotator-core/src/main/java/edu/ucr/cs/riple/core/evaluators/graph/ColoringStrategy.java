@@ -0,0 +1,210 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.evaluators.graph;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.stream.IntStream;
+
+/**
+ * Strategy used to color the {@link ConflictGraph}. Each color is a group of non-conflicting nodes
+ * which is evaluated in a single build, therefore strategies using fewer colors require fewer
+ * builds. Finding the minimum number of colors is NP-hard and all strategies below are heuristics.
+ */
+public enum ColoringStrategy {
+  /** Assigns the smallest available color to each node in insertion order. */
+  FIRST_FIT {
+    @Override
+    public int[] color(int[][] adjacency) {
+      return firstFit(adjacency, IntStream.range(0, adjacency.length).toArray());
+    }
+  },
+
+  /** Assigns the smallest available color to each node in descending order of degrees. */
+  LARGEST_FIRST {
+    @Override
+    public int[] color(int[][] adjacency) {
+      return firstFit(adjacency, orderByDegree(adjacency));
+    }
+  },
+
+  /**
+   * Builds one color at a time, by visiting nodes in descending order of degrees and adding each
+   * uncolored node which is not adjacent to a node of the current color.
+   */
+  WELSH_POWELL {
+    @Override
+    public int[] color(int[][] adjacency) {
+      int[] order = orderByDegree(adjacency);
+      int[] colors = new int[adjacency.length];
+      Arrays.fill(colors, -1);
+      // blocked[v] == c, if v is adjacent to a node of color c.
+      int[] blocked = new int[adjacency.length];
+      Arrays.fill(blocked, -1);
+      int colored = 0;
+      for (int color = 0; colored < adjacency.length; color++) {
+        for (int node : order) {
+          if (colors[node] != -1 || blocked[node] == color) {
+            continue;
+          }
+          colors[node] = color;
+          colored++;
+          for (int neighbor : adjacency[node]) {
+            blocked[neighbor] = color;
+          }
+        }
+      }
+      return colors;
+    }
+  },
+
+  /**
+   * Repeatedly colors the node with the highest number of distinct colors among its neighbors
+   * (saturation) with the smallest available color, ties are broken by degree.
+   */
+  DSATUR {
+    @Override
+    public int[] color(int[][] adjacency) {
+      int size = adjacency.length;
+      int[] colors = new int[size];
+      Arrays.fill(colors, -1);
+      BitSet[] neighborColors = new BitSet[size];
+      int[] saturation = new int[size];
+      // Entries are {node, saturation}, stale entries are skipped when polled.
+      PriorityQueue<int[]> queue =
+          new PriorityQueue<>(
+              Comparator.<int[]>comparingInt(entry -> -entry[1])
+                  .thenComparingInt(entry -> -adjacency[entry[0]].length)
+                  .thenComparingInt(entry -> entry[0]));
+      for (int node = 0; node < size; node++) {
+        neighborColors[node] = new BitSet();
+        queue.add(new int[] {node, 0});
+      }
+      while (!queue.isEmpty()) {
+        int[] entry = queue.poll();
+        int node = entry[0];
+        if (colors[node] != -1 || entry[1] != saturation[node]) {
+          continue;
+        }
+        int color = neighborColors[node].nextClearBit(0);
+        colors[node] = color;
+        for (int neighbor : adjacency[node]) {
+          if (colors[neighbor] == -1 && !neighborColors[neighbor].get(color)) {
+            neighborColors[neighbor].set(color);
+            saturation[neighbor]++;
+            queue.add(new int[] {neighbor, saturation[neighbor]});
+          }
+        }
+      }
+      return colors;
+    }
+  };
+
+  /**
+   * Colors the graph with the given adjacency lists. No two adjacent nodes receive the same color.
+   *
+   * @param adjacency Adjacency lists, {@code adjacency[i]} contains the neighbors of node {@code
+   *     i}.
+   * @return Colors of nodes, {@code result[i]} is the color of node {@code i}. Colors are
+   *     consecutive integers starting from zero.
+   */
+  public abstract int[] color(int[][] adjacency);
+
+  /**
+   * Returns the number of colors used in the given coloring.
+   *
+   * @param colors Colors of nodes.
+   * @return Number of distinct colors.
+   */
+  public static int numberOfColors(int[] colors) {
+    return Arrays.stream(colors).max().orElse(-1) + 1;
+  }
+
+  /**
+   * Parses the received option and returns the corresponding {@link ColoringStrategy}. Can only be
+   * one of [first_fit|largest_first|welsh_powell|dsatur] values.
+   *
+   * @param strategy passed strategy.
+   * @return the corresponding {@link ColoringStrategy}.
+   */
+  public static ColoringStrategy parseStrategy(String strategy) {
+    for (ColoringStrategy value : values()) {
+      if (value.name().equalsIgnoreCase(strategy)) {
+        return value;
+      }
+    }
+    throw new IllegalArgumentException(
+        "Unrecognized coloring strategy: "
+            + strategy
+            + " .Can only be [first_fit|largest_first|welsh_powell|dsatur].");
+  }
+
+  /**
+   * Assigns the smallest color not used by an already colored neighbor to each node in the given
+   * order.
+   *
+   * @param adjacency Adjacency lists.
+   * @param order Order of visiting nodes.
+   * @return Colors of nodes.
+   */
+  private static int[] firstFit(int[][] adjacency, int[] order) {
+    int[] colors = new int[adjacency.length];
+    Arrays.fill(colors, -1);
+    // used[c] == node, if color c is used by a neighbor of node.
+    int[] used = new int[adjacency.length + 1];
+    Arrays.fill(used, -1);
+    for (int node : order) {
+      for (int neighbor : adjacency[node]) {
+        if (colors[neighbor] != -1) {
+          used[colors[neighbor]] = node;
+        }
+      }
+      int color = 0;
+      while (used[color] == node) {
+        color++;
+      }
+      colors[node] = color;
+    }
+    return colors;
+  }
+
+  /**
+   * Returns nodes sorted in descending order of degrees, ties are broken by insertion order.
+   *
+   * @param adjacency Adjacency lists.
+   * @return Sorted nodes.
+   */
+  private static int[] orderByDegree(int[][] adjacency) {
+    return IntStream.range(0, adjacency.length)
+        .boxed()
+        .sorted(
+            Comparator.<Integer>comparingInt(node -> -adjacency[node].length)
+                .thenComparingInt(node -> node))
+        .mapToInt(Integer::intValue)
+        .toArray();
+  }
+}
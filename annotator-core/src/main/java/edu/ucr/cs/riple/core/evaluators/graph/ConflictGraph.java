@@ -24,16 +24,19 @@
 
 package edu.ucr.cs.riple.core.evaluators.graph;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.MultimapBuilder;
+import com.google.common.primitives.Ints;
 import edu.ucr.cs.riple.core.registries.index.Fix;
+import edu.ucr.cs.riple.core.registries.region.Region;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -48,14 +51,18 @@ public class ConflictGraph {
 
   /**
    * Groups in this graph, nodes which does not have any conflict in regions will in the same group.
-   * Please note that this is a graph coloring problem, set of groups is calculated using a greedy
-   * algorithm can may not be optimal.
+   * Please note that this is a graph coloring problem, set of groups is calculated using a {@link
+   * ColoringStrategy} and may not be optimal.
    */
   private final HashMap<Integer, Set<Node>> groups;
 
+  /** Adjacency lists of nodes computed in the latest call to {@link #findGroups}. */
+  private int[][] adjacency;
+
   public ConflictGraph() {
     nodes = MultimapBuilder.hashKeys().arrayListValues().build();
     groups = new HashMap<>();
+    adjacency = new int[0][];
   }
 
   /**
@@ -72,73 +79,72 @@ public class ConflictGraph {
 
   /**
    * Colors the graph based on edges, no two vertices which there is an edge connecting them will be
-   * in the same group. A greedy algorithm is used to find the solution.
+   * in the same group. Edges are computed from an index of nodes per region, therefore only pairs
+   * of nodes sharing at least one region are visited.
+   *
+   * @param strategy Strategy used to color the graph.
    */
-  // TODO: Remove SuppressWarnings below later.
-  @SuppressWarnings("JdkObsolete")
-  public void findGroups() {
+  public void findGroups(ColoringStrategy strategy) {
     this.groups.clear();
-    Collection<Node> allNodes = nodes.values();
-    int counter = 0;
-    for (Node node : allNodes) {
-      node.id = counter++;
+    List<Node> allNodes = new ArrayList<>(nodes.values());
+    for (int i = 0; i < allNodes.size(); i++) {
+      allNodes.get(i).id = i;
     }
-    int size = allNodes.size();
-    LinkedList<Integer>[] adj = new LinkedList[size];
-    for (int i = 0; i < size; ++i) {
-      adj[i] = new LinkedList<>();
+    this.adjacency = computeAdjacency(allNodes);
+    int[] colors = strategy.color(adjacency);
+    for (int i = 0; i < colors.length; i++) {
+      groups.computeIfAbsent(colors[i], k -> new HashSet<>()).add(allNodes.get(i));
     }
-    for (Node node : allNodes) {
-      for (Node other : allNodes) {
-        if (node.equals(other)) {
-          continue;
-        }
-        if (node.hasConflictInRegions(other)) {
-          adj[node.id].add(other.id);
-        }
-      }
+  }
+
+  /**
+   * Computes the number of groups each coloring strategy would produce for the edges of the latest
+   * call to {@link #findGroups(ColoringStrategy)}. Recolors the graph once per strategy, therefore
+   * only used when {@link edu.ucr.cs.riple.core.Config#coloringStatistics} is activated.
+   *
+   * @return Number of groups per strategy.
+   */
+  public ImmutableMap<ColoringStrategy, Integer> countGroupsPerStrategy() {
+    ImmutableMap.Builder<ColoringStrategy, Integer> builder = ImmutableMap.builder();
+    for (ColoringStrategy strategy : ColoringStrategy.values()) {
+      builder.put(strategy, ColoringStrategy.numberOfColors(strategy.color(adjacency)));
     }
-    colorGraph(adj, allNodes);
+    return builder.build();
   }
 
   /**
-   * Performs the actual coloring.
+   * Computes the adjacency lists of nodes. Two nodes are adjacent if they share a region, see
+   * {@link Node#hasConflictInRegions(Node)}.
    *
-   * @param adj Martic of adjancey.
-   * @param nodes Nodes in the graph.
+   * @param allNodes Nodes in the graph, the index of each node is its id.
+   * @return Adjacency lists, {@code result[i]} contains ids of nodes adjacent to node {@code i}.
    */
-  private void colorGraph(LinkedList<Integer>[] adj, Collection<Node> nodes) {
-    int v = nodes.size();
-    List<Node> allNodes = new ArrayList<>(nodes);
-    int[] result = new int[v];
-    Arrays.fill(result, -1);
-    result[0] = 0;
-    boolean[] available = new boolean[v];
-    Arrays.fill(available, true);
-    for (int u = 1; u < v; u++) {
-      for (int i : adj[u]) {
-        if (result[i] != -1) {
-          available[result[i]] = false;
-        }
-      }
-      int cr;
-      for (cr = 0; cr < v; cr++) {
-        if (available[cr]) {
-          break;
-        }
+  private static int[][] computeAdjacency(List<Node> allNodes) {
+    Map<Region, List<Integer>> nodesPerRegion = new HashMap<>();
+    for (Node node : allNodes) {
+      for (Region region : node.regions) {
+        nodesPerRegion.computeIfAbsent(region, k -> new ArrayList<>()).add(node.id);
       }
-      result[u] = cr;
-      Arrays.fill(available, true);
     }
-    for (int i = 0; i < result.length; i++) {
-      if (!groups.containsKey(result[i])) {
-        Set<Node> newList = new HashSet<>();
-        newList.add(allNodes.get(i));
-        groups.put(result[i], newList);
-      } else {
-        groups.get(result[i]).add(allNodes.get(i));
+    int[][] adjacency = new int[allNodes.size()][];
+    // visited[j] == i, if node j is already added to neighbors of node i.
+    int[] visited = new int[allNodes.size()];
+    Arrays.fill(visited, -1);
+    List<Integer> neighbors = new ArrayList<>();
+    for (Node node : allNodes) {
+      neighbors.clear();
+      visited[node.id] = node.id;
+      for (Region region : node.regions) {
+        for (int other : nodesPerRegion.get(region)) {
+          if (visited[other] != node.id) {
+            visited[other] = node.id;
+            neighbors.add(other);
+          }
+        }
       }
+      adjacency[node.id] = Ints.toArray(neighbors);
     }
+    return adjacency;
   }
 
   /**
@@ -163,6 +169,7 @@ public class ConflictGraph {
   public void clear() {
     nodes.clear();
     groups.clear();
+    adjacency = new int[0][];
   }
 
   /**
@@ -0,0 +1,84 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.evaluators.graph.processors;
+
+import com.google.common.collect.ImmutableSet;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+/**
+ * Sources of a module which must be recompiled after a set of fixes is injected. Sources which are
+ * not in this plan are neither modified by the fixes nor contain a region whose errors are read
+ * after the build, therefore their outputs of a previous compilation can be reused.
+ */
+public class CompilationPlan {
+
+  /** Sources modified by the injected fixes. */
+  public final ImmutableSet<Path> modifiedSources;
+
+  /** Sources which must be recompiled, including the modified sources. */
+  public final ImmutableSet<Path> requiredSources;
+
+  /**
+   * Creates a compilation plan. All paths are normalized to absolute paths.
+   *
+   * @param modifiedSources Sources modified by the injected fixes.
+   * @param requiredSources Sources whose errors are read after the build.
+   */
+  public CompilationPlan(Set<Path> modifiedSources, Set<Path> requiredSources) {
+    this.modifiedSources = normalize(modifiedSources);
+    this.requiredSources =
+        ImmutableSet.<Path>builder()
+            .addAll(this.modifiedSources)
+            .addAll(normalize(requiredSources))
+            .build();
+  }
+
+  /**
+   * Creates a plan with all paths translated with the given mapping, e.g. to paths in a working
+   * copy.
+   *
+   * @param mapping Mapping applied to each path.
+   * @return Plan with translated paths.
+   */
+  public CompilationPlan relocate(UnaryOperator<Path> mapping) {
+    return new CompilationPlan(
+        modifiedSources.stream().map(mapping).collect(ImmutableSet.toImmutableSet()),
+        requiredSources.stream().map(mapping).collect(ImmutableSet.toImmutableSet()));
+  }
+
+  /**
+   * Normalizes the given paths to absolute paths.
+   *
+   * @param paths Paths to normalize.
+   * @return Normalized paths.
+   */
+  private static ImmutableSet<Path> normalize(Set<Path> paths) {
+    return paths.stream()
+        .map(path -> path.toAbsolutePath().normalize())
+        .collect(ImmutableSet.toImmutableSet());
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.evaluators.graph.processors;
+
+import edu.ucr.cs.riple.core.module.ModuleInfo;
+import edu.ucr.cs.riple.core.registries.index.Fix;
+import edu.ucr.cs.riple.core.registries.region.Region;
+import edu.ucr.cs.riple.core.registries.region.RegionRegistry;
+import edu.ucr.cs.riple.injector.location.Location;
+import edu.ucr.cs.riple.injector.location.OnClass;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import javax.annotation.Nullable;
+
+/**
+ * Computes the minimal set of sources of a module to recompile after injecting a set of fixes. The
+ * set contains the sources modified by the fixes, and the sources of all regions whose errors are
+ * read after the build: the given regions of the nodes and the regions retrieved from the region
+ * registry of the module (method and field usages, overriding methods) for each changed element.
+ */
+public class CompilationPlanner {
+
+  /** Module where the fixes are injected. */
+  private final ModuleInfo moduleInfo;
+
+  /** Region registry of the module, used to retrieve the regions impacted by each change. */
+  private final RegionRegistry regionRegistry;
+
+  public CompilationPlanner(ModuleInfo moduleInfo) {
+    this.moduleInfo = moduleInfo;
+    this.regionRegistry = moduleInfo.getRegionRegistry();
+  }
+
+  /**
+   * Computes the compilation plan for injecting the given fixes.
+   *
+   * @param fixes Fixes injected before the build.
+   * @param regions Regions whose errors are read after the build.
+   * @return The compilation plan, or {@code null} if the source file of a fix or region is unknown
+   *     and the whole module must be recompiled.
+   */
+  @Nullable
+  public CompilationPlan plan(Set<Fix> fixes, Set<Region> regions) {
+    Set<Path> modified = new HashSet<>();
+    Set<String> classes = new HashSet<>();
+    regions.forEach(region -> classes.add(region.clazz));
+    for (Fix fix : fixes) {
+      for (Location location : fix.toLocations()) {
+        if (location.path == null) {
+          return null;
+        }
+        modified.add(location.path);
+        regionRegistry.getImpactedRegions(location).forEach(region -> classes.add(region.clazz));
+      }
+    }
+    Set<Path> required = new HashSet<>();
+    for (String clazz : classes) {
+      OnClass onClass = moduleInfo.getLocationOnClass(clazz);
+      if (onClass == null || onClass.path == null) {
+        return null;
+      }
+      required.add(onClass.path);
+    }
+    return new CompilationPlan(modified, required);
+  }
+}
@@ -29,4 +29,15 @@ public interface CompilerRunner {
 
   /** Runs the analysis/compiler. */
   void run();
+
+  /**
+   * Runs the analysis/compiler where only the sources in the given plan are required to be
+   * recompiled. Runners which cannot compile a subset of the module run the analysis on the whole
+   * module.
+   *
+   * @param plan Compilation plan of the build.
+   */
+  default void run(CompilationPlan plan) {
+    run();
+  }
 }
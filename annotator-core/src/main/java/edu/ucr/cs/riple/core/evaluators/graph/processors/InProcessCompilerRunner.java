@@ -0,0 +1,797 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.evaluators.graph.processors;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import edu.ucr.cs.riple.core.Config;
+import edu.ucr.cs.riple.injector.SourceOverlay;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.annotation.Nullable;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticListener;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+
+/**
+ * Compiler runner which compiles the target module inside the Annotator JVM instead of running the
+ * build command in a separate process. The arguments of the compilation are read from a javac
+ * argument file captured from the build of the target module, which must contain the classpath,
+ * the processor path including Error Prone, NullAway and {@link
+ * edu.ucr.cs.riple.scanner.AnnotatorScanner}, the checker options and the source files of the
+ * module.
+ *
+ * <p>The compiler, the file manager and the class loader of the processor path are kept across
+ * compilations, so the checkers are loaded and warmed up once and only the source set of the module
+ * is recompiled on each run. The Annotator JVM must be started with the {@code --add-exports} and
+ * {@code --add-opens} flags required by Error Prone on the running JDK.
+ *
+ * <p>If {@link Config#analysisOnlyCompilation} is activated, compilations whose class files are not
+ * reused stop after flow analysis, where Error Prone has already reported all errors, and run only
+ * the checks required by Annotator, see {@link #toAnalysisOptions(List)}.
+ *
+ * <p>If a {@link SourceOverlay} is given, the content of each source modified in the overlay is
+ * compiled instead of the content of the file on disk.
+ *
+ * <p>Instances of this class are not thread-safe, concurrent compilations must use separate
+ * instances, see {@link #relocate(UnaryOperator)}.
+ */
+public class InProcessCompilerRunner implements CompilerRunner {
+
+  /** Compiler option activating Error Prone, followed by the Error Prone flags. */
+  private static final String ERROR_PRONE_PLUGIN = "-Xplugin:ErrorProne";
+
+  /** Error Prone checks kept enabled in analysis only compilations. */
+  private static final ImmutableList<String> ANALYSIS_CHECKS =
+      ImmutableList.of("NullAway", "AnnotatorScanner");
+
+  /**
+   * Prefix of messages of errors reported by NullAway, Error Prone prefixes messages with the name
+   * of the reporting check.
+   */
+  private static final String CHECKER_DIAGNOSTIC_PREFIX = "[NullAway]";
+
+  /** Service file declaring annotation processors discovered by javac. */
+  private static final String PROCESSOR_SERVICE_FILE =
+      "META-INF/services/javax.annotation.processing.Processor";
+
+  /** Annotator configuration. */
+  private final Config config;
+
+  /** Compiler options, excluding the source files. */
+  private final ImmutableList<String> options;
+
+  /** Source files to compile. */
+  private final ImmutableList<Path> sources;
+
+  /**
+   * Overlay of modified sources compiled instead of their files on disk, {@code null} if all
+   * sources are read from disk.
+   */
+  @Nullable private final SourceOverlay overlay;
+
+  /** System java compiler, kept across compilations. */
+  private final JavaCompiler compiler;
+
+  /**
+   * Standard file manager of the compiler, kept across compilations to reuse opened archives of
+   * the classpath.
+   */
+  @Nullable private StandardJavaFileManager fileManager;
+
+  /** Class loader of the processor path, kept across compilations to keep the checkers warm. */
+  @Nullable private URLClassLoader processorClassLoader;
+
+  /**
+   * Content hashes of the sources at the last compilation of all sources, {@code null} if all
+   * sources are not compiled yet. Outputs of this compilation are reused by incremental
+   * compilations.
+   */
+  @Nullable private Map<Path, HashCode> baseline;
+
+  /**
+   * Sources which were modified by injected fixes during the last compilation of all sources. Their
+   * outputs are not reusable and they are recompiled in each incremental compilation.
+   */
+  private final Set<Path> dirtyOutputs;
+
+  /** Content hashes of sources, invalidated by the size and the modified time of the source. */
+  private final Map<Path, SourceHash> sourceHashes;
+
+  /** Options of incremental compilations, created on the first incremental compilation. */
+  @Nullable private ImmutableList<String> incrementalOptions;
+
+  /** Directory where outputs of incremental compilations are written. */
+  @Nullable private Path incrementalOutput;
+
+  /**
+   * Whether an annotation processor may run in the compilations, {@code null} if not checked yet.
+   */
+  @Nullable private Boolean hasAnnotationProcessors;
+
+  /**
+   * Creates a runner for the given compiler arguments.
+   *
+   * @param config Annotator configuration.
+   * @param arguments Compiler arguments, including the source files.
+   */
+  public InProcessCompilerRunner(Config config, List<String> arguments) {
+    this(config, arguments, null);
+  }
+
+  /**
+   * Creates a runner for the given compiler arguments which compiles the contents of sources
+   * modified in the given overlay.
+   *
+   * @param config Annotator configuration.
+   * @param arguments Compiler arguments, including the source files.
+   * @param overlay Overlay of modified sources, {@code null} if all sources are read from disk.
+   */
+  public InProcessCompilerRunner(
+      Config config, List<String> arguments, @Nullable SourceOverlay overlay) {
+    this.config = config;
+    this.overlay = overlay;
+    this.compiler =
+        Preconditions.checkNotNull(
+            ToolProvider.getSystemJavaCompiler(),
+            "In process compilation requires Annotator to run on a JDK.");
+    ImmutableList.Builder<String> optionsBuilder = ImmutableList.builder();
+    ImmutableList.Builder<Path> sourcesBuilder = ImmutableList.builder();
+    for (int i = 0; i < arguments.size(); i++) {
+      String argument = arguments.get(i);
+      if (argument.startsWith("-J")) {
+        // Launcher options cannot be applied to an in process compilation.
+        continue;
+      }
+      if (argument.startsWith("-")) {
+        optionsBuilder.add(argument);
+        // Options such as -d and -classpath are handled by the file manager, not the compiler.
+        int numberOfValues =
+            Math.max(
+                Math.max(
+                    compiler.isSupportedOption(argument),
+                    getFileManager().isSupportedOption(argument)),
+                0);
+        for (int j = 0; j < numberOfValues && i + 1 < arguments.size(); j++) {
+          optionsBuilder.add(arguments.get(++i));
+        }
+        continue;
+      }
+      Preconditions.checkArgument(
+          argument.endsWith(".java"),
+          "Expected a source file in compiler arguments but found: " + argument);
+      sourcesBuilder.add(Paths.get(argument).toAbsolutePath().normalize());
+    }
+    this.options = optionsBuilder.build();
+    this.sources = sourcesBuilder.build();
+    this.dirtyOutputs = new HashSet<>();
+    this.sourceHashes = new HashMap<>();
+  }
+
+  /**
+   * Creates a runner from a javac argument file. Arguments are separated by white spaces, may be
+   * quoted with single or double quotes, and nested argument files referenced with {@code @path}
+   * are expanded.
+   *
+   * @param config Annotator configuration.
+   * @param path Path to the argument file.
+   * @return Runner for the arguments in the given file.
+   */
+  public static InProcessCompilerRunner fromArgumentFile(Config config, Path path) {
+    return fromArgumentFile(config, path, null);
+  }
+
+  /**
+   * Creates a runner from a javac argument file which compiles the contents of sources modified in
+   * the given overlay. See {@link #fromArgumentFile(Config, Path)}.
+   *
+   * @param config Annotator configuration.
+   * @param path Path to the argument file.
+   * @param overlay Overlay of modified sources, {@code null} if all sources are read from disk.
+   * @return Runner for the arguments in the given file.
+   */
+  public static InProcessCompilerRunner fromArgumentFile(
+      Config config, Path path, @Nullable SourceOverlay overlay) {
+    return new InProcessCompilerRunner(config, readArgumentFile(path), overlay);
+  }
+
+  @Override
+  public void run() {
+    compile(config.analysisOnlyCompilation ? toAnalysisOptions(options) : options, sources);
+  }
+
+  /**
+   * Compiles only the sources in the given plan, along with sources whose outputs of the last
+   * compilation of all sources are not reusable. Other classes of the module are resolved from the
+   * outputs of the last compilation of all sources. All sources are compiled instead if no such
+   * compilation exists yet, or if a source which is not in the plan has changed since, e.g. by
+   * fixes which are applied permanently.
+   *
+   * @param plan Compilation plan of the build.
+   */
+  @Override
+  public void run(CompilationPlan plan) {
+    Map<Path, HashCode> current = hashSources();
+    if (baseline == null || getOptionValue("-d") == null || !isExplainedBy(current, plan)) {
+      // Class files of this compilation are reused by the following incremental compilations.
+      compile(options, sources);
+      baseline = current;
+      dirtyOutputs.clear();
+      dirtyOutputs.addAll(plan.modifiedSources);
+      return;
+    }
+    Set<Path> required = new HashSet<>(plan.requiredSources);
+    required.addAll(dirtyOutputs);
+    ImmutableList<String> incremental = getIncrementalOptions();
+    compile(
+        config.analysisOnlyCompilation ? toAnalysisOptions(incremental) : incremental,
+        sources.stream().filter(required::contains).collect(Collectors.toList()));
+  }
+
+  /**
+   * Compiles the given sources with the given options. Errors reported by NullAway fail the
+   * compilation similar to builds in a separate process and are read from the checker outputs, any
+   * other error means the sources do not compile and their checker outputs are not complete.
+   *
+   * @param options Compiler options.
+   * @param sources Sources to compile.
+   * @throws IllegalStateException if the compilation reports an error which is not reported by
+   *     NullAway.
+   */
+  private void compile(List<String> options, List<Path> sources) {
+    StandardJavaFileManager standardFileManager = getFileManager();
+    List<JavaFileObject> units = new ArrayList<>();
+    List<Path> unmodified = new ArrayList<>();
+    for (Path source : sources) {
+      String content = overlay == null ? null : overlay.getContent(source);
+      if (content == null) {
+        unmodified.add(source);
+      } else {
+        units.add(new OverlaySource(source, content));
+      }
+    }
+    standardFileManager.getJavaFileObjectsFromPaths(unmodified).forEach(units::add);
+    Writer out =
+        config.redirectBuildOutputToStdErr
+            ? new PrintWriter(System.err, true)
+            : Writer.nullWriter();
+    List<Diagnostic<? extends JavaFileObject>> errors = new ArrayList<>();
+    DiagnosticListener<JavaFileObject> listener =
+        diagnostic -> {
+          if (config.redirectBuildOutputToStdErr) {
+            System.err.println(diagnostic);
+          }
+          if (diagnostic.getKind() == Diagnostic.Kind.ERROR
+              && !diagnostic.getMessage(Locale.ROOT).startsWith(CHECKER_DIAGNOSTIC_PREFIX)) {
+            errors.add(diagnostic);
+          }
+        };
+    boolean succeeded =
+        compiler
+            .getTask(
+                out,
+                new WarmProcessorPathFileManager(standardFileManager),
+                listener,
+                options,
+                null,
+                units)
+            .call();
+    if (!succeeded && !errors.isEmpty()) {
+      throw new IllegalStateException(
+          "Compilation failed with "
+              + errors.size()
+              + " error(s) not reported by NullAway, first error: "
+              + errors.get(0));
+    }
+  }
+
+  /**
+   * Creates a new runner with the arguments of this runner rewritten with the given mapping. Used
+   * to compile a copy of the module at a different location. The new runner has its own file
+   * manager and class loader, and reads all sources from disk.
+   *
+   * @param mapping Mapping applied to each argument.
+   * @return Runner with rewritten arguments.
+   */
+  public InProcessCompilerRunner relocate(UnaryOperator<String> mapping) {
+    List<String> arguments = new ArrayList<>();
+    options.forEach(option -> arguments.add(mapping.apply(option)));
+    sources.forEach(source -> arguments.add(mapping.apply(source.toString())));
+    return new InProcessCompilerRunner(config, arguments);
+  }
+
+  /**
+   * Returns the value of the given option, if present.
+   *
+   * @param option Option name, e.g. {@code "-d"}.
+   * @return Value of the option, or {@code null} if the option is not set.
+   */
+  @Nullable
+  public String getOptionValue(String option) {
+    int index = options.indexOf(option);
+    return index < 0 || index + 1 >= options.size() ? null : options.get(index + 1);
+  }
+
+  /**
+   * Creates a new runner with the value of the given option replaced. The new runner compiles the
+   * contents of the overlay of this runner.
+   *
+   * @param option Option name, e.g. {@code "-d"}.
+   * @param value New value of the option.
+   * @return Runner with the replaced option.
+   */
+  public InProcessCompilerRunner withOptionValue(String option, String value) {
+    List<String> arguments = new ArrayList<>(options);
+    int index = arguments.indexOf(option);
+    if (index < 0) {
+      arguments.add(option);
+      arguments.add(value);
+    } else {
+      arguments.set(index + 1, value);
+    }
+    sources.forEach(source -> arguments.add(source.toString()));
+    return new InProcessCompilerRunner(config, arguments, overlay);
+  }
+
+  /**
+   * Checks if all sources which changed since the last compilation of all sources are either
+   * modified by the fixes in the plan or already recompiled in each incremental compilation.
+   *
+   * @param current Current content hashes of the sources.
+   * @param plan Compilation plan of the build.
+   * @return true, if outputs of the last compilation of all sources can be reused.
+   */
+  private boolean isExplainedBy(Map<Path, HashCode> current, CompilationPlan plan) {
+    Preconditions.checkNotNull(baseline);
+    for (Map.Entry<Path, HashCode> entry : current.entrySet()) {
+      Path source = entry.getKey();
+      if (!entry.getValue().equals(baseline.get(source))
+          && !plan.modifiedSources.contains(source)
+          && !dirtyOutputs.contains(source)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Computes the content hashes of all sources. Hashes of sources whose size and modified time are
+   * unchanged are reused. Sources modified in the overlay are hashed by their content in it.
+   *
+   * @return Content hashes of all sources.
+   */
+  private Map<Path, HashCode> hashSources() {
+    Map<Path, HashCode> hashes = new HashMap<>();
+    for (Path source : sources) {
+      String content = overlay == null ? null : overlay.getContent(source);
+      if (content != null) {
+        hashes.put(source, Hashing.sha256().hashString(content, Charset.defaultCharset()));
+        continue;
+      }
+      try {
+        BasicFileAttributes attrs = Files.readAttributes(source, BasicFileAttributes.class);
+        SourceHash cached = sourceHashes.get(source);
+        if (cached == null
+            || cached.size != attrs.size()
+            || !cached.lastModified.equals(attrs.lastModifiedTime())) {
+          cached =
+              new SourceHash(
+                  attrs.size(),
+                  attrs.lastModifiedTime(),
+                  Hashing.sha256().hashBytes(Files.readAllBytes(source)));
+          sourceHashes.put(source, cached);
+        }
+        hashes.put(source, cached.hash);
+      } catch (IOException e) {
+        throw new UncheckedIOException("Could not read source file: " + source, e);
+      }
+    }
+    return hashes;
+  }
+
+  /**
+   * Returns the options of incremental compilations. Outputs of the last compilation of all sources
+   * are prepended to the classpath, outputs are redirected to a separate directory, and the source
+   * path is removed so classes which are not compiled are resolved from the classpath.
+   *
+   * @return Options of incremental compilations.
+   */
+  private ImmutableList<String> getIncrementalOptions() {
+    if (incrementalOptions == null) {
+      String classOutput = Preconditions.checkNotNull(getOptionValue("-d"));
+      try {
+        incrementalOutput = Files.createTempDirectory("annotator-incremental");
+      } catch (IOException e) {
+        throw new UncheckedIOException("Could not create incremental compilation directory", e);
+      }
+      List<String> result = new ArrayList<>();
+      boolean hasClasspath = false;
+      for (int i = 0; i < options.size(); i++) {
+        String option = options.get(i);
+        switch (option) {
+          case "-sourcepath":
+          case "--source-path":
+            i++;
+            break;
+          case "-d":
+          case "-s":
+            result.add(option);
+            result.add(incrementalOutput.resolve(option.substring(1)).toString());
+            i++;
+            break;
+          case "-classpath":
+          case "-cp":
+          case "--class-path":
+            hasClasspath = true;
+            result.add(option);
+            result.add(classOutput + File.pathSeparator + options.get(++i));
+            break;
+          default:
+            result.add(option);
+        }
+      }
+      if (!hasClasspath) {
+        result.add("-classpath");
+        result.add(classOutput);
+      }
+      result.add("-implicit:none");
+      incrementalOptions = ImmutableList.copyOf(result);
+    }
+    // Outputs of the previous incremental compilation must not be visible.
+    deleteRecursively(Preconditions.checkNotNull(incrementalOutput));
+    return incrementalOptions;
+  }
+
+  /**
+   * Rewrites the given options for a compilation which only reads checker outputs. The compilation
+   * stops after flow analysis, so no class file is generated, Error Prone checks other than {@link
+   * #ANALYSIS_CHECKS} are disabled, and annotation processing is disabled if no annotation
+   * processor can run, as processors may generate sources required by the compilation.
+   *
+   * @param options Compiler options.
+   * @return Options of the analysis only compilation.
+   */
+  @VisibleForTesting
+  List<String> toAnalysisOptions(List<String> options) {
+    List<String> result = new ArrayList<>(options.size() + 2);
+    for (String option : options) {
+      if (option.startsWith(ERROR_PRONE_PLUGIN)) {
+        // Error Prone reads flags in order and -XepDisableAllChecks clears the severities set
+        // before it, hence it precedes all flags. Only analysis checks are enabled after it, with
+        // the severity set in the given options if any.
+        StringBuilder plugin =
+            new StringBuilder(ERROR_PRONE_PLUGIN).append(" -XepDisableAllChecks");
+        Map<String, String> analysisCheckFlags = new HashMap<>();
+        for (String flag : option.substring(ERROR_PRONE_PLUGIN.length()).split(" ")) {
+          if (flag.isEmpty() || flag.equals("-XepDisableAllChecks")) {
+            continue;
+          }
+          if (flag.startsWith("-Xep:")) {
+            String check = getCheckName(flag);
+            if (ANALYSIS_CHECKS.contains(check)) {
+              analysisCheckFlags.put(check, flag);
+            }
+            continue;
+          }
+          plugin.append(' ').append(flag);
+        }
+        for (String check : ANALYSIS_CHECKS) {
+          plugin.append(' ').append(analysisCheckFlags.getOrDefault(check, "-Xep:" + check));
+        }
+        result.add(plugin.toString());
+      } else {
+        result.add(option);
+      }
+    }
+    result.add("-XDshould-stop.ifNoError=FLOW");
+    if (!result.contains("-proc:none") && !hasAnnotationProcessors()) {
+      result.add("-proc:none");
+    }
+    return result;
+  }
+
+  /**
+   * Returns the name of the check configured by the given Error Prone flag.
+   *
+   * @param flag Flag in the form {@code -Xep:<check>[:<severity>]}.
+   * @return Name of the check.
+   */
+  private static String getCheckName(String flag) {
+    String check = flag.substring("-Xep:".length());
+    int colon = check.indexOf(':');
+    return colon < 0 ? check : check.substring(0, colon);
+  }
+
+  /**
+   * Checks if an annotation processor may run in the compilations of this runner. Processors may
+   * run if they are requested explicitly or if any entry of the processor path declares one.
+   *
+   * @return true, if an annotation processor may run.
+   */
+  private boolean hasAnnotationProcessors() {
+    if (hasAnnotationProcessors == null) {
+      boolean found =
+          getOptionValue("-processor") != null || getOptionValue("--processor-module-path") != null;
+      String processorPath = getProcessorPath();
+      if (!found && processorPath != null) {
+        for (String entry : processorPath.split(File.pathSeparator)) {
+          if (declaresAnnotationProcessor(Paths.get(entry))) {
+            found = true;
+            break;
+          }
+        }
+      }
+      hasAnnotationProcessors = found;
+    }
+    return hasAnnotationProcessors;
+  }
+
+  /**
+   * Checks if the given processor path entry declares an annotation processor.
+   *
+   * @param entry Directory or archive on the processor path.
+   * @return true, if the entry contains the processor service file or could not be read.
+   */
+  private static boolean declaresAnnotationProcessor(Path entry) {
+    if (Files.isDirectory(entry)) {
+      return Files.exists(entry.resolve(PROCESSOR_SERVICE_FILE));
+    }
+    if (!Files.exists(entry)) {
+      return false;
+    }
+    try (JarFile jar = new JarFile(entry.toFile())) {
+      return jar.getEntry(PROCESSOR_SERVICE_FILE) != null;
+    } catch (IOException e) {
+      // Entry cannot be inspected, assume it declares a processor.
+      return true;
+    }
+  }
+
+  /**
+   * Deletes all files under the given directory, the directory itself is kept.
+   *
+   * @param dir Directory to clean.
+   */
+  private static void deleteRecursively(Path dir) {
+    try (Stream<Path> paths = Files.walk(dir)) {
+      for (Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+        if (!path.equals(dir)) {
+          Files.delete(path);
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not clean directory: " + dir, e);
+    }
+  }
+
+  /**
+   * Returns the file manager of this runner, creating it on the first compilation.
+   *
+   * @return Standard file manager.
+   */
+  private StandardJavaFileManager getFileManager() {
+    if (fileManager == null) {
+      fileManager = compiler.getStandardFileManager(null, null, Charset.defaultCharset());
+    }
+    return fileManager;
+  }
+
+  /**
+   * Returns the class loader of the processor path, creating it on the first compilation.
+   *
+   * @return Class loader of the processor path.
+   */
+  private ClassLoader getProcessorClassLoader() {
+    if (processorClassLoader == null) {
+      String processorPath = getProcessorPath();
+      List<URL> urls = new ArrayList<>();
+      if (processorPath != null) {
+        for (String entry : processorPath.split(File.pathSeparator)) {
+          try {
+            urls.add(Paths.get(entry).toUri().toURL());
+          } catch (MalformedURLException e) {
+            throw new IllegalArgumentException("Invalid processor path entry: " + entry, e);
+          }
+        }
+      }
+      // Same parent as the class loaders created by javac for the processor path.
+      processorClassLoader =
+          new URLClassLoader(urls.toArray(new URL[0]), compiler.getClass().getClassLoader());
+    }
+    return processorClassLoader;
+  }
+
+  /**
+   * Returns the processor path of the compilations. Processors are searched on the classpath if no
+   * processor path is set.
+   *
+   * @return Processor path, or {@code null} if neither a processor path nor a classpath is set.
+   */
+  @Nullable
+  private String getProcessorPath() {
+    for (String option :
+        List.of("-processorpath", "--processor-path", "-classpath", "-cp", "--class-path")) {
+      String value = getOptionValue(option);
+      if (value != null) {
+        return value;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Reads the arguments in the given javac argument file.
+   *
+   * @param path Path to the argument file.
+   * @return List of arguments.
+   */
+  private static List<String> readArgumentFile(Path path) {
+    String content;
+    try {
+      content = Files.readString(path, Charset.defaultCharset());
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not read compiler argument file at: " + path, e);
+    }
+    List<String> arguments = new ArrayList<>();
+    StringBuilder current = null;
+    char quote = 0;
+    for (int i = 0; i < content.length(); i++) {
+      char c = content.charAt(i);
+      if (quote != 0) {
+        if (c == quote) {
+          quote = 0;
+        } else if (c == '\\' && i + 1 < content.length()) {
+          current.append(content.charAt(++i));
+        } else {
+          current.append(c);
+        }
+      } else if (Character.isWhitespace(c)) {
+        if (current != null) {
+          arguments.add(current.toString());
+          current = null;
+        }
+      } else if (c == '#' && current == null) {
+        // Comment until the end of line.
+        while (i + 1 < content.length() && content.charAt(i + 1) != '\n') {
+          i++;
+        }
+      } else {
+        if (current == null) {
+          current = new StringBuilder();
+        }
+        if (c == '"' || c == '\'') {
+          quote = c;
+        } else {
+          current.append(c);
+        }
+      }
+    }
+    if (current != null) {
+      arguments.add(current.toString());
+    }
+    List<String> expanded = new ArrayList<>();
+    for (String argument : arguments) {
+      if (argument.startsWith("@")) {
+        expanded.addAll(readArgumentFile(Paths.get(argument.substring(1))));
+      } else {
+        expanded.add(argument);
+      }
+    }
+    return expanded;
+  }
+
+  /** Content hash of a source along with the size and modified time it is computed for. */
+  private static class SourceHash {
+
+    private final long size;
+    private final FileTime lastModified;
+    private final HashCode hash;
+
+    private SourceHash(long size, FileTime lastModified, HashCode hash) {
+      this.size = size;
+      this.lastModified = lastModified;
+      this.hash = hash;
+    }
+  }
+
+  /**
+   * Source whose content is served from a {@link SourceOverlay}. The source has the URI of the file
+   * on disk, so diagnostics and checker outputs refer to the original path.
+   */
+  private static class OverlaySource extends SimpleJavaFileObject {
+
+    private final String content;
+
+    private OverlaySource(Path path, String content) {
+      super(path.toUri(), JavaFileObject.Kind.SOURCE);
+      this.content = content;
+    }
+
+    @Override
+    public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+      return content;
+    }
+  }
+
+  /**
+   * File manager which serves the processor path from the class loader kept by the runner. The
+   * returned class loader is not closeable, therefore it is not closed by the compiler at the end
+   * of each compilation.
+   */
+  private class WarmProcessorPathFileManager
+      extends ForwardingJavaFileManager<StandardJavaFileManager> {
+
+    private WarmProcessorPathFileManager(StandardJavaFileManager fileManager) {
+      super(fileManager);
+    }
+
+    @Override
+    public ClassLoader getClassLoader(JavaFileManager.Location location) {
+      if (location == StandardLocation.ANNOTATION_PROCESSOR_PATH) {
+        return new ClassLoader(getProcessorClassLoader()) {};
+      }
+      return super.getClassLoader(location);
+    }
+
+    @Override
+    public void close() {
+      // The underlying file manager is kept across compilations.
+    }
+  }
+}
@@ -28,22 +28,32 @@ import edu.ucr.cs.riple.core.Context;
 import edu.ucr.cs.riple.core.evaluators.graph.ConflictGraph;
 import edu.ucr.cs.riple.core.evaluators.graph.Node;
 import edu.ucr.cs.riple.core.evaluators.suppliers.Supplier;
+import edu.ucr.cs.riple.core.module.WorkingCopyPool;
 import edu.ucr.cs.riple.core.registries.index.Error;
 import edu.ucr.cs.riple.core.registries.index.Fix;
+import edu.ucr.cs.riple.core.registries.index.Index;
 import edu.ucr.cs.riple.core.registries.index.Result;
 import edu.ucr.cs.riple.core.registries.region.Region;
 import edu.ucr.cs.riple.core.registries.region.RegionRegistry;
 import edu.ucr.cs.riple.core.util.Utility;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import me.tongfei.progressbar.ProgressBar;
 
 /**
  * Parallel processor which computes the impact of nodes in parallel. In this processor,
  * non-conflicting nodes are processed simultaneously. The conflict graph will be used to determine
- * the minimum number of non-conflicting groups using graph coloring techniques.
+ * the minimum number of non-conflicting groups using graph coloring techniques. If more than one
+ * parallel build worker is configured, groups are built concurrently on working copies of the
+ * target module.
  */
 public class ParallelConflictGraphProcessor extends AbstractConflictGraphProcessor {
 
@@ -53,16 +63,38 @@ public class ParallelConflictGraphProcessor extends AbstractConflictGraphProcess
    */
   private final RegionRegistry regionRegistry;
 
+  /**
+   * Pool of working copies to build non-conflicting groups concurrently, or {@code null} if groups
+   * are built sequentially on the original source tree.
+   */
+  @Nullable private final WorkingCopyPool workingCopyPool;
+
+  /**
+   * Planner computing the sources to recompile for each group, or {@code null} if incremental
+   * compilation is not activated.
+   */
+  @Nullable private final CompilationPlanner planner;
+
   public ParallelConflictGraphProcessor(Context context, CompilerRunner runner, Supplier supplier) {
     super(context, runner, supplier);
     this.regionRegistry = supplier.getModuleInfo().getRegionRegistry();
+    // Working copies mirror the target module only, builds of other modules use the runner.
+    this.workingCopyPool =
+        context.config.useWorkingCopies() && moduleInfo == context.targetModuleInfo
+            ? context.getWorkingCopyPool()
+            : null;
+    this.planner =
+        context.config.incrementalCompilation ? new CompilationPlanner(moduleInfo) : null;
   }
 
   @Override
   public void process(ConflictGraph graph) {
     graph.getNodes().forEach(node -> node.reCollectPotentiallyImpactedRegions(regionRegistry));
     // find non-conflicting groups.
-    graph.findGroups();
+    graph.findGroups(context.config.coloringStrategy);
+    if (context.config.coloringStatistics) {
+      context.log.updateGroupsPerColoringStrategy(graph.countGroupsPerStrategy());
+    }
     Collection<Set<Node>> nonConflictingGroups = graph.getGroups();
     System.out.println(
         "Scheduling for: "
@@ -71,31 +103,113 @@ public class ParallelConflictGraphProcessor extends AbstractConflictGraphProcess
             + graph.getNodes().count()
             + " fixes");
     ProgressBar pb = Utility.createProgressBar("Processing", nonConflictingGroups.size());
-    for (Set<Node> group : nonConflictingGroups) {
-      pb.step();
-      Set<Fix> fixes =
-          group.stream().flatMap(node -> node.tree.stream()).collect(Collectors.toSet());
-      injector.injectFixes(fixes);
-      compilerRunner.run();
-      errorStore.saveState();
-      group.forEach(
-          node -> {
-            int localEffect = 0;
-            Set<Error> triggeredErrors = new HashSet<>();
-            for (Region region : node.regions) {
-              Result errorComparisonResult = errorStore.compareByRegion(region);
-              localEffect += errorComparisonResult.size;
-              triggeredErrors.addAll(errorComparisonResult.dif);
-            }
-            node.updateStatus(
-                localEffect,
-                fixes,
-                getTriggeredFixesFromDownstreamErrors(node),
-                triggeredErrors,
-                moduleInfo);
-          });
-      injector.removeFixes(fixes);
+    if (workingCopyPool == null) {
+      for (Set<Node> group : nonConflictingGroups) {
+        pb.step();
+        Set<Fix> fixes = collectFixes(group);
+        Set<Region> regions = collectRegions(group);
+        injector.injectFixesTemporarily(fixes);
+        CompilationPlan plan = planner == null ? null : planner.plan(fixes, regions);
+        if (plan == null) {
+          compilerRunner.run();
+        } else {
+          compilerRunner.run(plan);
+        }
+        // Only regions of nodes in the group are compared, no need to re-index other regions.
+        errorStore.saveState(regions);
+        updateStatus(group, fixes, errorStore::compareByRegion);
+        injector.revertFixes(fixes);
+      }
+    } else {
+      processOnWorkingCopies(new ArrayList<>(nonConflictingGroups), workingCopyPool, pb);
     }
     pb.close();
   }
+
+  /**
+   * Builds the given groups concurrently on working copies of the target module. Results are
+   * merged into nodes in the order of the given groups, independent of the order of completion of
+   * the builds.
+   *
+   * @param groups Non-conflicting groups of nodes.
+   * @param pool Pool of working copies.
+   * @param pb Progress bar to update on each merged group.
+   */
+  private void processOnWorkingCopies(
+      List<Set<Node>> groups, WorkingCopyPool pool, ProgressBar pb) {
+    // Bring working copies up to date with fixes applied on the original source tree.
+    pool.synchronize();
+    List<Future<Index>> states =
+        pool.submitAll(
+            groups,
+            (copy, group) -> {
+              Set<Fix> fixes = collectFixes(group);
+              Set<Region> regions = collectRegions(group);
+              copy.injectFixes(fixes);
+              try {
+                copy.build(planner == null ? null : planner.plan(fixes, regions));
+                return errorStore.readState(copy, regions);
+              } finally {
+                copy.restore(fixes);
+              }
+            });
+    for (int i = 0; i < groups.size(); i++) {
+      Set<Node> group = groups.get(i);
+      Index state;
+      try {
+        state = states.get(i).get();
+      } catch (InterruptedException | ExecutionException e) {
+        throw new RuntimeException("Exception happened while building on a working copy", e);
+      }
+      pb.step();
+      updateStatus(group, collectFixes(group), region -> errorStore.compareByRegion(state, region));
+    }
+  }
+
+  /**
+   * Collects all fixes in the trees of the given nodes.
+   *
+   * @param group Group of nodes.
+   * @return Set of all fixes.
+   */
+  private static Set<Fix> collectFixes(Set<Node> group) {
+    return group.stream().flatMap(node -> node.tree.stream()).collect(Collectors.toSet());
+  }
+
+  /**
+   * Collects all potentially impacted regions of the given nodes.
+   *
+   * @param group Group of nodes.
+   * @return Set of all regions.
+   */
+  private static Set<Region> collectRegions(Set<Node> group) {
+    return group.stream().flatMap(node -> node.regions.stream()).collect(Collectors.toSet());
+  }
+
+  /**
+   * Updates the status of nodes in the given group with the result of a build where all given
+   * fixes are applied.
+   *
+   * @param group Group of nodes which are built together.
+   * @param fixes All fixes applied in the build.
+   * @param comparator Computes the difference of errors in a region after the build.
+   */
+  private void updateStatus(Set<Node> group, Set<Fix> fixes, Function<Region, Result> comparator) {
+    group.forEach(
+        node -> {
+          int localEffect = 0;
+          Set<Error> triggeredErrors = new HashSet<>();
+          for (Region region : node.regions) {
+            Result errorComparisonResult = comparator.apply(region);
+            localEffect += errorComparisonResult.size;
+            triggeredErrors.addAll(errorComparisonResult.dif);
+          }
+          node.updateStatus(
+              localEffect,
+              fixes,
+              getTriggeredFixesFromDownstreamErrors(node),
+              triggeredErrors,
+              moduleInfo);
+        });
+  }
 }
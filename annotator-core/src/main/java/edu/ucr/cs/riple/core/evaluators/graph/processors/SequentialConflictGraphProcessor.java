@@ -52,7 +52,7 @@ public class SequentialConflictGraphProcessor extends AbstractConflictGraphProce
             node -> {
               pb.step();
               Set<Fix> fixes = node.tree;
-              injector.injectFixes(fixes);
+              injector.injectFixesTemporarily(fixes);
               compilerRunner.run();
               errorStore.saveState();
               Result errorComparisonResult = errorStore.compare();
@@ -63,7 +63,7 @@ public class SequentialConflictGraphProcessor extends AbstractConflictGraphProce
                   getTriggeredFixesFromDownstreamErrors(node),
                   errorComparisonResult.dif,
                   moduleInfo);
-              injector.removeFixes(fixes);
+              injector.revertFixes(fixes);
             });
     pb.close();
   }
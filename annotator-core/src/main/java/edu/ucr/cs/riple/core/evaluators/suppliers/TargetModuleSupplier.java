@@ -27,11 +27,13 @@ package edu.ucr.cs.riple.core.evaluators.suppliers;
 import edu.ucr.cs.riple.core.Context;
 import edu.ucr.cs.riple.core.cache.TargetModuleCache;
 import edu.ucr.cs.riple.core.cache.downstream.DownstreamImpactCache;
+import edu.ucr.cs.riple.core.evaluators.graph.processors.CompilationPlan;
 import edu.ucr.cs.riple.core.evaluators.graph.processors.CompilerRunner;
 import edu.ucr.cs.riple.core.evaluators.graph.processors.ConflictGraphProcessor;
 import edu.ucr.cs.riple.core.evaluators.graph.processors.ParallelConflictGraphProcessor;
 import edu.ucr.cs.riple.core.evaluators.graph.processors.SequentialConflictGraphProcessor;
 import edu.ucr.cs.riple.core.injectors.AnnotationInjector;
+import edu.ucr.cs.riple.core.injectors.HybridInjector;
 import edu.ucr.cs.riple.core.injectors.PhysicalInjector;
 import edu.ucr.cs.riple.core.module.ModuleInfo;
 import edu.ucr.cs.riple.core.util.Utility;
@@ -68,6 +70,9 @@ public class TargetModuleSupplier extends AbstractSupplier {
 
   @Override
   protected AnnotationInjector initializeInjector() {
+    if (context.config.virtualInjection) {
+      return new HybridInjector(context);
+    }
     return new PhysicalInjector(context);
   }
 
@@ -83,7 +88,18 @@ public class TargetModuleSupplier extends AbstractSupplier {
 
   @Override
   public ConflictGraphProcessor getGraphProcessor() {
-    CompilerRunner runner = () -> Utility.buildTarget(context);
+    CompilerRunner runner =
+        new CompilerRunner() {
+          @Override
+          public void run() {
+            Utility.buildTarget(context);
+          }
+
+          @Override
+          public void run(CompilationPlan plan) {
+            Utility.buildTarget(context, plan);
+          }
+        };
     if (context.config.useParallelGraphProcessor) {
       return new ParallelConflictGraphProcessor(context, runner, this);
     }
@@ -69,6 +69,27 @@ public abstract class AnnotationInjector {
         fixes.stream().flatMap(fix -> fix.changes.stream()).collect(Collectors.toSet()));
   }
 
+  /**
+   * Applies fixes to the source code temporarily, the applied fixes must be reverted with {@link
+   * #revertFixes(Set)} before any other fix is applied. Used to evaluate the effect of fixes on
+   * the source code.
+   *
+   * @param fixes Set of fixes to apply.
+   */
+  public void injectFixesTemporarily(Set<Fix> fixes) {
+    injectFixes(fixes);
+  }
+
+  /**
+   * Reverts fixes applied by {@link #injectFixesTemporarily(Set)}, restoring the source code to
+   * its state before the fixes were applied.
+   *
+   * @param fixes Set of fixes to revert.
+   */
+  public void revertFixes(Set<Fix> fixes) {
+    removeFixes(fixes);
+  }
+
   /**
    * Removes annotation from the source code.
    *
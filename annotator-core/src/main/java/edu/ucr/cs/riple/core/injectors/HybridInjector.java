@@ -0,0 +1,141 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.injectors;
+
+import edu.ucr.cs.riple.core.Context;
+import edu.ucr.cs.riple.core.registries.index.Fix;
+import edu.ucr.cs.riple.injector.changes.ASTChange;
+import edu.ucr.cs.riple.injector.changes.AddAnnotation;
+import edu.ucr.cs.riple.injector.changes.AddMarkerAnnotation;
+import edu.ucr.cs.riple.injector.changes.AnnotationChange;
+import edu.ucr.cs.riple.injector.changes.RemoveAnnotation;
+import edu.ucr.cs.riple.injector.changes.RemoveMarkerAnnotation;
+import edu.ucr.cs.riple.injector.location.Location;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Injector used to evaluate fixes on the target module with as few source changes as possible.
+ * {@code @Nullable} marker annotations on method returns are injected virtually with {@link
+ * VirtualInjector}, so NullAway considers the annotated methods nullable through library models and
+ * the source code is not parsed or modified for them. All other annotations are injected with
+ * {@link PhysicalInjector}. Library models of fields and parameters are not consulted by NullAway
+ * the same way as annotations, e.g. in initialization checks of fields or in the dataflow of the
+ * method body for parameters, therefore annotations on fields and parameters are always injected
+ * physically.
+ *
+ * <p>Library models are rewritten on each injection, therefore fixes must be reverted before the
+ * next group of fixes is injected.
+ */
+public class HybridInjector extends AnnotationInjector {
+
+  /** Injector writing library models of virtually injected annotations. */
+  private final VirtualInjector virtualInjector;
+
+  /** Injector applying the annotations which cannot be injected virtually. */
+  private final PhysicalInjector physicalInjector;
+
+  /** Fully qualified name of the nullable annotation, the only annotation injected virtually. */
+  private final String nullableAnnotation;
+
+  public HybridInjector(Context context) {
+    super(context);
+    this.virtualInjector = new VirtualInjector(context);
+    this.physicalInjector = new PhysicalInjector(context);
+    this.nullableAnnotation = context.config.nullableAnnot;
+  }
+
+  @Override
+  public void injectFixesTemporarily(Set<Fix> fixes) {
+    if (fixes == null || fixes.size() == 0) {
+      return;
+    }
+    Map<Boolean, Set<AddAnnotation>> changes = partition(changesOf(fixes));
+    virtualInjector.injectAnnotations(changes.get(true));
+    physicalInjector.injectAnnotationsTemporarily(changes.get(false));
+  }
+
+  @Override
+  public void revertFixes(Set<Fix> fixes) {
+    // Library models are cleared entirely on removal.
+    virtualInjector.removeFixes(fixes);
+    if (!physicalInjector.revertTemporaryChanges()) {
+      physicalInjector.removeAnnotations(
+          partition(changesOf(fixes)).get(false).stream()
+              .map(AddAnnotation::getReverse)
+              .collect(Collectors.toSet()));
+    }
+  }
+
+  @Override
+  public void removeAnnotations(Set<RemoveAnnotation> changes) {
+    Map<Boolean, Set<RemoveAnnotation>> partitioned =
+        changes.stream()
+            .collect(Collectors.partitioningBy(this::canBeInjectedVirtually, Collectors.toSet()));
+    virtualInjector.removeAnnotations(partitioned.get(true));
+    physicalInjector.removeAnnotations(partitioned.get(false));
+  }
+
+  @Override
+  public void injectAnnotations(Set<AddAnnotation> changes) {
+    Map<Boolean, Set<AddAnnotation>> partitioned = partition(changes);
+    virtualInjector.injectAnnotations(partitioned.get(true));
+    physicalInjector.injectAnnotations(partitioned.get(false));
+  }
+
+  /**
+   * Checks if the given change can be injected virtually. Only {@code @Nullable} marker
+   * annotations on methods are reported identically when expressed by library models.
+   *
+   * @param change Annotation change.
+   * @return true, if the change can be injected virtually.
+   */
+  private boolean canBeInjectedVirtually(ASTChange change) {
+    if (!(change instanceof AddMarkerAnnotation || change instanceof RemoveMarkerAnnotation)) {
+      return false;
+    }
+    AnnotationChange annotationChange = (AnnotationChange) change;
+    Location location = annotationChange.location;
+    return annotationChange.annotationName.fullName.equals(nullableAnnotation)
+        && location.isOnMethod();
+  }
+
+  /**
+   * Partitions the given annotations by whether they can be injected virtually.
+   *
+   * @param changes Annotations to partition.
+   * @return Annotations which can be injected virtually mapped to {@code true} and the rest mapped
+   *     to {@code false}.
+   */
+  private Map<Boolean, Set<AddAnnotation>> partition(Set<AddAnnotation> changes) {
+    return changes.stream()
+        .collect(Collectors.partitioningBy(this::canBeInjectedVirtually, Collectors.toSet()));
+  }
+
+  private static Set<AddAnnotation> changesOf(Set<Fix> fixes) {
+    return fixes.stream().flatMap(fix -> fix.changes.stream()).collect(Collectors.toSet());
+  }
+}
@@ -25,16 +25,54 @@
 package edu.ucr.cs.riple.core.injectors;
 
 import edu.ucr.cs.riple.core.Context;
+import edu.ucr.cs.riple.core.registries.index.Fix;
+import edu.ucr.cs.riple.injector.CompilationUnitCache;
 import edu.ucr.cs.riple.injector.Injector;
+import edu.ucr.cs.riple.injector.SourceOverlay;
 import edu.ucr.cs.riple.injector.changes.AddAnnotation;
 import edu.ucr.cs.riple.injector.changes.RemoveAnnotation;
 import edu.ucr.cs.riple.injector.offsets.FileOffsetStore;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 
 /** Wrapper tool used to inject annotations Physically to the source code. */
 public class PhysicalInjector extends AnnotationInjector {
   private final Injector injector;
 
+  /** Handler which keeps record of the offset changes made by this injector. */
+  private final Context.OffsetHandler offsetHandler;
+
+  /** Resolver from the path of a fix location to the path of the file to be modified. */
+  private final UnaryOperator<Path> pathResolver;
+
+  /**
+   * Original content of each file modified by fixes applied temporarily, keyed by the resolved
+   * path of the file. Files are restored to these contents once the fixes are reverted.
+   */
+  private final Map<Path, byte[]> undoLog;
+
+  /**
+   * Overlay where fixes applied temporarily are stored instead of modifying the source files,
+   * {@code null} if such fixes are applied on disk.
+   */
+  @Nullable private final SourceOverlay overlay;
+
+  /** Injector applying changes on the overlay, {@code null} if no overlay is used. */
+  @Nullable private final Injector overlayInjector;
+
+  /** Whether any annotation is applied temporarily since the last revert. */
+  private boolean hasTemporaryChanges;
+
   /**
    * Creates a new PhysicalInjector instance.
    *
@@ -44,18 +82,173 @@ public class PhysicalInjector extends AnnotationInjector {
    */
   public PhysicalInjector(Context context) {
     super(context);
-    this.injector = new Injector(context.config.languageLevel);
+    CompilationUnitCache cache = new CompilationUnitCache(context.config.parseCacheSize);
+    this.injector =
+        new Injector(
+            context.config.languageLevel,
+            UnaryOperator.identity(),
+            context.getInjectorExecutor(),
+            cache);
+    this.offsetHandler = context.offsetHandler;
+    this.pathResolver = UnaryOperator.identity();
+    this.undoLog = new HashMap<>();
+    this.overlay = context.sourceOverlay;
+    this.overlayInjector =
+        overlay == null
+            ? null
+            : new Injector(
+                context.config.languageLevel,
+                UnaryOperator.identity(),
+                context.getInjectorExecutor(),
+                cache,
+                overlay);
+  }
+
+  /**
+   * Creates a new PhysicalInjector instance which applies changes on the files resolved by the
+   * given resolver and records the offset changes in the given handler. Used to inject annotations
+   * on a copy of the source tree without modifying the original source files.
+   *
+   * @param context Annotator context.
+   * @param offsetHandler Handler to keep record of the changes made to the resolved files.
+   * @param pathResolver Resolver from the path of a fix location to the path of the file to be
+   *     modified.
+   */
+  public PhysicalInjector(
+      Context context, Context.OffsetHandler offsetHandler, UnaryOperator<Path> pathResolver) {
+    super(context);
+    this.injector =
+        new Injector(
+            context.config.languageLevel,
+            pathResolver,
+            context.getInjectorExecutor(),
+            new CompilationUnitCache(context.config.parseCacheSize));
+    this.offsetHandler = offsetHandler;
+    this.pathResolver = pathResolver;
+    this.undoLog = new HashMap<>();
+    this.overlay = null;
+    this.overlayInjector = null;
+  }
+
+  /**
+   * Applies fixes temporarily. The original content of each file modified by the fixes is recorded
+   * before the fixes are applied and the offset changes are recorded in a session of the offset
+   * handler, so that {@link #revertFixes(Set)} can restore both without parsing any file. If a
+   * source overlay is configured, fixes are applied on the overlay and no file is modified.
+   *
+   * @param fixes Set of fixes to apply.
+   */
+  @Override
+  public void injectFixesTemporarily(Set<Fix> fixes) {
+    if (fixes == null || fixes.size() == 0) {
+      return;
+    }
+    injectAnnotationsTemporarily(
+        fixes.stream().flatMap(fix -> fix.changes.stream()).collect(Collectors.toSet()));
+  }
+
+  /**
+   * Applies annotations temporarily, see {@link #injectFixesTemporarily(Set)}. The applied
+   * annotations must be reverted with {@link #revertTemporaryChanges()}.
+   *
+   * @param changes Set of annotations to inject.
+   */
+  public void injectAnnotationsTemporarily(Set<AddAnnotation> changes) {
+    if (changes.isEmpty()) {
+      return;
+    }
+    hasTemporaryChanges = true;
+    context.invalidateTargetOutputs();
+    offsetHandler.beginSession();
+    if (overlayInjector != null) {
+      offsetHandler.updateStateWithRecentChanges(overlayInjector.addAnnotations(changes));
+      return;
+    }
+    changes.stream()
+        .map(change -> change.getLocation().path)
+        .filter(Objects::nonNull)
+        .map(pathResolver)
+        .distinct()
+        .filter(path -> !undoLog.containsKey(path))
+        .forEach(this::recordOriginalContent);
+    injectAnnotations(changes);
+  }
+
+  /**
+   * Reverts all fixes applied by {@link #injectFixesTemporarily(Set)} since the last revert. Falls
+   * back to removing the given fixes if no fix is applied temporarily.
+   *
+   * @param fixes Set of fixes to revert.
+   */
+  @Override
+  public void revertFixes(Set<Fix> fixes) {
+    if (!revertTemporaryChanges()) {
+      super.revertFixes(fixes);
+    }
+  }
+
+  /**
+   * Reverts all annotations applied temporarily since the last revert by writing back the recorded
+   * original content of the modified files, or by discarding the contents of the source overlay.
+   * Offset changes recorded since then are discarded, leaving the offset handler in its state
+   * before the annotations were applied.
+   *
+   * @return true, if any annotation was applied temporarily since the last revert.
+   */
+  public boolean revertTemporaryChanges() {
+    if (!hasTemporaryChanges) {
+      return false;
+    }
+    context.invalidateTargetOutputs();
+    if (overlay != null) {
+      overlay.clear();
+    }
+    undoLog.forEach(
+        (path, content) -> {
+          try {
+            Files.write(path, content);
+          } catch (IOException e) {
+            throw new UncheckedIOException("Could not restore content of: " + path, e);
+          }
+          injector.fileRestored(path);
+        });
+    undoLog.clear();
+    offsetHandler.endSession();
+    hasTemporaryChanges = false;
+    return true;
+  }
+
+  /**
+   * Records the content of the file at the given path in the undo log. Files which do not exist
+   * are skipped, as no change can be applied to them.
+   *
+   * @param path Path to the file.
+   */
+  private void recordOriginalContent(Path path) {
+    try {
+      undoLog.put(path, Files.readAllBytes(path));
+    } catch (NoSuchFileException e) {
+      // Injector skips changes on files which do not exist.
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not read content of: " + path, e);
+    }
   }
 
   @Override
   public void removeAnnotations(Set<RemoveAnnotation> changes) {
+    if (!changes.isEmpty()) {
+      context.invalidateTargetOutputs();
+    }
     Set<FileOffsetStore> offsetStores = injector.removeAnnotations(changes);
-    context.offsetHandler.updateStateWithRecentChanges(offsetStores);
+    offsetHandler.updateStateWithRecentChanges(offsetStores);
   }
 
   @Override
   public void injectAnnotations(Set<AddAnnotation> changes) {
+    if (!changes.isEmpty()) {
+      context.invalidateTargetOutputs();
+    }
     Set<FileOffsetStore> offsetStores = injector.addAnnotations(changes);
-    context.offsetHandler.updateStateWithRecentChanges(offsetStores);
+    offsetHandler.updateStateWithRecentChanges(offsetStores);
   }
 }
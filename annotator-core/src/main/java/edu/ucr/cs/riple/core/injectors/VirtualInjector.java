@@ -61,11 +61,18 @@ public class VirtualInjector extends AnnotationInjector {
   /** Name of the resource file in library model loader which contains list of nullable fields. */
   public static final String NULLABLE_FIELD_LIST_FILE_NAME = "nullable-fields.tsv";
 
+  /**
+   * Whether library models can be written, requires either downstream dependencies analysis or
+   * virtual injection to be activated.
+   */
+  private final boolean activated;
+
   public VirtualInjector(Context context) {
     super(context);
     this.config = context.config;
     this.libraryModelResourcesDirectoryPath = config.nullawayLibraryModelLoaderPath;
-    if (config.downStreamDependenciesAnalysisActivated) {
+    this.activated = config.downStreamDependenciesAnalysisActivated || config.virtualInjection;
+    if (activated) {
       try {
         // make the directories for resources
         Files.createDirectories(libraryModelResourcesDirectoryPath);
@@ -75,7 +82,7 @@ public class VirtualInjector extends AnnotationInjector {
       }
       Preconditions.checkNotNull(
           libraryModelResourcesDirectoryPath,
-          "NullawayLibraryModelLoaderPath cannot be null while downstream dependencies analysis is activated.");
+          "NullawayLibraryModelLoaderPath cannot be null while downstream dependencies analysis or virtual injection is activated.");
       clear();
     }
   }
@@ -87,10 +94,11 @@ public class VirtualInjector extends AnnotationInjector {
 
   @Override
   public void injectAnnotations(Set<AddAnnotation> changes) {
-    if (!config.downStreamDependenciesAnalysisActivated) {
+    if (!activated) {
       throw new IllegalStateException(
-          "Downstream dependencies analysis not activated, cannot inject annotations virtually!");
+          "Neither downstream dependencies analysis nor virtual injection is activated, cannot inject annotations virtually!");
     }
+    context.invalidateTargetOutputs();
     // write methods
     writeAnnotationsToFile(
         changes.stream().filter(addAnnotation -> addAnnotation.getLocation().isOnMethod()),
@@ -147,10 +155,17 @@ public class VirtualInjector extends AnnotationInjector {
   /** Removes any existing entry from library models. */
   private void clear() {
     try {
-      Files.deleteIfExists(
-          libraryModelResourcesDirectoryPath.resolve(NULLABLE_FIELD_LIST_FILE_NAME));
-      Files.deleteIfExists(
-          libraryModelResourcesDirectoryPath.resolve(NULLABLE_METHOD_LIST_FILE_NAME));
+      boolean deleted =
+          Files.deleteIfExists(
+              libraryModelResourcesDirectoryPath.resolve(NULLABLE_FIELD_LIST_FILE_NAME));
+      deleted |=
+          Files.deleteIfExists(
+              libraryModelResourcesDirectoryPath.resolve(NULLABLE_METHOD_LIST_FILE_NAME));
+      if (deleted) {
+        // Library models are read by builds of the target module as well, including models left
+        // by a previous run during the startup build.
+        context.invalidateTargetOutputs();
+      }
     } catch (IOException e) {
       throw new RuntimeException(
           "Error happened for deleting file: " + libraryModelResourcesDirectoryPath, e);
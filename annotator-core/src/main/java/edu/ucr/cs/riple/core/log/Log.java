@@ -24,10 +24,14 @@
 
 package edu.ucr.cs.riple.core.log;
 
+import edu.ucr.cs.riple.core.evaluators.graph.ColoringStrategy;
 import edu.ucr.cs.riple.core.evaluators.graph.ConflictGraph;
 import edu.ucr.cs.riple.injector.changes.AddAnnotation;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /** Log information for Annotator. */
@@ -45,6 +49,25 @@ public class Log {
   /** Total time spent in building targets. */
   private long buildTime = 0;
 
+  /** Duration of each build attempt in milliseconds, used to report latency percentiles. */
+  private final List<Long> buildLatencies = new ArrayList<>();
+
+  /** Number of failed build attempts which were retried. */
+  private long buildRetries;
+
+  /** Number of impacts retrieved from the persistent impact cache. */
+  private long impactCacheHits;
+
+  /** Number of impacts looked up and not found in the persistent impact cache. */
+  private long impactCacheMisses;
+
+  /**
+   * Sum of number of groups each {@link ColoringStrategy} would produce for each colored {@link
+   * ConflictGraph}. Each group is evaluated in a single build.
+   */
+  private final Map<ColoringStrategy, Long> groupsPerColoringStrategy =
+      new EnumMap<>(ColoringStrategy.class);
+
   /**
    * Set of approved and injected annotations. These annotations are evaluated and approved and will
    * not get removed from the source code.
@@ -61,6 +84,11 @@ public class Log {
     this.requested = 0;
     this.totalTime = 0;
     this.buildTime = 0;
+    this.buildLatencies.clear();
+    this.buildRetries = 0;
+    this.impactCacheHits = 0;
+    this.impactCacheMisses = 0;
+    this.groupsPerColoringStrategy.clear();
     this.injectedAnnotations.clear();
   }
 
@@ -73,7 +101,68 @@ public class Log {
         + "\nTotal time="
         + totalTime
         + "\nTotal time spent on builds="
-        + buildTime;
+        + buildTime
+        + "\nBuild latency percentiles (ms): "
+        + buildLatenciesToString()
+        + "\nTotal number of retried builds="
+        + buildRetries
+        + "\nImpact cache hits="
+        + impactCacheHits
+        + ", misses="
+        + impactCacheMisses
+        + (groupsPerColoringStrategy.isEmpty()
+            ? ""
+            : "\nBuilds per coloring strategy (saved compared to first_fit): "
+                + coloringStrategiesToString());
+  }
+
+  /**
+   * Returns the 50th, 90th and 99th percentiles and the maximum of build latencies using the
+   * nearest-rank method.
+   *
+   * @return String representation of the build latency percentiles.
+   */
+  private String buildLatenciesToString() {
+    if (buildLatencies.isEmpty()) {
+      return "none";
+    }
+    List<Long> sorted = new ArrayList<>(buildLatencies);
+    Collections.sort(sorted);
+    return String.format(
+        "p50=%d, p90=%d, p99=%d, max=%d",
+        percentile(sorted, 50),
+        percentile(sorted, 90),
+        percentile(sorted, 99),
+        sorted.get(sorted.size() - 1));
+  }
+
+  /**
+   * Returns the given percentile of the sorted values using the nearest-rank method.
+   *
+   * @param sorted Values sorted in ascending order, must not be empty.
+   * @param percentile Percentile in range (0, 100].
+   * @return The value at the given percentile.
+   */
+  private static long percentile(List<Long> sorted, int percentile) {
+    int rank = (int) Math.ceil(percentile / 100.0 * sorted.size());
+    return sorted.get(Math.max(rank, 1) - 1);
+  }
+
+  /**
+   * Returns the number of builds scheduled by each coloring strategy and the number of builds saved
+   * compared to {@link ColoringStrategy#FIRST_FIT}.
+   *
+   * @return String representation of the coloring statistics.
+   */
+  private String coloringStrategiesToString() {
+    long firstFit = groupsPerColoringStrategy.getOrDefault(ColoringStrategy.FIRST_FIT, 0L);
+    List<String> entries = new ArrayList<>();
+    groupsPerColoringStrategy.forEach(
+        (strategy, builds) ->
+            entries.add(
+                String.format(
+                    "%s=%d (saved %d)", strategy.name().toLowerCase(), builds, firstFit - builds)));
+    return String.join(", ", entries);
   }
 
   /**
@@ -101,15 +190,44 @@ public class Log {
    *
    * @param timer The return result of calling {@link Log#startTimer()}.
    */
-  public void stopTimerAndCaptureBuildTime(long timer) {
-    this.buildTime += System.currentTimeMillis() - timer;
+  public synchronized void stopTimerAndCaptureBuildTime(long timer) {
+    long latency = System.currentTimeMillis() - timer;
+    this.buildTime += latency;
+    this.buildLatencies.add(latency);
   }
 
   /** Increments the number of build requests. */
-  public void incrementBuildRequest() {
+  public synchronized void incrementBuildRequest() {
     this.requested += 1;
   }
 
+  /** Increments the number of failed builds which were retried. */
+  public synchronized void incrementBuildRetry() {
+    this.buildRetries += 1;
+  }
+
+  /** Increments the number of impacts retrieved from the persistent impact cache. */
+  public synchronized void incrementImpactCacheHit() {
+    this.impactCacheHits += 1;
+  }
+
+  /** Increments the number of impacts not found in the persistent impact cache. */
+  public synchronized void incrementImpactCacheMiss() {
+    this.impactCacheMisses += 1;
+  }
+
+  /**
+   * Adds the number of groups produced by each coloring strategy for a colored {@link
+   * ConflictGraph}.
+   *
+   * @param groups Number of groups per strategy, see {@link
+   *     ConflictGraph#countGroupsPerStrategy()}.
+   */
+  public synchronized void updateGroupsPerColoringStrategy(Map<ColoringStrategy, Integer> groups) {
+    groups.forEach(
+        (strategy, count) -> groupsPerColoringStrategy.merge(strategy, (long) count, Long::sum));
+  }
+
   /**
    * Adds the passed parameter to the number of {@link Log#nodes}.
    *
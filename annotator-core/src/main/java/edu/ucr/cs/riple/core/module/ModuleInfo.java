@@ -27,6 +27,7 @@ package edu.ucr.cs.riple.core.module;
 import com.google.common.collect.ImmutableSet;
 import edu.ucr.cs.riple.core.Context;
 import edu.ucr.cs.riple.core.registries.field.FieldRegistry;
+import edu.ucr.cs.riple.core.registries.Registry;
 import edu.ucr.cs.riple.core.registries.index.Fix;
 import edu.ucr.cs.riple.core.registries.index.NonnullStore;
 import edu.ucr.cs.riple.core.registries.method.MethodRegistry;
@@ -40,6 +41,8 @@ import edu.ucr.cs.riple.injector.location.OnClass;
 import edu.ucr.cs.riple.scanner.Serializer;
 import edu.ucr.cs.riple.scanner.generatedcode.SourceType;
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /** This class is used to store the code structural information about the module. */
 public class ModuleInfo {
@@ -93,13 +96,25 @@ public class ModuleInfo {
     this.context = context;
     this.configurations = configurations;
     // Build with scanner checker activated to generate required files to create the moduleInfo.
+    // Checker configurations are prepared first, so the same build also produces the checker
+    // outputs, which are reused until the source code changes.
     context.checker.prepareConfigFilesForBuild(configurations);
     Utility.runScannerChecker(context, configurations, buildCommand);
     checkScannerConfiguration();
-    this.nonnullStore = new NonnullStore(configurations, context);
-    this.fieldRegistry = new FieldRegistry(configurations, context);
-    this.methodRegistry = new MethodRegistry(context);
-    this.regionRegistry = new CompoundRegionRegistry(this, context);
+    // Registries are independent of each other and are loaded concurrently.
+    Executor executor = context.getRegistryLoaderExecutor();
+    CompletableFuture<NonnullStore> nonnullStoreLoad =
+        CompletableFuture.supplyAsync(() -> new NonnullStore(configurations, context), executor);
+    CompletableFuture<FieldRegistry> fieldRegistryLoad =
+        CompletableFuture.supplyAsync(() -> new FieldRegistry(configurations, context), executor);
+    CompletableFuture<MethodRegistry> methodRegistryLoad =
+        CompletableFuture.supplyAsync(() -> new MethodRegistry(context), executor);
+    CompletableFuture<CompoundRegionRegistry> regionRegistryLoad =
+        CompletableFuture.supplyAsync(() -> new CompoundRegionRegistry(this, context), executor);
+    this.nonnullStore = Registry.join(nonnullStoreLoad);
+    this.fieldRegistry = Registry.join(fieldRegistryLoad);
+    this.methodRegistry = Registry.join(methodRegistryLoad);
+    this.regionRegistry = Registry.join(regionRegistryLoad);
     ImmutableSet.Builder<AnnotationProcessorHandler> builder = new ImmutableSet.Builder<>();
     if (context.config.generatedCodeDetectors.contains(SourceType.LOMBOK)) {
       builder.add(new LombokHandler(this));
@@ -232,7 +247,9 @@ public class ModuleInfo {
       }
       // check for existence of one of the serialized files from Scanner. In this case we chose
       // NON_NULL_ELEMENTS_FILE_NAME but any other file would work.
-      Path pathToNonnull = config.dir.resolve(Serializer.NON_NULL_ELEMENTS_FILE_NAME);
+      Path pathToNonnull =
+          context.config.serializationFormat.pathOf(
+              config.dir.resolve(Serializer.NON_NULL_ELEMENTS_FILE_NAME));
       if (!pathToNonnull.toFile().exists()) {
         String moduleName = config.id == 0 ? "target" : "dependency " + config.id;
         throw new IllegalArgumentException(
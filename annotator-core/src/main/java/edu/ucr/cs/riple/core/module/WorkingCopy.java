@@ -0,0 +1,456 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.module;
+
+import com.google.common.collect.ImmutableSet;
+import edu.ucr.cs.riple.core.Context;
+import edu.ucr.cs.riple.core.evaluators.graph.processors.CompilationPlan;
+import edu.ucr.cs.riple.core.evaluators.graph.processors.InProcessCompilerRunner;
+import edu.ucr.cs.riple.core.injectors.PhysicalInjector;
+import edu.ucr.cs.riple.core.registries.index.Fix;
+import edu.ucr.cs.riple.core.util.Utility;
+import java.io.IOException;
+import java.nio.file.FileSystemException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
+
+/**
+ * A copy of the target project source tree, where fixes can be injected and built without
+ * modifying the original source files. Each working copy has its own checker output directory,
+ * injector and offset handler, therefore builds on distinct working copies can run concurrently.
+ *
+ * <p>Java source files are mirrored as hard links to the original files where the file system
+ * supports it, so synchronizing a large tree does not copy its content. A linked file shares its
+ * content with the original file, hence it is replaced by a private copy before fixes are injected
+ * on it. Other files, e.g. build scripts and build outputs which builds may overwrite in place, are
+ * always copied.
+ */
+public class WorkingCopy {
+
+  /**
+   * Names of build output directories, Java sources under these directories may be generated and
+   * overwritten in place by builds, hence are copied instead of linked.
+   */
+  private static final ImmutableSet<String> BUILD_OUTPUT_DIRECTORIES =
+      ImmutableSet.of("build", "target");
+
+  /** Annotator context. */
+  private final Context context;
+
+  /** Root of the original source tree. */
+  private final Path sourceRoot;
+
+  /** Root of the copied source tree. */
+  private final Path root;
+
+  /** Directory containing all files of this working copy. */
+  private final Path dir;
+
+  /** Configurations of the target module, relocated to this working copy. */
+  private final ImmutableSet<ModuleConfiguration> configurations;
+
+  /** Command to build the target module for evaluation builds on this working copy. */
+  private final String buildCommand;
+
+  /**
+   * Runner to compile the target module on this working copy inside the Annotator JVM, {@code
+   * null} if the build command is used.
+   */
+  @Nullable private final InProcessCompilerRunner compilerRunner;
+
+  /** Replacements applied to paths in the build command and compiler arguments, in order. */
+  private final Map<String, String> replacements;
+
+  /** Handler for offset changes made on the files of this working copy. */
+  private final Context.OffsetHandler offsetHandler;
+
+  /** Injector to inject fixes on the files of this working copy. */
+  private final PhysicalInjector injector;
+
+  /**
+   * Size and last modified time of original files at the time they were last copied to this
+   * working copy.
+   */
+  private final Map<Path, FileStamp> stamps;
+
+  /**
+   * Whether source files are mirrored as hard links, cleared once the file system fails to create
+   * a link, e.g. when the working copy is on a different file system than the original tree.
+   */
+  private boolean linkSources;
+
+  /**
+   * Creates a working copy of the target project.
+   *
+   * @param context Annotator context.
+   * @param sourceRoot Root of the original source tree.
+   * @param dir Directory where all files of this working copy will be stored.
+   */
+  public WorkingCopy(Context context, Path sourceRoot, Path dir) {
+    this.context = context;
+    this.sourceRoot = sourceRoot.toAbsolutePath().normalize();
+    this.dir = dir.toAbsolutePath().normalize();
+    this.root = this.dir.resolve("src");
+    this.offsetHandler = new Context.OffsetHandler();
+    this.injector = new PhysicalInjector(context, offsetHandler, this::toCopyPath);
+    this.stamps = new HashMap<>();
+    this.linkSources = true;
+    this.replacements = new LinkedHashMap<>();
+    ImmutableSet.Builder<ModuleConfiguration> builder = ImmutableSet.builder();
+    for (ModuleConfiguration configuration : context.targetModuleInfo.getModuleConfigurations()) {
+      Path checkerConfig = relocateConfigPath(configuration.id, configuration.checkerConfig);
+      Path scannerConfig = relocateConfigPath(configuration.id, configuration.scannerConfig);
+      builder.add(
+          new ModuleConfiguration(
+              configuration.id, this.dir.resolve("out"), checkerConfig, scannerConfig));
+      // Paths under the source root are rewritten below with the root itself.
+      if (!configuration.checkerConfig.startsWith(this.sourceRoot)) {
+        replacements.put(configuration.checkerConfig.toString(), checkerConfig.toString());
+      }
+      if (!configuration.scannerConfig.startsWith(this.sourceRoot)) {
+        replacements.put(configuration.scannerConfig.toString(), scannerConfig.toString());
+      }
+    }
+    replacements.put(this.sourceRoot.toString(), root.toString());
+    this.configurations = builder.build();
+    this.buildCommand = relocate(context.config.getEvaluationBuildCommand());
+    InProcessCompilerRunner runner = context.getInProcessCompilerRunner();
+    if (runner != null) {
+      runner = runner.relocate(this::relocate);
+      // Outputs out of the source tree would be shared by all working copies.
+      for (String option : List.of("-d", "-s")) {
+        String output = runner.getOptionValue(option);
+        if (output != null && !Paths.get(output).toAbsolutePath().normalize().startsWith(root)) {
+          runner = runner.withOptionValue(option, this.dir.resolve(option.substring(1)).toString());
+        }
+      }
+    }
+    this.compilerRunner = runner;
+  }
+
+  /**
+   * Mirrors all files of the original source tree which are changed since the last synchronization
+   * to this working copy, and deletes the files which are deleted from the original source tree
+   * since then. Scanner config files are also copied, so the builds on this working copy use the
+   * same scanner configuration as the original.
+   */
+  public void synchronize() {
+    Set<Path> visited = new HashSet<>();
+    try {
+      Files.walkFileTree(
+          sourceRoot,
+          new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path path, BasicFileAttributes attrs) {
+              if (path.endsWith(".git")
+                  || path.startsWith(context.config.globalDir.toAbsolutePath().normalize())) {
+                return FileVisitResult.SKIP_SUBTREE;
+              }
+              return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path path, BasicFileAttributes attrs)
+                throws IOException {
+              visited.add(path);
+              FileStamp stamp = new FileStamp(attrs.size(), attrs.lastModifiedTime());
+              if (!stamp.equals(stamps.get(path))) {
+                mirror(path, attrs);
+                stamps.put(path, stamp);
+              }
+              return FileVisitResult.CONTINUE;
+            }
+          });
+      for (Path path : new ArrayList<>(stamps.keySet())) {
+        if (!visited.contains(path)) {
+          Files.deleteIfExists(toCopyPath(path));
+          stamps.remove(path);
+        }
+      }
+      for (ModuleConfiguration configuration : context.targetModuleInfo.getModuleConfigurations()) {
+        if (Files.exists(configuration.scannerConfig)) {
+          Path target = relocateConfigPath(configuration.id, configuration.scannerConfig);
+          Files.createDirectories(target.getParent());
+          Files.copy(configuration.scannerConfig, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+      }
+    } catch (IOException e) {
+      throw new RuntimeException("Could not synchronize working copy at: " + dir, e);
+    }
+  }
+
+  /**
+   * Mirrors the given original file to this working copy, as a hard link if the file is a Java
+   * source file and links are supported, otherwise as a copy.
+   *
+   * @param path Path to the original file.
+   * @param attrs Attributes of the original file.
+   * @throws IOException if the file could not be mirrored.
+   */
+  private void mirror(Path path, BasicFileAttributes attrs) throws IOException {
+    Path target = toCopyPath(path);
+    Files.createDirectories(target.getParent());
+    if (linkSources && attrs.isRegularFile() && isSourceFile(path)) {
+      Files.deleteIfExists(target);
+      try {
+        Files.createLink(target, path);
+        return;
+      } catch (UnsupportedOperationException | FileSystemException e) {
+        linkSources = false;
+      }
+    }
+    Files.copy(path, target, StandardCopyOption.REPLACE_EXISTING, LinkOption.NOFOLLOW_LINKS);
+  }
+
+  /**
+   * Checks if the given original file is a Java source file which is only written by injectors,
+   * i.e. it is not under a build output directory.
+   *
+   * @param path Path to the original file.
+   * @return true, if the file can be linked.
+   */
+  private boolean isSourceFile(Path path) {
+    if (!path.getFileName().toString().endsWith(".java")) {
+      return false;
+    }
+    for (Path name : sourceRoot.relativize(path)) {
+      if (BUILD_OUTPUT_DIRECTORIES.contains(name.toString())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Injects the given fixes on the files of this working copy. Files linked to the original files
+   * are replaced by private copies before any change is written, since the injector rewrites files
+   * in place.
+   *
+   * @param fixes Fixes to inject.
+   */
+  public void injectFixes(Set<Fix> fixes) {
+    try {
+      for (Path path : getModifiedPaths(fixes)) {
+        Path copy = toCopyPath(path);
+        if (Files.exists(copy) && Files.isSameFile(path, copy)) {
+          Path detached = Files.createTempFile(copy.getParent(), copy.getFileName().toString(), "");
+          Files.copy(path, detached, StandardCopyOption.REPLACE_EXISTING);
+          Files.move(detached, copy, StandardCopyOption.REPLACE_EXISTING);
+        }
+      }
+    } catch (IOException e) {
+      throw new RuntimeException("Could not detach files of working copy at: " + dir, e);
+    }
+    injector.injectFixes(fixes);
+  }
+
+  /**
+   * Builds the target module on this working copy. If the target module is compiled in process and
+   * incremental compilation is activated, only the sources in the given plan are recompiled.
+   *
+   * @param plan Compilation plan of the build with paths in the original source tree, {@code null}
+   *     if all sources must be recompiled.
+   */
+  public void build(@Nullable CompilationPlan plan) {
+    context.checker.prepareConfigFilesForBuild(configurations);
+    InProcessCompilerRunner runner = compilerRunner;
+    if (runner == null) {
+      Utility.build(context, configurations, buildCommand);
+    } else if (plan == null || !context.config.incrementalCompilation) {
+      Utility.compile(context, runner);
+    } else {
+      CompilationPlan relocated = plan.relocate(this::toCopyPath);
+      Utility.compile(context, () -> runner.run(relocated));
+    }
+  }
+
+  /**
+   * Restores the files modified by the given fixes to the content of the original source files.
+   * Restored files get a fresh modification time, so timestamp based incremental compilers will
+   * recompile them on the next build, and remain private copies until the original files change.
+   *
+   * @param fixes Fixes which are previously injected on this working copy.
+   */
+  public void restore(Set<Fix> fixes) {
+    try {
+      for (Path path : getModifiedPaths(fixes)) {
+        Files.copy(path, toCopyPath(path), StandardCopyOption.REPLACE_EXISTING);
+      }
+    } catch (IOException e) {
+      throw new RuntimeException("Could not restore working copy at: " + dir, e);
+    }
+    offsetHandler.clear();
+  }
+
+  /**
+   * Returns the original source files modified by the given fixes.
+   *
+   * @param fixes Fixes to inject or restore.
+   * @return Paths to the modified files in the original source tree.
+   */
+  private static Set<Path> getModifiedPaths(Set<Fix> fixes) {
+    return fixes.stream()
+        .flatMap(fix -> fix.changes.stream())
+        .map(change -> change.getLocation().path)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toSet());
+  }
+
+  /**
+   * Returns the configurations of the target module relocated to this working copy. Checker
+   * outputs of builds on this working copy are written to the directories of these
+   * configurations.
+   *
+   * @return Relocated module configurations.
+   */
+  public ImmutableSet<ModuleConfiguration> getModuleConfigurations() {
+    return configurations;
+  }
+
+  /**
+   * Translates the given path in the original source tree to the corresponding path in this
+   * working copy.
+   *
+   * @param path Path in the original source tree.
+   * @return Corresponding path in this working copy.
+   */
+  public Path toCopyPath(Path path) {
+    Path normalized = path.toAbsolutePath().normalize();
+    if (!normalized.startsWith(sourceRoot)) {
+      throw new IllegalArgumentException(
+          "Cannot modify file outside of the project root in a working copy: " + path);
+    }
+    return root.resolve(sourceRoot.relativize(normalized));
+  }
+
+  /**
+   * Translates the given path in this working copy to the corresponding path in the original
+   * source tree. Paths which are not in this working copy are returned unchanged.
+   *
+   * @param path Path which may be in this working copy.
+   * @return Corresponding path in the original source tree.
+   */
+  @Nullable
+  public Path toOriginalPath(@Nullable Path path) {
+    if (path == null || !path.startsWith(root)) {
+      return path;
+    }
+    return sourceRoot.resolve(root.relativize(path));
+  }
+
+  /**
+   * Computes the original offset of an error reported at the given offset on a file in this
+   * working copy. The original offset is computed with respect to the changes made on this working
+   * copy and all changes made on the original source file.
+   *
+   * @param path Path to the file in this working copy.
+   * @param offset Offset reported on the file in this working copy.
+   * @return Original offset.
+   */
+  public int getOriginalOffset(Path path, int offset) {
+    return context.offsetHandler.getOriginalOffset(
+        toOriginalPath(path), offsetHandler.getOriginalOffset(path, offset));
+  }
+
+  /**
+   * Rewrites all paths of the original source tree and out of tree config files in the given value
+   * with the corresponding paths in this working copy.
+   *
+   * @param value Value to rewrite, e.g. the build command.
+   * @return Rewritten value.
+   */
+  private String relocate(String value) {
+    for (Map.Entry<String, String> replacement : replacements.entrySet()) {
+      value = value.replace(replacement.getKey(), replacement.getValue());
+    }
+    return value;
+  }
+
+  /**
+   * Computes the path of the given config file in this working copy. Config files in the source
+   * tree are mirrored at the same relative path, other config files are stored in the directory of
+   * this working copy.
+   *
+   * @param id Id of the module the config file belongs to.
+   * @param path Path to the config file.
+   * @return Path to the config file in this working copy.
+   */
+  private Path relocateConfigPath(int id, Path path) {
+    Path normalized = path.toAbsolutePath().normalize();
+    if (normalized.startsWith(sourceRoot)) {
+      return root.resolve(sourceRoot.relativize(normalized));
+    }
+    return dir.resolve("config").resolve(String.valueOf(id)).resolve(path.getFileName());
+  }
+
+  /** Size and last modified time of a file, used to detect changes on original files. */
+  private static class FileStamp {
+
+    /** Size of the file in bytes. */
+    private final long size;
+
+    /** Last modified time of the file. */
+    private final FileTime lastModifiedTime;
+
+    private FileStamp(long size, FileTime lastModifiedTime) {
+      this.size = size;
+      this.lastModifiedTime = lastModifiedTime;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof FileStamp)) {
+        return false;
+      }
+      FileStamp other = (FileStamp) o;
+      return size == other.size && lastModifiedTime.equals(other.lastModifiedTime);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(size, lastModifiedTime);
+    }
+  }
+}
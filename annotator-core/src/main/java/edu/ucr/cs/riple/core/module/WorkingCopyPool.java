@@ -0,0 +1,154 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.module;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import edu.ucr.cs.riple.core.Context;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Pool of {@link WorkingCopy} instances of the target project. Tasks submitted to this pool are
+ * executed concurrently, each on an exclusive working copy. The pool must be closed once no more
+ * tasks are submitted to release its threads and delete its working copies.
+ */
+public class WorkingCopyPool implements AutoCloseable {
+
+  /** Directory where all working copies of the pool are stored. */
+  private final Path dir;
+
+  /** Working copies of the pool. */
+  private final ImmutableList<WorkingCopy> copies;
+
+  /** Working copies which are not used by any running task. */
+  private final BlockingQueue<WorkingCopy> idleCopies;
+
+  /** Executor running the submitted tasks, with one thread per working copy. */
+  private final ExecutorService executor;
+
+  /**
+   * Creates a pool of working copies of the target project. Working copies are stored in the
+   * {@code "working-copies"} directory under the global output directory.
+   *
+   * @param context Annotator context.
+   */
+  public WorkingCopyPool(Context context) {
+    Path root =
+        Preconditions.checkNotNull(
+            context.config.parallelBuildRoot,
+            "Root directory of the target project must be set to create working copies.");
+    int size = context.config.parallelBuildWorkers;
+    this.dir = context.config.globalDir.resolve("working-copies");
+    ImmutableList.Builder<WorkingCopy> builder = ImmutableList.builder();
+    for (int i = 0; i < size; i++) {
+      builder.add(new WorkingCopy(context, root, dir.resolve(String.valueOf(i))));
+    }
+    this.copies = builder.build();
+    this.idleCopies = new ArrayBlockingQueue<>(size, false, copies);
+    this.executor =
+        Executors.newFixedThreadPool(
+            size,
+            new ThreadFactoryBuilder().setNameFormat("working-copy-%d").setDaemon(true).build());
+  }
+
+  /**
+   * Copies all changes made on the original source tree since the last synchronization to all
+   * working copies. Must be called while no task is running.
+   */
+  public void synchronize() {
+    copies.forEach(WorkingCopy::synchronize);
+  }
+
+  /**
+   * Submits the given task for each input to run on a working copy. Results are returned in the
+   * order of the given inputs regardless of the order of completion, therefore callers can merge
+   * them deterministically.
+   *
+   * @param inputs Inputs to run the task on.
+   * @param task Task to run, receives an exclusive working copy for the duration of the task.
+   * @return Futures of the results in the order of the given inputs.
+   * @param <I> Type of inputs.
+   * @param <R> Type of results.
+   */
+  public <I, R> List<Future<R>> submitAll(List<I> inputs, BiFunction<WorkingCopy, I, R> task) {
+    List<Future<R>> results = new ArrayList<>(inputs.size());
+    for (I input : inputs) {
+      results.add(
+          executor.submit(
+              () -> {
+                WorkingCopy copy = idleCopies.take();
+                try {
+                  return task.apply(copy, input);
+                } finally {
+                  idleCopies.add(copy);
+                }
+              }));
+    }
+    return results;
+  }
+
+  /**
+   * Stops the threads of this pool and deletes all working copies. Source files of working copies
+   * are hard links, deleting them leaves the files of the original source tree untouched.
+   */
+  @Override
+  public void close() {
+    executor.shutdownNow();
+    try {
+      if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+        throw new IllegalStateException("Tasks of working copies did not terminate.");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while closing the working copy pool.", e);
+    }
+    if (!Files.exists(dir)) {
+      return;
+    }
+    try (Stream<Path> paths = Files.walk(dir)) {
+      for (Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+        Files.delete(path);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not delete working copies at: " + dir, e);
+    }
+  }
+}
@@ -27,17 +27,25 @@ package edu.ucr.cs.riple.core.registries;
 import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.ImmutableSet;
 import edu.ucr.cs.riple.core.Context;
+import edu.ucr.cs.riple.scanner.SerializationFormat;
+import edu.ucr.cs.riple.scanner.columnar.ColumnarTable;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.Nullable;
 
 /**
- * Container class which loads its content from a file in TSV format. For faster retrieval, it
+ * Container class which loads its content from a file in TSV format, or the corresponding binary
+ * columnar table if outputs of AnnotatorScanner are serialized in binary. For faster retrieval, it
  * stores its content in a {@link com.google.common.collect.ImmutableMultimap} where the key is the
  * hash of the item and the value is the item itself. For faster retrieval, if the anticipated hash
  * is known, {@link Registry#findRecordsWithHashHint} can be used, otherwise use {@link
@@ -77,25 +85,61 @@ public abstract class Registry<T> {
 
   /**
    * Constructor for this container. Contents are accumulated from multiple sources. Once this
-   * constructor is invoked, all data will be loaded from the file.
+   * constructor is invoked, all data will be loaded from the file. Files are loaded concurrently on
+   * {@link Context#getRegistryLoaderExecutor()}, each into its own builder, and merged in the order
+   * of the given paths. Builders returned by {@link #getBuilder()} must therefore be safe to use
+   * concurrently with each other.
    *
    * @param paths Paths to all files containing data.
    */
   public Registry(ImmutableSet<Path> paths, Context context) {
-    ImmutableMultimap.Builder<Integer, T> builder = ImmutableMultimap.builder();
     this.context = context;
     setup();
-    paths.forEach(
-        path -> {
-          try {
-            populateContent(path, builder);
-          } catch (IOException e) {
-            throw new RuntimeException("Error happened while loading content of file: " + path, e);
-          }
-        });
+    List<CompletableFuture<ImmutableMultimap<Integer, T>>> loads =
+        paths.stream()
+            .map(
+                path ->
+                    CompletableFuture.supplyAsync(
+                        () -> {
+                          ImmutableMultimap.Builder<Integer, T> builder =
+                              ImmutableMultimap.builder();
+                          try {
+                            populateContent(path, builder);
+                          } catch (IOException e) {
+                            throw new RuntimeException(
+                                "Error happened while loading content of file: " + path, e);
+                          }
+                          return builder.build();
+                        },
+                        context.getRegistryLoaderExecutor()))
+            .collect(Collectors.toList());
+    ImmutableMultimap.Builder<Integer, T> builder = ImmutableMultimap.builder();
+    loads.forEach(load -> builder.putAll(join(load)));
     this.contents = builder.build();
   }
 
+  /**
+   * Waits for the given loading task and returns its result. Failures of the task are rethrown
+   * unwrapped, to surface the same exceptions as loading on the calling thread.
+   *
+   * @param load Loading task.
+   * @return Result of the loading task.
+   * @param <R> Type of the result.
+   */
+  public static <R> R join(CompletableFuture<R> load) {
+    try {
+      return load.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw e;
+    }
+  }
+
   /**
    * Subclasses can override this method to perform any initialization before loading data from the
    * file.
@@ -103,26 +147,54 @@ public abstract class Registry<T> {
   protected void setup() {}
 
   /**
-   * Loads data existing in the given path, to the given builder.
+   * Loads data existing in the given path, to the given builder. If outputs are serialized in
+   * {@link SerializationFormat#BINARY} format, data is loaded from the corresponding binary table.
    *
-   * @param path Path to the file containing data.
+   * @param path Path to the file containing data in tsv format.
    * @throws IOException if file not is found.
    */
   protected void populateContent(Path path, ImmutableMultimap.Builder<Integer, T> builder)
       throws IOException {
+    Builder<T> recordBuilder = getBuilder();
+    forEachRow(
+        path,
+        values -> {
+          T record = recordBuilder.build(values);
+          if (record != null) {
+            builder.put(record.hashCode(), record);
+          }
+        });
+  }
+
+  /**
+   * Passes each row of the file at the given path to the given action, skipping the header. If
+   * outputs are serialized in {@link SerializationFormat#BINARY} format and the corresponding binary
+   * table exists, rows are read from that table. Files which are only written in tsv format (e.g.
+   * outputs of NullAway) are always read from the tsv file.
+   *
+   * @param path Path to the file containing data in tsv format.
+   * @param action Action to perform on values of each row.
+   * @throws IOException if file not is found.
+   */
+  protected void forEachRow(Path path, Consumer<String[]> action) throws IOException {
+    Path binaryPath = SerializationFormat.BINARY.pathOf(path);
+    if (context.config.serializationFormat == SerializationFormat.BINARY
+        && Files.exists(binaryPath)) {
+      ColumnarTable table = ColumnarTable.open(binaryPath);
+      for (int row = 0; row < table.rowCount(); row++) {
+        action.accept(table.getRow(row));
+      }
+      return;
+    }
     try (BufferedReader reader =
         Files.newBufferedReader(path.toFile().toPath(), Charset.defaultCharset())) {
-      Builder<T> recordBuilder = getBuilder();
       String line = reader.readLine();
       if (line != null) {
         // Skip header
         line = reader.readLine();
       }
       while (line != null) {
-        T record = recordBuilder.build(line.split("\t"));
-        if (record != null) {
-          builder.put(record.hashCode(), record);
-        }
+        action.accept(line.split("\t"));
         line = reader.readLine();
       }
     }
@@ -45,10 +45,14 @@ public class ClassFieldRecord {
   /** Path to source file containing this class. */
   public final Path pathToSourceFile;
 
+  /** Names of fields declared in this class but not initialized at declaration. */
+  public final Set<String> uninitializedFields;
+
   public ClassFieldRecord(Path path, String clazz) {
     this.clazz = clazz;
     this.pathToSourceFile = path;
     this.fields = new HashSet<>();
+    this.uninitializedFields = new HashSet<>();
   }
 
   @Override
@@ -95,6 +99,26 @@ public class ClassFieldRecord {
    */
   public void addFieldDeclaration(FieldDeclaration fieldDeclaration) {
     this.fields.add(new FieldDeclarationRecord(fieldDeclaration));
+    fieldDeclaration
+        .getVariables()
+        .forEach(
+            variableDeclarator -> {
+              if (variableDeclarator.getInitializer().isEmpty()) {
+                uninitializedFields.add(variableDeclarator.getNameAsString());
+              }
+            });
+  }
+
+  /**
+   * Adds a field declaration serialized by AnnotatorScanner to this record.
+   *
+   * @param fieldDeclaration Field declaration to add.
+   * @param uninitialized Names of the declared fields which are not initialized at declaration.
+   */
+  public void addFieldDeclaration(
+      FieldDeclarationRecord fieldDeclaration, Set<String> uninitialized) {
+    this.fields.add(fieldDeclaration);
+    this.uninitializedFields.addAll(uninitialized);
   }
 
   /**
@@ -139,6 +163,13 @@ public class ClassFieldRecord {
       this.isPublic = fieldDeclaration.isPublic();
     }
 
+    public FieldDeclarationRecord(
+        ImmutableSet<String> names, boolean isPrimitiveType, boolean isPublic) {
+      this.names = names;
+      this.isPrimitiveType = isPrimitiveType;
+      this.isPublic = isPublic;
+    }
+
     /**
      * Checks if the field declaration is public and has non-primitive type.
      *
@@ -27,11 +27,8 @@ package edu.ucr.cs.riple.core.registries.field;
 import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.body.BodyDeclaration;
-import com.github.javaparser.ast.body.VariableDeclarator;
-import com.github.javaparser.utils.Pair;
+import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Multimap;
-import com.google.common.collect.MultimapBuilder;
 import com.google.common.collect.Sets;
 import edu.ucr.cs.riple.core.Context;
 import edu.ucr.cs.riple.core.module.ModuleConfiguration;
@@ -44,8 +41,11 @@ import edu.ucr.cs.riple.injector.location.OnClass;
 import edu.ucr.cs.riple.injector.location.OnField;
 import edu.ucr.cs.riple.injector.util.ASTUtils;
 import edu.ucr.cs.riple.scanner.Serializer;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
 import javax.annotation.Nullable;
@@ -57,14 +57,28 @@ import javax.annotation.Nullable;
  * used to detect these cases and adjust the suggested fix instances. (e.g. If we have Object f, i,
  * j; and a Fix suggesting f to be {@code Nullable}, this class will replace that fix with a fix
  * suggesting f, i, and j be {@code Nullable}.)
+ *
+ * <p>Field declarations are loaded from the outputs of AnnotatorScanner if serialized. Otherwise,
+ * they are extracted from source files with JavaParser lazily, a source file is parsed only when
+ * one of its classes is queried for the first time.
  */
 public class FieldRegistry extends Registry<ClassFieldRecord> {
 
+  /** Records of classes declared in each source file, all are loaded with a single parse. */
+  private final ImmutableListMultimap<Path, ClassFieldRecord> recordsBySourceFile;
+
+  /**
+   * Source files which field declarations of their classes are loaded. Accessed only while holding
+   * the lock of this registry.
+   */
+  private final Set<Path> loadedSourceFiles;
+
   /**
-   * A map from class flat name to a set of field names that are declared in that class but not
-   * initialized at declaration.
+   * Flat names of classes which field declarations could not be loaded, either the source file
+   * could not be parsed or the class declaration could not be found. Accessed only while holding
+   * the lock of this registry.
    */
-  private Multimap<String, String> uninitializedFields;
+  private final Set<String> unresolvedClasses;
 
   /**
    * Constructor for {@link FieldRegistry}.
@@ -86,75 +100,149 @@ public class FieldRegistry extends Registry<ClassFieldRecord> {
             .map(info -> info.dir.resolve(Serializer.CLASS_RECORD_FILE_NAME))
             .collect(ImmutableSet.toImmutableSet()),
         context);
+    ImmutableListMultimap.Builder<Path, ClassFieldRecord> bySourceFile =
+        ImmutableListMultimap.builder();
+    contents.values().forEach(record -> bySourceFile.put(record.pathToSourceFile, record));
+    this.recordsBySourceFile = bySourceFile.build();
+    this.loadedSourceFiles = new HashSet<>();
+    this.unresolvedClasses = new HashSet<>();
+    ImmutableSet<Path> fieldRecordPaths =
+        modules.stream()
+            .map(info -> info.dir.resolve(Serializer.FIELD_RECORD_FILE_NAME))
+            .collect(ImmutableSet.toImmutableSet());
+    if (fieldRecordPaths.stream()
+        .allMatch(path -> Files.exists(context.config.serializationFormat.pathOf(path)))) {
+      loadFieldRecords(fieldRecordPaths);
+    }
   }
 
   @Override
-  protected void setup() {
-    super.setup();
-    this.uninitializedFields = MultimapBuilder.hashKeys().hashSetValues().build();
+  protected Builder<ClassFieldRecord> getBuilder() {
+    // This method is called with values in format of: [class flat name, path to source file].
+    // Source files are not parsed here, field declarations are loaded on demand.
+    return values -> new ClassFieldRecord(Printer.deserializePath(values[1]), values[0]);
   }
 
-  @Override
-  protected Builder<ClassFieldRecord> getBuilder() {
-    return new Builder<>() {
-      Pair<Path, CompilationUnit> lastParsedSourceFile = new Pair<>(null, null);
+  /**
+   * Loads field declarations serialized by AnnotatorScanner, so no source file is parsed. Classes
+   * which source file does not exist are considered unresolved.
+   *
+   * @param paths Paths to the serialized field declarations of all modules.
+   */
+  private synchronized void loadFieldRecords(ImmutableSet<Path> paths) {
+    paths.forEach(
+        path -> {
+          try {
+            // Values are in format of: [class flat name, comma separated field names, comma
+            // separated uninitialized field names, is public, is primitive].
+            forEachRow(
+                path,
+                values -> {
+                  ClassFieldRecord record = findRecord(values[0]);
+                  if (record == null) {
+                    return;
+                  }
+                  record.addFieldDeclaration(
+                      new ClassFieldRecord.FieldDeclarationRecord(
+                          splitNames(values[1]),
+                          Boolean.parseBoolean(values[4]),
+                          Boolean.parseBoolean(values[3])),
+                      splitNames(values[2]));
+                });
+          } catch (IOException e) {
+            throw new RuntimeException("Error happened while loading content of file: " + path, e);
+          }
+        });
+    recordsBySourceFile
+        .keySet()
+        .forEach(
+            path -> {
+              if (!Files.exists(path)) {
+                recordsBySourceFile
+                    .get(path)
+                    .forEach(record -> unresolvedClasses.add(record.clazz));
+              }
+              loadedSourceFiles.add(path);
+            });
+  }
 
-      @Override
-      public ClassFieldRecord build(String[] values) {
-        // This method is called with values in format of: [class flat name, path to source file].
-        // To avoid parsing a source file multiple times, we keep the last parsed
-        // source file in a reference.
-        // This optimization is according to the assumption that Scanner
-        // visits all classes within a single compilation unit tree consecutively.
-        // Path to class.
-        Path path = Printer.deserializePath(values[1]);
-        CompilationUnit tree;
-        if (lastParsedSourceFile.a != null && lastParsedSourceFile.a.equals(path)) {
-          // Already visited.
-          tree = lastParsedSourceFile.b;
-        } else {
-          // Not visited yet, parse the source file.
-          tree = Injector.parse(path, context.config.languageLevel);
-          lastParsedSourceFile = new Pair<>(path, tree);
-        }
-        if (tree == null) {
-          return null;
-        }
-        NodeList<BodyDeclaration<?>> members;
-        // Class flat name.
-        String clazz = values[0];
-        try {
-          members = ASTUtils.getTypeDeclarationMembersByFlatName(tree, clazz);
-        } catch (TargetClassNotFound notFound) {
-          System.err.println(notFound.getMessage());
-          return null;
-        }
-        ClassFieldRecord record = new ClassFieldRecord(path, clazz);
-        members.forEach(
-            bodyDeclaration ->
-                bodyDeclaration.ifFieldDeclaration(
-                    fieldDeclaration -> {
-                      NodeList<VariableDeclarator> vars = fieldDeclaration.getVariables();
-                      if (vars.getFirst().isEmpty()) {
-                        // unexpected but just in case.
-                        return;
-                      }
-                      record.addFieldDeclaration(fieldDeclaration);
-                      // Collect uninitialized fields at declaration.
-                      vars.forEach(
-                          variableDeclarator -> {
-                            String fieldName = variableDeclarator.getNameAsString();
-                            if (variableDeclarator.getInitializer().isEmpty()) {
-                              uninitializedFields.put(clazz, fieldName);
-                            }
-                          });
-                    }));
-        // We still want to keep the information about the class even if it has no field
-        // declarations, so we can retrieve tha path to the file from the given class flat name.
-        // This information is used in adding suppression annotations on class level.
-        return record;
+  /**
+   * Splits the given comma separated names.
+   *
+   * @param names Comma separated names, can be empty.
+   * @return Set of names.
+   */
+  private static ImmutableSet<String> splitNames(String names) {
+    return names.isEmpty() ? ImmutableSet.of() : ImmutableSet.copyOf(names.split(","));
+  }
+
+  /**
+   * Finds the record of the given class without loading its field declarations.
+   *
+   * @param clazz Flat name of the class.
+   * @return Record of the class, or {@code null} if the class is not declared in the module(s).
+   */
+  @Nullable
+  private ClassFieldRecord findRecord(String clazz) {
+    return findRecordWithHashHint(node -> node.clazz.equals(clazz), ClassFieldRecord.hash(clazz));
+  }
+
+  /**
+   * Returns the record of the given class with its field declarations loaded. If not loaded yet,
+   * the source file of the class is parsed and field declarations of all classes in that file are
+   * loaded.
+   *
+   * @param clazz Flat name of the class.
+   * @return Record of the class, or {@code null} if the class is not declared in the module(s) or
+   *     its field declarations could not be loaded.
+   */
+  @Nullable
+  private synchronized ClassFieldRecord resolve(String clazz) {
+    ClassFieldRecord record = findRecord(clazz);
+    if (record == null) {
+      return null;
+    }
+    if (!loadedSourceFiles.contains(record.pathToSourceFile)) {
+      loadSourceFile(record.pathToSourceFile);
+    }
+    return unresolvedClasses.contains(clazz) ? null : record;
+  }
+
+  /**
+   * Parses the given source file and loads field declarations of all classes declared in it.
+   *
+   * @param path Path to the source file.
+   */
+  private void loadSourceFile(Path path) {
+    loadedSourceFiles.add(path);
+    CompilationUnit tree = Injector.parse(path, context.config.languageLevel);
+    for (ClassFieldRecord record : recordsBySourceFile.get(path)) {
+      if (tree == null) {
+        unresolvedClasses.add(record.clazz);
+        continue;
       }
-    };
+      NodeList<BodyDeclaration<?>> members;
+      try {
+        members = ASTUtils.getTypeDeclarationMembersByFlatName(tree, record.clazz);
+      } catch (TargetClassNotFound notFound) {
+        System.err.println(notFound.getMessage());
+        unresolvedClasses.add(record.clazz);
+        continue;
+      }
+      members.forEach(
+          bodyDeclaration ->
+              bodyDeclaration.ifFieldDeclaration(
+                  fieldDeclaration -> {
+                    if (fieldDeclaration.getVariables().getFirst().isEmpty()) {
+                      // unexpected but just in case.
+                      return;
+                    }
+                    record.addFieldDeclaration(fieldDeclaration);
+                  }));
+      // We still want to keep the information about the class even if it has no field
+      // declarations, so we can retrieve tha path to the file from the given class flat name.
+      // This information is used in adding suppression annotations on class level.
+    }
   }
 
   /**
@@ -167,8 +255,7 @@ public class FieldRegistry extends Registry<ClassFieldRecord> {
    */
   public ImmutableSet<String> getInLineMultipleFieldDeclarationsOnField(
       String clazz, Set<String> fields) {
-    ClassFieldRecord candidate =
-        findRecordWithHashHint(node -> node.clazz.equals(clazz), ClassFieldRecord.hash(clazz));
+    ClassFieldRecord candidate = resolve(clazz);
     if (candidate == null) {
       // No inline multiple field declarations.
       return ImmutableSet.copyOf(fields);
@@ -192,9 +279,9 @@ public class FieldRegistry extends Registry<ClassFieldRecord> {
    * @return True if at least on of the given declarations at the given location is not initialized.
    */
   public boolean isUninitializedField(OnField field) {
-    // According to javadoc, Multimap.get() returns an empty collection if key is not found,
-    // therefore we do not need to check for key existence.
-    return !Collections.disjoint(uninitializedFields.get(field.clazz), field.variables);
+    ClassFieldRecord candidate = resolve(field.clazz);
+    return candidate != null
+        && !Collections.disjoint(candidate.uninitializedFields, field.variables);
   }
 
   /**
@@ -205,8 +292,7 @@ public class FieldRegistry extends Registry<ClassFieldRecord> {
    * @return {@link OnField} instance targeting the passed field and class.
    */
   public OnField getLocationOnField(String clazz, String field) {
-    ClassFieldRecord candidate =
-        findRecordWithHashHint(node -> node.clazz.equals(clazz), ClassFieldRecord.hash(clazz));
+    ClassFieldRecord candidate = resolve(clazz);
     Set<String> fieldNames = Sets.newHashSet(field);
     if (candidate == null) {
       // field is on byte code.
@@ -222,8 +308,7 @@ public class FieldRegistry extends Registry<ClassFieldRecord> {
    * @return {@link OnClass} instance targeting the passed classes flat name.
    */
   public OnClass getLocationOnClass(String clazz) {
-    ClassFieldRecord candidate =
-        findRecordWithHashHint(node -> node.clazz.equals(clazz), ClassFieldRecord.hash(clazz));
+    ClassFieldRecord candidate = resolve(clazz);
     if (candidate == null) {
       // class not observed in source code.
       return null;
@@ -236,10 +321,13 @@ public class FieldRegistry extends Registry<ClassFieldRecord> {
    *
    * @return ImmutableSet of fields location.
    */
-  public ImmutableSet<OnField> getPublicFieldWithNonPrimitiveType() {
+  public synchronized ImmutableSet<OnField> getPublicFieldWithNonPrimitiveType() {
+    recordsBySourceFile.keySet().stream()
+        .filter(path -> !loadedSourceFiles.contains(path))
+        .forEach(this::loadSourceFile);
     ImmutableSet.Builder<OnField> builder = ImmutableSet.builder();
-    contents
-        .values()
+    contents.values().stream()
+        .filter(record -> !unresolvedClasses.contains(record.clazz))
         .forEach(
             record ->
                 record.fields.forEach(
@@ -271,11 +359,7 @@ public class FieldRegistry extends Registry<ClassFieldRecord> {
       return false;
     }
     OnField onField = location.toField();
-    return findRecordWithHashHint(
-            node ->
-                node.clazz.equals(location.clazz)
-                    && node.hasExactFieldDeclarationWithNames(onField.variables),
-            ClassFieldRecord.hash(location.clazz))
-        != null;
+    ClassFieldRecord candidate = resolve(location.clazz);
+    return candidate != null && candidate.hasExactFieldDeclarationWithNames(onField.variables);
   }
 }
@@ -48,12 +48,21 @@ public abstract class Error {
   /** The fixes which can resolve this error (possibly empty). */
   protected final ImmutableSet<Fix> resolvingFixes;
 
+  /** Ids of {@link #resolvingFixes}. */
+  private final int[] resolvingFixIds;
+
   /** Offset of program point in original version where error is reported. */
   protected final int offset;
 
   /** Containing region. */
   protected final Region region;
 
+  /**
+   * Cached hash of the content of this error, {@code 0} if not computed yet. Computed on first use,
+   * as contents of subclasses are not initialized while this constructor runs.
+   */
+  private int hash;
+
   /** Error type for method initialization errors from NullAway in {@code String}. */
   public Error(
       String messageType,
@@ -66,6 +75,7 @@ public abstract class Error {
     this.message = message;
     this.offset = offset;
     this.resolvingFixes = computeFixesFromAnnotations(annotations);
+    this.resolvingFixIds = resolvingFixes.stream().mapToInt(Fix::getId).toArray();
   }
 
   /**
@@ -89,6 +99,15 @@ public abstract class Error {
     return this.resolvingFixes;
   }
 
+  /**
+   * Returns ids of the fixes that resolve this error.
+   *
+   * @return Ids of resolving fixes, must not be modified.
+   */
+  int[] getResolvingFixIds() {
+    return resolvingFixIds;
+  }
+
   /**
    * Returns a stream of resolving fixes for this error.
    *
@@ -98,6 +117,15 @@ public abstract class Error {
     return this.resolvingFixes.stream();
   }
 
+  /**
+   * Returns the offset of the program point in the source file where this error is reported.
+   *
+   * @return Offset of this error.
+   */
+  public int getOffset() {
+    return this.offset;
+  }
+
   /**
    * Checks if error is resolvable with only one annotation.
    *
@@ -157,14 +185,38 @@ public abstract class Error {
   }
 
   @Override
-  public boolean equals(Object o) {
+  public final boolean equals(Object o) {
     if (this == o) {
       return true;
     }
-    if (!(o instanceof Error)) {
+    if (o == null || getClass() != o.getClass()) {
       return false;
     }
     Error other = (Error) o;
+    // Cached hashes reject most unequal errors without comparing their contents.
+    return hashCode() == other.hashCode() && contentEquals(other);
+  }
+
+  @Override
+  public final int hashCode() {
+    int hash = this.hash;
+    if (hash == 0) {
+      // Racing threads compute the same hash.
+      hash = contentHashCode();
+      this.hash = hash;
+    }
+    return hash;
+  }
+
+  /**
+   * Checks if this error has the same content as the given error of the same class. Errors with the
+   * same content are equal, subclasses can override this method along with {@link
+   * #contentHashCode()} to ignore parts of the content.
+   *
+   * @param other Error of the same class.
+   * @return true, if errors have the same content.
+   */
+  protected boolean contentEquals(Error other) {
     return messageType.equals(other.messageType)
         && region.equals(other.region)
         && message.equals(other.message)
@@ -183,8 +235,12 @@ public abstract class Error {
     return this.resolvingFixes.stream().allMatch(context.targetModuleInfo::declaredInModule);
   }
 
-  @Override
-  public int hashCode() {
+  /**
+   * Returns the hash of the content of this error, consistent with {@link #contentEquals(Error)}.
+   *
+   * @return Hash of the content.
+   */
+  protected int contentHashCode() {
     return Objects.hash(messageType, message, region, resolvingFixes, offset);
   }
 
@@ -226,4 +282,15 @@ public abstract class Error {
     }
     return fixes.containsAll(this.resolvingFixes);
   }
+
+  /**
+   * Checks if this error is resolvable with the given set of fixes. Preferred over {@link
+   * #isResolvableWith(Collection)} when many errors are checked against the same fixes.
+   *
+   * @param fixes Set of fixes.
+   * @return true, if this error is resolvable.
+   */
+  public boolean isResolvableWith(FixIdSet fixes) {
+    return resolvingFixIds.length > 0 && fixes.containsAll(resolvingFixIds);
+  }
 }
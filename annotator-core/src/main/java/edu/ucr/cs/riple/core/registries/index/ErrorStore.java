@@ -24,8 +24,11 @@
 
 package edu.ucr.cs.riple.core.registries.index;
 
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Multiset;
 import edu.ucr.cs.riple.core.Context;
 import edu.ucr.cs.riple.core.module.ModuleInfo;
+import edu.ucr.cs.riple.core.module.WorkingCopy;
 import edu.ucr.cs.riple.core.registries.region.Region;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -42,6 +45,9 @@ public class ErrorStore {
   /** Initial state indexed by enclosing class and method. */
   private final Index root;
 
+  /** Errors of the initial state indexed by the fixes resolving them. */
+  private final ResolvableErrorIndex rootResolvableErrors;
+
   /** Current state indexed by enclosing class and method. */
   private Index current;
 
@@ -56,6 +62,7 @@ public class ErrorStore {
     this.context = context;
     root = new Index(context, moduleInfo);
     root.index();
+    rootResolvableErrors = new ResolvableErrorIndex(root.values());
   }
 
   /** Overwrites the current state with the new generated output, */
@@ -65,17 +72,51 @@ public class ErrorStore {
   }
 
   /**
-   * Computes the difference between two collections (A - B).
+   * Overwrites the current state with the new generated output, only errors enclosed by the given
+   * regions are read. Should be used when changes made before the build can only affect errors in
+   * the given regions, the current state can only be compared with root state on these regions.
+   *
+   * @param touched Regions which can be affected by the changes made before the build.
+   */
+  public void saveState(Set<Region> touched) {
+    current = new Index(context, moduleInfo);
+    current.index(touched);
+  }
+
+  /**
+   * Reads the state generated by a build on the given working copy, without modifying the current
+   * state. Only errors enclosed by the given regions are read. Synchronized as deserialization of
+   * errors relies on module registries which are not thread safe.
+   *
+   * @param workingCopy Working copy which is built.
+   * @param touched Regions which can be affected by the changes made before the build.
+   * @return Index of the generated output.
+   */
+  public synchronized Index readState(WorkingCopy workingCopy, Set<Region> touched) {
+    Index state = new Index(context, moduleInfo);
+    state.index(workingCopy, touched);
+    return state;
+  }
+
+  /**
+   * Computes the difference between two multisets (A - B) in linear time. Each item in B cancels
+   * out one occurrence of an equal item in A.
    *
    * @param previousItems B.
    * @param currentItems A.
    * @return Corresponding {@link Result} instance storing result of (A - B).
    */
-  private Result compareByList(Collection<Error> previousItems, Collection<Error> currentItems) {
+  private static Result compareByMultiset(
+      Multiset<Error> previousItems, Multiset<Error> currentItems) {
     int size = currentItems.size() - previousItems.size();
-    List<Error> temp = new ArrayList<>(currentItems);
-    previousItems.forEach(temp::remove);
-    return new Result(size, temp);
+    List<Error> dif = new ArrayList<>();
+    for (Multiset.Entry<Error> entry : currentItems.entrySet()) {
+      int count = entry.getCount() - previousItems.count(entry.getElement());
+      for (int i = 0; i < count; i++) {
+        dif.add(entry.getElement());
+      }
+    }
+    return new Result(size, dif);
   }
 
   /**
@@ -86,7 +127,21 @@ public class ErrorStore {
    * @return Corresponding {@link Result}.
    */
   public Result compareByRegion(Region region) {
-    return compareByList(root.get(region), current.get(region));
+    return compareByRegion(current, region);
+  }
+
+  /**
+   * Computes the difference in items enclosed by the given enclosing class and member in the given
+   * state and root state.
+   *
+   * @param state State to compare with root state.
+   * @param region Enclosing region
+   * @return Corresponding {@link Result}.
+   */
+  public Result compareByRegion(Index state, Region region) {
+    Preconditions.checkArgument(
+        state.covers(region), "Region is not read in the compared state: " + region);
+    return compareByMultiset(root.get(region), state.get(region));
   }
 
   /**
@@ -95,7 +150,7 @@ public class ErrorStore {
    * @return Corresponding {@link Result} instance.
    */
   public Result compare() {
-    return compareByList(root.values(), current.values());
+    return compareByMultiset(root.values(), current.values());
   }
 
   /**
@@ -115,6 +170,6 @@ public class ErrorStore {
    * @return Number of resolved errors.
    */
   public int getNumberOfErrorsResolvedByAllFixesWithinCollection(Collection<Fix> fixes) {
-    return (int) root.values().stream().filter(error -> error.isResolvableWith(fixes)).count();
+    return rootResolvableErrors.countResolvedBy(FixIdSet.of(fixes));
   }
 }
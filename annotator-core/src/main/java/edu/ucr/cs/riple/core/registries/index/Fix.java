@@ -35,7 +35,6 @@ import edu.ucr.cs.riple.injector.location.LocationToJsonVisitor;
 import edu.ucr.cs.riple.injector.location.OnField;
 import edu.ucr.cs.riple.injector.location.OnMethod;
 import edu.ucr.cs.riple.injector.location.OnParameter;
-import java.util.Objects;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -46,15 +45,57 @@ import java.util.stream.Collectors;
  */
 public class Fix {
 
+  /**
+   * Interner assigning ids to distinct sets of changes across all fixes. Fixes reference the
+   * canonical set of their changes, so ids are released once all equal fixes are unreachable.
+   */
+  private static final IdInterner<Set<AddAnnotation>> IDS = new IdInterner<>();
+
   /** The set of suggested changes that should be evaluated together by this fix instance. */
   public final Set<AddAnnotation> changes;
 
+  /**
+   * Dense id of this fix, equal fixes share the same id. Fixes are compared and hashed by their id
+   * on hot paths of the search, instead of their set of changes.
+   */
+  private final int id;
+
+  /**
+   * Canonical set of changes of all fixes equal to this fix, referenced to keep {@link #id}
+   * assigned while this fix is reachable. Equal changes may still differ in the paths of their
+   * locations, therefore the changes of this fix are kept in {@link #changes}.
+   */
+  @SuppressWarnings("unused")
+  private final Set<AddAnnotation> canonicalChanges;
+
   public Fix(AddAnnotation change) {
     this(ImmutableSet.of(change));
   }
 
   public Fix(ImmutableSet<AddAnnotation> change) {
+    IdInterner.Interned<Set<AddAnnotation>> interned = IDS.intern(change);
     this.changes = change;
+    this.canonicalChanges = interned.value;
+    this.id = interned.id;
+  }
+
+  /**
+   * Returns the dense id of this fix. Equal fixes have the same id, and ids of all fixes are
+   * smaller than {@link #idCount()}, ids can be used as keys of int keyed maps and bitsets.
+   *
+   * @return Id of this fix.
+   */
+  public int getId() {
+    return id;
+  }
+
+  /**
+   * Returns an upper bound, exclusive, of ids of all fixes created so far.
+   *
+   * @return Number of distinct fixes created so far.
+   */
+  public static int idCount() {
+    return IDS.size();
   }
 
   /**
@@ -171,13 +212,12 @@ public class Fix {
     if (!(o instanceof Fix)) {
       return false;
     }
-    Fix fix = (Fix) o;
-    return changes.equals(fix.changes);
+    return id == ((Fix) o).id;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(changes);
+    return id;
   }
 
   /**
@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.registries.index;
+
+import java.util.BitSet;
+import java.util.Collection;
+
+/**
+ * Immutable set of fixes represented by a bitset of their ids. Used to check membership of fixes of
+ * many errors in the same collection of fixes, such as a fix tree, without hashing fixes.
+ */
+public final class FixIdSet {
+
+  /** Ids of fixes in this set. */
+  private final BitSet ids;
+
+  private FixIdSet(BitSet ids) {
+    this.ids = ids;
+  }
+
+  /**
+   * Creates the set of the given fixes.
+   *
+   * @param fixes Collection of fixes.
+   * @return Set of the given fixes.
+   */
+  public static FixIdSet of(Collection<Fix> fixes) {
+    BitSet ids = new BitSet();
+    fixes.forEach(fix -> ids.set(fix.getId()));
+    return new FixIdSet(ids);
+  }
+
+  /**
+   * Checks if the fix with the given id is in this set.
+   *
+   * @param id Id of the fix.
+   * @return true, if the fix is in this set.
+   */
+  public boolean contains(int id) {
+    return ids.get(id);
+  }
+
+  /**
+   * Checks if all fixes with the given ids are in this set.
+   *
+   * @param ids Ids of fixes.
+   * @return true, if all fixes are in this set.
+   */
+  public boolean containsAll(int[] ids) {
+    for (int id : ids) {
+      if (!this.ids.get(id)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the id of the first fix in this set, with an id equal or greater than the given id.
+   *
+   * @param from Id to start the search from.
+   * @return Id of the next fix, or {@code -1} if there is no such fix.
+   */
+  int nextId(int from) {
+    return ids.nextSetBit(from);
+  }
+}
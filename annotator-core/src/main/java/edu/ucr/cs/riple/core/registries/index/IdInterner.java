@@ -0,0 +1,129 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.registries.index;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Assigns dense int ids to distinct values. Equal values receive the same id and ids are assigned
+ * in the order values are first seen starting from zero, they can be used as indices of arrays and
+ * bitsets. This class is thread-safe.
+ *
+ * <p>Interned values are held weakly: the interner returns a canonical instance for each distinct
+ * value, and keeps its id as long as the canonical instance is reachable. Callers must keep a
+ * reference to the canonical instance, so that all holders of an id keep its entry alive.
+ * Once all holders are collected, the entry is released and an equal value interned afterwards
+ * receives a new id. Ids are never reused.
+ *
+ * @param <T> Type of interned values.
+ */
+final class IdInterner<T> {
+
+  /** Canonical instances and ids of interned values, keyed by the canonical instances. */
+  private final Map<T, Entry<T>> entries = new WeakHashMap<>();
+
+  /** Id of the next distinct value. */
+  private int next;
+
+  /**
+   * Returns the canonical instance and the id of the given value, interning the value if no equal
+   * value is interned yet.
+   *
+   * @param value Value to intern, must not be mutated afterwards in a way that changes equality.
+   * @return Canonical instance and id of the value.
+   */
+  synchronized Interned<T> intern(T value) {
+    Entry<T> entry = entries.get(value);
+    T canonical = entry == null ? null : entry.get();
+    if (canonical != null) {
+      return new Interned<>(canonical, entry.id);
+    }
+    entry = new Entry<>(value, next++);
+    entries.put(value, entry);
+    return new Interned<>(value, entry.id);
+  }
+
+  /**
+   * Releases the entry of the given value as if all holders of its canonical instance were
+   * collected, so that an equal value interned afterwards receives a new id.
+   *
+   * @param value Value to release.
+   */
+  @VisibleForTesting
+  synchronized void release(T value) {
+    Entry<T> entry = entries.remove(value);
+    if (entry != null) {
+      entry.clear();
+    }
+  }
+
+  /**
+   * Returns an upper bound, exclusive, of ids assigned so far.
+   *
+   * @return Number of ids assigned so far.
+   */
+  synchronized int size() {
+    return next;
+  }
+
+  /**
+   * Canonical instance of an interned value with its id.
+   *
+   * @param <T> Type of interned values.
+   */
+  static final class Interned<T> {
+
+    /** Canonical instance of the value. */
+    final T value;
+
+    /** Id of the value. */
+    final int id;
+
+    private Interned(T value, int id) {
+      this.value = value;
+      this.id = id;
+    }
+  }
+
+  /**
+   * Entry of an interned value. The canonical instance is referenced weakly, so the entry does not
+   * keep its own key alive.
+   *
+   * @param <T> Type of interned values.
+   */
+  private static final class Entry<T> extends WeakReference<T> {
+
+    /** Id of the value. */
+    private final int id;
+
+    private Entry(T value, int id) {
+      super(value);
+      this.id = id;
+    }
+  }
+}
@@ -24,25 +24,32 @@
 
 package edu.ucr.cs.riple.core.registries.index;
 
-import com.google.common.collect.Multimap;
-import com.google.common.collect.MultimapBuilder;
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.ImmutableMultiset;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Multiset;
 import edu.ucr.cs.riple.core.Context;
 import edu.ucr.cs.riple.core.module.ModuleInfo;
+import edu.ucr.cs.riple.core.module.WorkingCopy;
 import edu.ucr.cs.riple.core.registries.region.Region;
-import edu.ucr.cs.riple.core.util.Utility;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.annotation.Nullable;
 
 /**
  * Indexes {@link Error} instances based on the enclosing region. This data structure loads its data
- * from a file at the given path.
+ * from a file at the given path. Errors of each region are stored in a hashed multiset, therefore
+ * two states can be compared in linear time.
  */
 public class Index {
 
   /** Contents of the index. */
-  private final Multimap<Region, Error> items;
+  private final Map<Region, Multiset<Error>> items;
 
   /** ModuleInfo of the module which indexed errors are reported on. */
   private final ModuleInfo moduleInfo;
@@ -50,18 +57,66 @@ public class Index {
   /** Annotator context. */
   private final Context context;
 
+  /**
+   * Regions which are indexed in the latest index process, or {@code null} if all regions are
+   * indexed.
+   */
+  @Nullable private ImmutableSet<Region> scope;
+
   /** Creates an instance of Index. Contents are accumulated from multiple sources. */
   public Index(Context context, ModuleInfo moduleInfo) {
     this.context = context;
     this.moduleInfo = moduleInfo;
-    this.items = MultimapBuilder.hashKeys().arrayListValues().build();
+    this.items = new HashMap<>();
   }
 
   /** Starts the reading and index process. */
   public void index() {
+    populate(context.checker.deserializeErrors(moduleInfo), null);
+  }
+
+  /**
+   * Starts the reading and index process, only errors enclosed by the given regions are indexed.
+   *
+   * @param regions Regions to index.
+   */
+  public void index(Set<Region> regions) {
+    populate(context.checker.deserializeErrors(moduleInfo, regions), regions);
+  }
+
+  /**
+   * Starts the reading and index process on the output of a build on the given working copy, only
+   * errors enclosed by the given regions are indexed.
+   *
+   * @param workingCopy Working copy which is built.
+   * @param regions Regions to index.
+   */
+  public void index(WorkingCopy workingCopy, Set<Region> regions) {
+    populate(context.checker.deserializeErrors(moduleInfo, workingCopy, regions), regions);
+  }
+
+  /**
+   * Replaces the contents of the index with the given errors.
+   *
+   * @param errors Errors to index.
+   * @param regions Regions which the given errors are collected from, or {@code null} if errors
+   *     are collected from all regions.
+   */
+  private void populate(Collection<? extends Error> errors, @Nullable Set<Region> regions) {
     items.clear();
-    Utility.readErrorsFromOutputDirectory(context, moduleInfo, Error.class)
-        .forEach(error -> items.put(error.getRegion(), error));
+    scope = regions == null ? null : ImmutableSet.copyOf(regions);
+    errors.forEach(
+        error -> items.computeIfAbsent(error.getRegion(), k -> HashMultiset.create()).add(error));
+  }
+
+  /**
+   * Checks if errors enclosed by the given region are indexed in the latest index process.
+   *
+   * @param region Region to check.
+   * @return true, if errors of the given region are indexed.
+   */
+  public boolean covers(Region region) {
+    return scope == null || scope.contains(region);
   }
 
   /**
@@ -70,17 +125,28 @@ public class Index {
    * @param region Enclosing region.
    * @return Stored contents that are enclosed by the given region.
    */
-  public Collection<Error> get(Region region) {
-    return items.get(region);
+  public Multiset<Error> get(Region region) {
+    return items.getOrDefault(region, ImmutableMultiset.of());
   }
 
   /**
    * Returns all values.
    *
-   * @return Collection of all values.
+   * @return Multiset of all values.
+   */
+  public Multiset<Error> values() {
+    Multiset<Error> values = HashMultiset.create();
+    items.values().forEach(values::addAll);
+    return values;
+  }
+
+  /**
+   * Returns a stream over all values without copying them.
+   *
+   * @return Stream of all values.
    */
-  public Collection<Error> values() {
-    return items.values();
+  public Stream<Error> stream() {
+    return items.values().stream().flatMap(Collection::stream);
   }
 
   /**
@@ -90,6 +156,6 @@ public class Index {
    * @return Set of regions.
    */
   public Set<Region> getRegionsOfMatchingItems(Predicate<Error> predicate) {
-    return values().stream().filter(predicate).map(t -> t.region).collect(Collectors.toSet());
+    return stream().filter(predicate).map(t -> t.region).collect(Collectors.toSet());
   }
 }
@@ -0,0 +1,86 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.registries.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Index from fixes to the errors of a fixed collection of errors they resolve. Errors resolvable by
+ * a single fix, which are the vast majority, are only counted per fix, and the number of errors
+ * resolved by a set of fixes is the sum of counts of fixes in the set. Errors requiring multiple
+ * fixes are checked individually. Equal errors at different positions in the collection are
+ * counted separately.
+ */
+public class ResolvableErrorIndex {
+
+  /** Number of errors resolvable by a single fix, indexed by the id of the fix. */
+  private final int[] singleFixErrorCounts;
+
+  /** Errors requiring multiple fixes to be resolved. */
+  private final List<Error> multiFixErrors;
+
+  public ResolvableErrorIndex(Collection<? extends Error> errors) {
+    int bound = 0;
+    for (Error error : errors) {
+      for (int id : error.getResolvingFixIds()) {
+        bound = Math.max(bound, id + 1);
+      }
+    }
+    this.singleFixErrorCounts = new int[bound];
+    this.multiFixErrors = new ArrayList<>();
+    for (Error error : errors) {
+      int[] ids = error.getResolvingFixIds();
+      if (ids.length == 1) {
+        singleFixErrorCounts[ids[0]]++;
+      } else if (ids.length > 1) {
+        multiFixErrors.add(error);
+      }
+    }
+  }
+
+  /**
+   * Returns the number of indexed errors resolvable with the given fixes.
+   *
+   * @param fixes Set of fixes.
+   * @return Number of resolved errors.
+   */
+  public int countResolvedBy(FixIdSet fixes) {
+    // Each single fix error is only resolved by its fix, counts of distinct fixes add up.
+    int count = 0;
+    for (int id = fixes.nextId(0);
+        id >= 0 && id < singleFixErrorCounts.length;
+        id = fixes.nextId(id + 1)) {
+      count += singleFixErrorCounts[id];
+    }
+    for (Error error : multiFixErrors) {
+      if (error.isResolvableWith(fixes)) {
+        count++;
+      }
+    }
+    return count;
+  }
+}
@@ -139,11 +139,12 @@ public class MethodRecord {
   }
 
   /**
-   * Adds a child to the list of children.
+   * Adds a child to the list of children. Children can be added concurrently while loading method
+   * records of multiple modules.
    *
    * @param id Child id.
    */
-  void addChild(Integer id) {
+  synchronized void addChild(Integer id) {
     if (children == null) {
       children = new HashSet<>();
     }
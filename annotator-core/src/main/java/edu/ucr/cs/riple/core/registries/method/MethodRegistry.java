@@ -29,6 +29,7 @@ import static edu.ucr.cs.riple.scanner.out.MethodRecord.ANNOTATION_DELIMITER;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.MultimapBuilder;
+import com.google.common.collect.Multimaps;
 import edu.ucr.cs.riple.core.Context;
 import edu.ucr.cs.riple.core.module.ModuleConfiguration;
 import edu.ucr.cs.riple.core.registries.Registry;
@@ -37,10 +38,11 @@ import edu.ucr.cs.riple.injector.location.Location;
 import edu.ucr.cs.riple.injector.location.OnMethod;
 import edu.ucr.cs.riple.injector.util.ASTUtils;
 import edu.ucr.cs.riple.scanner.Serializer;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.nio.file.Path;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.annotation.Nullable;
 
 /**
@@ -49,8 +51,11 @@ import javax.annotation.Nullable;
  */
 public class MethodRegistry extends Registry<MethodRecord> {
 
-  /** Each method has a unique id across all methods. This hashmap, maps ids to nodes. */
-  private HashMap<Integer, MethodRecord> nodes;
+  /**
+   * Each method has a unique id across all methods. This map, maps ids to nodes. Files of multiple
+   * modules are loaded concurrently, hence all structures filled while loading are thread-safe.
+   */
+  private Map<Integer, MethodRecord> nodes;
 
   /** A map from class flat name to its declared constructors */
   private Multimap<String, MethodRecord> classConstructorMap;
@@ -58,6 +63,12 @@ public class MethodRegistry extends Registry<MethodRecord> {
   /** Set of all classes flat name declared in module. */
   private Set<String> declaredClasses;
 
+  /**
+   * Deserialized paths of source files, many methods share a source file and deserializing the path
+   * once per file avoids repeated work on loading.
+   */
+  private Map<String, Path> paths;
+
   public MethodRegistry(Context context) {
     this(ImmutableSet.of(context.targetConfiguration), context);
   }
@@ -73,9 +84,11 @@ public class MethodRegistry extends Registry<MethodRecord> {
   @Override
   protected void setup() {
     super.setup();
-    this.declaredClasses = new HashSet<>();
-    this.classConstructorMap = MultimapBuilder.hashKeys().hashSetValues().build();
-    this.nodes = new HashMap<>();
+    this.declaredClasses = ConcurrentHashMap.newKeySet();
+    this.classConstructorMap =
+        Multimaps.synchronizedSetMultimap(MultimapBuilder.hashKeys().hashSetValues().build());
+    this.nodes = new ConcurrentHashMap<>();
+    this.paths = new ConcurrentHashMap<>();
     // The root node of this tree with id: 0.
     nodes.put(MethodRecord.TOP.id, MethodRecord.TOP);
   }
@@ -85,20 +98,16 @@ public class MethodRegistry extends Registry<MethodRecord> {
     return values -> {
       // Nodes unique id.
       Integer id = Integer.parseInt(values[0]);
-      MethodRecord node;
-      if (nodes.containsKey(id)) {
-        node = nodes.get(id);
-      } else {
-        node = new MethodRecord(id);
-        nodes.put(id, node);
-      }
+      MethodRecord node = nodes.computeIfAbsent(id, MethodRecord::new);
       // Fill nodes information.
       Integer parentId = Integer.parseInt(values[3]);
-      OnMethod location = new OnMethod(Printer.deserializePath(values[8]), values[1], values[2]);
+      OnMethod location =
+          new OnMethod(
+              paths.computeIfAbsent(values[8], Printer::deserializePath), values[1], values[2]);
       boolean isConstructor =
           ASTUtils.extractCallableName(location.method).equals(ASTUtils.simpleName(location.clazz));
       node.fillInformation(
-          new OnMethod(Printer.deserializePath(values[8]), values[1], values[2]),
+          location,
           parentId,
           ImmutableSet.copyOf(values[5].split(ANNOTATION_DELIMITER)),
           values[6],
@@ -106,14 +115,8 @@ public class MethodRegistry extends Registry<MethodRecord> {
           isConstructor);
       // If node has a non-top parent.
       if (parentId > 0) {
-        MethodRecord parent = nodes.get(parentId);
-        // If parent has not been seen visited before.
-        if (parent == null) {
-          parent = new MethodRecord(parentId);
-          nodes.put(parentId, parent);
-        }
-        // Parent is already visited.
-        parent.addChild(id);
+        // Parent is created if it has not been visited before.
+        nodes.computeIfAbsent(parentId, MethodRecord::new).addChild(id);
       }
       // Update list of all declared classes.
       declaredClasses.add(node.location.clazz);
@@ -27,8 +27,10 @@ package edu.ucr.cs.riple.core.registries.region;
 import com.google.common.collect.ImmutableSet;
 import edu.ucr.cs.riple.core.Context;
 import edu.ucr.cs.riple.core.module.ModuleInfo;
+import edu.ucr.cs.riple.core.registries.Registry;
 import edu.ucr.cs.riple.core.registries.region.generatedcode.AnnotationProcessorHandler;
 import edu.ucr.cs.riple.injector.location.Location;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Container class for all region registries. This region registry can identify impacted regions for
@@ -49,14 +51,24 @@ public class CompoundRegionRegistry implements RegionRegistry {
    */
   private final MethodRegionRegistry methodRegionRegistry;
 
+  /** Field region registry, stored to be shared with other consumers of this module. */
+  private final FieldRegionRegistry fieldRegionRegistry;
+
   public CompoundRegionRegistry(ModuleInfo moduleInfo, Context context) {
     this.moduleInfo = moduleInfo;
+    // Field and method region registries are loaded concurrently.
+    CompletableFuture<FieldRegionRegistry> fieldRegionRegistryLoad =
+        CompletableFuture.supplyAsync(
+            () -> new FieldRegionRegistry(moduleInfo, context),
+            context.getRegistryLoaderExecutor());
     this.methodRegionRegistry = new MethodRegionRegistry(moduleInfo, context);
+    this.fieldRegionRegistry = Registry.join(fieldRegionRegistryLoad);
     this.registries =
         ImmutableSet.of(
-            new FieldRegionRegistry(moduleInfo, context),
+            fieldRegionRegistry,
             methodRegionRegistry,
-            new ParameterRegionRegistry(moduleInfo, methodRegionRegistry));
+            new ParameterRegionRegistry(
+                moduleInfo, methodRegionRegistry.getMemberRegionIndex()));
   }
 
   @Override
@@ -92,4 +104,13 @@ public class CompoundRegionRegistry implements RegionRegistry {
   public MethodRegionRegistry getMethodRegionRegistry() {
     return methodRegionRegistry;
   }
+
+  /**
+   * Returns the field region registry created by this instance.
+   *
+   * @return Field region registry instance.
+   */
+  public FieldRegionRegistry getFieldRegionRegistry() {
+    return fieldRegionRegistry;
+  }
 }
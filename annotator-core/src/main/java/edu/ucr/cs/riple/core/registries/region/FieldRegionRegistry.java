@@ -28,7 +28,6 @@ import com.google.common.collect.ImmutableSet;
 import edu.ucr.cs.riple.core.Context;
 import edu.ucr.cs.riple.core.module.ModuleInfo;
 import edu.ucr.cs.riple.core.registries.Registry;
-import edu.ucr.cs.riple.core.util.Utility;
 import edu.ucr.cs.riple.injector.location.Location;
 import edu.ucr.cs.riple.injector.location.OnField;
 import edu.ucr.cs.riple.scanner.Serializer;
@@ -43,6 +42,9 @@ public class FieldRegionRegistry extends Registry<RegionRecord> implements Regio
   /** ModuleInfo of the module which usages of fields are stored. */
   private final ModuleInfo moduleInfo;
 
+  /** Index from each field to the regions where it is read or written. */
+  private final MemberRegionIndex index;
+
   public FieldRegionRegistry(ModuleInfo moduleInfo, Context context) {
     super(
         moduleInfo.getModuleConfigurations().stream()
@@ -52,11 +54,12 @@ public class FieldRegionRegistry extends Registry<RegionRecord> implements Regio
             .collect(ImmutableSet.toImmutableSet()),
         context);
     this.moduleInfo = moduleInfo;
+    this.index = MemberRegionIndex.of(contents.values());
   }
 
   @Override
   protected Builder<RegionRecord> getBuilder() {
-    return Utility::deserializeImpactedRegionRecord;
+    return new RegionRecordBuilder();
   }
 
   @Override
@@ -90,11 +93,11 @@ public class FieldRegionRegistry extends Registry<RegionRecord> implements Regio
       return ImmutableSet.of();
     }
     OnField field = location.toField();
-    return findRecordsWithHashHint(
-            candidate ->
-                candidate.encClass.equals(field.clazz) && field.isOnFieldWithName(candidate.member),
-            RegionRecord.hash(field.clazz))
-        .map(regionRecord -> regionRecord.region)
-        .collect(ImmutableSet.toImmutableSet());
+    if (field.variables.size() == 1) {
+      return index.getRegions(field.clazz, field.variables.iterator().next());
+    }
+    ImmutableSet.Builder<Region> builder = ImmutableSet.builder();
+    field.variables.forEach(variable -> builder.addAll(index.getRegions(field.clazz, variable)));
+    return builder.build();
   }
 }
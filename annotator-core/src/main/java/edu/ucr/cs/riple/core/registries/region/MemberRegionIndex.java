@@ -0,0 +1,94 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.registries.region;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Two-level index from a class member, identified by the flat name of its enclosing class and its
+ * name, to the immutable set of regions where the member is used. The index is built once when
+ * the registry holding it is loaded. Class and member names are interned while building the index
+ * and each set is stored once, lookups return the stored set without copying.
+ */
+public class MemberRegionIndex {
+
+  /** Regions where each member is used, indexed by class flat name and member name. */
+  private final ImmutableMap<String, ImmutableMap<String, ImmutableSet<Region>>> index;
+
+  private MemberRegionIndex(
+      ImmutableMap<String, ImmutableMap<String, ImmutableSet<Region>>> index) {
+    this.index = index;
+  }
+
+  /**
+   * Builds the index of the given region records.
+   *
+   * @param records Records of member usages.
+   * @return Index of the records.
+   */
+  public static MemberRegionIndex of(Iterable<RegionRecord> records) {
+    Interner<String> interner = Interners.newStrongInterner();
+    Map<String, Map<String, Set<Region>>> usages = new HashMap<>();
+    for (RegionRecord record : records) {
+      usages
+          .computeIfAbsent(interner.intern(record.encClass), clazz -> new HashMap<>())
+          .computeIfAbsent(interner.intern(record.member), member -> new LinkedHashSet<>())
+          .add(record.region);
+    }
+    ImmutableMap.Builder<String, ImmutableMap<String, ImmutableSet<Region>>> builder =
+        ImmutableMap.builderWithExpectedSize(usages.size());
+    usages.forEach(
+        (clazz, members) -> {
+          ImmutableMap.Builder<String, ImmutableSet<Region>> membersBuilder =
+              ImmutableMap.builderWithExpectedSize(members.size());
+          members.forEach(
+              (member, regions) -> membersBuilder.put(member, ImmutableSet.copyOf(regions)));
+          builder.put(clazz, membersBuilder.build());
+        });
+    return new MemberRegionIndex(builder.build());
+  }
+
+  /**
+   * Returns the regions where the given member is used.
+   *
+   * @param clazz Flat name of the enclosing class of the member.
+   * @param member Name of the member, signature for methods.
+   * @return Immutable set of regions where the member is used, empty if it is not used.
+   */
+  public ImmutableSet<Region> getRegions(String clazz, String member) {
+    ImmutableMap<String, ImmutableSet<Region>> members = index.get(clazz);
+    if (members == null) {
+      return ImmutableSet.of();
+    }
+    return members.getOrDefault(member, ImmutableSet.of());
+  }
+}
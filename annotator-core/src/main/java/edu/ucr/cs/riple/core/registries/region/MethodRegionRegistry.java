@@ -29,7 +29,6 @@ import edu.ucr.cs.riple.core.Context;
 import edu.ucr.cs.riple.core.module.ModuleInfo;
 import edu.ucr.cs.riple.core.registries.Registry;
 import edu.ucr.cs.riple.core.registries.method.MethodRecord;
-import edu.ucr.cs.riple.core.util.Utility;
 import edu.ucr.cs.riple.injector.location.Location;
 import edu.ucr.cs.riple.injector.location.OnMethod;
 import edu.ucr.cs.riple.scanner.Serializer;
@@ -43,6 +42,9 @@ public class MethodRegionRegistry extends Registry<RegionRecord> implements Regi
   /** ModuleInfo of the module which usage of methods are stored. */
   private final ModuleInfo moduleInfo;
 
+  /** Index from each method to the regions where it is called. */
+  private final MemberRegionIndex index;
+
   public MethodRegionRegistry(ModuleInfo moduleInfo, Context context) {
     super(
         moduleInfo.getModuleConfigurations().stream()
@@ -50,11 +52,12 @@ public class MethodRegionRegistry extends Registry<RegionRecord> implements Regi
             .collect(ImmutableSet.toImmutableSet()),
         context);
     this.moduleInfo = moduleInfo;
+    this.index = MemberRegionIndex.of(contents.values());
   }
 
   @Override
   protected Builder<RegionRecord> getBuilder() {
-    return Utility::deserializeImpactedRegionRecord;
+    return new RegionRecordBuilder();
   }
 
   @Override
@@ -83,12 +86,15 @@ public class MethodRegionRegistry extends Registry<RegionRecord> implements Regi
     }
     OnMethod onMethod = location.toMethod();
     // Add callers of method.
-    return findRecordsWithHashHint(
-            candidate ->
-                candidate.encClass.equals(onMethod.clazz)
-                    && candidate.member.equals(onMethod.method),
-            RegionRecord.hash(onMethod.clazz))
-        .map(node -> node.region)
-        .collect(ImmutableSet.toImmutableSet());
+    return index.getRegions(onMethod.clazz, onMethod.method);
+  }
+
+  /**
+   * Returns the index from each method to the regions where it is called.
+   *
+   * @return Index of method usages.
+   */
+  public MemberRegionIndex getMemberRegionIndex() {
+    return index;
   }
 }
@@ -39,12 +39,15 @@ public class ParameterRegionRegistry implements RegionRegistry {
   /** ModuleInfo of the module which usage of parameters are stored. */
   private final ModuleInfo moduleInfo;
 
-  /** {@link MethodRegionRegistry} instance, used to retrieve all sites. */
-  private final MethodRegionRegistry methodRegionRegistry;
+  /**
+   * Index of method usages, shared with the {@link MethodRegionRegistry} of the module and used to
+   * retrieve all call sites.
+   */
+  private final MemberRegionIndex methodUsages;
 
-  public ParameterRegionRegistry(ModuleInfo moduleInfo, MethodRegionRegistry methodRegionRegistry) {
+  public ParameterRegionRegistry(ModuleInfo moduleInfo, MemberRegionIndex methodUsages) {
     this.moduleInfo = moduleInfo;
-    this.methodRegionRegistry = methodRegionRegistry;
+    this.methodUsages = methodUsages;
   }
 
   @Override
@@ -74,7 +77,8 @@ public class ParameterRegionRegistry implements RegionRegistry {
     // (passing `@Nullable` to `@Nonnull` parameter) as bar#o is temporarily annotated as @Nullable
     // to compute its impact.
     // See test: CoreTest#nestedParameters.
-    builder.addAll(methodRegionRegistry.getImpactedRegionsByUse(parameter.toMethod()));
+    builder.addAll(
+        methodUsages.getRegions(parameter.clazz, parameter.enclosingMethod.method));
     return builder.build();
   }
 
@@ -0,0 +1,57 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.registries.region;
+
+import com.google.common.base.Preconditions;
+import edu.ucr.cs.riple.core.registries.Registry;
+import edu.ucr.cs.riple.scanner.generatedcode.SourceType;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builder of {@link RegionRecord} instances from rows of impacted region files. Each region is
+ * usually impacted by many members, records of an identical region share a single {@link Region}
+ * instance which is created once.
+ */
+class RegionRecordBuilder implements Registry.Builder<RegionRecord> {
+
+  /** Created regions keyed by their enclosing class, member and source type. */
+  private final Map<List<String>, Region> regions = new HashMap<>();
+
+  @Override
+  public RegionRecord build(String[] values) {
+    Preconditions.checkArgument(
+        values.length == 5,
+        "Expected 5 values to create Impacted Region Record instance in this version of Annotator but found: "
+            + values.length);
+    Region region =
+        regions.computeIfAbsent(
+            Arrays.asList(values[0], values[1], values[4]),
+            key -> new Region(values[0], values[1], SourceType.valueOf(values[4])));
+    return new RegionRecord(region, values[2], values[3]);
+  }
+}
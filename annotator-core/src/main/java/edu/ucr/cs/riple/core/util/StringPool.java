@@ -0,0 +1,136 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.util;
+
+import java.util.Arrays;
+
+/**
+ * Pool of strings created from ranges of characters. Equal ranges are resolved to the same string
+ * instance, and a string is only allocated for the first occurrence of its content. Used to share
+ * values repeated across lines of serialized outputs, such as class names, member signatures and
+ * paths. This class is not thread-safe.
+ */
+public class StringPool {
+
+  /** Open addressing hash table of pooled strings, its length is always a power of two. */
+  private String[] table;
+
+  /** Number of pooled strings. */
+  private int size;
+
+  public StringPool() {
+    this.table = new String[1 << 10];
+  }
+
+  /**
+   * Returns the pooled string with the content of the given range of characters. The string is
+   * created and added to the pool if no string with the same content is pooled yet.
+   *
+   * @param chars Characters to read the content from.
+   * @param start Start index of the range, inclusive.
+   * @param end End index of the range, exclusive.
+   * @return Pooled string with the content of the given range.
+   */
+  public String intern(char[] chars, int start, int end) {
+    // Same hash as String#hashCode, which is cached by strings and compared before contents.
+    int hash = 0;
+    for (int i = start; i < end; i++) {
+      hash = 31 * hash + chars[i];
+    }
+    int mask = table.length - 1;
+    int index = spread(hash) & mask;
+    String candidate;
+    while ((candidate = table[index]) != null) {
+      if (candidate.hashCode() == hash && contentEquals(candidate, chars, start, end)) {
+        return candidate;
+      }
+      index = (index + 1) & mask;
+    }
+    String value = new String(chars, start, end - start);
+    table[index] = value;
+    if (++size * 2 > table.length) {
+      rehash();
+    }
+    return value;
+  }
+
+  /**
+   * Returns the number of pooled strings.
+   *
+   * @return Number of pooled strings.
+   */
+  public int size() {
+    return size;
+  }
+
+  /** Doubles the capacity of the table and reinserts all pooled strings. */
+  private void rehash() {
+    String[] previous = table;
+    table = new String[previous.length * 2];
+    int mask = table.length - 1;
+    Arrays.stream(previous)
+        .filter(value -> value != null)
+        .forEach(
+            value -> {
+              int index = spread(value.hashCode()) & mask;
+              while (table[index] != null) {
+                index = (index + 1) & mask;
+              }
+              table[index] = value;
+            });
+  }
+
+  /**
+   * Spreads higher bits of the hash to lower bits, as strings with common prefixes and suffixes
+   * mostly differ in few bits.
+   *
+   * @param hash Hash of the content.
+   * @return Spread hash.
+   */
+  private static int spread(int hash) {
+    return hash ^ (hash >>> 16);
+  }
+
+  /**
+   * Checks if the given string has the content of the given range of characters.
+   *
+   * @param value String to compare.
+   * @param chars Characters of the range.
+   * @param start Start index of the range, inclusive.
+   * @param end End index of the range, exclusive.
+   * @return true, if the contents are equal.
+   */
+  private static boolean contentEquals(String value, char[] chars, int start, int end) {
+    if (value.length() != end - start) {
+      return false;
+    }
+    for (int i = start; i < end; i++) {
+      if (value.charAt(i - start) != chars[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,218 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.util;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Reader of tab separated files which tokenizes lines in place. The file is memory-mapped and
+ * decoded once, fields of the current line are only tracked as ranges of the decoded characters
+ * and are materialized on request, either as ints without allocation or as strings shared through
+ * a {@link StringPool}. Lines are terminated by {@code \n} or {@code \r\n}, and a trailing empty
+ * field is reported as a field.
+ */
+public class TabSeparatedReader {
+
+  /** Decoded characters of the file. */
+  private final char[] chars;
+
+  /** End of the decoded characters in {@link #chars}, exclusive. */
+  private final int limit;
+
+  /** Start of the next line in {@link #chars}. */
+  private int position;
+
+  /** Start indices of fields of the current line, inclusive. */
+  private int[] starts;
+
+  /** End indices of fields of the current line, exclusive. */
+  private int[] ends;
+
+  /** Number of fields of the current line. */
+  private int fieldCount;
+
+  /**
+   * Creates a reader over the given characters.
+   *
+   * @param buffer Characters to read, from its position to its limit.
+   */
+  public TabSeparatedReader(CharBuffer buffer) {
+    if (buffer.hasArray()) {
+      this.chars = buffer.array();
+      this.position = buffer.arrayOffset() + buffer.position();
+      this.limit = buffer.arrayOffset() + buffer.limit();
+    } else {
+      this.chars = new char[buffer.remaining()];
+      buffer.duplicate().get(chars);
+      this.position = 0;
+      this.limit = chars.length;
+    }
+    this.starts = new int[16];
+    this.ends = new int[16];
+  }
+
+  /**
+   * Opens a reader over the content of the given file.
+   *
+   * @param path Path to the file.
+   * @param charset Charset of the file.
+   * @return Reader over the content of the file.
+   * @throws IOException if the file could not be read.
+   */
+  public static TabSeparatedReader open(Path path, Charset charset) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      MappedByteBuffer content = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      return new TabSeparatedReader(
+          charset
+              .newDecoder()
+              .onMalformedInput(CodingErrorAction.REPLACE)
+              .onUnmappableCharacter(CodingErrorAction.REPLACE)
+              .decode(content));
+    }
+  }
+
+  /**
+   * Advances to the next line and tokenizes its fields.
+   *
+   * @return true, if a line is read, false if the end of the content is reached.
+   */
+  public boolean nextLine() {
+    if (position >= limit) {
+      return false;
+    }
+    fieldCount = 0;
+    int start = position;
+    int index = position;
+    while (index < limit && chars[index] != '\n') {
+      if (chars[index] == '\t') {
+        addField(start, index);
+        start = index + 1;
+      }
+      index++;
+    }
+    position = index + 1;
+    addField(start, index > start && chars[index - 1] == '\r' ? index - 1 : index);
+    return true;
+  }
+
+  /**
+   * Returns the number of fields of the current line.
+   *
+   * @return Number of fields.
+   */
+  public int fieldCount() {
+    return fieldCount;
+  }
+
+  /**
+   * Returns the content of a field of the current line, shared through the given pool.
+   *
+   * @param field Index of the field.
+   * @param pool Pool of strings.
+   * @return Content of the field.
+   */
+  public String getString(int field, StringPool pool) {
+    checkField(field);
+    return pool.intern(chars, starts[field], ends[field]);
+  }
+
+  /**
+   * Returns the content of a field of the current line.
+   *
+   * @param field Index of the field.
+   * @return Content of the field.
+   */
+  public String getString(int field) {
+    checkField(field);
+    return new String(chars, starts[field], ends[field] - starts[field]);
+  }
+
+  /**
+   * Parses a field of the current line as a decimal int without creating intermediate strings.
+   *
+   * @param field Index of the field.
+   * @return Parsed value.
+   * @throws NumberFormatException if the field is not a decimal int.
+   */
+  public int getInt(int field) {
+    checkField(field);
+    int start = starts[field];
+    int end = ends[field];
+    boolean negative = start < end && chars[start] == '-';
+    int index = negative ? start + 1 : start;
+    if (index == end) {
+      throw new NumberFormatException("For input string: \"" + getString(field) + "\"");
+    }
+    long value = 0;
+    for (; index < end; index++) {
+      int digit = chars[index] - '0';
+      if (digit < 0 || digit > 9 || value > Integer.MAX_VALUE + 1L) {
+        throw new NumberFormatException("For input string: \"" + getString(field) + "\"");
+      }
+      value = value * 10 + digit;
+    }
+    value = negative ? -value : value;
+    if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+      throw new NumberFormatException("For input string: \"" + getString(field) + "\"");
+    }
+    return (int) value;
+  }
+
+  /**
+   * Adds a field to the fields of the current line.
+   *
+   * @param start Start index of the field, inclusive.
+   * @param end End index of the field, exclusive.
+   */
+  private void addField(int start, int end) {
+    if (fieldCount == starts.length) {
+      starts = Arrays.copyOf(starts, fieldCount * 2);
+      ends = Arrays.copyOf(ends, fieldCount * 2);
+    }
+    starts[fieldCount] = start;
+    ends[fieldCount] = end;
+    fieldCount++;
+  }
+
+  /**
+   * Checks that the current line has the given field.
+   *
+   * @param field Index of the field.
+   */
+  private void checkField(int field) {
+    if (field < 0 || field >= fieldCount) {
+      throw new IndexOutOfBoundsException(
+          "Field " + field + " does not exist in a line with " + fieldCount + " fields");
+    }
+  }
+}
@@ -24,22 +24,21 @@
 
 package edu.ucr.cs.riple.core.util;
 
-import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableSet;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import edu.ucr.cs.riple.core.Config;
 import edu.ucr.cs.riple.core.Context;
 import edu.ucr.cs.riple.core.Report;
+import edu.ucr.cs.riple.core.build.BuildResult;
+import edu.ucr.cs.riple.core.evaluators.graph.processors.CompilationPlan;
+import edu.ucr.cs.riple.core.evaluators.graph.processors.CompilerRunner;
 import edu.ucr.cs.riple.core.module.ModuleConfiguration;
 import edu.ucr.cs.riple.core.module.ModuleInfo;
 import edu.ucr.cs.riple.core.registries.index.Error;
 import edu.ucr.cs.riple.core.registries.index.Fix;
-import edu.ucr.cs.riple.core.registries.region.Region;
-import edu.ucr.cs.riple.core.registries.region.RegionRecord;
 import edu.ucr.cs.riple.scanner.AnnotatorScanner;
 import edu.ucr.cs.riple.scanner.ScannerConfigWriter;
-import edu.ucr.cs.riple.scanner.generatedcode.SourceType;
 import java.io.BufferedWriter;
 import java.io.IOException;
 import java.nio.charset.Charset;
@@ -52,35 +51,15 @@ import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import javax.annotation.Nullable;
 import me.tongfei.progressbar.ProgressBar;
 import me.tongfei.progressbar.ProgressBarStyle;
 
 /** Utility class. */
 public class Utility {
 
-  /**
-   * Executes a shell command in a subprocess. If {@link Config#redirectBuildOutputToStdErr} is
-   * activated, it will write the command's output in std error.
-   *
-   * @param config Annotator configuration.
-   * @param command The shell command to run.
-   */
-  public static void executeCommand(Config config, String command) {
-    try {
-      ProcessBuilder pb = new ProcessBuilder("/bin/sh", "-c", command);
-      if (config.redirectBuildOutputToStdErr) {
-        pb.redirectError(ProcessBuilder.Redirect.INHERIT);
-        pb.redirectOutput(ProcessBuilder.Redirect.INHERIT);
-      } else {
-        // to avoid buffer filling up
-        pb.redirectError(ProcessBuilder.Redirect.DISCARD);
-        pb.redirectOutput(ProcessBuilder.Redirect.DISCARD);
-      }
-      pb.start().waitFor();
-    } catch (Exception e) {
-      throw new RuntimeException("Exception happened in executing command: " + command, e);
-    }
-  }
+  /** Delay before the first retry of a failed build in milliseconds, doubled on each retry. */
+  private static final long BUILD_RETRY_BACKOFF_MILLIS = 1000;
 
   /**
    * Writes reports content in json format in reports.json file in the output directory.
@@ -168,6 +147,7 @@ public class Utility {
         .setSerializationActivation(activation)
         .addGeneratedCodeDetectors(config.generatedCodeDetectors)
         .setOutput(info.dir)
+        .setSerializationFormat(config.serializationFormat)
         .setNonnullAnnotations(config.getNonnullAnnotations())
         .writeAsXML(info.scannerConfig);
   }
@@ -196,25 +176,10 @@ public class Utility {
   public static void runScannerChecker(
       Context context, ImmutableSet<ModuleConfiguration> configurations, String buildCommand) {
     Utility.setScannerCheckerActivation(context.config, configurations, true);
-    Utility.build(context, buildCommand);
+    Utility.build(context, configurations, buildCommand);
     Utility.setScannerCheckerActivation(context.config, configurations, false);
   }
 
-  /**
-   * Deserializes a {@link RegionRecord} corresponding to values stored in a string array.
-   *
-   * @param values String array of values.
-   * @return Deserialized {@link RegionRecord} instance corresponding to the given values.
-   */
-  public static RegionRecord deserializeImpactedRegionRecord(String[] values) {
-    Preconditions.checkArgument(
-        values.length == 5,
-        "Expected 5 values to create Impacted Region Record instance in this version of Annotator but found: "
-            + values.length);
-    return new RegionRecord(
-        new Region(values[0], values[1], SourceType.valueOf(values[4])), values[2], values[3]);
-  }
-
   /**
    * Builds all downstream dependencies.
    *
@@ -222,7 +187,10 @@ public class Utility {
    */
   public static void buildDownstreamDependencies(Context context) {
     context.checker.prepareConfigFilesForBuild(context.downstreamConfigurations);
-    build(context, context.config.downstreamDependenciesBuildCommand);
+    build(
+        context,
+        context.downstreamConfigurations,
+        context.config.downstreamDependenciesBuildCommand);
   }
 
   /**
@@ -231,24 +199,145 @@ public class Utility {
    * @param context Annotator context.
    */
   public static void buildTarget(Context context) {
+    buildTarget(context, null);
+  }
+
+  /**
+   * Builds target where only the sources in the given plan are required to be recompiled. The plan
+   * is used only if incremental compilation is activated. Builds of the target only read checker
+   * outputs, therefore the evaluation build command is used if the target is not compiled in
+   * process. The build is skipped if the outputs of the startup build are still up to date.
+   *
+   * @param context Annotator context.
+   * @param plan Compilation plan of the build, {@code null} if all sources must be recompiled.
+   */
+  public static void buildTarget(Context context, @Nullable CompilationPlan plan) {
+    if (context.areTargetOutputsUpToDate()) {
+      return;
+    }
     context.checker.prepareConfigFilesForBuild(context.targetModuleInfo.getModuleConfigurations());
-    build(context, context.config.buildCommand);
+    CompilerRunner runner = context.getInProcessCompilerRunner();
+    if (runner == null) {
+      build(
+          context,
+          context.targetModuleInfo.getModuleConfigurations(),
+          context.config.getEvaluationBuildCommand());
+    } else if (plan == null || !context.config.incrementalCompilation) {
+      compile(context, runner);
+    } else {
+      compile(context, () -> runner.run(plan));
+    }
   }
 
   /**
-   * Builds module(s).
+   * Builds module(s) with the {@link edu.ucr.cs.riple.core.build.BuildExecutor} of the context.
+   * Outputs of the checker for the given configurations are deleted before each attempt, so outputs
+   * of a previous build are never read. A build is successful if the checker wrote fresh outputs
+   * for all given configurations and the build exits with a code in {@link Config#buildExitCodes},
+   * or with {@link BuildResult#CHECKER_ERROR_EXIT_CODE} while its captured output reports only
+   * errors of the checker, as builds reporting checker errors at error level fail. Failed builds,
+   * including builds which time out, are retried up to {@link Config#buildRetries} times with
+   * exponential backoff. If all attempts fail, an exception is thrown.
    *
    * @param context Annotator context.
+   * @param configurations Configurations of the built modules which checker outputs are read.
    * @param command Command to run to build module(s).
    */
-  public static void build(Context context, String command) {
+  public static void build(
+      Context context, ImmutableSet<ModuleConfiguration> configurations, String command) {
+    // Any build may overwrite the outputs of the target module.
+    context.invalidateTargetOutputs();
+    context.log.incrementBuildRequest();
+    long backoff = BUILD_RETRY_BACKOFF_MILLIS;
+    for (int attempt = 0; ; attempt++) {
+      ImmutableSet<Path> outputs =
+          configurations.stream()
+              .flatMap(configuration -> context.checker.getOutputFiles(configuration).stream())
+              .collect(ImmutableSet.toImmutableSet());
+      deleteFiles(outputs);
+      long timer = context.log.startTimer();
+      BuildResult result = context.getBuildExecutor().execute(command);
+      context.log.stopTimerAndCaptureBuildTime(timer);
+      ImmutableSet<Path> missing =
+          outputs.stream()
+              .filter(path -> !Files.exists(path))
+              .collect(ImmutableSet.toImmutableSet());
+      String outcome = result.toString();
+      if (result.isSuccessful(context.config.buildExitCodes)) {
+        if (missing.isEmpty()) {
+          return;
+        }
+        // E.g. the build tool considered the modules up to date and did not run the checker.
+        outcome += " without writing checker outputs: " + missing;
+      } else if (result.isFailedByCheckerErrors()) {
+        if (!result.reportsOnlyErrorsWithPrefix(context.checker.getDiagnosticPrefix())) {
+          // Outputs of a build failed by other errors may be partial and are never read.
+          outcome +=
+              result.output == null
+                  ? ", build output is not captured to verify only checker errors are reported"
+                  : " reporting errors other than checker errors";
+        } else if (!missing.isEmpty()) {
+          outcome += " without writing checker outputs: " + missing;
+        } else {
+          // Checker errors are reported at error level, outputs of this build are complete.
+          if (result.output != null) {
+            deleteFiles(ImmutableSet.of(result.output));
+          }
+          return;
+        }
+      }
+      if (attempt == context.config.buildRetries) {
+        throw new RuntimeException(
+            "Build failed after "
+                + (attempt + 1)
+                + " attempt(s), last attempt "
+                + outcome
+                + ", command: "
+                + command);
+      }
+      context.log.incrementBuildRetry();
+      System.err.println("Build " + outcome + ", retrying in " + backoff + " ms.");
+      try {
+        Thread.sleep(backoff);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException("Interrupted while waiting to retry command: " + command, e);
+      }
+      backoff *= 2;
+    }
+  }
+
+  /**
+   * Deletes the given files if they exist.
+   *
+   * @param paths Paths to the files.
+   */
+  private static void deleteFiles(ImmutableSet<Path> paths) {
+    for (Path path : paths) {
+      try {
+        Files.deleteIfExists(path);
+      } catch (IOException e) {
+        throw new RuntimeException("Could not delete file: " + path, e);
+      }
+    }
+  }
+
+  /**
+   * Compiles module(s) with the given compiler runner. Compilations which fail with errors not
+   * reported by the checker throw an exception, so outputs of a failed compilation are never read.
+   *
+   * @param context Annotator context.
+   * @param runner Runner to compile module(s).
+   */
+  public static void compile(Context context, CompilerRunner runner) {
+    context.invalidateTargetOutputs();
     try {
       long timer = context.log.startTimer();
-      Utility.executeCommand(context.config, command);
+      runner.run();
       context.log.stopTimerAndCaptureBuildTime(timer);
       context.log.incrementBuildRequest();
     } catch (Exception e) {
-      throw new RuntimeException("Could not run command: " + command, e);
+      throw new RuntimeException("Could not compile module(s) in process.", e);
     }
   }
 
@@ -0,0 +1,78 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core;
+
+import static org.junit.Assert.assertTrue;
+
+import edu.ucr.cs.riple.core.checkers.nullaway.NullAway;
+import edu.ucr.cs.riple.core.evaluators.graph.processors.InProcessCompilerRunner;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * Tests for analysis only compilations, where the target module is compiled in process with only
+ * the checks required by Annotator enabled.
+ */
+public class AnalysisOnlyCompilationTest extends AnnotatorBaseCoreTest {
+
+  public AnalysisOnlyCompilationTest() {
+    super("nullable-multi-modular");
+  }
+
+  @Test
+  public void nullAwayReportsErrorsInAnalysisOnlyCompilation() throws IOException {
+    Config config =
+        coreTestHelper
+            .onTarget()
+            .withSourceLines(
+                "Main.java",
+                "package test;",
+                "public class Main {",
+                "   Object run() {",
+                "     return null;",
+                "   }",
+                "}")
+            .expectNoReport()
+            .enableAnalysisOnlyCompilation()
+            .createConfig();
+    // The target module enables NullAway before disabling all checks in its Error Prone flags.
+    Context context = new Context(config);
+    try {
+      Path errors = outDirPath.resolve("0").resolve(NullAway.ERRORS_FILE_NAME);
+      Files.deleteIfExists(errors);
+      InProcessCompilerRunner runner = context.getInProcessCompilerRunner();
+      runner.run();
+      List<String> lines = Files.readAllLines(errors);
+      assertTrue(
+          "NullAway did not report errors: " + lines,
+          lines.stream().skip(1).anyMatch(line -> line.contains("RETURN_NULLABLE")));
+    } finally {
+      context.closeBuildExecutor();
+    }
+  }
+}
@@ -27,6 +27,7 @@ package edu.ucr.cs.riple.core;
 import static edu.ucr.cs.riple.core.tools.Utility.runTestWithMockedBuild;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -35,6 +36,7 @@ import com.google.common.collect.ImmutableSet;
 import edu.ucr.cs.riple.core.checkers.nullaway.FixSerializationConfig;
 import edu.ucr.cs.riple.core.checkers.nullaway.NullAway;
 import edu.ucr.cs.riple.scanner.ScannerConfigWriter;
+import edu.ucr.cs.riple.scanner.XMLUtil;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
@@ -42,6 +44,7 @@ import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -49,21 +52,11 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.xpath.XPath;
-import javax.xml.xpath.XPathConstants;
-import javax.xml.xpath.XPathExpressionException;
-import javax.xml.xpath.XPathFactory;
 import org.apache.commons.io.FileUtils;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
-import org.w3c.dom.Document;
-import org.w3c.dom.Node;
-import org.xml.sax.SAXException;
 
 public class ConfigurationTest {
 
@@ -186,33 +179,50 @@ public class ConfigurationTest {
   }
 
   @Test
-  public void testConfigFilesHaveDifferentUUID() {
+  public void testConfigFilesHaveDifferentUUID() throws IOException {
     Set<String> observed = new HashSet<>();
     // Test for NullAway config
     FixSerializationConfig config = new FixSerializationConfig();
     Path nullawayConfigPath = testDir.resolve("nullaway.xml");
+    config.writeNullAwayConfigInXMLFormat(nullawayConfigPath.toString());
+    Files.setLastModifiedTime(nullawayConfigPath, FileTime.fromMillis(0));
     for (int i = 0; i < 5; i++) {
       config.writeNullAwayConfigInXMLFormat(nullawayConfigPath.toString());
-      String uuid = getValueFromTag(nullawayConfigPath, "/serialization/uuid");
+      String uuid = readNonce(nullawayConfigPath);
       if (observed.contains(uuid)) {
         throw new IllegalStateException(
             "Duplicate UUID found for NullAway config: " + uuid + " in set: " + observed);
       }
       observed.add(uuid);
     }
+    // Config with unchanged content must not be rewritten.
+    assertEquals(FileTime.fromMillis(0), Files.getLastModifiedTime(nullawayConfigPath));
+    new FixSerializationConfig.Builder()
+        .setSuggest(true, true)
+        .setOutputDirectory(testDir.toString())
+        .writeAsXML(nullawayConfigPath.toString());
+    assertNotEquals(FileTime.fromMillis(0), Files.getLastModifiedTime(nullawayConfigPath));
     observed.clear();
     // Test for Scanner config
     Path scannerConfig = testDir.resolve("scanner.xml");
+    new ScannerConfigWriter().setOutput(testDir).writeAsXML(scannerConfig);
+    Files.setLastModifiedTime(scannerConfig, FileTime.fromMillis(0));
     for (int i = 0; i < 5; i++) {
       ScannerConfigWriter writer = new ScannerConfigWriter();
       writer.setOutput(testDir).writeAsXML(scannerConfig);
-      String uuid = getValueFromTag(scannerConfig, "/scanner/uuid");
+      String uuid = readNonce(scannerConfig);
       if (observed.contains(uuid)) {
         throw new IllegalStateException(
             "Duplicate UUID found for Scanner config: " + uuid + " in set: " + observed);
       }
       observed.add(uuid);
     }
+    assertEquals(FileTime.fromMillis(0), Files.getLastModifiedTime(scannerConfig));
+    new ScannerConfigWriter()
+        .setOutput(testDir)
+        .setSerializationActivation(true)
+        .writeAsXML(scannerConfig);
+    assertNotEquals(FileTime.fromMillis(0), Files.getLastModifiedTime(scannerConfig));
   }
 
   @Test
@@ -302,28 +312,14 @@ public class ConfigurationTest {
   }
 
   /**
-   * Helper method for reading value of a node located at /key_1/key_2/.../key_n (in the form of
-   * {@code Xpath} query) from an XML document at the given path.
+   * Reads the nonce written next to the config file at the given path.
    *
-   * @param path Path to an XML file.
-   * @param key Key to locate the value, can be nested in the form of {@code Xpath} query (e.g.
-   *     /key1/key2/.../key_n).
-   * @return The value in the specified keychain as {@code String}.
+   * @param path Path to a config file.
+   * @return The nonce of the last write of the config file.
    */
-  private static String getValueFromTag(Path path, String key) {
-    try {
-      DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-      DocumentBuilder builder = factory.newDocumentBuilder();
-      Document doc = builder.parse(Files.newInputStream(path));
-      doc.normalize();
-      XPath xPath = XPathFactory.newInstance().newXPath();
-      return ((Node) xPath.compile(key).evaluate(doc, XPathConstants.NODE)).getTextContent();
-    } catch (XPathExpressionException
-        | ParserConfigurationException
-        | IOException
-        | SAXException ex) {
-      throw new RuntimeException("Could not extract value from tag: " + key, ex);
-    }
+  private static String readNonce(Path path) throws IOException {
+    return Files.readString(
+        path.resolveSibling(path.getFileName() + XMLUtil.NONCE_FILE_EXTENSION));
   }
 
   /** Container class for Config Flag. */
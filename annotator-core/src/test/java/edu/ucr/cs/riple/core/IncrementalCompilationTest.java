@@ -0,0 +1,94 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core;
+
+import static java.util.Collections.singleton;
+import static org.junit.Assert.assertEquals;
+
+import edu.ucr.cs.riple.core.tools.CoreTestHelper;
+import edu.ucr.cs.riple.core.tools.TReport;
+import edu.ucr.cs.riple.injector.location.OnField;
+import edu.ucr.cs.riple.injector.location.OnMethod;
+import java.io.IOException;
+import java.nio.file.Path;
+import org.apache.commons.io.FileUtils;
+import org.junit.Test;
+
+/**
+ * Tests for incremental compilation, where builds of groups of fixes only recompile the sources
+ * planned by {@link edu.ucr.cs.riple.core.evaluators.graph.processors.CompilationPlanner}.
+ */
+public class IncrementalCompilationTest extends AnnotatorBaseCoreTest {
+
+  public IncrementalCompilationTest() {
+    super("nullable-multi-modular");
+  }
+
+  @Test
+  public void incrementalCompilationReportsErrorsOfFullBuild() throws IOException {
+    // A copy of the project analyzed with incremental compilation.
+    Path incrementalOutDirPath = temporaryFolder.newFolder("incremental").toPath();
+    Path incrementalProjectPath = incrementalOutDirPath.resolve(projectTemplate);
+    FileUtils.copyDirectory(unitTestProjectPath.toFile(), incrementalProjectPath.toFile());
+    CoreTestHelper incremental = new CoreTestHelper(incrementalProjectPath, incrementalOutDirPath);
+    analyze(coreTestHelper);
+    analyze(incremental.enableIncrementalCompilation());
+    assertEquals(coreTestHelper.summarizeReports(), incremental.summarizeReports());
+  }
+
+  /**
+   * Runs Annotator on a project where the errors triggered by each fix are reported in a source
+   * which is not modified by the fix. Both fixes are triggering errors in the same region and are
+   * evaluated in separate builds, only the first one compiles all sources.
+   *
+   * @param helper Helper of the analyzed project.
+   */
+  private static void analyze(CoreTestHelper helper) {
+    helper
+        .onTarget()
+        .withSourceLines(
+            "Main.java",
+            "package test;",
+            "public class Main {",
+            "   Object field;",
+            "   Object run() {",
+            "     return null;",
+            "   }",
+            "}")
+        .withSourceLines(
+            "Caller.java",
+            "package test;",
+            "public class Caller {",
+            "   void use(Main main) {",
+            "     main.run().hashCode();",
+            "     main.field.hashCode();",
+            "   }",
+            "}")
+        .withExpectedReports(
+            new TReport(new OnField("Main.java", "test.Main", singleton("field")), 0),
+            new TReport(new OnMethod("Main.java", "test.Main", "run()"), 0))
+        .start();
+  }
+}
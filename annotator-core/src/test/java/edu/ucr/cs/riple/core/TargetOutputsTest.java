@@ -0,0 +1,178 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import edu.ucr.cs.riple.core.injectors.PhysicalInjector;
+import edu.ucr.cs.riple.core.injectors.VirtualInjector;
+import edu.ucr.cs.riple.core.registries.index.Fix;
+import edu.ucr.cs.riple.core.util.Utility;
+import edu.ucr.cs.riple.injector.changes.AddAnnotation;
+import edu.ucr.cs.riple.injector.changes.AddMarkerAnnotation;
+import edu.ucr.cs.riple.injector.location.OnField;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for reusing the checker outputs of the startup build of the target module. */
+@RunWith(JUnit4.class)
+public class TargetOutputsTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  /** Source file of the target module. */
+  private Path source;
+
+  /** Directory of the library model loader resources. */
+  private Path libraryModels;
+
+  @Before
+  public void setup() throws IOException {
+    source = temporaryFolder.newFolder("src", "test").toPath().resolve("A.java");
+    Files.writeString(source, "package test;\npublic class A {\n  Object f;\n}\n");
+    libraryModels = temporaryFolder.newFolder("models").toPath();
+  }
+
+  @Test
+  public void buildIsSkippedWhileOutputsAreUpToDate() throws IOException {
+    Context context = createContext(builder -> {});
+    assertTrue(context.areTargetOutputsUpToDate());
+    String log = context.log.toString();
+    Utility.buildTarget(context);
+    assertTrue(context.areTargetOutputsUpToDate());
+    assertTrue(log.contains(requestedBuilds(context)));
+    // Any build may overwrite the outputs.
+    Utility.build(
+        context, context.targetModuleInfo.getModuleConfigurations(), context.config.buildCommand);
+    assertFalse(context.areTargetOutputsUpToDate());
+    Utility.buildTarget(context);
+    assertFalse(log.contains(requestedBuilds(context)));
+  }
+
+  @Test
+  public void inProcessCompilationInvalidatesOutputs() throws IOException {
+    Context context = createContext(builder -> {});
+    Utility.compile(context, () -> {});
+    assertFalse(context.areTargetOutputsUpToDate());
+  }
+
+  @Test
+  public void sourceChangesInvalidateOutputs() throws IOException {
+    Context context = createContext(builder -> {});
+    PhysicalInjector injector = new PhysicalInjector(context);
+    injector.injectAnnotations(Set.of());
+    injector.removeAnnotations(Set.of());
+    assertTrue(context.areTargetOutputsUpToDate());
+    injector.injectAnnotations(Set.of(annotation()));
+    assertFalse(context.areTargetOutputsUpToDate());
+    // Removal of annotations changes the source code as well.
+    context = createContext(builder -> {});
+    new PhysicalInjector(context).removeAnnotations(Set.of(annotation().getReverse()));
+    assertFalse(context.areTargetOutputsUpToDate());
+  }
+
+  @Test
+  public void temporaryChangesInvalidateOutputs() throws IOException {
+    Context context = createContext(builder -> {});
+    PhysicalInjector injector = new PhysicalInjector(context);
+    Set<Fix> fixes = Set.of(new Fix(annotation()));
+    injector.injectFixesTemporarily(fixes);
+    assertFalse(context.areTargetOutputsUpToDate());
+    // Reverted files have the same content, yet the outputs of the startup build were overwritten.
+    injector.revertFixes(fixes);
+    assertFalse(context.areTargetOutputsUpToDate());
+  }
+
+  @Test
+  public void libraryModelChangesInvalidateOutputs() throws IOException {
+    Context context = createContext(this::enableVirtualInjection);
+    VirtualInjector injector = new VirtualInjector(context);
+    assertTrue(context.areTargetOutputsUpToDate());
+    injector.injectAnnotations(Set.of(annotation()));
+    assertFalse(context.areTargetOutputsUpToDate());
+    // Library models left by a previous run were read by the startup build.
+    context = createContext(this::enableVirtualInjection);
+    new VirtualInjector(context);
+    assertFalse(context.areTargetOutputsUpToDate());
+    // Removing absent library models changes nothing.
+    context = createContext(this::enableVirtualInjection);
+    new VirtualInjector(context).removeAnnotations(Set.of());
+    assertTrue(context.areTargetOutputsUpToDate());
+  }
+
+  /**
+   * Activates virtual injection with library models written in {@link #libraryModels}.
+   *
+   * @param builder Builder of the configuration.
+   */
+  private void enableVirtualInjection(Config.Builder builder) {
+    builder.virtualInjection = true;
+    builder.nullawayLibraryModelLoaderPath = libraryModels;
+  }
+
+  /**
+   * Creates a context with an output directory in the temporary folder.
+   *
+   * @param customizer Customizer of the configuration.
+   * @return Created context.
+   * @throws IOException if the output directory could not be created.
+   */
+  private Context createContext(Consumer<Config.Builder> customizer) throws IOException {
+    return edu.ucr.cs.riple.core.tools.Utility.createContext(
+        temporaryFolder.newFolder().toPath(), customizer);
+  }
+
+  /**
+   * Returns the line of the log of the given context reporting the number of requested builds.
+   *
+   * @param context Annotator context.
+   * @return Line reporting requested builds.
+   */
+  private static String requestedBuilds(Context context) {
+    String log = context.log.toString();
+    int start = log.indexOf("Total number of Requested builds=");
+    return log.substring(start, log.indexOf('\n', start));
+  }
+
+  /**
+   * Creates an annotation adding {@code @Nullable} on the field of the target module.
+   *
+   * @return Created annotation.
+   */
+  private AddAnnotation annotation() {
+    return new AddMarkerAnnotation(
+        new OnField(source, "test.A", Set.of("f")), "javax.annotation.Nullable");
+  }
+}
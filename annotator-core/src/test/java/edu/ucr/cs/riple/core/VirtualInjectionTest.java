@@ -0,0 +1,102 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core;
+
+import static org.junit.Assert.assertEquals;
+
+import edu.ucr.cs.riple.core.tools.CoreTestHelper;
+import edu.ucr.cs.riple.core.tools.TReport;
+import edu.ucr.cs.riple.injector.location.OnMethod;
+import java.io.IOException;
+import java.nio.file.Path;
+import org.apache.commons.io.FileUtils;
+import org.junit.Test;
+
+/**
+ * Tests for virtual injection, where {@code @Nullable} fixes on method returns of the target module
+ * are evaluated through library models instead of annotations in the source code.
+ */
+public class VirtualInjectionTest extends AnnotatorBaseCoreTest {
+
+  public VirtualInjectionTest() {
+    super("nullable-multi-modular");
+  }
+
+  @Test
+  public void virtualInjectionReportsErrorsOfPhysicalInjection() throws IOException {
+    // A copy of the project analyzed with fixes injected in the source code.
+    Path physicalOutDirPath = temporaryFolder.newFolder("physical").toPath();
+    Path physicalProjectPath = physicalOutDirPath.resolve(projectTemplate);
+    FileUtils.copyDirectory(unitTestProjectPath.toFile(), physicalProjectPath.toFile());
+    CoreTestHelper physical = new CoreTestHelper(physicalProjectPath, physicalOutDirPath);
+    analyze(physical);
+    analyze(coreTestHelper.enableVirtualInjection());
+    assertEquals(physical.summarizeReports(), coreTestHelper.summarizeReports());
+  }
+
+  /**
+   * Runs Annotator on a project where both fixes are on method returns. The annotated methods
+   * return {@code null}, one overrides the other and both are dereferenced by a caller.
+   *
+   * @param helper Helper of the analyzed project.
+   */
+  private static void analyze(CoreTestHelper helper) {
+    helper
+        .onTarget()
+        .withSourceLines(
+            "Main.java",
+            "package test;",
+            "public class Main {",
+            "   Object run(boolean b) {",
+            "     if (b) {",
+            "       return null;",
+            "     }",
+            "     return new Object();",
+            "   }",
+            "}")
+        .withSourceLines(
+            "Sub.java",
+            "package test;",
+            "public class Sub extends Main {",
+            "   @Override",
+            "   Object run(boolean b) {",
+            "     return null;",
+            "   }",
+            "}")
+        .withSourceLines(
+            "Caller.java",
+            "package test;",
+            "public class Caller {",
+            "   void use(Main main, Sub sub) {",
+            "     main.run(true).hashCode();",
+            "     sub.run(true).hashCode();",
+            "   }",
+            "}")
+        .withExpectedReports(
+            new TReport(new OnMethod("Main.java", "test.Main", "run(boolean)"), 0),
+            new TReport(new OnMethod("Sub.java", "test.Sub", "run(boolean)"), 0))
+        .start();
+  }
+}
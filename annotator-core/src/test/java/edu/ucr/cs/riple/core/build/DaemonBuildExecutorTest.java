@@ -0,0 +1,163 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.build;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import edu.ucr.cs.riple.core.Config;
+import edu.ucr.cs.riple.core.tools.Utility;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests for {@link DaemonBuildExecutor}, served by a shell script daemon. The daemon appends a
+ * line to {@code starts.txt} on each start and answers each request as follows: {@code exit <code>}
+ * completes with the given code, {@code hang} never completes and {@code crash} terminates the
+ * daemon. Each request is echoed as the output of the build before its completion.
+ */
+@RunWith(JUnit4.class)
+public class DaemonBuildExecutorTest {
+
+  /** Shell script of the daemon. */
+  private static final String DAEMON_SCRIPT =
+      "echo started >> \"$1/starts.txt\"\n"
+          + "while read -r request; do\n"
+          + "  echo \"building $request\"\n"
+          + "  case \"$request\" in\n"
+          + "    hang) sleep 60 ;;\n"
+          + "    crash) exit 3 ;;\n"
+          + "    exit\\ *) echo \""
+          + DaemonBuildExecutor.COMPLETION_PREFIX
+          + "${request#exit }\" ;;\n"
+          + "  esac\n"
+          + "done\n"
+          + "echo stopped >> \"$1/starts.txt\"\n";
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  /** Output directory of the config, also holds the daemon script and its start log. */
+  private Path root;
+
+  /** Executor under test. */
+  private DaemonBuildExecutor executor;
+
+  @Before
+  public void setup() throws IOException {
+    root = temporaryFolder.getRoot().toPath();
+    Path script = root.resolve("daemon.sh");
+    Files.writeString(script, DAEMON_SCRIPT);
+    Config config =
+        Utility.createConfig(
+            root,
+            builder -> {
+              builder.buildExecutorType = BuildExecutorType.DAEMON;
+              builder.buildDaemonCommand = "sh '" + script + "' '" + root + "'";
+              builder.buildTimeout = 2;
+            });
+    executor = new DaemonBuildExecutor(config);
+  }
+
+  @After
+  public void cleanup() {
+    executor.close();
+  }
+
+  @Test
+  public void reportsExitCodes() {
+    BuildResult success = executor.execute("exit 0");
+    assertEquals(0, success.exitCode);
+    assertFalse(success.timedOut);
+    // Output of successful builds is not kept.
+    assertNull(success.output);
+    BuildResult failure = executor.execute("exit 2");
+    assertEquals(2, failure.exitCode);
+    assertFalse(failure.timedOut);
+    // All requests are served by the same daemon.
+    assertEquals(1, countStarts());
+  }
+
+  @Test
+  public void capturesOutputOfFailedBuilds() throws IOException {
+    BuildResult failure = executor.execute("exit 4");
+    assertNotNull(failure.output);
+    assertEquals("building exit 4\n", Files.readString(failure.output));
+  }
+
+  @Test
+  public void restartsDaemonAfterTimeout() {
+    BuildResult result = executor.execute("hang");
+    assertTrue(result.timedOut);
+    assertEquals(BuildResult.NO_EXIT_CODE, result.exitCode);
+    assertEquals(1, countStarts());
+    assertEquals(0, executor.execute("exit 0").exitCode);
+    assertEquals(2, countStarts());
+  }
+
+  @Test
+  public void restartsDaemonAfterTermination() {
+    BuildResult result = executor.execute("crash");
+    assertFalse(result.timedOut);
+    assertEquals(BuildResult.NO_EXIT_CODE, result.exitCode);
+    assertEquals(0, executor.execute("exit 0").exitCode);
+    assertEquals(2, countStarts());
+  }
+
+  @Test
+  public void closeStopsDaemon() throws IOException {
+    assertEquals(0, executor.execute("exit 0").exitCode);
+    executor.close();
+    assertTrue(Files.readAllLines(root.resolve("starts.txt")).contains("stopped"));
+    // Closing twice has no effect.
+    executor.close();
+  }
+
+  /**
+   * Counts the starts of the daemon.
+   *
+   * @return Number of times the daemon has been started.
+   */
+  private int countStarts() {
+    try {
+      return (int)
+          Files.readAllLines(root.resolve("starts.txt")).stream()
+              .filter(line -> line.equals("started"))
+              .count();
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
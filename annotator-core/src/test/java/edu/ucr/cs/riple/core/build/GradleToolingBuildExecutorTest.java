@@ -0,0 +1,145 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.build;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.collect.ImmutableList;
+import edu.ucr.cs.riple.core.build.GradleToolingBuildExecutor.GradleCommand;
+import edu.ucr.cs.riple.core.tools.Utility;
+import java.nio.file.Paths;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for parsing build commands of {@link GradleToolingBuildExecutor}. */
+@RunWith(JUnit4.class)
+public class GradleToolingBuildExecutorTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void parsesPlainCommand() {
+    GradleCommand command =
+        GradleToolingBuildExecutor.parseCommand("cd /tmp/project && ./gradlew compileJava --rerun");
+    assertEquals(Paths.get("/tmp/project"), command.projectDir);
+    assertEquals(ImmutableList.of("compileJava", "--rerun"), command.arguments);
+  }
+
+  @Test
+  public void acceptsGradleExecutables() {
+    assertEquals(
+        ImmutableList.of("build"),
+        GradleToolingBuildExecutor.parseCommand("cd /tmp/project && gradle build").arguments);
+    assertEquals(
+        ImmutableList.of("build"),
+        GradleToolingBuildExecutor.parseCommand("cd /tmp/project && /opt/tools/gradlew build")
+            .arguments);
+    assertEquals(
+        ImmutableList.of("build"),
+        GradleToolingBuildExecutor.parseCommand("cd /tmp/project&&./gradlew build").arguments);
+  }
+
+  @Test
+  public void resolvesRelativeProjectDirectory() {
+    GradleCommand command =
+        GradleToolingBuildExecutor.parseCommand("cd project/../sub && ./gradlew build");
+    assertEquals(Paths.get("sub").toAbsolutePath(), command.projectDir);
+  }
+
+  @Test
+  public void keepsQuotedArgumentsTogether() {
+    GradleCommand command =
+        GradleToolingBuildExecutor.parseCommand(
+            "cd '/tmp/my project' && ./gradlew build -Dorg.gradle.jvmargs=\"-Xmx4g -Xss2m\""
+                + " -Pmessage='a \"quoted\" value'");
+    assertEquals(Paths.get("/tmp/my project"), command.projectDir);
+    assertEquals(
+        ImmutableList.of(
+            "build", "-Dorg.gradle.jvmargs=-Xmx4g -Xss2m", "-Pmessage=a \"quoted\" value"),
+        command.arguments);
+  }
+
+  @Test
+  public void handlesEscapes() {
+    GradleCommand command =
+        GradleToolingBuildExecutor.parseCommand(
+            "cd /tmp/my\\ project && ./gradlew -Pa=\"x \\\"y\\\" \\\\ \\z\" -Pb=\\|");
+    assertEquals(Paths.get("/tmp/my project"), command.projectDir);
+    assertEquals(ImmutableList.of("-Pa=x \"y\" \\ \\z", "-Pb=|"), command.arguments);
+  }
+
+  @Test
+  public void keepsOperatorsInsideQuotes() {
+    GradleCommand command =
+        GradleToolingBuildExecutor.parseCommand("cd /tmp/project && ./gradlew '-Pa=x && y; z|w'");
+    assertEquals(ImmutableList.of("-Pa=x && y; z|w"), command.arguments);
+  }
+
+  @Test
+  public void rejectsUnsupportedCommands() {
+    String[] commands = {
+      "./gradlew build",
+      "cd /tmp/project",
+      "cd /tmp/project && ",
+      "cd /tmp/project && mvn compile",
+      "cd /tmp/project ./gradlew build",
+      "cd /tmp/project && ./gradlew build && ./gradlew test",
+      "cd /tmp/project && ./gradlew build | tee log",
+      "cd /tmp/project && ./gradlew build; echo done",
+      "cd /tmp/project && ./gradlew build > log",
+      "cd /tmp/project && ./gradlew build &",
+      "cd $HOME && ./gradlew build",
+      "cd /tmp/project && ./gradlew \"-Pa=$VALUE\"",
+      "cd /tmp/project && ./gradlew `echo build`",
+      "cd ~/project && ./gradlew build",
+      "cd /tmp/project && ./gradlew 'build",
+      "cd /tmp/project && ./gradlew \"build",
+      "cd /tmp/project && ./gradlew build\\",
+    };
+    for (String command : commands) {
+      assertThrows(
+          command,
+          IllegalArgumentException.class,
+          () -> GradleToolingBuildExecutor.parseCommand(command));
+    }
+  }
+
+  @Test
+  public void rejectsUnsupportedCommandsInConfig() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            Utility.createConfig(
+                temporaryFolder.getRoot().toPath(),
+                builder -> {
+                  builder.buildExecutorType = BuildExecutorType.GRADLE;
+                  builder.buildCommand = "cd /tmp/project && ./gradlew build | tee log";
+                }));
+  }
+}
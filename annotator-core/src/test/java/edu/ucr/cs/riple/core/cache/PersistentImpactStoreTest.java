@@ -0,0 +1,239 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import edu.ucr.cs.riple.core.Config;
+import edu.ucr.cs.riple.core.Context;
+import edu.ucr.cs.riple.core.registries.index.Error;
+import edu.ucr.cs.riple.core.registries.index.Fix;
+import edu.ucr.cs.riple.core.registries.region.Region;
+import edu.ucr.cs.riple.core.tools.Utility;
+import edu.ucr.cs.riple.injector.changes.AddAnnotation;
+import edu.ucr.cs.riple.injector.changes.AddMarkerAnnotation;
+import edu.ucr.cs.riple.injector.location.OnField;
+import edu.ucr.cs.riple.injector.location.OnMethod;
+import edu.ucr.cs.riple.scanner.Serializer;
+import edu.ucr.cs.riple.scanner.out.ClassRecord;
+import edu.ucr.cs.riple.scanner.out.ImpactedRegion;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for keying, eviction and statistics of {@link PersistentImpactStore}. */
+@RunWith(JUnit4.class)
+public class PersistentImpactStoreTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  /** Maximum size of the store which is never exceeded in tests. */
+  private static final long LARGE_SIZE = 1024 * 1024;
+
+  /** Annotator context of the test module. */
+  private Context context;
+
+  /** Directory of the store. */
+  private Path dir;
+
+  /** Source file declaring the annotated method. */
+  private Path declaring;
+
+  /** Source file of a region calling the annotated method. */
+  private Path caller;
+
+  /** Source file which is not impacted by the fix. */
+  private Path unrelated;
+
+  /** Fix making the method {@code test.A#run()} {@code @Nullable}. */
+  private Fix fix;
+
+  /** Impact of {@link #fix}, triggering one error in the caller. */
+  private Impact impact;
+
+  @Before
+  public void setup() throws IOException {
+    Path root = temporaryFolder.getRoot().toPath();
+    Path src = Files.createDirectories(root.resolve("src").resolve("test"));
+    declaring = src.resolve("A.java");
+    caller = src.resolve("B.java");
+    unrelated = src.resolve("C.java");
+    Files.writeString(
+        declaring, "package test;\npublic class A {\n  public Object run() { return null; }\n}\n");
+    Files.writeString(caller, "package test;\npublic class B {\n  Object f = new A().run();\n}\n");
+    Files.writeString(unrelated, "package test;\npublic class C {}\n");
+    Config config =
+        Utility.createConfig(Files.createDirectories(root.resolve("out")), builder -> {});
+    Path moduleDir = config.globalDir.resolve("0");
+    Utility.createEmptyScannerOutputs(moduleDir);
+    Files.write(
+        moduleDir.resolve(Serializer.CLASS_RECORD_FILE_NAME),
+        List.of(
+            ClassRecord.header(),
+            "test.A\t" + declaring,
+            "test.B\t" + caller,
+            "test.C\t" + unrelated));
+    // The field initializer of test.B calls test.A#run().
+    Files.write(
+        moduleDir.resolve(Serializer.METHOD_IMPACTED_REGION_FILE_NAME),
+        List.of(ImpactedRegion.header(), "test.B\tnull\trun()\ttest.A\tSOURCE"));
+    context = new Context(config);
+    dir = root.resolve("store");
+    fix =
+        new Fix(
+            new AddMarkerAnnotation(
+                new OnMethod(declaring, "test.A", "run()"), "javax.annotation.Nullable"));
+    Set<AddAnnotation> resolving =
+        Set.of(
+            new AddMarkerAnnotation(
+                new OnField(caller, "test.B", Set.of("f")), "javax.annotation.Nullable"));
+    Error error =
+        context.checker.createError(
+            "ASSIGN_FIELD_NULLABLE",
+            "assigning @Nullable expression to @NonNull field",
+            new Region("test.B", "null"),
+            42,
+            resolving,
+            context.targetModuleInfo);
+    impact = new Impact(fix, Set.of(error), Set.of());
+  }
+
+  @Test
+  public void storedImpactIsLoaded() {
+    PersistentImpactStore store = createStore(LARGE_SIZE, Duration.ofDays(1));
+    assertNull(store.load(fix, context.targetModuleInfo, ""));
+    store.store(impact, context.targetModuleInfo, "");
+    Impact loaded = store.load(fix, context.targetModuleInfo, "");
+    assertNotNull(loaded);
+    assertEquals(fix, loaded.fix);
+    assertEquals(impact.getTriggeredErrors(), loaded.getTriggeredErrors());
+    assertEquals(
+        impact.getTriggeredFixesFromDownstreamErrors(),
+        loaded.getTriggeredFixesFromDownstreamErrors());
+    assertTrue(context.log.toString().contains("Impact cache hits=1, misses=1"));
+  }
+
+  @Test
+  public void entriesAreKeyedBySalt() {
+    PersistentImpactStore store = createStore(LARGE_SIZE, Duration.ofDays(1));
+    store.store(impact, context.targetModuleInfo, "depth=1");
+    assertNull(store.load(fix, context.targetModuleInfo, "depth=2"));
+    assertNotNull(store.load(fix, context.targetModuleInfo, "depth=1"));
+  }
+
+  @Test
+  public void entriesAreKeyedBySourcesOfImpactedRegions() throws IOException {
+    PersistentImpactStore store = createStore(LARGE_SIZE, Duration.ofDays(1));
+    store.store(impact, context.targetModuleInfo, "");
+    // Files which do not contain impacted regions do not invalidate the entry.
+    Files.writeString(unrelated, "package test;\npublic class C {\n  int x;\n}\n");
+    assertNotNull(store.load(fix, context.targetModuleInfo, ""));
+    // Changing the source of a caller of the method invalidates the entry.
+    Files.writeString(
+        caller, "package test;\npublic class B {\n  Object f = new A().run().toString();\n}\n");
+    assertNull(store.load(fix, context.targetModuleInfo, ""));
+    // Entries of the new content are independent of the old entry.
+    store.store(impact, context.targetModuleInfo, "");
+    assertNotNull(store.load(fix, context.targetModuleInfo, ""));
+  }
+
+  @Test
+  public void changingDeclaringSourceInvalidatesEntry() throws IOException {
+    PersistentImpactStore store = createStore(LARGE_SIZE, Duration.ofDays(1));
+    store.store(impact, context.targetModuleInfo, "");
+    Files.writeString(
+        declaring,
+        "package test;\npublic class A {\n  public Object run() { return new Object(); }\n}\n");
+    assertNull(store.load(fix, context.targetModuleInfo, ""));
+  }
+
+  @Test
+  public void expiredEntriesAreEvicted() throws IOException {
+    PersistentImpactStore store = createStore(LARGE_SIZE, Duration.ofDays(1));
+    store.store(impact, context.targetModuleInfo, "");
+    Path entry = listEntries().get(0);
+    Files.setLastModifiedTime(entry, FileTime.from(Instant.now().minus(Duration.ofDays(2))));
+    // Leftover of an interrupted write.
+    Files.writeString(dir.resolve("leftover.tmp"), "{");
+    createStore(LARGE_SIZE, Duration.ofDays(1));
+    assertTrue(listEntries().isEmpty());
+  }
+
+  @Test
+  public void leastRecentlyUsedEntriesAreEvictedOverSize() throws IOException {
+    Files.createDirectories(dir);
+    Instant now = Instant.now();
+    String content = "x".repeat(100);
+    for (int i = 0; i < 4; i++) {
+      Path entry = dir.resolve("entry" + i + ".json");
+      Files.writeString(entry, content);
+      Files.setLastModifiedTime(entry, FileTime.from(now.minus(Duration.ofHours(4 - i))));
+    }
+    // Only the two most recently used entries fit.
+    createStore(250, Duration.ofDays(1));
+    assertEquals(List.of(dir.resolve("entry2.json"), dir.resolve("entry3.json")), listEntries());
+    assertFalse(Files.exists(dir.resolve("entry0.json")));
+  }
+
+  /**
+   * Creates a store in the store directory.
+   *
+   * @param maxSize Maximum size of the store in bytes.
+   * @param maxAge Maximum age of entries.
+   * @return The created store.
+   */
+  private PersistentImpactStore createStore(long maxSize, Duration maxAge) {
+    return new PersistentImpactStore(context, dir, maxSize, maxAge);
+  }
+
+  /**
+   * Lists all files in the store directory.
+   *
+   * @return Sorted paths of files in the store directory.
+   * @throws IOException if the directory could not be listed.
+   */
+  private List<Path> listEntries() throws IOException {
+    try (Stream<Path> files = Files.list(dir)) {
+      return files.sorted().collect(Collectors.toList());
+    }
+  }
+}
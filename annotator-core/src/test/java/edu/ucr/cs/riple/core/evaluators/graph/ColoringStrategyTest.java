@@ -0,0 +1,191 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.evaluators.graph;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for {@link ColoringStrategy}. */
+@RunWith(JUnit4.class)
+public class ColoringStrategyTest {
+
+  @Test
+  public void allStrategiesProduceProperColorings() {
+    Random random = new Random(42);
+    for (int i = 0; i < 50; i++) {
+      int[][] adjacency = randomGraph(random, 1 + random.nextInt(60), random.nextDouble());
+      for (ColoringStrategy strategy : ColoringStrategy.values()) {
+        assertProperColoring(strategy, adjacency, strategy.color(adjacency));
+      }
+    }
+  }
+
+  @Test
+  public void emptyGraph() {
+    for (ColoringStrategy strategy : ColoringStrategy.values()) {
+      int[] colors = strategy.color(new int[0][]);
+      assertEquals(0, colors.length);
+      assertEquals(0, ColoringStrategy.numberOfColors(colors));
+    }
+  }
+
+  @Test
+  public void graphWithoutEdgesUsesOneColor() {
+    int[][] adjacency = new int[10][0];
+    for (ColoringStrategy strategy : ColoringStrategy.values()) {
+      assertEquals(1, ColoringStrategy.numberOfColors(strategy.color(adjacency)));
+    }
+  }
+
+  @Test
+  public void completeGraphUsesOneColorPerNode() {
+    int size = 6;
+    List<int[]> edges = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      for (int j = i + 1; j < size; j++) {
+        edges.add(new int[] {i, j});
+      }
+    }
+    int[][] adjacency = toAdjacency(size, edges);
+    for (ColoringStrategy strategy : ColoringStrategy.values()) {
+      assertEquals(size, ColoringStrategy.numberOfColors(strategy.color(adjacency)));
+    }
+  }
+
+  @Test
+  public void oddCycleUsesThreeColors() {
+    int size = 7;
+    List<int[]> edges = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      edges.add(new int[] {i, (i + 1) % size});
+    }
+    int[][] adjacency = toAdjacency(size, edges);
+    for (ColoringStrategy strategy : ColoringStrategy.values()) {
+      assertEquals(3, ColoringStrategy.numberOfColors(strategy.color(adjacency)));
+    }
+  }
+
+  @Test
+  public void crownGraphIsColoredOptimallyByDsatur() {
+    // Crown graph: nodes 2i and 2i + 1 are the i-th pair, each node is adjacent to all nodes of
+    // the other side except its own pair. First fit in insertion order uses one color per pair,
+    // while the graph is bipartite.
+    int pairs = 8;
+    List<int[]> edges = new ArrayList<>();
+    for (int i = 0; i < pairs; i++) {
+      for (int j = 0; j < pairs; j++) {
+        if (i != j) {
+          edges.add(new int[] {2 * i, 2 * j + 1});
+        }
+      }
+    }
+    int[][] adjacency = toAdjacency(2 * pairs, edges);
+    assertEquals(
+        pairs, ColoringStrategy.numberOfColors(ColoringStrategy.FIRST_FIT.color(adjacency)));
+    // DSatur is exact on bipartite graphs.
+    assertEquals(2, ColoringStrategy.numberOfColors(ColoringStrategy.DSATUR.color(adjacency)));
+  }
+
+  @Test
+  public void coloringIsDeterministic() {
+    int[][] adjacency = randomGraph(new Random(7), 40, 0.3);
+    for (ColoringStrategy strategy : ColoringStrategy.values()) {
+      assertTrue(Arrays.equals(strategy.color(adjacency), strategy.color(adjacency)));
+    }
+  }
+
+  @Test
+  public void parseStrategy() {
+    for (ColoringStrategy strategy : ColoringStrategy.values()) {
+      assertEquals(strategy, ColoringStrategy.parseStrategy(strategy.name().toLowerCase()));
+      assertEquals(strategy, ColoringStrategy.parseStrategy(strategy.name()));
+    }
+    assertThrows(IllegalArgumentException.class, () -> ColoringStrategy.parseStrategy("random"));
+  }
+
+  /**
+   * Checks that adjacent nodes have different colors, colors are consecutive integers starting
+   * from zero and the number of colors does not exceed the maximum degree plus one.
+   */
+  private static void assertProperColoring(
+      ColoringStrategy strategy, int[][] adjacency, int[] colors) {
+    assertEquals(adjacency.length, colors.length);
+    int maxDegree = 0;
+    Set<Integer> used = new HashSet<>();
+    for (int node = 0; node < adjacency.length; node++) {
+      maxDegree = Math.max(maxDegree, adjacency[node].length);
+      used.add(colors[node]);
+      for (int neighbor : adjacency[node]) {
+        assertNotEquals(
+            strategy + " colored adjacent nodes equally", colors[node], colors[neighbor]);
+      }
+    }
+    int numberOfColors = ColoringStrategy.numberOfColors(colors);
+    assertEquals(numberOfColors, used.size());
+    assertTrue(numberOfColors <= maxDegree + 1);
+  }
+
+  /** Creates a random undirected graph where each edge exists with the given probability. */
+  private static int[][] randomGraph(Random random, int size, double density) {
+    List<int[]> edges = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      for (int j = i + 1; j < size; j++) {
+        if (random.nextDouble() < density) {
+          edges.add(new int[] {i, j});
+        }
+      }
+    }
+    return toAdjacency(size, edges);
+  }
+
+  /** Creates symmetric adjacency lists of the given undirected edges. */
+  private static int[][] toAdjacency(int size, List<int[]> edges) {
+    List<List<Integer>> neighbors = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      neighbors.add(new ArrayList<>());
+    }
+    for (int[] edge : edges) {
+      neighbors.get(edge[0]).add(edge[1]);
+      neighbors.get(edge[1]).add(edge[0]);
+    }
+    int[][] adjacency = new int[size][];
+    for (int i = 0; i < size; i++) {
+      adjacency[i] = neighbors.get(i).stream().mapToInt(Integer::intValue).toArray();
+    }
+    return adjacency;
+  }
+}
@@ -0,0 +1,193 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.evaluators.graph.processors;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import edu.ucr.cs.riple.core.Config;
+import edu.ucr.cs.riple.injector.SourceOverlay;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import javax.annotation.processing.Processor;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+import org.mockito.Mockito;
+
+/** Tests for {@link InProcessCompilerRunner}. */
+@RunWith(JUnit4.class)
+public class InProcessCompilerRunnerTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  /** Root of the compiled module. */
+  private Path root;
+
+  /** Output directory of class files. */
+  private Path output;
+
+  /** Source file of the module. */
+  private Path source;
+
+  @Before
+  public void setup() throws IOException {
+    root = temporaryFolder.getRoot().toPath();
+    output = Files.createDirectories(root.resolve("out"));
+    source = Files.createDirectories(root.resolve("src").resolve("test")).resolve("A.java");
+    Files.writeString(
+        source,
+        "package test;\n"
+            + "public class A {\n"
+            + "  Object f;\n"
+            + "  Object run() {\n"
+            + "    return f;\n"
+            + "  }\n"
+            + "}\n");
+  }
+
+  /**
+   * Creates a runner compiling the source of the module.
+   *
+   * @param overlay Overlay of modified sources, {@code null} if sources are read from disk.
+   * @return Runner compiling the module.
+   */
+  private InProcessCompilerRunner createRunner(SourceOverlay overlay) {
+    return new InProcessCompilerRunner(
+        Mockito.mock(Config.class),
+        List.of("-d", output.toString(), "-proc:none", source.toString()),
+        overlay);
+  }
+
+  @Test
+  public void compilesModule() {
+    createRunner(null).run();
+    assertTrue(Files.exists(output.resolve("test").resolve("A.class")));
+  }
+
+  @Test
+  public void overlayCompilationMatchesCompilationOfModifiedFile() throws IOException {
+    Path classFile = output.resolve("test").resolve("A.class");
+    String original = Files.readString(source);
+    createRunner(null).run();
+    byte[] unmodified = Files.readAllBytes(classFile);
+    String modified = original.replace("  Object f;", "  Object f = new Object();");
+    SourceOverlay overlay = new SourceOverlay();
+    overlay.setContent(source, modified);
+    createRunner(overlay).run();
+    byte[] fromOverlay = Files.readAllBytes(classFile);
+    assertFalse(Arrays.equals(unmodified, fromOverlay));
+    assertEquals(original, Files.readString(source));
+    // Same class file as compiling the modified file on disk.
+    Files.writeString(source, modified);
+    createRunner(null).run();
+    assertArrayEquals(fromOverlay, Files.readAllBytes(classFile));
+  }
+
+  @Test
+  public void groupBreakingCompilationFailsEvaluation() throws IOException {
+    SourceOverlay overlay = new SourceOverlay();
+    InProcessCompilerRunner runner = createRunner(overlay);
+    runner.run();
+    // Annotation injected without a resolvable import, the module no longer compiles.
+    overlay.setContent(
+        source, Files.readString(source).replace("  Object run()", "  @Nullable Object run()"));
+    IllegalStateException exception = assertThrows(IllegalStateException.class, runner::run);
+    assertTrue(exception.getMessage().contains("Nullable"));
+    // Once the group is reverted, the module compiles again.
+    overlay.clear();
+    runner.run();
+  }
+
+  @Test
+  public void analysisOptionsKeepAnalysisChecksOnly() {
+    List<String> options =
+        List.of(
+            "-d",
+            output.toString(),
+            "-Xplugin:ErrorProne -XepDisableWarningsInGeneratedCode -Xep:NullAway:WARN"
+                + " -Xep:MissingOverride:ERROR -XepDisableAllChecks"
+                + " -XepOpt:NullAway:AnnotatedPackages=test",
+            "-proc:none",
+            source.toString());
+    InProcessCompilerRunner runner =
+        new InProcessCompilerRunner(Mockito.mock(Config.class), options, null);
+    assertEquals(
+        List.of(
+            "-d",
+            output.toString(),
+            // Severities set before -XepDisableAllChecks are cleared by Error Prone.
+            "-Xplugin:ErrorProne -XepDisableAllChecks -XepDisableWarningsInGeneratedCode"
+                + " -XepOpt:NullAway:AnnotatedPackages=test -Xep:NullAway:WARN"
+                + " -Xep:AnnotatorScanner",
+            "-proc:none",
+            source.toString(),
+            "-XDshould-stop.ifNoError=FLOW"),
+        runner.toAnalysisOptions(options));
+  }
+
+  @Test
+  public void analysisOptionsEnableMissingAnalysisChecks() {
+    List<String> options =
+        List.of("-d", output.toString(), "-Xplugin:ErrorProne", "-proc:none", source.toString());
+    InProcessCompilerRunner runner =
+        new InProcessCompilerRunner(Mockito.mock(Config.class), options, null);
+    List<String> analysisOptions = runner.toAnalysisOptions(options);
+    assertTrue(
+        analysisOptions.contains(
+            "-Xplugin:ErrorProne -XepDisableAllChecks -Xep:NullAway -Xep:AnnotatorScanner"));
+    assertEquals(1, analysisOptions.stream().filter("-proc:none"::equals).count());
+  }
+
+  @Test
+  public void analysisOptionsDisableProcessingOnlyWithoutProcessors() throws IOException {
+    Path processors = Files.createDirectories(root.resolve("processors"));
+    List<String> options =
+        List.of(
+            "-d", output.toString(), "-processorpath", processors.toString(), source.toString());
+    assertTrue(
+        new InProcessCompilerRunner(Mockito.mock(Config.class), options, null)
+            .toAnalysisOptions(options)
+            .contains("-proc:none"));
+    // Once the processor path declares a processor, processing must run to generate sources.
+    Path service =
+        processors.resolve("META-INF").resolve("services").resolve(Processor.class.getName());
+    Files.createDirectories(service.getParent());
+    Files.writeString(service, "test.Processor\n");
+    assertFalse(
+        new InProcessCompilerRunner(Mockito.mock(Config.class), options, null)
+            .toAnalysisOptions(options)
+            .contains("-proc:none"));
+  }
+}
@@ -0,0 +1,226 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.injectors;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import edu.ucr.cs.riple.core.Config;
+import edu.ucr.cs.riple.core.Context;
+import edu.ucr.cs.riple.core.registries.index.Fix;
+import edu.ucr.cs.riple.core.tools.Utility;
+import edu.ucr.cs.riple.injector.changes.AddMarkerAnnotation;
+import edu.ucr.cs.riple.injector.location.Location;
+import edu.ucr.cs.riple.injector.location.OnField;
+import edu.ucr.cs.riple.injector.location.OnMethod;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for applying and reverting fixes temporarily with {@link PhysicalInjector}. */
+@RunWith(JUnit4.class)
+public class PhysicalInjectorTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  /** Source file with Windows line endings, tabs, trailing spaces and no trailing line break. */
+  private Path first;
+
+  /** Source file with Unix line endings. */
+  private Path second;
+
+  @Before
+  public void setup() throws IOException {
+    Path src = temporaryFolder.newFolder("src", "test").toPath();
+    first = src.resolve("A.java");
+    second = src.resolve("B.java");
+    Files.writeString(
+        first,
+        "package test;\r\n"
+            + "// Generated, do not edit.  \r\n"
+            + "public class A {\r\n"
+            + "\tObject f;\r\n"
+            + "\tObject run() {\r\n"
+            + "\t\treturn null;   \r\n"
+            + "\t}\r\n"
+            + "}",
+        StandardCharsets.UTF_8);
+    Files.writeString(
+        second,
+        "package test;\n\npublic class B {\n  Object g;\n\n  Object run() {\n    return g;\n  }\n}\n",
+        StandardCharsets.UTF_8);
+  }
+
+  @Test
+  public void revertRestoresFilesByteForByte() throws IOException {
+    Context context = createContext(builder -> {});
+    PhysicalInjector injector = new PhysicalInjector(context);
+    byte[] firstContent = Files.readAllBytes(first);
+    byte[] secondContent = Files.readAllBytes(second);
+    Set<Fix> fixes =
+        Set.of(
+            fix(new OnMethod(first, "test.A", "run()")),
+            fix(new OnField(second, "test.B", Set.of("g"))));
+    injector.injectFixesTemporarily(fixes);
+    // Files modified by a second group before the revert are restored to their content before the
+    // first group.
+    Fix another = fix(new OnField(first, "test.A", Set.of("f")));
+    injector.injectFixesTemporarily(Set.of(another));
+    assertTrue(Files.readString(first).contains("@Nullable Object f;"));
+    assertTrue(Files.readString(first).contains("@Nullable Object run()"));
+    assertTrue(Files.readString(second).contains("@Nullable Object g;"));
+    injector.revertFixes(Set.of(another));
+    assertArrayEquals(firstContent, Files.readAllBytes(first));
+    assertArrayEquals(secondContent, Files.readAllBytes(second));
+    // Reverted files can be modified and restored again.
+    injector.injectFixesTemporarily(fixes);
+    injector.revertFixes(fixes);
+    assertArrayEquals(firstContent, Files.readAllBytes(first));
+    assertArrayEquals(secondContent, Files.readAllBytes(second));
+  }
+
+  @Test
+  public void revertRestoresOffsetHandler() throws IOException {
+    Context context = createContext(builder -> {});
+    PhysicalInjector injector = new PhysicalInjector(context);
+    // Fixes applied permanently remain recorded after reverting temporary fixes.
+    injector.injectFixes(Set.of(fix(new OnField(first, "test.A", Set.of("f")))));
+    int length = Files.readString(first).length();
+    int[] offsets = new int[length];
+    for (int i = 0; i < length; i++) {
+      offsets[i] = context.offsetHandler.getOriginalOffset(first, i);
+    }
+    assertTrue(context.offsetHandler.isModified(first));
+    assertFalse(context.offsetHandler.isModified(second));
+    Set<Fix> fixes =
+        Set.of(
+            fix(new OnMethod(first, "test.A", "run()")),
+            fix(new OnMethod(second, "test.B", "run()")));
+    injector.injectFixesTemporarily(fixes);
+    assertTrue(context.offsetHandler.isModified(second));
+    injector.revertFixes(fixes);
+    assertFalse(context.offsetHandler.isModified(second));
+    for (int i = 0; i < length; i++) {
+      assertEquals(offsets[i], context.offsetHandler.getOriginalOffset(first, i));
+    }
+  }
+
+  @Test
+  public void overlayKeepsFilesUntouched() throws IOException {
+    Context context =
+        createContext(
+            builder -> {
+              builder.sourceOverlay = true;
+              builder.compilerArgumentsPath =
+                  temporaryFolder.getRoot().toPath().resolve("javac.args");
+            });
+    assertNotNull(context.sourceOverlay);
+    PhysicalInjector injector = new PhysicalInjector(context);
+    byte[] firstContent = Files.readAllBytes(first);
+    Set<Fix> fixes = Set.of(fix(new OnField(first, "test.A", Set.of("f"))));
+    injector.injectFixesTemporarily(fixes);
+    assertArrayEquals(firstContent, Files.readAllBytes(first));
+    assertTrue(context.sourceOverlay.getContent(first).contains("@Nullable Object f;"));
+    injector.revertFixes(fixes);
+    assertTrue(context.sourceOverlay.isEmpty());
+    assertArrayEquals(firstContent, Files.readAllBytes(first));
+  }
+
+  @Test
+  public void overlayMatchesPhysicalEvaluation() throws IOException {
+    Path copy = temporaryFolder.newFolder("copy").toPath().resolve("A.java");
+    Files.copy(first, copy);
+    Context physicalContext = createContext(builder -> {});
+    Context overlayContext =
+        createContext(
+            builder -> {
+              builder.sourceOverlay = true;
+              builder.compilerArgumentsPath =
+                  temporaryFolder.getRoot().toPath().resolve("javac.args");
+            });
+    PhysicalInjector physical = new PhysicalInjector(physicalContext);
+    PhysicalInjector overlay = new PhysicalInjector(overlayContext);
+    physical.injectFixesTemporarily(
+        Set.of(
+            fix(new OnMethod(first, "test.A", "run()")),
+            fix(new OnField(first, "test.A", Set.of("f")))));
+    overlay.injectFixesTemporarily(
+        Set.of(
+            fix(new OnMethod(copy, "test.A", "run()")),
+            fix(new OnField(copy, "test.A", Set.of("f")))));
+    String content = Files.readString(first);
+    assertEquals(content, overlayContext.sourceOverlay.getContent(copy));
+    // Errors reported on both contents are mapped to the same original offsets.
+    for (int i = 0; i < content.length(); i++) {
+      assertEquals(
+          physicalContext.offsetHandler.getOriginalOffset(first, i),
+          overlayContext.offsetHandler.getOriginalOffset(copy, i));
+    }
+  }
+
+  @Test
+  public void revertWithoutTemporaryFixesRemovesFixes() throws IOException {
+    Context context = createContext(builder -> {});
+    PhysicalInjector injector = new PhysicalInjector(context);
+    Set<Fix> fixes = Set.of(fix(new OnField(second, "test.B", Set.of("g"))));
+    injector.injectFixes(fixes);
+    assertTrue(Files.readString(second).contains("@Nullable Object g;"));
+    injector.revertFixes(fixes);
+    assertFalse(Files.readString(second).contains("@Nullable Object g;"));
+  }
+
+  /**
+   * Creates a context with an output directory in the temporary folder.
+   *
+   * @param customizer Customizer of the configuration.
+   * @return Created context.
+   * @throws IOException if the output directory could not be created.
+   */
+  private Context createContext(Consumer<Config.Builder> customizer) throws IOException {
+    return Utility.createContext(temporaryFolder.newFolder().toPath(), customizer);
+  }
+
+  /**
+   * Creates a fix adding {@code @Nullable} on the given location.
+   *
+   * @param location Location of the annotation.
+   * @return Created fix.
+   */
+  private static Fix fix(Location location) {
+    return new Fix(new AddMarkerAnnotation(location, "javax.annotation.Nullable"));
+  }
+}
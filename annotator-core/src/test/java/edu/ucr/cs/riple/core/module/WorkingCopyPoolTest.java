@@ -0,0 +1,127 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.module;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import edu.ucr.cs.riple.core.Context;
+import edu.ucr.cs.riple.core.tools.Utility;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for scheduling tasks on a {@link WorkingCopyPool}. */
+@RunWith(JUnit4.class)
+public class WorkingCopyPoolTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void resultsFollowInputOrder() throws IOException, InterruptedException {
+    Path root = temporaryFolder.getRoot().toPath();
+    Path project = Files.createDirectories(root.resolve("project"));
+    Context context =
+        Utility.createContext(
+            Files.createDirectories(root.resolve("out")),
+            builder -> {
+              builder.parallelBuildWorkers = 3;
+              builder.parallelBuildRoot = project;
+            });
+    WorkingCopyPool pool = context.getWorkingCopyPool();
+    List<Integer> inputs = IntStream.range(0, 12).boxed().collect(Collectors.toList());
+    Set<WorkingCopy> busy = ConcurrentHashMap.newKeySet();
+    List<Future<Integer>> results =
+        pool.submitAll(
+            inputs,
+            (copy, input) -> {
+              // Each working copy is used by one task at a time.
+              assertTrue(busy.add(copy));
+              try {
+                // Earlier inputs take longer, so tasks complete out of order.
+                Thread.sleep((inputs.size() - input) * 10L);
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              } finally {
+                busy.remove(copy);
+              }
+              return input;
+            });
+    List<Integer> merged = new ArrayList<>();
+    for (Future<Integer> result : results) {
+      try {
+        merged.add(result.get());
+      } catch (ExecutionException e) {
+        throw new AssertionError(e.getCause());
+      }
+    }
+    assertEquals(inputs, merged);
+  }
+
+  @Test
+  public void closeDeletesWorkingCopiesOnly() throws IOException {
+    Path root = temporaryFolder.getRoot().toPath();
+    Path project = Files.createDirectories(root.resolve("project"));
+    Path source = project.resolve(Paths.get("src", "Main.java"));
+    Files.createDirectories(source.getParent());
+    Files.writeString(source, "class Main {}");
+    Path out = Files.createDirectories(root.resolve("out"));
+    Context context =
+        Utility.createContext(
+            out,
+            builder -> {
+              builder.parallelBuildWorkers = 2;
+              builder.parallelBuildRoot = project;
+            });
+    WorkingCopyPool pool = context.getWorkingCopyPool();
+    pool.synchronize();
+    Path copies = out.resolve("working-copies");
+    assertTrue(Files.exists(copies));
+    pool.close();
+    assertFalse(Files.exists(copies));
+    // Working copies link the original source files, which must be kept.
+    assertEquals("class Main {}", Files.readString(source));
+    assertThrows(
+        RejectedExecutionException.class,
+        () -> pool.submitAll(List.of(0), (copy, input) -> input));
+  }
+}
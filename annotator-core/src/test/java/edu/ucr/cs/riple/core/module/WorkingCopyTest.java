@@ -0,0 +1,155 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.module;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import edu.ucr.cs.riple.core.Context;
+import edu.ucr.cs.riple.core.registries.index.Fix;
+import edu.ucr.cs.riple.core.tools.Utility;
+import edu.ucr.cs.riple.injector.changes.AddMarkerAnnotation;
+import edu.ucr.cs.riple.injector.location.OnField;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for synchronizing, injecting and restoring files of a {@link WorkingCopy}. */
+@RunWith(JUnit4.class)
+public class WorkingCopyTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  /** Root of the original source tree. */
+  private Path project;
+
+  /** Source file in the original source tree. */
+  private Path source;
+
+  /** Build script in the original source tree. */
+  private Path script;
+
+  /** Generated source file under a build output directory of the original source tree. */
+  private Path generated;
+
+  /** Working copy under test. */
+  private WorkingCopy copy;
+
+  @Before
+  public void setup() throws IOException {
+    Path root = temporaryFolder.getRoot().toPath();
+    project = root.resolve("project");
+    source = project.resolve("src").resolve("test").resolve("A.java");
+    script = project.resolve("build.gradle");
+    generated = project.resolve("build").resolve("generated").resolve("B.java");
+    write(source, "package test;\npublic class A {\n  Object f;\n}\n");
+    write(script, "apply plugin: 'java'\n");
+    write(generated, "package test;\npublic class B {}\n");
+    Context context =
+        Utility.createContext(
+            Files.createDirectories(root.resolve("out")),
+            builder -> {
+              builder.parallelBuildWorkers = 2;
+              builder.parallelBuildRoot = project;
+            });
+    copy = new WorkingCopy(context, project, root.resolve("copy"));
+  }
+
+  @Test
+  public void synchronizeMirrorsSourceTree() throws IOException {
+    copy.synchronize();
+    for (Path path : new Path[] {source, script, generated}) {
+      assertSameContent(path);
+    }
+    // Sources are linked, other files and sources under build outputs are copied.
+    assertTrue(Files.isSameFile(source, copy.toCopyPath(source)));
+    assertFalse(Files.isSameFile(script, copy.toCopyPath(script)));
+    assertFalse(Files.isSameFile(generated, copy.toCopyPath(generated)));
+  }
+
+  @Test
+  public void synchronizeMirrorsChangesAndDeletions() throws IOException {
+    copy.synchronize();
+    Path added = project.resolve("src").resolve("test").resolve("C.java");
+    write(added, "package test;\npublic class C {}\n");
+    write(script, "apply plugin: 'java-library'\n");
+    Files.delete(generated);
+    copy.synchronize();
+    assertSameContent(added);
+    assertSameContent(script);
+    assertFalse(Files.exists(copy.toCopyPath(generated)));
+    assertSameContent(source);
+  }
+
+  @Test
+  public void injectionDoesNotModifyOriginalFiles() throws IOException {
+    copy.synchronize();
+    byte[] original = Files.readAllBytes(source);
+    Fix fix =
+        new Fix(
+            new AddMarkerAnnotation(
+                new OnField(source, "test.A", Set.of("f")), "javax.annotation.Nullable"));
+    copy.injectFixes(Set.of(fix));
+    assertArrayEquals(original, Files.readAllBytes(source));
+    assertNotEquals(
+        new String(original), new String(Files.readAllBytes(copy.toCopyPath(source))));
+    assertFalse(Files.isSameFile(source, copy.toCopyPath(source)));
+    copy.restore(Set.of(fix));
+    assertSameContent(source);
+    assertArrayEquals(original, Files.readAllBytes(source));
+  }
+
+  /**
+   * Asserts the given original file and its counterpart in the working copy have the same content.
+   *
+   * @param path Path to the original file.
+   * @throws IOException if a file could not be read.
+   */
+  private void assertSameContent(Path path) throws IOException {
+    assertArrayEquals(
+        path.toString(), Files.readAllBytes(path), Files.readAllBytes(copy.toCopyPath(path)));
+  }
+
+  /**
+   * Writes the given content to the given path, creating parent directories.
+   *
+   * @param path Path to the file.
+   * @param content Content of the file.
+   * @throws IOException if the file could not be written.
+   */
+  private static void write(Path path, String content) throws IOException {
+    Files.createDirectories(path.getParent());
+    Files.writeString(path, content);
+  }
+}
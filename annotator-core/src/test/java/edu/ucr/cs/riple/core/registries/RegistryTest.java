@@ -0,0 +1,169 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.registries;
+
+import static org.junit.Assert.assertEquals;
+
+import com.google.common.collect.ImmutableMultimap;
+import com.google.common.collect.ImmutableSet;
+import edu.ucr.cs.riple.core.Context;
+import edu.ucr.cs.riple.core.tools.Utility;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for loading {@link Registry} contents from multiple files. */
+@RunWith(JUnit4.class)
+public class RegistryTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  /** Number of files loaded into each registry. */
+  private static final int FILES = 16;
+
+  /** Files loaded into registries, rows of different files share keys. */
+  private ImmutableSet<Path> paths;
+
+  @Before
+  public void setup() throws IOException {
+    Path dir = temporaryFolder.newFolder("files").toPath();
+    ImmutableSet.Builder<Path> builder = ImmutableSet.builder();
+    for (int i = 0; i < FILES; i++) {
+      List<String> lines = new ArrayList<>();
+      lines.add("KEY\tVALUE");
+      for (int j = 0; j < 50; j++) {
+        lines.add("key" + (j % 7) + "\tfile" + i + "-row" + j);
+      }
+      Path path = dir.resolve("file" + i + ".tsv");
+      Files.write(path, lines);
+      builder.add(path);
+    }
+    paths = builder.build();
+  }
+
+  @Test
+  public void parallelLoadingMergesInPathOrder() throws IOException {
+    List<Map.Entry<Integer, Row>> sequential = load(1).getEntries();
+    List<Map.Entry<Integer, Row>> parallel = load(4).getEntries();
+    assertEquals(sequential, parallel);
+    // Rows sharing a key are kept in the order of the files and of the rows in each file.
+    List<String> expected = new ArrayList<>();
+    for (Path path : paths) {
+      Files.readAllLines(path).stream()
+          .skip(1)
+          .filter(line -> line.startsWith("key3\t"))
+          .forEach(line -> expected.add(line.split("\t")[1]));
+    }
+    List<String> actual = new ArrayList<>();
+    parallel.stream()
+        .filter(entry -> entry.getValue().key.equals("key3"))
+        .forEach(entry -> actual.add(entry.getValue().value));
+    assertEquals(expected, actual);
+  }
+
+  /**
+   * Loads the files into a registry.
+   *
+   * @param threads Number of registry loader threads.
+   * @return Registry of the files.
+   * @throws IOException if the output directory could not be created.
+   */
+  private RowRegistry load(int threads) throws IOException {
+    Context context =
+        Utility.createContext(
+            temporaryFolder.newFolder("out" + threads).toPath(),
+            builder -> builder.registryLoaderThreads = threads);
+    return new RowRegistry(paths, context);
+  }
+
+  /** Row of a test file, hashed by its key. */
+  private static class Row {
+
+    /** Key of the row. */
+    private final String key;
+
+    /** Value of the row. */
+    private final String value;
+
+    private Row(String key, String value) {
+      this.key = key;
+      this.value = value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof Row && key.equals(((Row) o).key) && value.equals(((Row) o).value);
+    }
+
+    @Override
+    public int hashCode() {
+      return key.hashCode();
+    }
+  }
+
+  /** Registry of rows, loading of the first file is delayed to finish after the others. */
+  private static class RowRegistry extends Registry<Row> {
+
+    private RowRegistry(ImmutableSet<Path> paths, Context context) {
+      super(paths, context);
+    }
+
+    @Override
+    protected void populateContent(Path path, ImmutableMultimap.Builder<Integer, Row> builder)
+        throws IOException {
+      if (path.getFileName().toString().equals("file0.tsv")) {
+        try {
+          Thread.sleep(100);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      super.populateContent(path, builder);
+    }
+
+    @Override
+    protected Builder<Row> getBuilder() {
+      return values -> new Row(values[0], values[1]);
+    }
+
+    /**
+     * Returns all entries of the registry.
+     *
+     * @return Entries in the order of the contents of the registry.
+     */
+    private List<Map.Entry<Integer, Row>> getEntries() {
+      return new ArrayList<>(contents.entries());
+    }
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.registries.index;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import edu.ucr.cs.riple.injector.changes.AddMarkerAnnotation;
+import edu.ucr.cs.riple.injector.location.OnField;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for {@link IdInterner}. */
+@RunWith(JUnit4.class)
+public class IdInternerTest {
+
+  @Test
+  public void equalValuesShareIdAndCanonicalInstance() {
+    IdInterner<String> interner = new IdInterner<>();
+    String first = new String("value");
+    String second = new String("value");
+    IdInterner.Interned<String> a = interner.intern(first);
+    IdInterner.Interned<String> b = interner.intern(second);
+    assertEquals(a.id, b.id);
+    assertSame(first, a.value);
+    assertSame(first, b.value);
+    assertEquals(1, interner.size());
+  }
+
+  @Test
+  public void distinctValuesGetDenseIds() {
+    IdInterner<String> interner = new IdInterner<>();
+    List<String> values = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      values.add("value" + i);
+      assertEquals(i, interner.intern(values.get(i)).id);
+    }
+    assertEquals(100, interner.size());
+    // Ids of interned values are stable.
+    for (int i = 0; i < 100; i++) {
+      assertEquals(i, interner.intern(new String(values.get(i))).id);
+    }
+  }
+
+  @Test
+  public void releasedValuesGetNewIds() {
+    IdInterner<String> interner = new IdInterner<>();
+    String released = interner.intern(new String("released")).value;
+    String kept = interner.intern(new String("kept")).value;
+    interner.release(released);
+    // Ids are not reused, an equal value interned after release gets a new id.
+    IdInterner.Interned<String> reinterned = interner.intern(new String("released"));
+    assertEquals(2, reinterned.id);
+    assertNotSame(released, reinterned.value);
+    assertEquals(1, interner.intern(new String("kept")).id);
+    assertSame(kept, interner.intern(new String("kept")).value);
+  }
+
+  @Test
+  public void concurrentInterningAgreesOnIds() throws Exception {
+    IdInterner<String> interner = new IdInterner<>();
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<int[]>> results = new ArrayList<>();
+      for (int t = 0; t < 4; t++) {
+        results.add(
+            executor.submit(
+                () -> {
+                  int[] ids = new int[1000];
+                  for (int i = 0; i < ids.length; i++) {
+                    ids[i] = interner.intern("value" + i).id;
+                  }
+                  return ids;
+                }));
+      }
+      int[] expected = results.get(0).get();
+      for (Future<int[]> result : results) {
+        int[] ids = result.get();
+        for (int i = 0; i < ids.length; i++) {
+          assertEquals(expected[i], ids[i]);
+        }
+      }
+      assertEquals(1000, interner.size());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void equalFixesShareId() {
+    Fix first = fixOnField("f");
+    Fix second = fixOnField("f");
+    Fix other = fixOnField("g");
+    assertEquals(first.getId(), second.getId());
+    assertEquals(first, second);
+    assertEquals(first.changes, second.changes);
+    assertNotEquals(first.getId(), other.getId());
+  }
+
+  /**
+   * Creates a new fix annotating the given field of a test class.
+   *
+   * @param field Name of the field.
+   * @return New fix instance.
+   */
+  private static Fix fixOnField(String field) {
+    return new Fix(
+        new AddMarkerAnnotation(
+            new OnField(Paths.get("/tmp/A.java"), "test.A", Set.of(field)),
+            "javax.annotation.Nullable"));
+  }
+}
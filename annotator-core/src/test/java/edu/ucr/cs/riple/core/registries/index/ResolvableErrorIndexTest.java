@@ -0,0 +1,131 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.registries.index;
+
+import static org.junit.Assert.assertEquals;
+
+import edu.ucr.cs.riple.core.checkers.nullaway.NullAwayError;
+import edu.ucr.cs.riple.core.registries.region.Region;
+import edu.ucr.cs.riple.injector.changes.AddAnnotation;
+import edu.ucr.cs.riple.injector.changes.AddMarkerAnnotation;
+import edu.ucr.cs.riple.injector.location.OnField;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for {@link ResolvableErrorIndex}. */
+@RunWith(JUnit4.class)
+public class ResolvableErrorIndexTest {
+
+  /** Path of the class declaring the annotated fields. */
+  private static final Path PATH = Paths.get("/tmp/test/Foo.java");
+
+  @Test
+  public void countsMatchIsResolvableWith() {
+    Random random = new Random(42);
+    List<AddAnnotation> annotations = new ArrayList<>();
+    for (int i = 0; i < 12; i++) {
+      annotations.add(annotationOnField("f" + i));
+    }
+    List<Error> errors = new ArrayList<>();
+    for (int i = 0; i < 300; i++) {
+      // Errors are resolved by zero to three fixes, equal errors are generated on purpose.
+      Set<AddAnnotation> resolving = new HashSet<>();
+      int count = random.nextInt(4);
+      for (int j = 0; j < count; j++) {
+        resolving.add(annotations.get(random.nextInt(annotations.size())));
+      }
+      errors.add(createError(random.nextInt(5), resolving));
+    }
+    ResolvableErrorIndex index = new ResolvableErrorIndex(errors);
+    for (int i = 0; i < 200; i++) {
+      Set<Fix> fixes = new HashSet<>();
+      for (AddAnnotation annotation : annotations) {
+        if (random.nextInt(3) == 0) {
+          fixes.add(new Fix(annotation));
+        }
+      }
+      // Fixes unknown to the index do not resolve any error.
+      if (random.nextBoolean()) {
+        fixes.add(new Fix(annotationOnField("unknown" + i)));
+      }
+      long expected = errors.stream().filter(error -> error.isResolvableWith(fixes)).count();
+      assertEquals(fixes.toString(), expected, index.countResolvedBy(FixIdSet.of(fixes)));
+    }
+  }
+
+  @Test
+  public void emptyIndexAndEmptyFixes() {
+    Fix fix = new Fix(annotationOnField("f"));
+    assertEquals(0, new ResolvableErrorIndex(List.of()).countResolvedBy(FixIdSet.of(Set.of(fix))));
+    ResolvableErrorIndex index =
+        new ResolvableErrorIndex(
+            List.of(createError(0, Set.of()), createError(0, Set.of(annotationOnField("f")))));
+    assertEquals(0, index.countResolvedBy(FixIdSet.of(Set.of())));
+    assertEquals(1, index.countResolvedBy(FixIdSet.of(Set.of(fix))));
+  }
+
+  @Test
+  public void equalErrorsAreCountedSeparately() {
+    AddAnnotation first = annotationOnField("f");
+    AddAnnotation second = annotationOnField("g");
+    Error single = createError(0, Set.of(first));
+    Error multi = createError(1, Set.of(first, second));
+    ResolvableErrorIndex index =
+        new ResolvableErrorIndex(List.of(single, createError(0, Set.of(first)), multi, multi));
+    assertEquals(2, index.countResolvedBy(FixIdSet.of(Set.of(new Fix(first)))));
+    assertEquals(4, index.countResolvedBy(FixIdSet.of(Set.of(new Fix(first), new Fix(second)))));
+  }
+
+  /**
+   * Creates an annotation on a field of the test class.
+   *
+   * @param field Name of the field.
+   * @return Annotation on the field.
+   */
+  private static AddAnnotation annotationOnField(String field) {
+    return new AddMarkerAnnotation(
+        new OnField(PATH, "test.Foo", Set.of(field)), "javax.annotation.Nullable");
+  }
+
+  /**
+   * Creates an error in the test class.
+   *
+   * @param offset Offset of the error.
+   * @param annotations Annotations resolving the error, each in a separate fix.
+   * @return Created error.
+   */
+  private static Error createError(int offset, Set<AddAnnotation> annotations) {
+    return new NullAwayError(
+        "ASSIGN_FIELD_NULLABLE", "message", new Region("test.Foo", "run()"), offset, annotations);
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.registries.region;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableSet;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for {@link MemberRegionIndex}. */
+@RunWith(JUnit4.class)
+public class MemberRegionIndexTest {
+
+  /** Number of distinct classes used in generated records. */
+  private static final int CLASSES = 8;
+
+  /** Number of distinct members of each class used in generated records. */
+  private static final int MEMBERS = 6;
+
+  @Test
+  public void lookupsMatchLinearScan() {
+    Random random = new Random(42);
+    List<RegionRecord> records = new ArrayList<>();
+    for (int i = 0; i < 2000; i++) {
+      // Duplicates are generated on purpose, regions are reported once per usage.
+      records.add(
+          new RegionRecord(
+              new Region("test.C" + random.nextInt(CLASSES), "m" + random.nextInt(20) + "()"),
+              "f" + random.nextInt(MEMBERS),
+              "test.C" + random.nextInt(CLASSES)));
+    }
+    MemberRegionIndex index = MemberRegionIndex.of(records);
+    // Includes classes and members which are not used.
+    for (int c = 0; c <= CLASSES; c++) {
+      for (int m = 0; m <= MEMBERS; m++) {
+        String clazz = "test.C" + c;
+        String member = "f" + m;
+        assertEquals(
+            clazz + "#" + member,
+            new ArrayList<>(scan(records, clazz, member)),
+            index.getRegions(clazz, member).asList());
+      }
+    }
+  }
+
+  @Test
+  public void regionsArePerClassOfMember() {
+    Region first = new Region("test.A", "run()");
+    Region second = new Region("test.B", "run()");
+    MemberRegionIndex index =
+        MemberRegionIndex.of(
+            List.of(
+                new RegionRecord(first, "f", "test.Foo"),
+                new RegionRecord(second, "f", "test.Bar"),
+                new RegionRecord(second, "g", "test.Foo")));
+    assertEquals(ImmutableSet.of(first), index.getRegions("test.Foo", "f"));
+    assertEquals(ImmutableSet.of(second), index.getRegions("test.Bar", "f"));
+    assertEquals(ImmutableSet.of(second), index.getRegions("test.Foo", "g"));
+    assertTrue(index.getRegions("test.Bar", "g").isEmpty());
+    assertTrue(index.getRegions("test.Baz", "f").isEmpty());
+  }
+
+  @Test
+  public void lookupsReturnStoredSet() {
+    MemberRegionIndex index =
+        MemberRegionIndex.of(
+            List.of(new RegionRecord(new Region("test.A", "run()"), "f", "test.Foo")));
+    assertSame(index.getRegions("test.Foo", "f"), index.getRegions("test.Foo", "f"));
+  }
+
+  @Test
+  public void emptyIndex() {
+    assertTrue(MemberRegionIndex.of(List.of()).getRegions("test.Foo", "f").isEmpty());
+  }
+
+  /**
+   * Computes the regions where the given member is used by scanning all records.
+   *
+   * @param records Records of member usages.
+   * @param clazz Flat name of the enclosing class of the member.
+   * @param member Name of the member.
+   * @return Regions where the member is used, in the order of the records.
+   */
+  private static Set<Region> scan(List<RegionRecord> records, String clazz, String member) {
+    return records.stream()
+        .filter(record -> record.encClass.equals(clazz) && record.member.equals(member))
+        .map(record -> record.region)
+        .collect(Collectors.toCollection(LinkedHashSet::new));
+  }
+}
@@ -47,6 +47,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -115,6 +116,27 @@ public class CoreTestHelper {
    */
   private boolean jSpecifyModeEnabled;
 
+  /**
+   * Incremental compilation activation. Deactivated by default. If activated, the target module is
+   * compiled in process and builds of groups of fixes only recompile the sources of the group.
+   */
+  private boolean incrementalCompilationEnabled;
+
+  /**
+   * Analysis only compilation activation. Deactivated by default. If activated, the target module
+   * is compiled in process and compilations stop once checker outputs are written.
+   */
+  private boolean analysisOnlyCompilationEnabled;
+
+  /**
+   * Virtual injection activation. Deactivated by default. If activated, {@code @Nullable} fixes on
+   * method returns of the target module are evaluated through library models.
+   */
+  private boolean virtualInjectionEnabled;
+
+  /** Reports computed by Annotator after the test execution. */
+  private List<Report> reports;
+
   public CoreTestHelper(Path projectPath, Path outDirPath) {
     this.projectPath = projectPath;
     this.outDirPath = outDirPath;
@@ -122,6 +144,9 @@ public class CoreTestHelper {
     this.projectBuilder = new ProjectBuilder(this, projectPath);
     this.languageLevel = ParserConfiguration.LanguageLevel.JAVA_17;
     this.jSpecifyModeEnabled = false;
+    this.incrementalCompilationEnabled = false;
+    this.analysisOnlyCompilationEnabled = false;
+    this.virtualInjectionEnabled = false;
   }
 
   public Module onTarget() {
@@ -258,19 +283,64 @@ public class CoreTestHelper {
     return this;
   }
 
-  /** Starts the test process. */
-  public void start() {
+  /**
+   * Compiles the target module in process and recompiles only the sources required by each group
+   * of fixes. The arguments of the compilation are captured from a build of the target module
+   * before Annotator starts.
+   */
+  public CoreTestHelper enableIncrementalCompilation() {
+    this.incrementalCompilationEnabled = true;
+    return this;
+  }
+
+  /**
+   * Compiles the target module in process with only the checks required by Annotator enabled. The
+   * arguments of the compilation are captured from a build of the target module before Annotator
+   * starts.
+   */
+  public CoreTestHelper enableAnalysisOnlyCompilation() {
+    this.analysisOnlyCompilationEnabled = true;
+    return this;
+  }
+
+  /**
+   * Evaluates {@code @Nullable} fixes on method returns of the target module through library models
+   * instead of modifying its source code.
+   */
+  public CoreTestHelper enableVirtualInjection() {
+    this.virtualInjectionEnabled = true;
+    return this;
+  }
+
+  /**
+   * Writes the config of Annotator for the test project. If the target module is compiled in
+   * process, the project is built once to capture the compiler arguments of the target module.
+   *
+   * @return Config of Annotator.
+   */
+  public Config createConfig() {
     Path configPath = outDirPath.resolve("config.json");
     checkSourcePackages();
     makeAnnotatorConfigFile(configPath);
     config = new Config(configPath);
+    if (config.compilerArgumentsPath != null) {
+      // Captures the compiler arguments of the target module.
+      Utility.executeCommand(config.buildCommand);
+    }
+    return config;
+  }
+
+  /** Starts the test process. */
+  public void start() {
+    createConfig();
     Annotator annotator = new Annotator(config);
     annotator.start();
     log = annotator.context.log;
     if (predicate == null) {
       predicate = DEFAULT_PREDICATE.create(config);
     }
-    compare(new ArrayList<>(annotator.cache.reports()));
+    reports = new ArrayList<>(annotator.cache.reports());
+    compare(new ArrayList<>(reports));
     checkBuildsStatus();
     checkExpectedOutput();
   }
@@ -470,7 +540,7 @@ public class CoreTestHelper {
     builder.useCacheImpact = !getEnvironmentVariable("ANNOTATOR_TEST_DISABLE_CACHING");
     builder.useParallelProcessor =
         !getEnvironmentVariable("ANNOTATOR_TEST_DISABLE_PARALLEL_PROCESSING");
-    if (downstreamDependencyAnalysisActivated) {
+    if (downstreamDependencyAnalysisActivated || virtualInjectionEnabled) {
       builder.buildCommand =
           projectBuilder.computeTargetBuildCommandWithLibraryModelLoaderDependency(
               this.outDirPath, jSpecifyModeEnabled);
@@ -482,10 +552,22 @@ public class CoreTestHelper {
               .resolve(
                   Paths.get(
                       "src", "main", "resources", "edu", "ucr", "cs", "riple", "librarymodel"));
+      if (virtualInjectionEnabled) {
+        // Adds the library model loader to the processor path of the target module.
+        builder.buildCommand += " -Pvirtual-injection=true";
+        builder.virtualInjection = true;
+      }
     } else {
       builder.buildCommand =
           projectBuilder.computeTargetBuildCommand(this.outDirPath, jSpecifyModeEnabled);
     }
+    if (incrementalCompilationEnabled || analysisOnlyCompilationEnabled) {
+      Path compilerArguments = outDirPath.resolve("Target-javac-arguments.txt");
+      builder.buildCommand += " -PTarget-compiler-arguments-path=" + compilerArguments;
+      builder.compilerArgumentsPath = compilerArguments;
+      builder.incrementalCompilation = incrementalCompilationEnabled;
+      builder.analysisOnlyCompilation = analysisOnlyCompilationEnabled;
+    }
     builder.write(configPath);
   }
 
@@ -512,6 +594,26 @@ public class CoreTestHelper {
     return log;
   }
 
+  /**
+   * Summarizes reports computed by Annotator independent of the location of the project, so reports
+   * of copies of the same project can be compared.
+   *
+   * @return Map of the root of each report to the type, region and message of its triggered errors.
+   */
+  public Map<String, List<String>> summarizeReports() {
+    return reports.stream()
+        .collect(
+            Collectors.toMap(
+                report -> report.root.toString(),
+                report ->
+                    report.triggeredErrors.stream()
+                        .map(
+                            error ->
+                                error.messageType + "@" + error.getRegion() + ": " + error.message)
+                        .sorted()
+                        .collect(Collectors.toList())));
+  }
+
   /**
    * Getter for Annotator's config instance which was executed on the test input.
    *
@@ -24,7 +24,12 @@
 
 package edu.ucr.cs.riple.core.tools;
 
+import com.github.javaparser.ParserConfiguration;
+import edu.ucr.cs.riple.core.Config;
+import edu.ucr.cs.riple.core.Context;
 import edu.ucr.cs.riple.core.checkers.nullaway.NullAway;
+import edu.ucr.cs.riple.core.module.ModuleConfiguration;
+import edu.ucr.cs.riple.core.registries.field.FieldInitializationStore;
 import edu.ucr.cs.riple.scanner.Serializer;
 import java.io.BufferedReader;
 import java.io.IOException;
@@ -37,6 +42,7 @@ import java.nio.file.StandardOpenOption;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.mockito.MockedStatic;
@@ -148,28 +154,34 @@ public class Utility {
     try (MockedStatic<edu.ucr.cs.riple.core.util.Utility> utilMock =
         Mockito.mockStatic(edu.ucr.cs.riple.core.util.Utility.class, Mockito.CALLS_REAL_METHODS)) {
       utilMock
-          .when(() -> edu.ucr.cs.riple.core.util.Utility.build(Mockito.any(), Mockito.any()))
+          .when(() -> edu.ucr.cs.riple.core.util.Utility.build(
+                      Mockito.any(), Mockito.any(), Mockito.any()))
           .thenAnswer(
               invocation -> {
-                Stream.of(
-                        Serializer.NON_NULL_ELEMENTS_FILE_NAME,
-                        Serializer.CLASS_RECORD_FILE_NAME,
-                        Serializer.METHOD_IMPACTED_REGION_FILE_NAME,
-                        Serializer.FIELD_IMPACTED_REGION_FILE_NAME,
-                        Serializer.METHOD_RECORD_FILE_NAME)
-                    .forEach(
-                        fileName ->
-                            createAFileWithContent(
-                                testDir.resolve("0").resolve(fileName), "HEADER\n"));
-                createAFileWithContent(
-                    testDir.resolve("0").resolve("serialization_version.txt"),
-                    String.valueOf(NullAway.VERSION));
+                createEmptyScannerOutputs(testDir.resolve("0"));
                 return null;
               });
       runnable.run();
     }
   }
 
+  /**
+   * Creates empty scanner outputs of a module, as if the module had no sources.
+   *
+   * @param dir Output directory of the module.
+   */
+  public static void createEmptyScannerOutputs(Path dir) {
+    Stream.of(
+            Serializer.NON_NULL_ELEMENTS_FILE_NAME,
+            Serializer.CLASS_RECORD_FILE_NAME,
+            Serializer.METHOD_IMPACTED_REGION_FILE_NAME,
+            Serializer.FIELD_IMPACTED_REGION_FILE_NAME,
+            Serializer.METHOD_RECORD_FILE_NAME)
+        .forEach(fileName -> createAFileWithContent(dir.resolve(fileName), "HEADER\n"));
+    createAFileWithContent(
+        dir.resolve("serialization_version.txt"), String.valueOf(NullAway.VERSION));
+  }
+
   /**
    * Helper method for creating a file with the given content.
    *
@@ -183,4 +195,59 @@ public class Utility {
       throw new RuntimeException("Could not create file: " + path, e);
     }
   }
+
+  /**
+   * Creates a config for unit tests which do not build a project. The config has a single module
+   * with its config files in the given directory, the given customizer can set any other value
+   * before the config is written.
+   *
+   * @param outDir Output directory of the config.
+   * @param customizer Customizer of the config builder.
+   * @return The created config.
+   */
+  public static Config createConfig(Path outDir, Consumer<Config.Builder> customizer) {
+    Config.Builder builder = new Config.Builder();
+    builder.configPaths =
+        List.of(
+            new ModuleConfiguration(
+                0, outDir, outDir.resolve("nullaway.xml"), outDir.resolve("scanner.xml")));
+    builder.checker = NullAway.NAME;
+    builder.nullableAnnotation = "javax.annotation.Nullable";
+    builder.initializerAnnotation = "com.uber.nullaway.annotations.Initializer";
+    builder.outputDir = outDir.toString();
+    builder.buildCommand = createCheckerOutputsCommand(outDir.resolve("0"));
+    builder.languageLevel = ParserConfiguration.LanguageLevel.JAVA_17;
+    customizer.accept(builder);
+    Path configPath = outDir.resolve("config.json");
+    builder.write(configPath);
+    return new Config(configPath);
+  }
+
+  /**
+   * Returns a build command which only writes empty checker outputs of a module, as if the module
+   * had no sources.
+   *
+   * @param dir Output directory of the module.
+   * @return Shell command writing the checker outputs.
+   */
+  public static String createCheckerOutputsCommand(Path dir) {
+    return Stream.of(NullAway.ERRORS_FILE_NAME, FieldInitializationStore.FILE_NAME)
+        .map(fileName -> "printf 'HEADER\\n' > '" + dir.resolve(fileName) + "'")
+        .collect(Collectors.joining(" && "));
+  }
+
+  /**
+   * Creates a context for unit tests on a module with no sources, see {@link #createConfig(Path,
+   * Consumer)}. The build command of the module only writes empty checker outputs and the scanner
+   * outputs are created before the context is initialized.
+   *
+   * @param outDir Output directory of the config.
+   * @param customizer Customizer of the config builder.
+   * @return The created context.
+   */
+  public static Context createContext(Path outDir, Consumer<Config.Builder> customizer) {
+    Config config = createConfig(outDir, customizer);
+    createEmptyScannerOutputs(config.globalDir.resolve("0"));
+    return new Context(config);
+  }
 }
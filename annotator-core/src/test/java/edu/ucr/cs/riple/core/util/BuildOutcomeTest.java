@@ -0,0 +1,140 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.util;
+
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import edu.ucr.cs.riple.core.Config;
+import edu.ucr.cs.riple.core.Context;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for checking the outcome of builds in {@link Utility#build}. */
+@RunWith(JUnit4.class)
+public class BuildOutcomeTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  /** Context of a module with no sources, failed builds are not retried. */
+  private Context context;
+
+  /** Command writing the checker outputs of the module. */
+  private String writeOutputs;
+
+  @Before
+  public void setup() throws IOException {
+    Path outDir = temporaryFolder.newFolder().toPath();
+    context =
+        edu.ucr.cs.riple.core.tools.Utility.createContext(
+            outDir, builder -> builder.buildRetries = 0);
+    writeOutputs = context.config.buildCommand;
+  }
+
+  @Test
+  public void successfulBuildWritingOutputsIsAccepted() {
+    build(writeOutputs);
+  }
+
+  @Test
+  public void successfulBuildWithoutOutputsFails() {
+    // E.g. a build where the build tool considers the module up to date.
+    RuntimeException exception = assertThrows(RuntimeException.class, () -> build("true"));
+    assertTrue(exception.getMessage().contains("without writing checker outputs"));
+  }
+
+  @Test
+  public void buildFailedByCheckerErrorsIsAccepted() {
+    build(
+        writeOutputs
+            + " && echo 'src/test/A.java:4: error: [NullAway] returning @Nullable expression'"
+            + " && echo '1 error' && exit 1");
+    // Maven reports errors in a different format.
+    build(
+        writeOutputs
+            + " && echo '[ERROR] /src/test/A.java:[4,5] [NullAway] returning @Nullable expression'"
+            + " && exit 1");
+  }
+
+  @Test
+  public void buildFailedByOtherErrorsFails() {
+    // NullAway writes its outputs on initialization, outputs of such builds may be partial.
+    String command =
+        writeOutputs
+            + " && echo 'src/test/A.java:4: error: [NullAway] returning @Nullable expression'"
+            + " && echo 'src/test/B.java:2: error: cannot find symbol' && exit 1";
+    RuntimeException exception = assertThrows(RuntimeException.class, () -> build(command));
+    assertTrue(exception.getMessage().contains("reporting errors other than checker errors"));
+    // Builds failing without any compiler error, e.g. on a failed test.
+    assertThrows(RuntimeException.class, () -> build(writeOutputs + " && exit 1"));
+  }
+
+  @Test
+  public void buildFailedByCheckerErrorsWithoutOutputsFails() {
+    RuntimeException exception =
+        assertThrows(
+            RuntimeException.class,
+            () -> build("echo 'src/test/A.java:4: error: [NullAway] returning null' && exit 1"));
+    assertTrue(exception.getMessage().contains("without writing checker outputs"));
+  }
+
+  @Test
+  public void failedBuildIsAcceptedOnlyIfOutputIsCaptured() throws IOException {
+    Context redirected =
+        edu.ucr.cs.riple.core.tools.Utility.createContext(
+            temporaryFolder.newFolder().toPath(),
+            builder -> {
+              builder.buildRetries = 0;
+              builder.redirectBuildOutputToStdErr = true;
+            });
+    String command =
+        redirected.config.buildCommand
+            + " && echo 'src/test/A.java:4: error: [NullAway] returning null' && exit 1";
+    RuntimeException exception =
+        assertThrows(
+            RuntimeException.class,
+            () ->
+                Utility.build(
+                    redirected, redirected.targetModuleInfo.getModuleConfigurations(), command));
+    assertTrue(exception.getMessage().contains("build output is not captured"));
+  }
+
+  /**
+   * Builds the module of the context with the given command.
+   *
+   * @param command Build command.
+   */
+  private void build(String command) {
+    Utility.build(context, context.targetModuleInfo.getModuleConfigurations(), command);
+    assertTrue(Files.exists(context.targetConfiguration.dir.resolve("errors.tsv")));
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for {@link StringPool}. */
+@RunWith(JUnit4.class)
+public class StringPoolTest {
+
+  @Test
+  public void equalRangesShareInstance() {
+    StringPool pool = new StringPool();
+    char[] chars = "test.A\ttest.A\ttest.B".toCharArray();
+    String first = pool.intern(chars, 0, 6);
+    assertEquals("test.A", first);
+    assertSame(first, pool.intern(chars, 7, 13));
+    assertNotSame(first, pool.intern(chars, 14, 20));
+    assertEquals("test.B", pool.intern(chars, 14, 20));
+    assertEquals(2, pool.size());
+  }
+
+  @Test
+  public void emptyRange() {
+    StringPool pool = new StringPool();
+    char[] chars = "a\t\tb".toCharArray();
+    String empty = pool.intern(chars, 2, 2);
+    assertEquals("", empty);
+    assertSame(empty, pool.intern(chars, 0, 0));
+    assertEquals(1, pool.size());
+  }
+
+  @Test
+  public void collidingHashesAreDistinguished() {
+    // "Aa" and "BB" have the same String#hashCode.
+    StringPool pool = new StringPool();
+    char[] chars = "AaBB".toCharArray();
+    assertEquals("Aa", pool.intern(chars, 0, 2));
+    assertEquals("BB", pool.intern(chars, 2, 4));
+    assertEquals("Aa", pool.intern(chars, 0, 2));
+    assertEquals(2, pool.size());
+  }
+
+  @Test
+  public void pooledInstancesSurviveRehash() {
+    StringPool pool = new StringPool();
+    List<String> pooled = new ArrayList<>();
+    for (int i = 0; i < 5000; i++) {
+      char[] chars = ("test.C" + i).toCharArray();
+      pooled.add(pool.intern(chars, 0, chars.length));
+    }
+    assertEquals(5000, pool.size());
+    for (int i = 0; i < pooled.size(); i++) {
+      char[] chars = ("test.C" + i).toCharArray();
+      assertSame(pooled.get(i), pool.intern(chars, 0, chars.length));
+    }
+    assertEquals(5000, pool.size());
+  }
+}
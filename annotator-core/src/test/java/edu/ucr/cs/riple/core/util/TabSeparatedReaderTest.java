@@ -0,0 +1,193 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests for {@link TabSeparatedReader}. */
+@RunWith(JUnit4.class)
+public class TabSeparatedReaderTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void fieldsMatchSplit() {
+    String content = "a\tbc\tdef\nghi\t\tj\n";
+    assertEquals(List.of(List.of("a", "bc", "def"), List.of("ghi", "", "j")), readAll(content));
+  }
+
+  @Test
+  public void emptyFields() {
+    assertEquals(
+        List.of(List.of("", "", ""), List.of(""), List.of("", "a")), readAll("\t\t\n\n\ta\n"));
+  }
+
+  @Test
+  public void trailingTabReportsEmptyField() {
+    assertEquals(List.of(List.of("a", ""), List.of("b", "", "")), readAll("a\t\nb\t\t\n"));
+  }
+
+  @Test
+  public void carriageReturnsOfLineEndingsAreStripped() {
+    assertEquals(
+        List.of(List.of("a", "b"), List.of("c", ""), List.of("")), readAll("a\tb\r\nc\t\r\n\r\n"));
+  }
+
+  @Test
+  public void carriageReturnsInsideFieldsAreKept() {
+    assertEquals(List.of(List.of("a\rb", "\rc", "d\r", "")), readAll("a\rb\t\rc\td\r\t\n"));
+  }
+
+  @Test
+  public void lastLineWithoutTerminator() {
+    assertEquals(List.of(List.of("a", "b"), List.of("c", "d")), readAll("a\tb\nc\td"));
+    assertEquals(List.of(List.of("a", "b")), readAll("a\tb\r"));
+  }
+
+  @Test
+  public void emptyContent() {
+    assertFalse(new TabSeparatedReader(CharBuffer.wrap("")).nextLine());
+  }
+
+  @Test
+  public void fieldsBeyondInitialCapacity() {
+    StringBuilder line = new StringBuilder();
+    List<String> expected = new ArrayList<>();
+    for (int i = 0; i < 40; i++) {
+      line.append(i == 0 ? "" : "\t").append(i);
+      expected.add(String.valueOf(i));
+    }
+    assertEquals(List.of(expected), readAll(line + "\n"));
+  }
+
+  @Test
+  public void readsArrayBackedBuffersFromTheirPosition() {
+    CharBuffer buffer = CharBuffer.wrap("skip\na\tb\n".toCharArray());
+    buffer.position(5);
+    TabSeparatedReader reader = new TabSeparatedReader(buffer.slice());
+    assertTrue(reader.nextLine());
+    assertEquals("a", reader.getString(0));
+    assertEquals("b", reader.getString(1));
+    assertFalse(reader.nextLine());
+  }
+
+  @Test
+  public void opensFilesWithWindowsLineEndings() throws IOException {
+    Path path = temporaryFolder.newFile("errors.tsv").toPath();
+    Files.writeString(path, "HEADER\tCOLUMN\r\ntest.A\t\r\ntest.B\t42\r\n", StandardCharsets.UTF_8);
+    TabSeparatedReader reader = TabSeparatedReader.open(path, StandardCharsets.UTF_8);
+    StringPool pool = new StringPool();
+    assertTrue(reader.nextLine());
+    assertEquals("COLUMN", reader.getString(1, pool));
+    assertTrue(reader.nextLine());
+    assertEquals(2, reader.fieldCount());
+    assertEquals("", reader.getString(1, pool));
+    assertTrue(reader.nextLine());
+    assertEquals(42, reader.getInt(1));
+    assertFalse(reader.nextLine());
+  }
+
+  @Test
+  public void parsesInts() {
+    TabSeparatedReader reader =
+        new TabSeparatedReader(CharBuffer.wrap("0\t-0\t007\t2147483647\t-2147483648\t-1\n"));
+    assertTrue(reader.nextLine());
+    int[] expected = {0, 0, 7, Integer.MAX_VALUE, Integer.MIN_VALUE, -1};
+    for (int i = 0; i < expected.length; i++) {
+      assertEquals(expected[i], reader.getInt(i));
+    }
+  }
+
+  @Test
+  public void rejectsInvalidInts() {
+    TabSeparatedReader reader =
+        new TabSeparatedReader(
+            CharBuffer.wrap("\t-\t1a\t+1\t2147483648\t-2147483649\t99999999999999999999\r\n"));
+    assertTrue(reader.nextLine());
+    for (int i = 0; i < reader.fieldCount(); i++) {
+      int field = i;
+      assertThrows(
+          reader.getString(field), NumberFormatException.class, () -> reader.getInt(field));
+    }
+  }
+
+  @Test
+  public void rejectsMissingFields() {
+    TabSeparatedReader reader = new TabSeparatedReader(CharBuffer.wrap("a\tb\n"));
+    assertTrue(reader.nextLine());
+    assertThrows(IndexOutOfBoundsException.class, () -> reader.getString(2));
+    assertThrows(IndexOutOfBoundsException.class, () -> reader.getInt(-1));
+  }
+
+  @Test
+  public void pooledFieldsAreShared() {
+    TabSeparatedReader reader =
+        new TabSeparatedReader(CharBuffer.wrap("test.A\ttest.A\n\ttest.A\n"));
+    StringPool pool = new StringPool();
+    assertTrue(reader.nextLine());
+    String first = reader.getString(0, pool);
+    assertSame(first, reader.getString(1, pool));
+    assertTrue(reader.nextLine());
+    assertSame(first, reader.getString(1, pool));
+    assertEquals("", reader.getString(0, pool));
+    assertEquals(2, pool.size());
+  }
+
+  /**
+   * Reads all lines of the given content.
+   *
+   * @param content Content to read.
+   * @return Fields of each line.
+   */
+  private static List<List<String>> readAll(String content) {
+    TabSeparatedReader reader = new TabSeparatedReader(CharBuffer.wrap(content));
+    List<List<String>> lines = new ArrayList<>();
+    while (reader.nextLine()) {
+      List<String> fields = new ArrayList<>();
+      for (int i = 0; i < reader.fieldCount(); i++) {
+        fields.add(reader.getString(i));
+      }
+      lines.add(fields);
+    }
+    return lines;
+  }
+}
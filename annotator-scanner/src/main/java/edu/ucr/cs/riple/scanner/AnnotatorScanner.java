@@ -42,10 +42,12 @@ import com.sun.source.tree.MemberSelectTree;
 import com.sun.source.tree.MethodInvocationTree;
 import com.sun.source.tree.MethodTree;
 import com.sun.source.tree.NewClassTree;
+import com.sun.source.tree.Tree;
 import com.sun.source.tree.VariableTree;
 import com.sun.tools.javac.code.Symbol;
 import com.sun.tools.javac.tree.JCTree;
 import edu.ucr.cs.riple.scanner.out.ClassRecord;
+import edu.ucr.cs.riple.scanner.out.FieldRecord;
 import edu.ucr.cs.riple.scanner.out.ImpactedRegion;
 import edu.ucr.cs.riple.scanner.out.MethodRecord;
 import java.util.ArrayList;
@@ -90,15 +92,48 @@ public class AnnotatorScanner extends BugChecker
     if (!context.getConfig().isActive()) {
       return Description.NO_MATCH;
     }
+    // Classes are visited before their members, outputs of this compilation are written from here.
+    context.registerSerializerListeners(visitorState);
     context
         .getConfig()
         .getSerializer()
         .serializeClassRecord(
             new ClassRecord(
                 ASTHelpers.getSymbol(classTree), visitorState.getPath().getCompilationUnit()));
+    serializeFieldRecords(classTree);
     return Description.NO_MATCH;
   }
 
+  /**
+   * Serializes field declaration statements of the given class. Fields declared inline in a single
+   * statement (e.g. {@code Object a, b;}) are consecutive members of the class sharing the same
+   * start position.
+   *
+   * @param classTree Class tree.
+   */
+  private void serializeFieldRecords(ClassTree classTree) {
+    Serializer serializer = context.getConfig().getSerializer();
+    Symbol.ClassSymbol classSymbol = ASTHelpers.getSymbol(classTree);
+    List<VariableTree> statement = new ArrayList<>();
+    int statementStart = -1;
+    for (Tree member : classTree.getMembers()) {
+      if (!(member instanceof VariableTree)
+          || !FieldRecord.isSourceFieldDeclaration((VariableTree) member)) {
+        continue;
+      }
+      int start = ((JCTree) member).getStartPosition();
+      if (!statement.isEmpty() && start != statementStart) {
+        serializer.serializeFieldRecord(new FieldRecord(classSymbol, statement));
+        statement = new ArrayList<>();
+      }
+      statement.add((VariableTree) member);
+      statementStart = start;
+    }
+    if (!statement.isEmpty()) {
+      serializer.serializeFieldRecord(new FieldRecord(classSymbol, statement));
+    }
+  }
+
   @Override
   public Description matchMethodInvocation(MethodInvocationTree tree, VisitorState state) {
     Config config = context.getConfig();
@@ -67,4 +67,11 @@ public interface Config {
    * @return Using SymbolSourceResolver instance.
    */
   SymbolSourceResolver getSymbolSourceResolver();
+
+  /**
+   * Returns the format of serialized outputs.
+   *
+   * @return Format of serialized outputs.
+   */
+  SerializationFormat getSerializationFormat();
 }
@@ -62,4 +62,9 @@ public class DummyOptionsConfig implements Config {
   public SymbolSourceResolver getSymbolSourceResolver() {
     throw new IllegalStateException(ERROR_MESSAGE);
   }
+
+  @Override
+  public SerializationFormat getSerializationFormat() {
+    throw new IllegalStateException(ERROR_MESSAGE);
+  }
 }
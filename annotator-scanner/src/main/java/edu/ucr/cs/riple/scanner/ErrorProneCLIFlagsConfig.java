@@ -61,6 +61,9 @@ public class ErrorProneCLIFlagsConfig implements Config {
   /** Immutable set of fully qualified name of {@code @Nonnull} annotations. */
   private final ImmutableSet<String> nonnullAnnotations;
 
+  /** Format of serialized outputs. */
+  private final SerializationFormat serializationFormat;
+
   static final String EP_FL_NAMESPACE = "AnnotatorScanner";
   static final String FL_CONFIG_PATH = EP_FL_NAMESPACE + ":ConfigPath";
 
@@ -89,6 +92,14 @@ public class ErrorProneCLIFlagsConfig implements Config {
     this.serializationIsActive =
         XMLUtil.getValueFromAttribute(document, "/scanner/serialization", "active", Boolean.class)
             .orElse(false);
+    String serializationFormat =
+        XMLUtil.getValueFromAttribute(document, "/scanner/serialization", "format", String.class)
+            .orElse("");
+    // Configurations written before the format attribute was introduced use tsv.
+    this.serializationFormat =
+        serializationFormat.isEmpty()
+            ? SerializationFormat.TSV
+            : SerializationFormat.parseFormat(serializationFormat);
     this.symbolSourceResolver = new SymbolSourceResolver(extractRequestedSourceTypes(document));
     this.nonnullAnnotations =
         XMLUtil.getArrayValueFromTag(document, "/scanner/annotations/nonnull", String.class)
@@ -137,4 +148,9 @@ public class ErrorProneCLIFlagsConfig implements Config {
   public SymbolSourceResolver getSymbolSourceResolver() {
     return symbolSourceResolver;
   }
+
+  @Override
+  public SerializationFormat getSerializationFormat() {
+    return serializationFormat;
+  }
 }
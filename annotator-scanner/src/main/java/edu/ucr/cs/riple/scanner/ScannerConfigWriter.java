@@ -28,19 +28,13 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableSet;
 import edu.ucr.cs.riple.scanner.generatedcode.SourceType;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.HashSet;
+import java.util.EnumSet;
 import java.util.Set;
-import java.util.UUID;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 
@@ -59,10 +53,15 @@ public class ScannerConfigWriter {
   /** Set of {@code @Nonnull} annotations. */
   private ImmutableSet<String> nonnullAnnotations;
 
+  /** Format of serialized outputs. */
+  private SerializationFormat serializationFormat;
+
   public ScannerConfigWriter() {
     this.serializationActivation = false;
-    this.activatedGeneratedCodeDetectors = new HashSet<>();
+    // Enum set keeps the written order of detectors stable across runs.
+    this.activatedGeneratedCodeDetectors = EnumSet.noneOf(SourceType.class);
     this.nonnullAnnotations = ImmutableSet.of();
+    this.serializationFormat = SerializationFormat.TSV;
   }
 
   public ScannerConfigWriter setOutput(Path output) {
@@ -80,13 +79,19 @@ public class ScannerConfigWriter {
     return this;
   }
 
+  public ScannerConfigWriter setSerializationFormat(SerializationFormat serializationFormat) {
+    this.serializationFormat = serializationFormat;
+    return this;
+  }
+
   public ScannerConfigWriter setNonnullAnnotations(ImmutableSet<String> nonnullAnnotations) {
     this.nonnullAnnotations = nonnullAnnotations;
     return this;
   }
 
   /**
-   * Outputs the configured object as XML format in the given path.
+   * Outputs the configured object as XML format in the given path. The file is only written if its
+   * content changes, see {@link XMLUtil#writeIfChanged(Document, Path)}.
    *
    * @param path Output path.
    */
@@ -94,11 +99,6 @@ public class ScannerConfigWriter {
     Preconditions.checkNotNull(this.outputDirectory, "Output directory must be initialized.");
     DocumentBuilderFactory docFactory = DocumentBuilderFactory.newInstance();
     try {
-      // Delete if exists.
-      Files.deleteIfExists(path);
-      // Re-Create file.
-      Files.createFile(path);
-
       DocumentBuilder docBuilder = docFactory.newDocumentBuilder();
       Document doc = docBuilder.newDocument();
 
@@ -109,13 +109,9 @@ public class ScannerConfigWriter {
       // Serialization Activation
       Element methodElement = doc.createElement("serialization");
       methodElement.setAttribute("active", String.valueOf(serializationActivation));
+      methodElement.setAttribute("format", serializationFormat.name().toLowerCase());
       rootElement.appendChild(methodElement);
 
-      // UUID
-      Element uuid = doc.createElement("uuid");
-      uuid.setTextContent(UUID.randomUUID().toString());
-      rootElement.appendChild(uuid);
-
       // Output dir
       Element outputDir = doc.createElement("path");
       outputDir.setTextContent(this.outputDirectory.toString());
@@ -142,11 +138,7 @@ public class ScannerConfigWriter {
           });
 
       // Writings
-      TransformerFactory transformerFactory = TransformerFactory.newInstance();
-      Transformer transformer = transformerFactory.newTransformer();
-      DOMSource source = new DOMSource(doc);
-      StreamResult result = new StreamResult(path.toFile());
-      transformer.transform(source, result);
+      XMLUtil.writeIfChanged(doc, path);
     } catch (ParserConfigurationException | TransformerException | IOException e) {
       throw new RuntimeException("Error happened in writing config.", e);
     }
@@ -26,8 +26,13 @@ package edu.ucr.cs.riple.scanner;
 
 import com.google.common.collect.Multimap;
 import com.google.common.collect.MultimapBuilder;
+import com.google.errorprone.VisitorState;
+import com.sun.source.util.TaskEvent;
+import com.sun.source.util.TaskListener;
+import com.sun.tools.javac.api.MultiTaskListener;
 import edu.ucr.cs.riple.scanner.out.MethodRecord;
 import java.util.stream.Stream;
+import javax.annotation.Nullable;
 
 /**
  * Container class to store the state of the checker.
@@ -53,6 +58,12 @@ public class ScannerContext {
   /** Type Annotator Scanner config. */
   private final Config config;
 
+  /**
+   * Listener which writes the buffered outputs of the serializer during the running compilation,
+   * {@code null} until it is registered on the first visited class.
+   */
+  @Nullable private SerializerListener serializerListener;
+
   public ScannerContext(Config config) {
     this.methodId = 0;
     this.visitedMethods = MultimapBuilder.hashKeys().arrayListValues().build();
@@ -86,6 +97,23 @@ public class ScannerContext {
     return config;
   }
 
+  /**
+   * Registers listeners to write buffered outputs of the serializer after each compilation unit is
+   * analyzed, and to close the serializer once the running compilation is finished. A JVM shutdown
+   * hook is also registered for compilations which are terminated before they finish. Subsequent
+   * calls are no-op.
+   *
+   * @param state Visitor state of a tree in the running compilation.
+   */
+  public void registerSerializerListeners(VisitorState state) {
+    if (serializerListener != null) {
+      return;
+    }
+    serializerListener = new SerializerListener(config.getSerializer());
+    MultiTaskListener.instance(state.context).add(serializerListener);
+    Runtime.getRuntime().addShutdownHook(serializerListener.shutdownHook);
+  }
+
   /**
    * Retrieves stream of {@link MethodRecord} that has the given hash value.
    *
@@ -95,4 +123,39 @@ public class ScannerContext {
   public Stream<MethodRecord> getVisitedMethodsWithHashHint(int hashHint) {
     return this.visitedMethods.get(hashHint).stream();
   }
+
+  /**
+   * Writes buffered outputs of the {@link Serializer} at compilation unit boundaries and closes it
+   * when the compilation is finished. There is no API in javac or Error Prone to inform a checker
+   * that the analysis is finished, hence the task events are used.
+   */
+  private static class SerializerListener implements TaskListener {
+
+    /** Serializer to write its outputs. */
+    private final Serializer serializer;
+
+    /** Shutdown hook closing the serializer if the compilation does not finish normally. */
+    private final Thread shutdownHook;
+
+    private SerializerListener(Serializer serializer) {
+      this.serializer = serializer;
+      this.shutdownHook = new Thread(serializer::close);
+    }
+
+    @Override
+    public void finished(TaskEvent event) {
+      if (event.getKind() == TaskEvent.Kind.ANALYZE) {
+        serializer.flush();
+      }
+      if (event.getKind() == TaskEvent.Kind.COMPILATION) {
+        serializer.close();
+        try {
+          Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException e) {
+          // JVM is already shutting down, the hook may run concurrently with this thread. Closing
+          // is synchronized and idempotent, hence the hook waits for this call and then no-ops.
+        }
+      }
+    }
+  }
 }
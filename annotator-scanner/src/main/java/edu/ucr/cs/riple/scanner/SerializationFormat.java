@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.scanner;
+
+import java.nio.file.Path;
+
+/** Formats of the files serialized by {@link Serializer}. */
+public enum SerializationFormat {
+  /** Tab separated values with a header row, human-readable and used for debugging. */
+  TSV,
+  /**
+   * Binary columnar tables written with {@link
+   * edu.ucr.cs.riple.scanner.columnar.ColumnarTableWriter}, loaded faster than TSV files.
+   */
+  BINARY;
+
+  /** File extension of files in binary format. */
+  private static final String BINARY_EXTENSION = ".bin";
+
+  /** File extension of files in tsv format. */
+  private static final String TSV_EXTENSION = ".tsv";
+
+  /**
+   * Returns the path to the file in this format corresponding to the given tsv file.
+   *
+   * @param tsvPath Path to the file in tsv format.
+   * @return Path to the file in this format.
+   */
+  public Path pathOf(Path tsvPath) {
+    if (this == TSV) {
+      return tsvPath;
+    }
+    String name = tsvPath.getFileName().toString();
+    if (name.endsWith(TSV_EXTENSION)) {
+      name = name.substring(0, name.length() - TSV_EXTENSION.length());
+    }
+    return tsvPath.resolveSibling(name + BINARY_EXTENSION);
+  }
+
+  /**
+   * Parses the serialization format from its name.
+   *
+   * @param format Name of the format, case-insensitive.
+   * @return The corresponding {@link SerializationFormat}.
+   */
+  public static SerializationFormat parseFormat(String format) {
+    switch (format.toLowerCase()) {
+      case "tsv":
+        return TSV;
+      case "binary":
+        return BINARY;
+      default:
+        throw new IllegalArgumentException(
+            "Unrecognized serialization format: " + format + ", expected tsv or binary.");
+    }
+  }
+}
@@ -29,23 +29,33 @@ import static java.util.stream.Collectors.joining;
 import com.sun.tools.javac.code.Symbol;
 import com.sun.tools.javac.code.Type;
 import com.sun.tools.javac.util.Name;
+import edu.ucr.cs.riple.scanner.columnar.ColumnarTableWriter;
 import edu.ucr.cs.riple.scanner.location.SymbolLocation;
 import edu.ucr.cs.riple.scanner.out.ClassRecord;
+import edu.ucr.cs.riple.scanner.out.FieldRecord;
 import edu.ucr.cs.riple.scanner.out.ImpactedRegion;
 import edu.ucr.cs.riple.scanner.out.MethodRecord;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.Writer;
 import java.net.URI;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
 import javax.annotation.Nullable;
 
 /**
  * Serializer class where all generated files in Fix Serialization package is created through APIs
  * of this class.
+ *
+ * <p>Rows are appended by the compiler thread, while outputs may be flushed and closed by task
+ * listeners or a JVM shutdown hook running on another thread, hence all access to the buffered
+ * outputs is synchronized on the serializer.
  */
 public class Serializer {
 
@@ -61,9 +71,34 @@ public class Serializer {
   /** Path to write class info data. */
   private final Path classRecordsPath;
 
+  /** Path to write field declaration statements. */
+  private final Path fieldRecordsPath;
+
   /** Path to write location of elements with explicit {@code @Nonnull} annotation. */
   private final Path nonnullElementsPath;
 
+  /**
+   * Buffered writers of output files, opened on the first append to each file and kept open until
+   * {@link #close()} is called. Guarded by the serializer.
+   */
+  private final Map<Path, Writer> writers;
+
+  /**
+   * Whether all appended rows are written and all writers are closed, so that subsequent calls to
+   * {@link #close()} are no-op. Guarded by the serializer.
+   */
+  private boolean closed;
+
+  /** Format of output files. */
+  private final SerializationFormat format;
+
+  /**
+   * Binary tables of output files keyed by the path of the corresponding tsv file, only used in
+   * {@link SerializationFormat#BINARY} format. Tables are written on {@link #close()}. Guarded by
+   * the serializer.
+   */
+  private final Map<Path, ColumnarTableWriter> tables;
+
   /** File name where all field usage data has been stored. */
   public static final String FIELD_IMPACTED_REGION_FILE_NAME = "field_impacted_region_map.tsv";
 
@@ -76,6 +111,9 @@ public class Serializer {
   /** File name where all class data has been stored. */
   public static final String CLASS_RECORD_FILE_NAME = "class_records.tsv";
 
+  /** File name where all field declaration statements have been stored. */
+  public static final String FIELD_RECORD_FILE_NAME = "field_records.tsv";
+
   /** File name where location of elements explicitly annotated as {@code @Nonnull}. */
   public static final String NON_NULL_ELEMENTS_FILE_NAME = "nonnull_elements.tsv";
 
@@ -85,7 +123,12 @@ public class Serializer {
     this.methodImpactedRegionPath = outputDirectory.resolve(METHOD_IMPACTED_REGION_FILE_NAME);
     this.methodRecordPath = outputDirectory.resolve(METHOD_RECORD_FILE_NAME);
     this.classRecordsPath = outputDirectory.resolve(CLASS_RECORD_FILE_NAME);
+    this.fieldRecordsPath = outputDirectory.resolve(FIELD_RECORD_FILE_NAME);
     this.nonnullElementsPath = outputDirectory.resolve(NON_NULL_ELEMENTS_FILE_NAME);
+    this.writers = new HashMap<>();
+    this.format = config.getSerializationFormat();
+    this.tables = new HashMap<>();
+    this.closed = true;
     initializeOutputFiles(config);
   }
 
@@ -119,6 +162,16 @@ public class Serializer {
     appendToFile(classRecord.toString(), this.classRecordsPath);
   }
 
+  /**
+   * Appends the string representation of the {@link FieldRecord} corresponding to a field
+   * declaration statement.
+   *
+   * @param fieldRecord FieldRecord instance.
+   */
+  public void serializeFieldRecord(FieldRecord fieldRecord) {
+    appendToFile(fieldRecord.toString(), this.fieldRecordsPath);
+  }
+
   /**
    * Appends the string representation of the {@link MethodRecord} corresponding to a method.
    *
@@ -155,16 +208,40 @@ public class Serializer {
     }
   }
 
+  /**
+   * Initializes the output file at the given path in the configured format. Files of the other
+   * format are deleted so that stale outputs of previous runs are never read.
+   *
+   * @param path Path to the output file in tsv format.
+   * @param header Header of the output file.
+   * @param intColumns Indices of columns holding integer values.
+   */
+  private void initializeOutput(Path path, String header, int... intColumns) throws IOException {
+    if (format == SerializationFormat.TSV) {
+      Files.deleteIfExists(SerializationFormat.BINARY.pathOf(path));
+      initializeFile(path, header);
+      return;
+    }
+    Files.deleteIfExists(path);
+    ColumnarTableWriter table =
+        new ColumnarTableWriter(format.pathOf(path), header.split("\t").length, intColumns);
+    // Write the empty table to mark the output as initialized.
+    table.write();
+    tables.put(path, table);
+  }
+
   /** Initializes every file which will be re-generated in the new run of NullAway. */
   private void initializeOutputFiles(Config config) {
     try {
       Files.createDirectories(config.getOutputDirectory());
       if (config.isActive()) {
-        initializeFile(methodImpactedRegionPath, ImpactedRegion.header());
-        initializeFile(fieldImpactedRegionPath, ImpactedRegion.header());
-        initializeFile(methodRecordPath, MethodRecord.header());
-        initializeFile(classRecordsPath, ClassRecord.header());
-        initializeFile(nonnullElementsPath, SymbolLocation.header());
+        initializeOutput(methodImpactedRegionPath, ImpactedRegion.header());
+        initializeOutput(fieldImpactedRegionPath, ImpactedRegion.header());
+        // Method and parent ids are integers.
+        initializeOutput(methodRecordPath, MethodRecord.header(), 0, 3);
+        initializeOutput(classRecordsPath, ClassRecord.header());
+        initializeOutput(fieldRecordsPath, FieldRecord.header());
+        initializeOutput(nonnullElementsPath, SymbolLocation.header());
       }
     } catch (IOException e) {
       throw new RuntimeException("Could not finish resetting serializer", e);
@@ -265,24 +342,85 @@ public class Serializer {
   }
 
   /**
-   * Appends the given string as a row in the file which tha path is given.
+   * Appends the given string as a row in the file which tha path is given. Rows are buffered and
+   * written to the file on {@link #flush()} or {@link #close()}. In {@link
+   * SerializationFormat#BINARY} format, rows are only written on {@link #close()}. Package-private
+   * for tests.
    *
    * @param row Row to append.
    * @param path Path to target file.
    */
-  private void appendToFile(String row, Path path) {
-    // Since there is no method available in API of either javac or errorprone to inform NullAway
-    // that the analysis is finished, we cannot open a single stream and flush it within a finalize
-    // method. Must open and close a new stream everytime we are appending a new line to a file.
+  synchronized void appendToFile(String row, Path path) {
     if (row == null || row.equals("")) {
       return;
     }
-    row = row + "\n";
-    try (OutputStream os = new FileOutputStream(path.toFile(), true)) {
-      os.write(row.getBytes(Charset.defaultCharset()), 0, row.length());
-      os.flush();
+    closed = false;
+    ColumnarTableWriter table = tables.get(path);
+    if (table != null) {
+      table.addRow(row.split("\t", -1));
+      return;
+    }
+    try {
+      Writer writer = writers.get(path);
+      if (writer == null) {
+        writer =
+            Files.newBufferedWriter(
+                path,
+                Charset.defaultCharset(),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND);
+        writers.put(path, writer);
+      }
+      writer.write(row);
+      writer.write("\n");
     } catch (IOException e) {
       throw new RuntimeException("Error happened for writing at file: " + path, e);
     }
   }
+
+  /**
+   * Writes all buffered rows to their files. Binary tables are rewritten as a whole on every write,
+   * hence they are only written on {@link #close()}.
+   */
+  public synchronized void flush() {
+    writers.forEach(
+        (path, writer) -> {
+          try {
+            writer.flush();
+          } catch (IOException e) {
+            throw new RuntimeException("Error happened for writing at file: " + path, e);
+          }
+        });
+  }
+
+  /**
+   * Writes all buffered rows to their files and closes all open streams. Rows appended after this
+   * call are written to new streams opened in append mode, binary tables keep all rows and are
+   * rewritten on the next call. Calls with no rows appended since the last call are no-op, hence
+   * this method can be called both when the compilation finishes and on JVM shutdown.
+   */
+  public synchronized void close() {
+    if (closed) {
+      return;
+    }
+    tables.forEach(
+        (path, table) -> {
+          try {
+            table.write();
+          } catch (IOException e) {
+            throw new RuntimeException(
+                "Error happened for writing at file: " + format.pathOf(path), e);
+          }
+        });
+    writers.forEach(
+        (path, writer) -> {
+          try {
+            writer.close();
+          } catch (IOException e) {
+            throw new RuntimeException("Error happened for writing at file: " + path, e);
+          }
+        });
+    writers.clear();
+    closed = true;
+  }
 }
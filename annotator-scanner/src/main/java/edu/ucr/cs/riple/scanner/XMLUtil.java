@@ -7,8 +7,19 @@
 package edu.ucr.cs.riple.scanner;
 
 import com.google.common.collect.ImmutableSet;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.UUID;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
 import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpressionException;
@@ -21,6 +32,12 @@ import org.w3c.dom.NodeList;
 /** Helper for class for parsing/writing xml files. */
 public class XMLUtil {
 
+  /**
+   * Extension of the sidecar file written next to each configuration file, holding a fresh nonce
+   * on every write.
+   */
+  public static final String NONCE_FILE_EXTENSION = ".uuid";
+
   /**
    * Helper method for reading attributes of node located at /key_1/key_2/.../key_n (in the form of
    * {@code Xpath} query) from a {@link Document}.
@@ -97,6 +114,36 @@ public class XMLUtil {
     }
   }
 
+  /**
+   * Writes the given document at the given path, only if the file does not already hold the same
+   * content. Configuration files are inputs of builds, rewriting them with unchanged content
+   * invalidates up-to-date checks and caches of build systems. A fresh nonce is written on every
+   * call to a sidecar file next to the given path instead, builds can declare it as an input to
+   * force running the analysis on every build.
+   *
+   * @param doc XML object to write.
+   * @param path Path to the output file.
+   * @return true, if the file was written.
+   * @throws TransformerException if the document could not be serialized.
+   * @throws IOException if the file could not be read or written.
+   */
+  public static boolean writeIfChanged(Document doc, Path path)
+      throws TransformerException, IOException {
+    ByteArrayOutputStream content = new ByteArrayOutputStream();
+    TransformerFactory.newInstance()
+        .newTransformer()
+        .transform(new DOMSource(doc), new StreamResult(content));
+    Files.write(
+        path.resolveSibling(path.getFileName() + NONCE_FILE_EXTENSION),
+        UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8));
+    byte[] bytes = content.toByteArray();
+    if (Files.isRegularFile(path) && Arrays.equals(Files.readAllBytes(path), bytes)) {
+      return false;
+    }
+    Files.write(path, bytes);
+    return true;
+  }
+
   /** Helper class for setting default values when the key is not found. */
   public static class DefaultXMLValueProvider<T> {
     final ImmutableSet<Object> value;
@@ -0,0 +1,59 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.scanner.columnar;
+
+/**
+ * Layout of binary columnar tables. All values are big-endian 32-bit integers unless stated
+ * otherwise:
+ *
+ * <ol>
+ *   <li>{@link #MAGIC} and {@link #VERSION}.
+ *   <li>Number of columns, number of rows and number of strings in the dictionary.
+ *   <li>Type of each column, {@link #STRING_COLUMN} or {@link #INT_COLUMN}.
+ *   <li>End offset of each dictionary string within the string data.
+ *   <li>String data, dictionary strings encoded in UTF-8 and stored back to back.
+ *   <li>Values of each column for all rows, columns are stored one after another. Values of string
+ *       columns are indices in the dictionary.
+ * </ol>
+ */
+final class ColumnarFormat {
+
+  /** Marks the start of a binary columnar table. */
+  static final int MAGIC = 0x4E414354;
+
+  /** Version of the layout, incremented on incompatible changes. */
+  static final int VERSION = 1;
+
+  /** Type of columns storing strings as dictionary indices. */
+  static final int STRING_COLUMN = 0;
+
+  /** Type of columns storing integer values. */
+  static final int INT_COLUMN = 1;
+
+  /** Size of the fixed part of the header in bytes. */
+  static final int HEADER_SIZE = 5 * Integer.BYTES;
+
+  private ColumnarFormat() {}
+}
@@ -0,0 +1,210 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.scanner.columnar;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Read-only view of a binary columnar table written by {@link ColumnarTableWriter}. The file is
+ * memory-mapped and values are read directly from the mapped buffer. Dictionary strings are decoded
+ * once on first access and shared by all cells holding them. Instances of this class are
+ * thread-safe.
+ */
+public final class ColumnarTable {
+
+  /** Content of the table. */
+  private final ByteBuffer buffer;
+
+  /** Number of columns. */
+  private final int columnCount;
+
+  /** Number of rows. */
+  private final int rowCount;
+
+  /** Type of each column. */
+  private final int[] types;
+
+  /** Position of the end offsets of dictionary strings. */
+  private final int offsetsStart;
+
+  /** Position of the string data. */
+  private final int stringsStart;
+
+  /** Position of the column values. */
+  private final int columnsStart;
+
+  /** Decoded dictionary strings, {@code null} entries are not decoded yet. */
+  private final String[] dictionary;
+
+  private ColumnarTable(ByteBuffer buffer, Path path) {
+    this.buffer = buffer;
+    if (buffer.capacity() < ColumnarFormat.HEADER_SIZE
+        || buffer.getInt(0) != ColumnarFormat.MAGIC) {
+      throw new IllegalStateException("Not a binary columnar table: " + path);
+    }
+    int version = buffer.getInt(Integer.BYTES);
+    if (version != ColumnarFormat.VERSION) {
+      throw new IllegalStateException(
+          "Unsupported binary columnar table version "
+              + version
+              + ", expected "
+              + ColumnarFormat.VERSION
+              + ": "
+              + path);
+    }
+    this.columnCount = buffer.getInt(2 * Integer.BYTES);
+    this.rowCount = buffer.getInt(3 * Integer.BYTES);
+    int dictionarySize = buffer.getInt(4 * Integer.BYTES);
+    this.types = new int[columnCount];
+    for (int i = 0; i < columnCount; i++) {
+      types[i] = buffer.getInt(ColumnarFormat.HEADER_SIZE + i * Integer.BYTES);
+    }
+    this.offsetsStart = ColumnarFormat.HEADER_SIZE + columnCount * Integer.BYTES;
+    this.stringsStart = offsetsStart + dictionarySize * Integer.BYTES;
+    int stringsSize =
+        dictionarySize == 0
+            ? 0
+            : buffer.getInt(offsetsStart + (dictionarySize - 1) * Integer.BYTES);
+    this.columnsStart = stringsStart + stringsSize;
+    if (buffer.capacity() != columnsStart + (long) columnCount * rowCount * Integer.BYTES) {
+      throw new IllegalStateException("Truncated binary columnar table: " + path);
+    }
+    this.dictionary = new String[dictionarySize];
+  }
+
+  /**
+   * Opens the table stored in the given file.
+   *
+   * @param path Path to the file.
+   * @return The table stored in the file.
+   * @throws IOException if the file could not be read.
+   */
+  public static ColumnarTable open(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      return new ColumnarTable(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), path);
+    }
+  }
+
+  /**
+   * Returns the number of rows.
+   *
+   * @return Number of rows.
+   */
+  public int rowCount() {
+    return rowCount;
+  }
+
+  /**
+   * Returns the number of columns.
+   *
+   * @return Number of columns.
+   */
+  public int columnCount() {
+    return columnCount;
+  }
+
+  /**
+   * Returns the value of an integer column in the given row.
+   *
+   * @param row Index of the row.
+   * @param column Index of the column, must be an integer column.
+   * @return Value of the cell.
+   */
+  public int getInt(int row, int column) {
+    if (types[column] != ColumnarFormat.INT_COLUMN) {
+      throw new IllegalArgumentException("Column " + column + " does not hold integers.");
+    }
+    return cell(row, column);
+  }
+
+  /**
+   * Returns the value of the given cell as a string. Values of integer columns are converted to
+   * their decimal representation.
+   *
+   * @param row Index of the row.
+   * @param column Index of the column.
+   * @return Value of the cell.
+   */
+  public String getString(int row, int column) {
+    int value = cell(row, column);
+    return types[column] == ColumnarFormat.INT_COLUMN ? String.valueOf(value) : lookup(value);
+  }
+
+  /**
+   * Returns the values of the given row as strings, in the same order as the columns of the
+   * corresponding tsv file.
+   *
+   * @param row Index of the row.
+   * @return Values of the row.
+   */
+  public String[] getRow(int row) {
+    String[] values = new String[columnCount];
+    for (int i = 0; i < columnCount; i++) {
+      values[i] = getString(row, i);
+    }
+    return values;
+  }
+
+  /**
+   * Reads the raw value of the given cell.
+   *
+   * @param row Index of the row.
+   * @param column Index of the column.
+   * @return Raw value of the cell.
+   */
+  private int cell(int row, int column) {
+    if (row < 0 || row >= rowCount) {
+      throw new IndexOutOfBoundsException("Row " + row + " out of bounds for " + rowCount);
+    }
+    return buffer.getInt(columnsStart + (column * rowCount + row) * Integer.BYTES);
+  }
+
+  /**
+   * Returns the dictionary string at the given index, decoding it on first access.
+   *
+   * @param index Index in the dictionary.
+   * @return The string at the index.
+   */
+  private String lookup(int index) {
+    String value = dictionary[index];
+    if (value == null) {
+      int start = index == 0 ? 0 : buffer.getInt(offsetsStart + (index - 1) * Integer.BYTES);
+      int end = buffer.getInt(offsetsStart + index * Integer.BYTES);
+      byte[] bytes = new byte[end - start];
+      ByteBuffer view = buffer.duplicate();
+      view.position(stringsStart + start);
+      view.get(bytes);
+      value = new String(bytes, StandardCharsets.UTF_8);
+      // Racing threads decode equal strings, keeping either of them is correct.
+      dictionary[index] = value;
+    }
+    return value;
+  }
+}
@@ -0,0 +1,157 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.scanner.columnar;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writer of binary columnar tables read by {@link ColumnarTable}. Rows are kept in memory and the
+ * whole table is written to the file on {@link #write()}. Strings are interned in a dictionary and
+ * stored once, each cell of a string column holds the index of its value in the dictionary.
+ */
+public class ColumnarTableWriter {
+
+  /** Path to the output file. */
+  private final Path path;
+
+  /** Type of each column. */
+  private final int[] types;
+
+  /** Values of each column, indexed by column and row. */
+  private final int[][] columns;
+
+  /** Number of added rows. */
+  private int rows;
+
+  /** Map from each interned string to its index in the dictionary. */
+  private final Map<String, Integer> dictionary;
+
+  /** Interned strings in the order of their index. */
+  private final List<String> strings;
+
+  /**
+   * Creates a writer for a table with the given number of columns.
+   *
+   * @param path Path to the output file.
+   * @param columnCount Number of columns.
+   * @param intColumns Indices of columns holding integer values, all other columns hold strings.
+   */
+  public ColumnarTableWriter(Path path, int columnCount, int... intColumns) {
+    this.path = path;
+    this.types = new int[columnCount];
+    Arrays.fill(types, ColumnarFormat.STRING_COLUMN);
+    for (int column : intColumns) {
+      types[column] = ColumnarFormat.INT_COLUMN;
+    }
+    this.columns = new int[columnCount][16];
+    this.rows = 0;
+    this.dictionary = new HashMap<>();
+    this.strings = new ArrayList<>();
+  }
+
+  /**
+   * Adds a row to the table.
+   *
+   * @param values Values of the row, values of integer columns must be valid integers.
+   */
+  public void addRow(String[] values) {
+    if (values.length != types.length) {
+      throw new IllegalArgumentException(
+          "Expected " + types.length + " values in row but found: " + Arrays.toString(values));
+    }
+    if (rows == columns[0].length) {
+      for (int i = 0; i < columns.length; i++) {
+        columns[i] = Arrays.copyOf(columns[i], rows * 2);
+      }
+    }
+    for (int i = 0; i < values.length; i++) {
+      columns[i][rows] =
+          types[i] == ColumnarFormat.INT_COLUMN ? Integer.parseInt(values[i]) : intern(values[i]);
+    }
+    rows++;
+  }
+
+  /**
+   * Writes all added rows to the output file, replacing its content.
+   *
+   * @throws IOException if the file could not be written.
+   */
+  public void write() throws IOException {
+    byte[][] encoded = new byte[strings.size()][];
+    for (int i = 0; i < encoded.length; i++) {
+      encoded[i] = strings.get(i).getBytes(StandardCharsets.UTF_8);
+    }
+    try (DataOutputStream out =
+        new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+      out.writeInt(ColumnarFormat.MAGIC);
+      out.writeInt(ColumnarFormat.VERSION);
+      out.writeInt(types.length);
+      out.writeInt(rows);
+      out.writeInt(encoded.length);
+      for (int type : types) {
+        out.writeInt(type);
+      }
+      int offset = 0;
+      for (byte[] string : encoded) {
+        offset += string.length;
+        out.writeInt(offset);
+      }
+      for (byte[] string : encoded) {
+        out.write(string);
+      }
+      for (int[] column : columns) {
+        for (int row = 0; row < rows; row++) {
+          out.writeInt(column[row]);
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the index of the given string in the dictionary, adding it if not present.
+   *
+   * @param value Given string.
+   * @return Index of the string in the dictionary.
+   */
+  private int intern(String value) {
+    Integer index = dictionary.get(value);
+    if (index == null) {
+      index = strings.size();
+      strings.add(value);
+      dictionary.put(value, index);
+    }
+    return index;
+  }
+}
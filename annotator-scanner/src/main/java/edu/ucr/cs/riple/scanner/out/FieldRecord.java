@@ -0,0 +1,111 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.scanner.out;
+
+import com.google.common.base.Preconditions;
+import com.google.errorprone.util.ASTHelpers;
+import com.sun.source.tree.VariableTree;
+import com.sun.tools.javac.code.Flags;
+import com.sun.tools.javac.code.Symbol;
+import edu.ucr.cs.riple.scanner.SymbolUtil;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+
+/**
+ * Container for storing a field declaration statement in a class. A statement can declare multiple
+ * fields inline (e.g. {@code Object a, b = null, c;}), where all declared fields share the type and
+ * the modifiers of the statement.
+ */
+public class FieldRecord {
+
+  /** Containing class symbol. */
+  public final Symbol.ClassSymbol clazz;
+
+  /** Variables declared in the statement, in declaration order. */
+  private final List<VariableTree> variables;
+
+  /**
+   * Creates a record for the given field declaration statement.
+   *
+   * @param clazz Containing class symbol.
+   * @param variables Variables declared in the statement, must not be empty.
+   */
+  public FieldRecord(Symbol.ClassSymbol clazz, List<VariableTree> variables) {
+    Preconditions.checkArgument(!variables.isEmpty(), "Expected at least one declared variable.");
+    this.clazz = clazz;
+    this.variables = variables;
+  }
+
+  /**
+   * Checks if the given class member is a field declared in source code. Enum constants, implicit
+   * fields of record components and fields generated by Lombok are not declared by a field
+   * declaration statement in source code.
+   *
+   * @param member Class member.
+   * @return true, if the member is a field declared in source code.
+   */
+  public static boolean isSourceFieldDeclaration(VariableTree member) {
+    Symbol.VarSymbol symbol = ASTHelpers.getSymbol(member);
+    if (symbol == null || symbol.getKind() != ElementKind.FIELD) {
+      return false;
+    }
+    if ((symbol.flags() & Flags.GENERATED_MEMBER) != 0) {
+      return false;
+    }
+    return SymbolUtil.getAllAnnotations(symbol)
+        .noneMatch(anno -> anno.getAnnotationType().toString().endsWith("lombok.Generated"));
+  }
+
+  public static String header() {
+    return "class"
+        + '\t'
+        + "fields"
+        + '\t'
+        + "uninitialized"
+        + '\t'
+        + "public"
+        + '\t'
+        + "primitive";
+  }
+
+  @Override
+  public String toString() {
+    VariableTree first = variables.get(0);
+    return clazz.flatName()
+        + "\t"
+        + variables.stream().map(var -> var.getName().toString()).collect(Collectors.joining(","))
+        + "\t"
+        + variables.stream()
+            .filter(var -> var.getInitializer() == null)
+            .map(var -> var.getName().toString())
+            .collect(Collectors.joining(","))
+        + "\t"
+        + first.getModifiers().getFlags().contains(Modifier.PUBLIC)
+        + "\t"
+        + ASTHelpers.getSymbol(first).type.isPrimitive();
+  }
+}
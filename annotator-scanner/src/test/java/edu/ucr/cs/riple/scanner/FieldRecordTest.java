@@ -0,0 +1,87 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.scanner;
+
+import com.google.common.base.Preconditions;
+import edu.ucr.cs.riple.scanner.tools.DisplayFactory;
+import edu.ucr.cs.riple.scanner.tools.FieldRecordDisplay;
+import org.junit.Test;
+
+public class FieldRecordTest extends AnnotatorScannerBaseTest<FieldRecordDisplay> {
+
+  private static final DisplayFactory<FieldRecordDisplay> FIELD_DISPLAY_FACTORY =
+      values -> {
+        Preconditions.checkArgument(values.length == 5, "Expected to find 5 values on each line");
+        return new FieldRecordDisplay(values[0], values[1], values[2], values[3], values[4]);
+      };
+  private static final String HEADER = "class\tfields\tuninitialized\tpublic\tprimitive";
+  private static final String FILE_NAME = "field_records.tsv";
+
+  public FieldRecordTest() {
+    super(FIELD_DISPLAY_FACTORY, HEADER, FILE_NAME);
+  }
+
+  @Test
+  public void inlineMultipleFieldDeclarationsTest() {
+    tester
+        .addSourceLines(
+            "edu/ucr/A.java",
+            "package edu.ucr;",
+            "public class A {",
+            "   Object a, b = new Object(), c;",
+            "   public int d = 0;",
+            "   public Object e;",
+            "   static final String F = \"\", G = \"\";",
+            "   void foo() {",
+            "     Object local = null;",
+            "   }",
+            "}")
+        .setExpectedOutputs(
+            new FieldRecordDisplay("edu.ucr.A", "a,b,c", "a,c", "false", "false"),
+            new FieldRecordDisplay("edu.ucr.A", "d", "", "true", "true"),
+            new FieldRecordDisplay("edu.ucr.A", "e", "e", "true", "false"),
+            new FieldRecordDisplay("edu.ucr.A", "F,G", "", "false", "false"))
+        .doTest();
+  }
+
+  @Test
+  public void enumConstantsAndInnerClassesTest() {
+    tester
+        .addSourceLines(
+            "edu/ucr/B.java",
+            "package edu.ucr;",
+            "public enum B {",
+            "   FIRST, SECOND;",
+            "   private final Object f = null;",
+            "   static class Inner {",
+            "     Object g, h;",
+            "   }",
+            "}")
+        .setExpectedOutputs(
+            new FieldRecordDisplay("edu.ucr.B", "f", "", "false", "false"),
+            new FieldRecordDisplay("edu.ucr.B$Inner", "g,h", "g,h", "false", "false"))
+        .doTest();
+  }
+}
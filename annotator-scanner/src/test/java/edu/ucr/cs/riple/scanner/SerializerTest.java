@@ -0,0 +1,168 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.scanner;
+
+import edu.ucr.cs.riple.scanner.columnar.ColumnarTable;
+import edu.ucr.cs.riple.scanner.generatedcode.SymbolSourceResolver;
+import edu.ucr.cs.riple.scanner.out.ImpactedRegion;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.Nonnull;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Checks buffered outputs of {@link Serializer} are written exactly once when closed. */
+@RunWith(JUnit4.class)
+public class SerializerTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void closeIsIdempotent() throws IOException {
+    Serializer serializer = createSerializer(SerializationFormat.TSV);
+    Path path = outputPath();
+    serializer.appendToFile("a\t1", path);
+    serializer.close();
+    serializer.close();
+    Assert.assertEquals(List.of(header(), "a\t1"), Files.readAllLines(path));
+    // Rows appended after close are written on the next close.
+    serializer.appendToFile("b\t2", path);
+    serializer.close();
+    serializer.close();
+    Assert.assertEquals(List.of(header(), "a\t1", "b\t2"), Files.readAllLines(path));
+  }
+
+  @Test
+  public void closeIsIdempotentForBinaryTables() throws IOException {
+    Serializer serializer = createSerializer(SerializationFormat.BINARY);
+    Path table = SerializationFormat.BINARY.pathOf(outputPath());
+    serializer.appendToFile("a\tb\tc\td\te", outputPath());
+    serializer.close();
+    long modified = Files.getLastModifiedTime(table).toMillis();
+    Files.setLastModifiedTime(table, FileTime.fromMillis(modified - 10_000));
+    serializer.close();
+    // The table is not rewritten by the second call.
+    Assert.assertEquals(modified - 10_000, Files.getLastModifiedTime(table).toMillis());
+    Assert.assertEquals(1, ColumnarTable.open(table).rowCount());
+  }
+
+  @Test
+  public void concurrentCloseKeepsAllRows() throws Exception {
+    Serializer serializer = createSerializer(SerializationFormat.TSV);
+    Path path = outputPath();
+    AtomicBoolean done = new AtomicBoolean(false);
+    // Mimics the shutdown hook closing the serializer while the compiler thread appends rows.
+    Thread closer =
+        new Thread(
+            () -> {
+              while (!done.get()) {
+                serializer.flush();
+                serializer.close();
+              }
+            });
+    closer.start();
+    List<String> expected = new ArrayList<>();
+    expected.add(header());
+    for (int i = 0; i < 20_000; i++) {
+      String row = "row\t" + i;
+      serializer.appendToFile(row, path);
+      expected.add(row);
+    }
+    done.set(true);
+    closer.join();
+    serializer.close();
+    Assert.assertEquals(expected, Files.readAllLines(path));
+  }
+
+  /**
+   * Returns the output file used in tests.
+   *
+   * @return Path to the impacted regions of methods in tsv format.
+   */
+  private Path outputPath() {
+    return temporaryFolder.getRoot().toPath().resolve(Serializer.METHOD_IMPACTED_REGION_FILE_NAME);
+  }
+
+  /**
+   * Returns the header of the output file used in tests.
+   *
+   * @return Header of impacted regions.
+   */
+  private static String header() {
+    return ImpactedRegion.header();
+  }
+
+  /**
+   * Creates a serializer writing to the temporary folder in the given format.
+   *
+   * @param format Format of outputs.
+   * @return Serializer with initialized output files.
+   */
+  private Serializer createSerializer(SerializationFormat format) {
+    Path output = temporaryFolder.getRoot().toPath();
+    return new Serializer(
+        new Config() {
+          @Override
+          public boolean isActive() {
+            return true;
+          }
+
+          @Override
+          public boolean isNonnullAnnotation(String annotName) {
+            return false;
+          }
+
+          @Override
+          public Serializer getSerializer() {
+            throw new UnsupportedOperationException();
+          }
+
+          @Nonnull
+          @Override
+          public Path getOutputDirectory() {
+            return output;
+          }
+
+          @Override
+          public SymbolSourceResolver getSymbolSourceResolver() {
+            throw new UnsupportedOperationException();
+          }
+
+          @Override
+          public SerializationFormat getSerializationFormat() {
+            return format;
+          }
+        });
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.scanner.columnar;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Checks rows read from a {@link ColumnarTable} match the rows of the same table in tsv format. */
+@RunWith(JUnit4.class)
+public class ColumnarTableTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void roundTripMatchesTsv() throws IOException {
+    List<String[]> rows = new ArrayList<>();
+    // Enough rows to grow the initial column capacity of the writer several times.
+    for (int i = 0; i < 100; i++) {
+      rows.add(
+          new String[] {
+            "com.test.Foo" + (i % 7), String.valueOf(i - 50), "run(java.lang.Object)", "/src/A.java"
+          });
+    }
+    // Empty values, non-ascii values and extreme integers.
+    rows.add(new String[] {"", "0", "", ""});
+    rows.add(
+        new String[] {
+          "com.test.B\u00e4r", String.valueOf(Integer.MAX_VALUE), "\u00df()", "/src/\u00dc.java"
+        });
+    rows.add(new String[] {"com.test.Foo0", String.valueOf(Integer.MIN_VALUE), "f()", "null"});
+    String header = "class\tid\tmember\tpath";
+    Path tsv = temporaryFolder.getRoot().toPath().resolve("table.tsv");
+    Path bin = temporaryFolder.getRoot().toPath().resolve("table.bin");
+    List<String> lines = new ArrayList<>();
+    lines.add(header);
+    ColumnarTableWriter writer = new ColumnarTableWriter(bin, 4, 1);
+    for (String[] row : rows) {
+      lines.add(String.join("\t", row));
+      writer.addRow(row);
+    }
+    Files.write(tsv, lines, StandardCharsets.UTF_8);
+    writer.write();
+
+    List<String> tsvLines = Files.readAllLines(tsv, StandardCharsets.UTF_8);
+    ColumnarTable table = ColumnarTable.open(bin);
+    Assert.assertEquals(tsvLines.size() - 1, table.rowCount());
+    Assert.assertEquals(4, table.columnCount());
+    for (int row = 0; row < table.rowCount(); row++) {
+      Assert.assertArrayEquals(tsvLines.get(row + 1).split("\t", -1), table.getRow(row));
+    }
+    Assert.assertEquals(Integer.MAX_VALUE, table.getInt(rows.size() - 2, 1));
+    Assert.assertEquals(Integer.MIN_VALUE, table.getInt(rows.size() - 1, 1));
+  }
+
+  @Test
+  public void emptyTable() throws IOException {
+    Path bin = temporaryFolder.getRoot().toPath().resolve("empty.bin");
+    new ColumnarTableWriter(bin, 3).write();
+    ColumnarTable table = ColumnarTable.open(bin);
+    Assert.assertEquals(0, table.rowCount());
+    Assert.assertEquals(3, table.columnCount());
+  }
+
+  @Test
+  public void truncatedTableIsRejected() throws IOException {
+    Path bin = temporaryFolder.getRoot().toPath().resolve("truncated.bin");
+    ColumnarTableWriter writer = new ColumnarTableWriter(bin, 2);
+    writer.addRow(new String[] {"a", "b"});
+    writer.write();
+    byte[] content = Files.readAllBytes(bin);
+    Files.write(bin, Arrays.copyOf(content, content.length - 1));
+    Assert.assertThrows(IllegalStateException.class, () -> ColumnarTable.open(bin));
+  }
+}
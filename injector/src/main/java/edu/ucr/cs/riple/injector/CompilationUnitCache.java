@@ -0,0 +1,225 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.injector;
+
+import com.github.javaparser.ast.CompilationUnit;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Least recently used cache of parsed {@link CompilationUnit}s. Entries are keyed by the path and
+ * the hash of the content of the parsed file, therefore a file restored to a previously parsed
+ * content, e.g. after removing injected annotations, is not parsed again. The modification time and
+ * size of each file at its last lookup are kept, and a file with the same modification time and
+ * size is not read and hashed again.
+ *
+ * <p>Cached trees are shared between lookups and must not be modified by callers. If a tree is
+ * modified, it must be invalidated with {@link #invalidate(Path)}. Instances of this class are
+ * thread-safe.
+ */
+public class CompilationUnitCache {
+
+  /** Maximum number of cached trees, caching is disabled if not positive. */
+  private final int capacity;
+
+  /** Cached trees in access order. */
+  private final LinkedHashMap<Key, CompilationUnit> trees;
+
+  /** Modification time, size and content hash of each file at its last lookup. */
+  private final Map<Path, Stamp> stamps;
+
+  /**
+   * Creates a cache holding at most the given number of trees.
+   *
+   * @param capacity Maximum number of cached trees, caching is disabled if not positive.
+   */
+  public CompilationUnitCache(int capacity) {
+    this.capacity = capacity;
+    this.trees =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<Key, CompilationUnit> eldest) {
+            return size() > CompilationUnitCache.this.capacity;
+          }
+        };
+    this.stamps = new HashMap<>();
+  }
+
+  /**
+   * Returns the tree of the file at the given path, parsing the content of the file with the given
+   * parser if the content is not cached.
+   *
+   * @param path Path to the file.
+   * @param parser Parser creating the tree from the content of the file.
+   * @return Tree of the file.
+   * @throws IOException if the file could not be read.
+   */
+  public CompilationUnit get(Path path, Function<byte[], CompilationUnit> parser)
+      throws IOException {
+    if (capacity <= 0) {
+      return parser.apply(Files.readAllBytes(path));
+    }
+    BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+    FileTime modified = attributes.lastModifiedTime();
+    long size = attributes.size();
+    synchronized (this) {
+      Stamp stamp = stamps.get(path);
+      if (stamp != null && stamp.modified.equals(modified) && stamp.size == size) {
+        CompilationUnit tree = trees.get(new Key(path, stamp.hash));
+        if (tree != null) {
+          return tree;
+        }
+      }
+    }
+    byte[] content = Files.readAllBytes(path);
+    Key key = new Key(path, Hashing.murmur3_128().hashBytes(content));
+    synchronized (this) {
+      stamps.put(path, new Stamp(modified, size, key.hash));
+    }
+    return getOrParse(key, content, parser);
+  }
+
+  /**
+   * Returns the tree of the given content of the file at the given path, which is not read from
+   * disk, e.g. the content of the file in a {@link SourceOverlay}. The content is parsed with the
+   * given parser if it is not cached.
+   *
+   * @param path Path to the file.
+   * @param content Content of the file.
+   * @param parser Parser creating the tree from the content of the file.
+   * @return Tree of the content.
+   */
+  public CompilationUnit get(Path path, byte[] content, Function<byte[], CompilationUnit> parser) {
+    if (capacity <= 0) {
+      return parser.apply(content);
+    }
+    return getOrParse(new Key(path, Hashing.murmur3_128().hashBytes(content)), content, parser);
+  }
+
+  /**
+   * Returns the cached tree of the given key, parsing and caching the given content if absent.
+   *
+   * @param key Key of the content.
+   * @param content Content of the file.
+   * @param parser Parser creating the tree from the content of the file.
+   * @return Tree of the content.
+   */
+  private CompilationUnit getOrParse(
+      Key key, byte[] content, Function<byte[], CompilationUnit> parser) {
+    synchronized (this) {
+      CompilationUnit tree = trees.get(key);
+      if (tree != null) {
+        return tree;
+      }
+    }
+    CompilationUnit tree = parser.apply(content);
+    synchronized (this) {
+      trees.put(key, tree);
+    }
+    return tree;
+  }
+
+  /**
+   * Forgets the last observed state of the file at the given path. Must be called after the file
+   * is written, as the modification time of a file may not change on quick successive writes.
+   * Cached trees of the file are kept.
+   *
+   * @param path Path to the file.
+   */
+  public synchronized void forgetState(Path path) {
+    stamps.remove(path);
+  }
+
+  /**
+   * Removes all cached trees of the file at the given path.
+   *
+   * @param path Path to the file.
+   */
+  public synchronized void invalidate(Path path) {
+    stamps.remove(path);
+    trees.keySet().removeIf(key -> key.path.equals(path));
+  }
+
+  /** Key of a cached tree. */
+  private static class Key {
+
+    /** Path to the parsed file. */
+    private final Path path;
+
+    /** Hash of the parsed content. */
+    private final HashCode hash;
+
+    private Key(Path path, HashCode hash) {
+      this.path = path;
+      this.hash = hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key key = (Key) o;
+      return path.equals(key.path) && hash.equals(key.hash);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(path, hash);
+    }
+  }
+
+  /** State of a file at its last lookup. */
+  private static class Stamp {
+
+    /** Last modification time. */
+    private final FileTime modified;
+
+    /** Size in bytes. */
+    private final long size;
+
+    /** Hash of the content. */
+    private final HashCode hash;
+
+    private Stamp(FileTime modified, long size, HashCode hash) {
+      this.modified = modified;
+      this.size = size;
+      this.hash = hash;
+    }
+  }
+}
@@ -25,14 +25,18 @@ package edu.ucr.cs.riple.injector;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.mapping;
 
+import com.github.javaparser.JavaParser;
 import com.github.javaparser.ParseProblemException;
+import com.github.javaparser.ParseResult;
 import com.github.javaparser.ParserConfiguration;
-import com.github.javaparser.StaticJavaParser;
 import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.ImportDeclaration;
+import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.MoreExecutors;
 import edu.ucr.cs.riple.injector.changes.ASTChange;
 import edu.ucr.cs.riple.injector.changes.AddAnnotation;
+import edu.ucr.cs.riple.injector.changes.AddSingleElementAnnotation;
 import edu.ucr.cs.riple.injector.changes.AnnotationChange;
 import edu.ucr.cs.riple.injector.changes.ChangeVisitor;
 import edu.ucr.cs.riple.injector.changes.RemoveAnnotation;
@@ -42,31 +46,126 @@ import edu.ucr.cs.riple.injector.location.Location;
 import edu.ucr.cs.riple.injector.modifications.Modification;
 import edu.ucr.cs.riple.injector.offsets.FileOffsetStore;
 import edu.ucr.cs.riple.injector.util.ASTUtils;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 
 /** Injector main class which can add / remove annotations. */
 public class Injector {
 
+  /**
+   * Parsers of each thread indexed by language level, {@link JavaParser} instances are not
+   * thread-safe.
+   */
+  private static final ThreadLocal<Map<ParserConfiguration.LanguageLevel, JavaParser>> PARSERS =
+      ThreadLocal.withInitial(() -> new EnumMap<>(ParserConfiguration.LanguageLevel.class));
+
   private final ParserConfiguration.LanguageLevel languageLevel;
 
+  /**
+   * Resolves the path of the file that should be modified for a change, given the path stored in
+   * the change location. Defaults to identity, but can redirect changes to a copy of the source
+   * tree.
+   */
+  private final UnaryOperator<Path> pathResolver;
+
+  /** Executor running the changes of each file, changes of different files run concurrently. */
+  private final Executor executor;
+
+  /** Cache of parsed source files. */
+  private final CompilationUnitCache cache;
+
+  /**
+   * Overlay where modified contents of files are stored instead of writing them to disk, {@code
+   * null} if files are modified on disk.
+   */
+  @Nullable private final SourceOverlay overlay;
+
   public Injector() {
     this(ParserConfiguration.LanguageLevel.JAVA_11);
   }
 
   public Injector(ParserConfiguration.LanguageLevel languageLevel) {
+    this(languageLevel, UnaryOperator.identity());
+  }
+
+  /**
+   * Creates an injector which applies changes on the files resolved by the given resolver rather
+   * than the paths stored in the change locations.
+   *
+   * @param languageLevel Language level used to parse source files.
+   * @param pathResolver Resolver from the path in a change location to the path of the file to be
+   *     modified.
+   */
+  public Injector(
+      ParserConfiguration.LanguageLevel languageLevel, UnaryOperator<Path> pathResolver) {
+    this(languageLevel, pathResolver, MoreExecutors.directExecutor(), new CompilationUnitCache(0));
+  }
+
+  /**
+   * Creates an injector which applies changes of different files concurrently on the given
+   * executor and reuses parsed trees of source files stored in the given cache.
+   *
+   * @param languageLevel Language level used to parse source files.
+   * @param pathResolver Resolver from the path in a change location to the path of the file to be
+   *     modified.
+   * @param executor Executor running the changes of each file.
+   * @param cache Cache of parsed source files, must not be shared with other injectors running
+   *     changes on the same files concurrently.
+   */
+  public Injector(
+      ParserConfiguration.LanguageLevel languageLevel,
+      UnaryOperator<Path> pathResolver,
+      Executor executor,
+      CompilationUnitCache cache) {
+    this(languageLevel, pathResolver, executor, cache, null);
+  }
+
+  /**
+   * Creates an injector which stores the modified contents of files in the given overlay instead
+   * of writing them to disk. Changes on files already modified in the overlay are applied on their
+   * content in the overlay.
+   *
+   * @param languageLevel Language level used to parse source files.
+   * @param pathResolver Resolver from the path in a change location to the path of the file to be
+   *     modified.
+   * @param executor Executor running the changes of each file.
+   * @param cache Cache of parsed source files, must not be shared with other injectors running
+   *     changes on the same files concurrently.
+   * @param overlay Overlay of modified source files, {@code null} to modify files on disk.
+   */
+  public Injector(
+      ParserConfiguration.LanguageLevel languageLevel,
+      UnaryOperator<Path> pathResolver,
+      Executor executor,
+      CompilationUnitCache cache,
+      @Nullable SourceOverlay overlay) {
     this.languageLevel = languageLevel;
+    this.pathResolver = pathResolver;
+    this.executor = executor;
+    this.cache = cache;
+    this.overlay = overlay;
   }
 
   /**
-   * Starts applying the requested changes.
+   * Starts applying the requested changes. Changes of different files are applied concurrently on
+   * the executor of this injector.
    *
    * @param changes Set of changes.
    * @return Offset changes of source file.
@@ -78,50 +177,126 @@ public class Injector {
     // call for addition and deletion separately.
     Map<Path, List<ASTChange>> map =
         changes.stream().collect(groupingBy(change -> change.getLocation().path));
-    Set<FileOffsetStore> offsets = new HashSet<>();
+    Set<FileOffsetStore> offsets = ConcurrentHashMap.newKeySet();
+    List<CompletableFuture<Void>> tasks = new ArrayList<>(map.size());
     map.forEach(
-        (path, changeList) -> {
-          mergeTypeArgumentIndices(changeList);
-          CompilationUnit tree = parse(path, languageLevel);
-          if (tree == null) {
-            return;
-          }
-          ChangeVisitor visitor = new ChangeVisitor(tree);
-          Set<Modification> modifications = new HashSet<>();
-          Set<ImportDeclaration> imports = new HashSet<>();
-          for (ASTChange change : changeList) {
-            try {
-              Modification modification = visitor.computeModification(change);
-              if (modification != null) {
-                modifications.add(modification);
-                if (change instanceof AddAnnotation) {
-                  String annotationFullName = ((AnnotationChange) change).annotationName.fullName;
-                  if (ASTUtils.getPackageName(annotationFullName) != null) {
-                    ImportDeclaration importDeclaration =
-                        StaticJavaParser.parseImport("import " + annotationFullName + ";");
-                    if (treeRequiresImportDeclaration(
-                        tree, importDeclaration, annotationFullName)) {
-                      imports.add(importDeclaration);
-                    }
-                  }
-                }
+        (locationPath, changeList) ->
+            tasks.add(
+                CompletableFuture.runAsync(
+                    () -> {
+                      FileOffsetStore offsetStore = applyChanges(locationPath, changeList);
+                      if (offsetStore != null) {
+                        offsets.add(offsetStore);
+                      }
+                    },
+                    executor)));
+    try {
+      CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0])).join();
+    } catch (CompletionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw e;
+    }
+    return offsets;
+  }
+
+  /**
+   * Applies the given changes on a single file.
+   *
+   * @param locationPath Path stored in the locations of the changes.
+   * @param changeList Changes on the file.
+   * @return Offset changes of the file, or {@code null} if the file could not be parsed.
+   */
+  @Nullable
+  private FileOffsetStore applyChanges(@Nullable Path locationPath, List<ASTChange> changeList) {
+    mergeTypeArgumentIndices(changeList);
+    Path path = locationPath == null ? null : pathResolver.apply(locationPath);
+    CompilationUnit tree = getTree(path);
+    if (tree == null) {
+      return null;
+    }
+    ChangeVisitor visitor = new ChangeVisitor(tree);
+    Set<Modification> modifications = new HashSet<>();
+    Set<ImportDeclaration> imports = new HashSet<>();
+    for (ASTChange change : changeList) {
+      try {
+        Modification modification = visitor.computeModification(change);
+        if (modification != null) {
+          modifications.add(modification);
+          if (change instanceof AddAnnotation) {
+            String annotationFullName = ((AnnotationChange) change).annotationName.fullName;
+            if (ASTUtils.getPackageName(annotationFullName) != null) {
+              ImportDeclaration importDeclaration = parseImport(annotationFullName);
+              if (treeRequiresImportDeclaration(tree, importDeclaration, annotationFullName)) {
+                imports.add(importDeclaration);
               }
-            } catch (Exception ex) {
-              System.err.println("Encountered Exception: " + ex);
             }
           }
-          Printer printer = new Printer(path);
-          printer.applyModifications(modifications);
-          printer.addImports(tree, imports);
-          try {
-            FileOffsetStore offsetStore = printer.write();
-            offsets.add(offsetStore);
-          } catch (Exception e) {
-            System.out.println("Error happened while Printer writing content back to: " + path);
-            throw new RuntimeException(e);
-          }
-        });
-    return offsets;
+        }
+      } catch (Exception ex) {
+        System.err.println("Encountered Exception: " + ex);
+      }
+    }
+    if (changeList.stream().anyMatch(change -> change instanceof AddSingleElementAnnotation)) {
+      // Existing annotations are modified in the tree to compute the modification.
+      cache.invalidate(path);
+    }
+    Printer printer = new Printer(path, overlay);
+    printer.applyModifications(modifications);
+    printer.addImports(tree, imports);
+    if (overlay != null) {
+      return printer.write(overlay);
+    }
+    try {
+      FileOffsetStore offsetStore = printer.write();
+      cache.forgetState(path);
+      return offsetStore;
+    } catch (Exception e) {
+      System.out.println("Error happened while Printer writing content back to: " + path);
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Parses the given file, reusing the cached tree if the file is not changed since it was parsed.
+   * The content of the file in the overlay is parsed instead, if the file is modified in it.
+   *
+   * @param path Path to the file.
+   * @return Compilation unit tree, if the file does not exist, returns null.
+   */
+  @Nullable
+  private CompilationUnit getTree(@Nullable Path path) {
+    if (path == null) {
+      return null;
+    }
+    String overlayContent = overlay == null ? null : overlay.getContent(path);
+    if (overlayContent != null) {
+      return cache.get(
+          path,
+          overlayContent.getBytes(Charset.defaultCharset()),
+          content -> parse(path, content, languageLevel));
+    }
+    try {
+      return cache.get(path, content -> parse(path, content, languageLevel));
+    } catch (NoSuchFileException e) {
+      return null;
+    } catch (IOException e) {
+      throw new RuntimeException("Error happened on parsing file at: " + path, e);
+    }
+  }
+
+  /**
+   * Parses the import declaration of the given annotation with the parser of the current thread.
+   *
+   * @param annotationFullName Fully qualified name of the annotation.
+   * @return Import declaration of the annotation.
+   */
+  private ImportDeclaration parseImport(String annotationFullName) {
+    ParseResult<ImportDeclaration> result =
+        getParser(languageLevel).parseImport("import " + annotationFullName + ";");
+    if (result.isSuccessful() && result.getResult().isPresent()) {
+      return result.getResult().get();
+    }
+    throw new ParseProblemException(result.getProblems());
   }
 
   /**
@@ -145,6 +320,17 @@ public class Injector {
                     .equals(ASTUtils.simpleName(annotation)));
   }
 
+  /**
+   * Notifies this injector that the file at the given path is written outside of this injector,
+   * e.g. restored to its content before a previous injection. Trees parsed from earlier contents of
+   * the file are kept and reused if the file is restored to one of those contents.
+   *
+   * @param path Path to the modified file, as resolved by the path resolver of this injector.
+   */
+  public void fileRestored(Path path) {
+    cache.forgetState(path);
+  }
+
   /**
    * Adds the given annotations.
    *
@@ -215,18 +401,44 @@ public class Injector {
       // fixes are still useful in downstream dependency analysis phase.
       return null;
     }
-    ParserConfiguration parserConfiguration = new ParserConfiguration();
-    parserConfiguration.setLanguageLevel(level);
-    StaticJavaParser.setConfiguration(parserConfiguration);
     try {
-      return StaticJavaParser.parse(path);
-    } catch (ParseProblemException e) {
-      // The original exception is not useful for the user. We should provide a more informative one
-      throw new ParseException(path, e);
+      return parse(path, Files.readAllBytes(path), level);
     } catch (NoSuchFileException e) {
       return null;
     } catch (IOException e) {
       throw new RuntimeException("Error happened on parsing file at: " + path, e);
     }
   }
+
+  /**
+   * Parses the given content of a file with the parser of the current thread.
+   *
+   * @param path Path to the file, used in error messages.
+   * @param content Content of the file.
+   * @param level Language level.
+   * @return Compilation unit tree.
+   */
+  private static CompilationUnit parse(
+      Path path, byte[] content, ParserConfiguration.LanguageLevel level) {
+    ParseResult<CompilationUnit> result =
+        getParser(level).parse(new ByteArrayInputStream(content));
+    if (result.isSuccessful() && result.getResult().isPresent()) {
+      return result.getResult().get();
+    }
+    // The original exception is not useful for the user. We should provide a more informative one
+    throw new ParseException(path, new ParseProblemException(result.getProblems()));
+  }
+
+  /**
+   * Returns the parser of the current thread for the given language level.
+   *
+   * @param level Language level.
+   * @return Parser of the current thread.
+   */
+  private static JavaParser getParser(ParserConfiguration.LanguageLevel level) {
+    return PARSERS
+        .get()
+        .computeIfAbsent(
+            level, key -> new JavaParser(new ParserConfiguration().setLanguageLevel(key)));
+  }
 }
@@ -34,6 +34,7 @@ import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -41,6 +42,7 @@ import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 
 /**
  * Applies the text modification instances to source file. Text modifications are applied according
@@ -58,11 +60,27 @@ public class Printer {
   private final FileOffsetStore offsetStore;
 
   public Printer(Path path) {
+    this(path, null);
+  }
+
+  /**
+   * Creates a printer for the given file, reading its content from the given overlay if the file
+   * is modified in the overlay.
+   *
+   * @param path Path to source file.
+   * @param overlay Overlay of modified source files, {@code null} if the file is read from disk.
+   */
+  public Printer(Path path, @Nullable SourceOverlay overlay) {
     this.path = path;
-    try {
-      lines = Files.readAllLines(path, Charset.defaultCharset());
-    } catch (IOException e) {
-      throw new RuntimeException("Happened at path: " + path, e);
+    String content = overlay == null ? null : overlay.getContent(path);
+    if (content != null) {
+      lines = content.lines().collect(Collectors.toCollection(ArrayList::new));
+    } else {
+      try {
+        lines = Files.readAllLines(path, Charset.defaultCharset());
+      } catch (IOException e) {
+        throw new RuntimeException("Happened at path: " + path, e);
+      }
     }
     this.offsetStore = new FileOffsetStore(lines, path);
   }
@@ -179,6 +197,21 @@ public class Printer {
     return offsetStore;
   }
 
+  /**
+   * Writes the updated lines into the given overlay, the source file is not modified. Lines are
+   * terminated the same as in {@link #write()}.
+   *
+   * @param overlay Overlay of modified source files.
+   * @return offset store corresponding to file changes.
+   */
+  public FileOffsetStore write(SourceOverlay overlay) {
+    StringBuilder content = new StringBuilder();
+    String separator = System.lineSeparator();
+    lines.forEach(line -> content.append(line).append(separator));
+    overlay.setContent(path, content.toString());
+    return offsetStore;
+  }
+
   /**
    * Deserializes a Path instance from a string.
    *
@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.injector;
+
+import com.google.common.collect.ImmutableSet;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nullable;
+
+/**
+ * In-memory contents of modified source files. An {@link Injector} created with an overlay stores
+ * the modified content of each file in the overlay instead of writing it to disk, and applies
+ * subsequent changes on the content in the overlay. Files which are not in the overlay are read
+ * from disk. Paths are normalized to absolute paths. Instances of this class are thread-safe.
+ */
+public class SourceOverlay {
+
+  /** Modified content of each file, keyed by the normalized absolute path of the file. */
+  private final Map<Path, String> contents;
+
+  public SourceOverlay() {
+    this.contents = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Returns the content of the file at the given path in this overlay.
+   *
+   * @param path Path to the file.
+   * @return Content of the file, or {@code null} if the file is not modified in this overlay.
+   */
+  @Nullable
+  public String getContent(Path path) {
+    return contents.get(normalize(path));
+  }
+
+  /**
+   * Sets the content of the file at the given path in this overlay.
+   *
+   * @param path Path to the file.
+   * @param content New content of the file.
+   */
+  public void setContent(Path path, String content) {
+    contents.put(normalize(path), content);
+  }
+
+  /**
+   * Returns the paths of all files modified in this overlay.
+   *
+   * @return Normalized absolute paths of the modified files.
+   */
+  public ImmutableSet<Path> getPaths() {
+    return ImmutableSet.copyOf(contents.keySet());
+  }
+
+  /**
+   * Checks if any file is modified in this overlay.
+   *
+   * @return true, if no file is modified.
+   */
+  public boolean isEmpty() {
+    return contents.isEmpty();
+  }
+
+  /** Discards all modified contents, files are read from disk afterwards. */
+  public void clear() {
+    contents.clear();
+  }
+
+  private static Path normalize(Path path) {
+    return path.toAbsolutePath().normalize();
+  }
+}
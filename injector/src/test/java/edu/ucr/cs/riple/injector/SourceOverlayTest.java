@@ -0,0 +1,177 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.injector;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import com.github.javaparser.ParserConfiguration;
+import com.google.common.util.concurrent.MoreExecutors;
+import edu.ucr.cs.riple.injector.changes.ASTChange;
+import edu.ucr.cs.riple.injector.changes.AddMarkerAnnotation;
+import edu.ucr.cs.riple.injector.changes.RemoveMarkerAnnotation;
+import edu.ucr.cs.riple.injector.location.Location;
+import edu.ucr.cs.riple.injector.location.OnField;
+import edu.ucr.cs.riple.injector.location.OnMethod;
+import edu.ucr.cs.riple.injector.location.OnParameter;
+import edu.ucr.cs.riple.injector.offsets.FileOffsetStore;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/** Tests that changes applied on a {@link SourceOverlay} match changes applied on disk. */
+@RunWith(JUnit4.class)
+public class SourceOverlayTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  /** Names of the source files. */
+  private static final List<String> FILES = List.of("Foo.java", "Bar.java");
+
+  /** Directory of sources modified on disk. */
+  private Path physicalDir;
+
+  /** Directory of sources modified on the overlay. */
+  private Path overlayDir;
+
+  /** Original content of each source file. */
+  private Map<String, String> originals;
+
+  @Before
+  public void setup() throws IOException {
+    physicalDir = temporaryFolder.newFolder("physical").toPath();
+    overlayDir = temporaryFolder.newFolder("overlay").toPath();
+    originals = new HashMap<>();
+    originals.put(
+        "Foo.java",
+        "package test;\n"
+            + "public class Foo {\n"
+            + "   Object f, g;\n"
+            + "   Object run(Object o) {\n"
+            + "     return o;\n"
+            + "   }\n"
+            + "}\n");
+    originals.put(
+        "Bar.java",
+        "package test;\n"
+            + "import java.util.List;\n"
+            + "public class Bar {\n"
+            + "   List<Object> values;\n"
+            + "   Object get(int i) { return values.get(i); }\n"
+            + "}\n");
+    for (String file : FILES) {
+      Files.writeString(physicalDir.resolve(file), originals.get(file));
+      Files.writeString(overlayDir.resolve(file), originals.get(file));
+    }
+  }
+
+  @Test
+  public void overlayMatchesPhysicalInjection() throws IOException {
+    Injector physical = new Injector(ParserConfiguration.LanguageLevel.JAVA_17);
+    SourceOverlay overlay = new SourceOverlay();
+    Injector overlayInjector =
+        new Injector(
+            ParserConfiguration.LanguageLevel.JAVA_17,
+            UnaryOperator.identity(),
+            MoreExecutors.directExecutor(),
+            new CompilationUnitCache(16),
+            overlay);
+    List<Function<Path, Set<ASTChange>>> rounds =
+        List.of(
+            dir ->
+                Set.of(
+                    add(new OnMethod(dir.resolve("Foo.java"), "test.Foo", "run(java.lang.Object)")),
+                    add(new OnField(dir.resolve("Foo.java"), "test.Foo", Set.of("f"))),
+                    add(new OnField(dir.resolve("Bar.java"), "test.Bar", Set.of("values")))),
+            // Changes on contents already modified in the overlay.
+            dir ->
+                Set.of(
+                    add(
+                        new OnParameter(
+                            dir.resolve("Foo.java"), "test.Foo", "run(java.lang.Object)", 0)),
+                    add(new OnMethod(dir.resolve("Bar.java"), "test.Bar", "get(int)"))),
+            dir ->
+                Set.of(
+                    new RemoveMarkerAnnotation(
+                        new OnField(dir.resolve("Foo.java"), "test.Foo", Set.of("f")),
+                        "javax.annotation.Nullable")));
+    for (Function<Path, Set<ASTChange>> round : rounds) {
+      Set<FileOffsetStore> physicalOffsets = physical.start(round.apply(physicalDir));
+      Set<FileOffsetStore> overlayOffsets = overlayInjector.start(round.apply(overlayDir));
+      for (String file : FILES) {
+        String content = overlay.getContent(overlayDir.resolve(file));
+        assertNotNull(file, content);
+        assertEquals(file, Files.readString(physicalDir.resolve(file)), content);
+        // Sources on disk are not modified by the overlay injector.
+        assertEquals(file, originals.get(file), Files.readString(overlayDir.resolve(file)));
+      }
+      assertEquals(
+          getOffsetChanges(physicalOffsets, physicalDir),
+          getOffsetChanges(overlayOffsets, overlayDir));
+    }
+    assertTrue(overlay.getContent(overlayDir.resolve("Foo.java")).contains("run(@Nullable"));
+    overlay.clear();
+    assertTrue(overlay.isEmpty());
+  }
+
+  /**
+   * Creates a change adding {@code @Nullable} on the given location.
+   *
+   * @param location Location of the annotation.
+   * @return Created change.
+   */
+  private static ASTChange add(Location location) {
+    return new AddMarkerAnnotation(location, "javax.annotation.Nullable");
+  }
+
+  /**
+   * Returns the offset changes of each file, keyed by the name of the file.
+   *
+   * @param stores Offset stores of modified files.
+   * @param dir Directory of the files.
+   * @return Offset changes of each file.
+   */
+  private static Map<String, String> getOffsetChanges(Set<FileOffsetStore> stores, Path dir) {
+    Map<String, String> changes = new HashMap<>();
+    stores.forEach(
+        store ->
+            changes.put(
+                dir.relativize(store.getPath()).toString(), store.getOffsetChanges().toString()));
+    return changes;
+  }
+}